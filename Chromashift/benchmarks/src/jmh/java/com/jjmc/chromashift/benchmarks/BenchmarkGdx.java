@@ -0,0 +1,29 @@
+package com.jjmc.chromashift.benchmarks;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.jjmc.chromashift.headless.HeadlessGL;
+
+/**
+ * Shared libGDX bootstrap for benchmarks: headless backend (Gdx.files, Gdx.app) plus a
+ * no-op GL so walls, doors and sprites can create their textures.
+ */
+final class BenchmarkGdx {
+    private static boolean initialized = false;
+
+    private BenchmarkGdx() {}
+
+    static synchronized void init() {
+        if (initialized) return;
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1; // no render loop; benchmarks call code directly
+        new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl = Gdx.gl20 = HeadlessGL.create();
+        // Level/save code logs on every call; keep console I/O out of the measurements
+        Gdx.app.setLogLevel(Application.LOG_NONE);
+        initialized = true;
+    }
+}
@@ -0,0 +1,56 @@
+package com.jjmc.chromashift.benchmarks;
+
+import com.badlogic.gdx.utils.Array;
+import com.jjmc.chromashift.screens.levels.GameLevelSave;
+import com.jjmc.chromashift.screens.levels.LevelIO;
+import com.jjmc.chromashift.screens.levels.LevelLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Save-override serialization (diff against the original level + reflection capture + Gson)
+ * with every 10th collectible picked up. Uses GameLevelSave.serializeOverrides so no file
+ * or database writes end up in the measurement.
+ */
+@State(Scope.Thread)
+public class GameLevelSaveBenchmark {
+    private static final String LEVEL_PATH = "levels/bench.json";
+
+    @Param({"50", "500", "2000"})
+    public int collectibleCount;
+
+    private LevelLoader.Result original;
+    private LevelLoader.Result current;
+
+    @Setup
+    public void setup() {
+        BenchmarkGdx.init();
+        original = LevelLoader.build(buildState());
+        current = LevelLoader.build(buildState());
+        // Same level, but the player has picked up every 10th collectible
+        for (int i = current.collectibles.size - 1; i >= 0; i--) {
+            if (i % 10 == 0) current.collectibles.removeIndex(i);
+        }
+    }
+
+    private LevelIO.LevelState buildState() {
+        LevelIO.LevelState state = new LevelIO.LevelState();
+        state.spawn = new LevelIO.LevelState.SpawnData();
+        state.diamonds = new Array<>();
+        for (int i = 0; i < collectibleCount; i++) {
+            LevelIO.LevelState.DiamondData d = new LevelIO.LevelState.DiamondData();
+            d.x = (i % 100) * 48f;
+            d.y = (i / 100) * 48f;
+            state.diamonds.add(d);
+        }
+        return state;
+    }
+
+    @Benchmark
+    public String serializeOverrides() {
+        return GameLevelSave.serializeOverrides(LEVEL_PATH, current, original);
+    }
+}
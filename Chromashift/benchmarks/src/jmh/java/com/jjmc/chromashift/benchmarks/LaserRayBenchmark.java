@@ -0,0 +1,67 @@
+package com.jjmc.chromashift.benchmarks;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+import com.jjmc.chromashift.environment.Solid;
+import com.jjmc.chromashift.environment.Wall;
+import com.jjmc.chromashift.environment.interactable.Glass;
+import com.jjmc.chromashift.environment.interactable.LaserRay;
+import com.jjmc.chromashift.environment.interactable.Mirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * LaserRay.cast with a growing number of mirrors, glasses and solids scattered (fixed
+ * seed) across the band the beam travels through. Split: 1/4 mirrors, 1/4 glass, 1/2 walls.
+ * castCached measures a frame where nothing the beam depends on has moved.
+ */
+@State(Scope.Thread)
+public class LaserRayBenchmark {
+    @Param({"8", "64", "256", "1024"})
+    public int objectCount;
+
+    private LaserRay ray;
+    private final ArrayList<Mirror> mirrors = new ArrayList<>();
+    private final ArrayList<Glass> glasses = new ArrayList<>();
+    private final ArrayList<Solid> solids = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        BenchmarkGdx.init();
+        Random rnd = new Random(42L);
+        float width = 4000f, height = 800f;
+        for (int i = 0; i < objectCount; i++) {
+            float x = 64f + rnd.nextFloat() * width;
+            float y = -height / 2f + rnd.nextFloat() * height;
+            int kind = i % 4;
+            if (kind == 0) {
+                Mirror m = new Mirror(x, y, 32f, 32f);
+                m.setAngleDegrees(45f * rnd.nextInt(8));
+                mirrors.add(m);
+            } else if (kind == 1) {
+                glasses.add(new Glass(x, y, 16f, 16f, Color.CYAN, true, 1f, false));
+            } else {
+                solids.add(new Wall(x, y, 1, 1));
+            }
+        }
+        ray = new LaserRay(0f, 0f, true);
+        ray.setRotation(0f);
+        ray.setMaxBounces(8);
+    }
+
+    @Benchmark
+    public ArrayList<Vector2> cast() {
+        return ray.cast(mirrors, glasses, solids, 0f);
+    }
+
+    @Benchmark
+    public ArrayList<Vector2> castCached() {
+        return ray.castCached(mirrors, glasses, solids, 0f);
+    }
+}
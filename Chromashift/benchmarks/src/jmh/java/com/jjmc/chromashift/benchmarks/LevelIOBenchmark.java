@@ -0,0 +1,68 @@
+package com.jjmc.chromashift.benchmarks;
+
+import com.badlogic.gdx.utils.Array;
+import com.jjmc.chromashift.screens.levels.LevelIO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Level JSON parsing (LevelIO.parse: Json read + array init + dedup) for synthetic levels.
+ * Roughly 10% of the objects are exact duplicates so deduplication has work to do.
+ * Uses parse() directly: LevelIO.load also copies the file into the workspace assets.
+ */
+@State(Scope.Thread)
+public class LevelIOBenchmark {
+    @Param({"100", "1000", "5000"})
+    public int objectCount;
+
+    private String json;
+
+    @Setup
+    public void setup() {
+        BenchmarkGdx.init();
+        Random rnd = new Random(7L);
+        LevelIO.LevelState state = new LevelIO.LevelState();
+        state.meta = new LevelIO.LevelState.Meta();
+        state.meta.name = "bench";
+        state.meta.version = 1;
+        state.spawn = new LevelIO.LevelState.SpawnData();
+        state.walls = new Array<>();
+        state.boxes = new Array<>();
+        state.diamonds = new Array<>();
+        for (int i = 0; i < objectCount; i++) {
+            float x = rnd.nextInt(400) * 32f;
+            float y = rnd.nextInt(100) * 32f;
+            switch (i % 3) {
+                case 0 -> {
+                    LevelIO.LevelState.WallData w = new LevelIO.LevelState.WallData();
+                    w.x = x; w.y = y; w.width = 1 + rnd.nextInt(4); w.height = 1; // cells
+                    state.walls.add(w);
+                    if (i % 10 == 0) state.walls.add(w);
+                }
+                case 1 -> {
+                    LevelIO.LevelState.BoxData b = new LevelIO.LevelState.BoxData();
+                    b.x = x; b.y = y;
+                    state.boxes.add(b);
+                    if (i % 10 == 1) state.boxes.add(b);
+                }
+                default -> {
+                    LevelIO.LevelState.DiamondData d = new LevelIO.LevelState.DiamondData();
+                    d.x = x; d.y = y;
+                    state.diamonds.add(d);
+                    if (i % 10 == 2) state.diamonds.add(d);
+                }
+            }
+        }
+        json = LevelIO.toJson(state);
+    }
+
+    @Benchmark
+    public LevelIO.LevelState parse() {
+        return LevelIO.parse(json);
+    }
+}
@@ -0,0 +1,63 @@
+package com.jjmc.chromashift.benchmarks;
+
+import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.jjmc.chromashift.environment.Solid;
+import com.jjmc.chromashift.environment.Wall;
+import com.jjmc.chromashift.player.PlayerCollision;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * PlayerCollision against a square grid of single-cell walls. The probe hitbox overlaps
+ * one wall near the middle of the grid, like a player standing on a floor tile.
+ */
+@State(Scope.Thread)
+public class PlayerCollisionBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int wallCount;
+
+    private Array<Wall> walls;
+    private Array<Solid> solids;
+    private final Rectangle hitbox = new Rectangle();
+    private final Circle sensor = new Circle();
+    private float probeX, probeY;
+
+    @Setup
+    public void setup() {
+        BenchmarkGdx.init();
+        walls = new Array<>(wallCount);
+        solids = new Array<>(wallCount);
+        int side = (int) Math.ceil(Math.sqrt(wallCount));
+        for (int i = 0; i < wallCount; i++) {
+            Wall w = new Wall((i % side) * 96f, (i / side) * 96f, 1, 1);
+            walls.add(w);
+            solids.add(w);
+        }
+        Wall mid = walls.get(wallCount / 2);
+        probeX = mid.bounds.x + 8f;
+        probeY = mid.bounds.y + mid.bounds.height - 4f; // sinking 4px into the top
+    }
+
+    @Benchmark
+    public boolean resolveWallCollision() {
+        hitbox.set(probeX, probeY, 20f, 30f);
+        return PlayerCollision.resolveWallCollision(hitbox, walls);
+    }
+
+    @Benchmark
+    public boolean resolveSolidCollision() {
+        hitbox.set(probeX, probeY, 20f, 30f);
+        return PlayerCollision.resolveSolidCollision(hitbox, solids);
+    }
+
+    @Benchmark
+    public boolean checkWallCollision() {
+        sensor.set(probeX, probeY, 5f);
+        return PlayerCollision.checkWallCollision(sensor, walls);
+    }
+}
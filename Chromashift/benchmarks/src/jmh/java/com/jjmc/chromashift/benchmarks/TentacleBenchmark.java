@@ -0,0 +1,39 @@
+package com.jjmc.chromashift.benchmarks;
+
+import com.jjmc.chromashift.environment.enemy.Tentacle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * One Tentacle.update tick (60 Hz) chasing a target that circles below the anchor.
+ * No camera is set, so the visibility sleep never kicks in.
+ */
+@State(Scope.Thread)
+public class TentacleBenchmark {
+    private static final float DT = 1f / 60f;
+
+    @Param({"10", "20", "30", "40", "50"})
+    public int segments;
+
+    private Tentacle tentacle;
+    private float time;
+
+    @Setup
+    public void setup() {
+        BenchmarkGdx.init();
+        tentacle = new Tentacle(0f, 0f, segments);
+        time = 0f;
+    }
+
+    @Benchmark
+    public float update() {
+        time += DT;
+        float tx = (float) Math.cos(time) * 120f;
+        float ty = (float) Math.sin(time) * 120f - 180f;
+        tentacle.update(DT, tx, ty);
+        return tentacle.getSegmentHitbox(segments - 1).x;
+    }
+}
@@ -4,6 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.jjmc.chromashift.Assets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -39,21 +40,23 @@ public class AnimatedBackground {
     }
     
     /**
-     * Load frames from a single texture that contains multiple frames in a grid
+     * Load frames from a single texture that contains multiple frames in a grid.
+     * The sheet comes from Assets (packed atlas region or managed texture).
      * @param texturePath Path to texture file
      * @param cols Number of columns in the sprite sheet
      * @param rows Number of rows in the sprite sheet
      */
     public void loadFromSpriteSheet(String texturePath, int cols, int rows) {
         try {
-            Texture texture = new Texture(Gdx.files.internal(texturePath));
-            int frameWidth = texture.getWidth() / cols;
-            int frameHeight = texture.getHeight() / rows;
+            TextureRegion sheet = Assets.region(texturePath);
+            if (sheet == null) return;
+            int frameWidth = sheet.getRegionWidth() / cols;
+            int frameHeight = sheet.getRegionHeight() / rows;
             
             // Load frames row by row, left to right
             for (int row = 0; row < rows; row++) {
                 for (int col = 0; col < cols; col++) {
-                    TextureRegion region = new TextureRegion(texture, 
+                    TextureRegion region = new TextureRegion(sheet,
                         col * frameWidth, row * frameHeight, frameWidth, frameHeight);
                     frames.add(region);
                 }
@@ -71,8 +74,8 @@ public class AnimatedBackground {
     public void loadFrames(String... framePaths) {
         try {
             for (String path : framePaths) {
-                Texture texture = new Texture(Gdx.files.internal(path));
-                frames.add(new TextureRegion(texture));
+                TextureRegion region = Assets.region(path);
+                if (region != null) frames.add(region);
             }
             Gdx.app.log("AnimatedBackground", "Loaded " + frames.size() + " frame textures");
         } catch (Exception e) {
@@ -224,14 +227,9 @@ public class AnimatedBackground {
     }
     
     /**
-     * Dispose of all textures
+     * Drop the frames (their textures belong to Assets)
      */
     public void dispose() {
-        for (TextureRegion region : frames) {
-            if (region.getTexture() != null) {
-                region.getTexture().dispose();
-            }
-        }
         frames.clear();
     }
 }
@@ -0,0 +1,180 @@
+package com.chromashift.helper;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.jjmc.chromashift.Assets;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Animation clips of one sprite sheet, shared by every {@link SpriteAnimator} built on that
+ * sheet. The sheet is split once and each clip is built once; animators only hold playback
+ * state and refer to clips by int handle ({@link #find}).
+ *
+ * {@link #forSheet} caches one set per (path, rows, cols). Clips are added the first time
+ * an animator asks for them and are never changed afterwards; an animator that wants a
+ * clip under an existing name with different frames/timing gets a private copy instead
+ * (see SpriteAnimator.addAnimation). GL thread only, like the textures it splits.
+ */
+public final class AnimationSet {
+    private static final Map<String, AnimationSet> cache = new HashMap<>();
+
+    // Sheet this set was split from (null for sets built only from separate textures)
+    private final TextureRegion[][] regions;
+
+    private final ObjectIntMap<String> byName = new ObjectIntMap<>();
+    private final Array<Animation<TextureRegion>> clips = new Array<>();
+    private final Array<String> names = new Array<>();
+    private float[] durations = new float[8];
+    private boolean[] loops = new boolean[8];
+    // What each clip was built from, to tell identical re-definitions from conflicting ones
+    private String[] sources = new String[8]; // null = this set's sheet
+    private int[] specA = new int[8], specB = new int[8], specC = new int[8];
+
+    private AnimationSet(TextureRegion[][] regions) {
+        this.regions = regions;
+    }
+
+    /** Shared set for a sheet split into {@code rows} x {@code cols} frames. */
+    public static AnimationSet forSheet(String spritePath, int rows, int cols) {
+        String key = spritePath + '#' + rows + 'x' + cols;
+        AnimationSet set = cache.get(key);
+        if (set == null) {
+            TextureRegion[][] split = null;
+            try {
+                // Packed sheets are split inside their atlas page
+                TextureRegion sheet = Assets.region(spritePath);
+                if (sheet != null && rows > 0 && cols > 0) {
+                    split = sheet.split(sheet.getRegionWidth() / cols, sheet.getRegionHeight() / rows);
+                }
+            } catch (Exception e) {
+                Gdx.app.error("SpriteAnimator", "Failed to load spritePath=" + spritePath, e);
+            }
+            set = new AnimationSet(split);
+            // Failed loads are not cached, so a later (loaded) attempt can still succeed
+            if (split != null) cache.put(key, set);
+        }
+        return set;
+    }
+
+    /** A set with no sheet, not shared; clips come from {@link #defineFromTexture}. */
+    public static AnimationSet create() {
+        return new AnimationSet(null);
+    }
+
+    /**
+     * Forget every cached set. Animators keep the sets they hold; new animators split the
+     * sheets again. Call after sheet textures are unloaded.
+     */
+    public static void clearCache() {
+        cache.clear();
+    }
+
+    public static int getCachedCount() { return cache.size(); }
+
+    /** Clip handle for {@code name}, or -1. */
+    public int find(String name) {
+        return byName.get(name, -1);
+    }
+
+    public boolean hasSheet() { return regions != null; }
+    public int size() { return clips.size; }
+    public Animation<TextureRegion> clip(int handle) { return clips.get(handle); }
+    public String name(int handle) { return names.get(handle); }
+    public float frameDuration(int handle) { return durations[handle]; }
+    public boolean loops(int handle) { return loops[handle]; }
+
+    /** True if clip {@code handle} is frames row/startCol/frames of this sheet with this timing. */
+    boolean matchesSheet(int handle, int row, int startCol, int frames, float frameDuration, boolean loop) {
+        return sources[handle] == null && specA[handle] == row && specB[handle] == startCol
+                && specC[handle] == frames && durations[handle] == frameDuration && loops[handle] == loop;
+    }
+
+    /** True if clip {@code handle} was cut from {@code path} with this frame size, count and timing. */
+    boolean matchesTexture(int handle, String path, int frameWidth, int frameHeight, int frameCount,
+                           float frameDuration, boolean loop) {
+        return path.equals(sources[handle]) && specA[handle] == frameWidth && specB[handle] == frameHeight
+                && specC[handle] == frameCount && durations[handle] == frameDuration && loops[handle] == loop;
+    }
+
+    /** Add (or replace) clip {@code name} from this set's sheet; returns its handle, -1 without a sheet. */
+    int define(String name, int row, int startCol, int frames, float frameDuration, boolean loop) {
+        if (regions == null) return -1;
+        Array<TextureRegion> regs = new Array<>(frames);
+        for (int c = startCol; c < startCol + frames; c++) {
+            if (row < regions.length && c < regions[row].length) regs.add(regions[row][c]);
+        }
+        return put(name, new Animation<>(frameDuration, regs, Animation.PlayMode.NORMAL),
+                frameDuration, loop, null, row, startCol, frames);
+    }
+
+    /** Add (or replace) clip {@code name} cut from a separate texture; -1 if it failed. */
+    int defineFromTexture(String name, String path, int frameWidth, int frameHeight, int frameCount,
+                          float frameDuration, boolean loop) {
+        try {
+            TextureRegion sheet = Assets.region(path);
+            if (sheet == null) return -1;
+            TextureRegion[][] split = sheet.split(frameWidth, frameHeight);
+            Array<TextureRegion> regs = new Array<>(frameCount);
+            outer:
+            for (TextureRegion[] r : split) {
+                for (TextureRegion region : r) {
+                    regs.add(region);
+                    if (regs.size >= frameCount) break outer;
+                }
+            }
+            return put(name, new Animation<>(frameDuration, regs), frameDuration, loop,
+                    path, frameWidth, frameHeight, frameCount);
+        } catch (Exception e) {
+            Gdx.app.error("SpriteAnimator", "addAnimationFromTexture failed for=" + path, e);
+            return -1;
+        }
+    }
+
+    /** Private copy (same sheet regions and clip objects) that can be changed freely. */
+    AnimationSet copy() {
+        AnimationSet c = new AnimationSet(regions);
+        for (int i = 0; i < clips.size; i++) {
+            c.put(names.get(i), clips.get(i), durations[i], loops[i], sources[i], specA[i], specB[i], specC[i]);
+        }
+        return c;
+    }
+
+    private int put(String name, Animation<TextureRegion> anim, float frameDuration, boolean loop,
+                    String source, int a, int b, int c) {
+        int handle = byName.get(name, -1);
+        if (handle < 0) {
+            handle = clips.size;
+            clips.add(anim);
+            names.add(name);
+            byName.put(name, handle);
+            if (handle == durations.length) {
+                int n = handle * 2;
+                durations = java.util.Arrays.copyOf(durations, n);
+                loops = java.util.Arrays.copyOf(loops, n);
+                sources = java.util.Arrays.copyOf(sources, n);
+                specA = java.util.Arrays.copyOf(specA, n);
+                specB = java.util.Arrays.copyOf(specB, n);
+                specC = java.util.Arrays.copyOf(specC, n);
+            }
+        } else {
+            clips.set(handle, anim);
+        }
+        durations[handle] = frameDuration;
+        loops[handle] = loop;
+        sources[handle] = source;
+        specA[handle] = a;
+        specB[handle] = b;
+        specC[handle] = c;
+        return handle;
+    }
+
+    @Override
+    public String toString() {
+        return names.toString();
+    }
+}
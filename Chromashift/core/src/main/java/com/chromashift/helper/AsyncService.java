@@ -0,0 +1,351 @@
+package com.chromashift.helper;
+
+import com.badlogic.gdx.Gdx;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Game-wide background work: one pool of named daemon workers shared by bosses, saves,
+ * level loading and asset decoding instead of each owning threads.
+ *
+ * <pre>
+ * AsyncService.submit(boss, () -&gt; buildPayload(), payload -&gt; spawn(payload));
+ * </pre>
+ *
+ * The background part runs on a worker; the completion is queued for the GL thread and
+ * run by {@link #drainCompletions()}, which ChromashiftGame calls once per frame within a
+ * time budget (-Dchromashift.glBudgetMs, default 2), so a burst of finished tasks is spread
+ * over several frames instead of stalling one.
+ *
+ * The work queue is bounded; when it is full the submitting thread runs the work itself,
+ * which throttles producers instead of dropping tasks. {@link #submitOrdered} tasks run one
+ * at a time in submission order (saves, so a later save never lands before an earlier one).
+ * Tasks tagged with an owner are dropped by {@link #cancelAll(Object)} (e.g. when a boss or
+ * level is disposed): queued work is skipped and pending completions are not run. Work that
+ * is already running finishes, but its completion is discarded.
+ */
+public final class AsyncService {
+    private static final int QUEUE_CAPACITY = 256;
+    private static final long DEFAULT_GL_BUDGET_NANOS = 2_000_000L;
+    private static final int LATENCY_WINDOW = 128; // power of two
+
+    private static final int PROBE_COMPLETIONS = PerformanceProfiler.register("async_gl");
+
+    private static volatile ThreadPoolExecutor pool;
+    private static final long glBudgetNanos = readBudget();
+
+    // Completions waiting for the GL thread
+    private static final ConcurrentLinkedQueue<Task> completions = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger pendingCompletions = new AtomicInteger();
+
+    // Ordered lane: at most one of its tasks is on the pool at a time
+    private static final ConcurrentLinkedQueue<Task> ordered = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger orderedCount = new AtomicInteger();
+
+    // Unfinished tasks per owner, for cancelAll(); tasks without an owner are not tracked
+    private static final ConcurrentHashMap<Object, Set<Task>> live = new ConcurrentHashMap<>();
+
+    // Metrics
+    private static final AtomicLong submitted = new AtomicLong();
+    private static final AtomicLong completed = new AtomicLong();
+    private static final AtomicLong failed = new AtomicLong();
+    private static final AtomicLong cancelled = new AtomicLong();
+    private static final AtomicLong callerRuns = new AtomicLong();
+    private static final long[] latencies = new long[LATENCY_WINDOW];
+    private static int latencyHead = 0;
+    private static long latencyCount = 0L;
+
+    private AsyncService() {}
+
+    /** Run {@code work} on a worker thread. */
+    public static void submit(Object owner, Runnable work) {
+        if (work == null) return;
+        execute(new Task(owner, () -> { work.run(); return null; }, null));
+    }
+
+    /**
+     * Run {@code work} on a worker thread, then hand its result to {@code onGL} on the GL
+     * thread. {@code onGL} may be null.
+     */
+    public static <T> void submit(Object owner, Callable<T> work, Consumer<T> onGL) {
+        if (work == null) return;
+        execute(new Task(owner, work, onGL));
+    }
+
+    /** Like {@link #submit(Object, Runnable)}, but after every earlier ordered task has finished. */
+    public static void submitOrdered(Object owner, Runnable work) {
+        if (work == null) return;
+        Task t = new Task(owner, () -> { work.run(); return null; }, null);
+        track(t);
+        submitted.incrementAndGet();
+        ordered.add(t);
+        // The submitter that brings the lane from idle to busy starts it
+        if (orderedCount.getAndIncrement() == 0) startOrdered();
+    }
+
+    /** Run {@code r} on the GL thread during the next completion drain. */
+    public static void runOnGL(Object owner, Runnable r) {
+        if (r == null) return;
+        Task t = new Task(owner, null, ignored -> r.run());
+        track(t);
+        submitted.incrementAndGet();
+        complete(t, null);
+    }
+
+    /** Drop queued work and pending completions of {@code owner}. */
+    public static void cancelAll(Object owner) {
+        if (owner == null) return;
+        Set<Task> tasks = live.get(owner);
+        if (tasks == null) return;
+        for (Task t : tasks) {
+            if (!t.cancelled) {
+                t.cancelled = true;
+                cancelled.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Run completions on the GL thread until the frame budget is spent. At least one runs
+     * per call, so the queue always drains eventually.
+     */
+    public static void drainCompletions() {
+        if (pendingCompletions.get() == 0) return;
+        PerformanceProfiler.begin(PROBE_COMPLETIONS);
+        long start = System.nanoTime();
+        Task t;
+        while ((t = completions.poll()) != null) {
+            pendingCompletions.decrementAndGet();
+            if (!t.cancelled) {
+                try {
+                    t.finishOnGL();
+                    completed.incrementAndGet();
+                } catch (Throwable e) {
+                    failed.incrementAndGet();
+                    log("Completion failed", e);
+                }
+                recordLatency(System.nanoTime() - t.submittedAt);
+            }
+            untrack(t);
+            if (System.nanoTime() - start >= glBudgetNanos) break;
+        }
+        PerformanceProfiler.end(PROBE_COMPLETIONS);
+    }
+
+    /**
+     * Stop accepting work and wait (up to {@code timeoutMillis}) for queued tasks, so saves
+     * submitted while closing still reach the disk. Completions are dropped.
+     */
+    public static void shutdown(long timeoutMillis) {
+        if (pool == null) return;
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        // Ordered tasks are fed to the pool one by one; let the lane empty while it still runs
+        while (orderedCount.get() > 0 && System.currentTimeMillis() < deadline) {
+            try { Thread.sleep(5L); } catch (InterruptedException e) { Thread.currentThread().interrupt(); break; }
+        }
+        ThreadPoolExecutor p;
+        synchronized (AsyncService.class) {
+            p = pool;
+            pool = null;
+        }
+        if (p == null) return;
+        p.shutdown();
+        try {
+            long left = Math.max(0L, deadline - System.currentTimeMillis());
+            if (!p.awaitTermination(left, TimeUnit.MILLISECONDS)) {
+                log("Shutdown timed out with " + p.getQueue().size() + " tasks queued", null);
+                p.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            p.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        completions.clear();
+        pendingCompletions.set(0);
+        live.clear();
+    }
+
+    /** True on one of the service's worker threads. */
+    public static boolean isWorkerThread() {
+        return Thread.currentThread() instanceof Worker;
+    }
+
+    // --- Metrics ---
+
+    /** Tasks waiting for a worker (including the ordered lane). */
+    public static int getQueueDepth() {
+        ThreadPoolExecutor p = pool;
+        int ord = Math.max(0, orderedCount.get() - 1);
+        return (p != null ? p.getQueue().size() : 0) + ord;
+    }
+
+    /** Tasks currently running on workers. */
+    public static int getActiveCount() {
+        ThreadPoolExecutor p = pool;
+        return p != null ? p.getActiveCount() : 0;
+    }
+
+    /** Completions waiting for the GL thread. */
+    public static int getPendingCompletions() { return pendingCompletions.get(); }
+
+    public static long getSubmittedCount() { return submitted.get(); }
+    public static long getCompletedCount() { return completed.get(); }
+    public static long getFailedCount() { return failed.get(); }
+    public static long getCancelledCount() { return cancelled.get(); }
+    /** Times the queue was full and the submitter ran the work itself. */
+    public static long getCallerRunsCount() { return callerRuns.get(); }
+
+    /** Submit-to-finish latency (including the GL completion) at quantile {@code q}, recent tasks. */
+    public static synchronized long percentileLatencyNanos(float q) {
+        int n = (int) Math.min(latencyCount, LATENCY_WINDOW);
+        if (n == 0) return 0L;
+        long[] sorted = java.util.Arrays.copyOf(latencies, n);
+        java.util.Arrays.sort(sorted);
+        return sorted[Math.min(n - 1, (int) (q * n))];
+    }
+
+    // --- Internals ---
+
+    private static void execute(Task t) {
+        track(t);
+        submitted.incrementAndGet();
+        pool().execute(t::runWork);
+    }
+
+    private static void startOrdered() {
+        Task t = ordered.poll();
+        if (t == null) return;
+        pool().execute(() -> {
+            try {
+                t.runWork();
+            } finally {
+                if (orderedCount.decrementAndGet() > 0) startOrdered();
+            }
+        });
+    }
+
+    private static void complete(Task t, Object result) {
+        if (t.cancelled) {
+            untrack(t);
+            return;
+        }
+        if (t.onGL == null) {
+            completed.incrementAndGet();
+            recordLatency(System.nanoTime() - t.submittedAt);
+            untrack(t);
+            return;
+        }
+        t.result = result;
+        completions.add(t);
+        pendingCompletions.incrementAndGet();
+    }
+
+    private static void track(Task t) {
+        if (t.owner == null) return;
+        live.compute(t.owner, (owner, tasks) -> {
+            if (tasks == null) tasks = ConcurrentHashMap.newKeySet();
+            tasks.add(t);
+            return tasks;
+        });
+    }
+
+    // O(1); the owner's entry goes away with its last task
+    private static void untrack(Task t) {
+        if (t.owner == null) return;
+        live.computeIfPresent(t.owner, (owner, tasks) -> {
+            tasks.remove(t);
+            return tasks.isEmpty() ? null : tasks;
+        });
+    }
+
+    private static synchronized void recordLatency(long nanos) {
+        latencies[latencyHead] = nanos;
+        latencyHead = (latencyHead + 1) & (LATENCY_WINDOW - 1);
+        latencyCount++;
+    }
+
+    private static synchronized ThreadPoolExecutor pool() {
+        if (pool == null) {
+            int workers = Math.max(2, Runtime.getRuntime().availableProcessors() - 1);
+            AtomicInteger ids = new AtomicInteger();
+            pool = new ThreadPoolExecutor(workers, workers, 30L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                    r -> new Worker(r, "async-worker-" + ids.getAndIncrement()),
+                    (r, executor) -> {
+                        // Queue full (or shutting down): back-pressure the submitter
+                        callerRuns.incrementAndGet();
+                        r.run();
+                    });
+            pool.allowCoreThreadTimeOut(true);
+        }
+        return pool;
+    }
+
+    private static long readBudget() {
+        try {
+            String v = System.getProperty("chromashift.glBudgetMs");
+            if (v != null) return (long) (Float.parseFloat(v) * 1_000_000L);
+        } catch (NumberFormatException ignored) {}
+        return DEFAULT_GL_BUDGET_NANOS;
+    }
+
+    private static void log(String msg, Throwable e) {
+        if (Gdx.app == null) return;
+        if (e != null) Gdx.app.error("AsyncService", msg, e);
+        else Gdx.app.error("AsyncService", msg);
+    }
+
+    private static final class Worker extends Thread {
+        Worker(Runnable r, String name) {
+            super(r, name);
+            setDaemon(true);
+        }
+    }
+
+    private static final class Task {
+        final Object owner;
+        final Callable<?> work;
+        @SuppressWarnings("rawtypes")
+        final Consumer onGL;
+        final long submittedAt = System.nanoTime();
+        volatile boolean cancelled;
+        Object result;
+
+        Task(Object owner, Callable<?> work, Consumer<?> onGL) {
+            this.owner = owner;
+            this.work = work;
+            this.onGL = onGL;
+        }
+
+        void runWork() {
+            if (cancelled) {
+                untrack(this);
+                return;
+            }
+            Object r;
+            try {
+                r = work.call();
+            } catch (Throwable e) {
+                failed.incrementAndGet();
+                untrack(this);
+                log("Task failed", e);
+                return;
+            }
+            complete(this, r);
+        }
+
+        @SuppressWarnings("unchecked")
+        void finishOnGL() {
+            onGL.accept(result);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.chromashift.helper;
+
+/**
+ * Accumulator for running gameplay at a fixed rate independent of the display refresh.
+ * Each frame call {@link #advance(float, boolean)} and run that many steps of
+ * {@link #getStepSeconds()}; then render with {@link #getAlpha()} to blend between the
+ * previous and current simulated state.
+ */
+public final class FixedTimestep {
+    private float stepSeconds;
+    private int maxStepsPerFrame;
+    private float accumulator = 0f;
+    private float alpha = 1f;
+    private int droppedSteps = 0; // total steps discarded because of the catch-up cap
+
+    public FixedTimestep(float hz, int maxStepsPerFrame) {
+        setRate(hz);
+        setMaxStepsPerFrame(maxStepsPerFrame);
+    }
+
+    public void setRate(float hz) {
+        this.stepSeconds = 1f / Math.max(1f, hz);
+    }
+
+    public void setMaxStepsPerFrame(int max) {
+        this.maxStepsPerFrame = Math.max(1, max);
+    }
+
+    public float getStepSeconds() { return stepSeconds; }
+    public int getMaxStepsPerFrame() { return maxStepsPerFrame; }
+    public int getDroppedSteps() { return droppedSteps; }
+
+    /**
+     * Add the frame delta and return how many fixed steps should run this frame.
+     * When {@code forceStep} is set and no step is due (e.g. a key was just pressed on a
+     * high refresh frame) one step is pulled forward so the input edge is not lost; the
+     * accumulator goes negative and the next frame pays it back, keeping the average rate.
+     */
+    public int advance(float delta, boolean forceStep) {
+        if (delta < 0f) delta = 0f;
+        accumulator += delta;
+        int steps = (int) (accumulator / stepSeconds);
+        if (steps <= 0 && forceStep && accumulator > -stepSeconds * 0.5f) {
+            steps = 1;
+        }
+        if (steps > maxStepsPerFrame) {
+            // Frame spike: drop the backlog instead of spiralling
+            droppedSteps += steps - maxStepsPerFrame;
+            steps = maxStepsPerFrame;
+            accumulator = 0f;
+        } else {
+            accumulator -= steps * stepSeconds;
+        }
+        alpha = Math.max(0f, Math.min(1f, accumulator / stepSeconds));
+        return steps;
+    }
+
+    /** Blend factor [0..1] between the previous and current simulated state. */
+    public float getAlpha() { return alpha; }
+
+    public void reset() {
+        accumulator = 0f;
+        alpha = 1f;
+    }
+}
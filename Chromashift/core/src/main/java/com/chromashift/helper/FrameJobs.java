@@ -0,0 +1,137 @@
+package com.chromashift.helper;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join scheduler for independent per-frame work. {@link #run} calls
+ * {@code job.run(i)} for every index and returns once all of them are done:
+ *
+ * <pre>
+ * private static final int PROBE_PHYSICS = PerformanceProfiler.register("job_tentacle");
+ * FrameJobs.run(PROBE_PHYSICS, tentacles.size, i -&gt; tentacles.get(i).step(delta));
+ * </pre>
+ *
+ * A job may only touch state owned by its index plus read-only shared state; anything
+ * that affects other objects (lighting targets, capturing the player, drops, damage) is
+ * left for the caller to apply in index order after run() returns. Results are then the
+ * same whether the jobs ran in parallel or serially.
+ *
+ * Parallel by default on multi-core machines; -Dchromashift.jobs=false (or
+ * {@link #setParallel}) runs every job inline on the calling thread in index order.
+ * Each job is reported to the profiler under the given probe. Call from the main thread
+ * only, and not from inside a job.
+ */
+public final class FrameJobs {
+    /** One unit of work, identified by its index. */
+    public interface Job {
+        void run(int index);
+    }
+
+    private static boolean parallel = Runtime.getRuntime().availableProcessors() > 1
+            && !"false".equalsIgnoreCase(System.getProperty("chromashift.jobs"));
+    private static ForkJoinPool pool;
+
+    // Reused between frames; grows to the largest batch seen
+    private static Leaf[] leaves = new Leaf[0];
+    private static final Root root = new Root();
+
+    private FrameJobs() {}
+
+    public static void setParallel(boolean p) { parallel = p; }
+    public static boolean isParallel() { return parallel; }
+
+    /** Run jobs 0..count-1 and wait for all of them. */
+    public static void run(int probe, int count, Job job) {
+        if (count <= 0 || job == null) return;
+        if (!parallel || count == 1) {
+            for (int i = 0; i < count; i++) {
+                PerformanceProfiler.begin(probe);
+                job.run(i);
+                PerformanceProfiler.end(probe);
+            }
+            return;
+        }
+        if (leaves.length < count) {
+            Leaf[] grown = new Leaf[Math.max(count, leaves.length * 2)];
+            System.arraycopy(leaves, 0, grown, 0, leaves.length);
+            for (int i = leaves.length; i < grown.length; i++) grown[i] = new Leaf();
+            leaves = grown;
+        }
+        for (int i = 0; i < count; i++) {
+            Leaf l = leaves[i];
+            l.reinitialize();
+            l.job = job;
+            l.index = i;
+        }
+        root.reinitialize();
+        root.count = count;
+        try {
+            pool().invoke(root);
+        } finally {
+            for (int i = 0; i < count; i++) {
+                Leaf l = leaves[i];
+                l.job = null;
+                PerformanceProfiler.add(probe, l.start, l.dur);
+            }
+        }
+    }
+
+    /** Stop the worker threads (they are restarted on the next parallel run). */
+    public static void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    private static ForkJoinPool pool() {
+        if (pool == null) {
+            // Leave one core for the main thread, which waits in invoke()
+            int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            pool = new ForkJoinPool(workers, p -> {
+                java.util.concurrent.ForkJoinWorkerThread t =
+                        ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                t.setName("frame-job-" + t.getPoolIndex());
+                t.setDaemon(true);
+                return t;
+            }, null, false);
+        }
+        return pool;
+    }
+
+    private static final class Leaf extends RecursiveAction {
+        Job job;
+        int index;
+        long start;
+        long dur;
+
+        @Override
+        protected void compute() {
+            start = System.nanoTime();
+            try {
+                job.run(index);
+            } finally {
+                dur = System.nanoTime() - start;
+            }
+        }
+    }
+
+    // Forks every job but the first, runs that one itself, then waits for all of them so
+    // no job is still running when a failure is rethrown
+    private static final class Root extends RecursiveAction {
+        int count;
+
+        @Override
+        protected void compute() {
+            for (int i = count - 1; i >= 1; i--) leaves[i].fork();
+            leaves[0].quietlyInvoke();
+            for (int i = 1; i < count; i++) leaves[i].quietlyJoin();
+            for (int i = 0; i < count; i++) {
+                Throwable t = leaves[i].getException();
+                if (t instanceof RuntimeException re) throw re;
+                if (t instanceof Error e) throw e;
+            }
+        }
+    }
+}
@@ -1,43 +1,486 @@
 package com.chromashift.helper;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import java.util.LinkedHashMap;
-import java.util.Map;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Low-overhead profiler for the game loop. Probes are registered once by name and then
+ * timed through integer handles, so the hot path does no map lookups or string work:
+ *
+ * <pre>
+ * private static final int PROBE_CAST = PerformanceProfiler.register("laser_cast");
+ * PerformanceProfiler.begin(PROBE_CAST); ... PerformanceProfiler.end(PROBE_CAST);
+ * </pre>
+ *
+ * Scopes nest. Every probe keeps a ring buffer of its last {@link #WINDOW} call durations
+ * (p50/p95/p99/max), running totals and per-frame totals. {@link #beginFrame()} /
+ * {@link #endFrame()} mark frames and measure the bytes the thread allocated in between.
+ * While tracing, scopes are also kept as trace events for {@link #exportChromeTrace}
+ * (chrome://tracing / Perfetto); {@link #exportCsv} writes the histogram summary.
+ * Counters ({@link #registerCounter} / {@link #setCounter}) hold one value per frame, such
+ * as draw calls or texture binds, and are listed under the probes.
+ * Main (GL) thread only: begin/end called from FrameJobs or AsyncService workers are
+ * ignored, and the job scheduler reports job timings afterwards through {@link #add}.
+ */
 public final class PerformanceProfiler {
+    /** Samples kept per probe for percentiles (power of two). */
+    public static final int WINDOW = 512;
+    private static final int MAX_PROBES = 128;
+    private static final int MAX_COUNTERS = 32;
+    private static final int MAX_DEPTH = 64;
+    private static final int TRACE_CAPACITY = 1 << 18; // ~7 MB of event buffers
+    private static final long OVERLAY_REFRESH_NANOS = 500_000_000L;
+
     private static boolean enabled = false;
-    private static final Map<String, Long> startTimes = new LinkedHashMap<>();
-    private static final Map<String, Long> lastDurations = new LinkedHashMap<>();
+
+    // Registry
+    private static final String[] names = new String[MAX_PROBES];
+    private static int probeCount = 0;
+
+    // Per-probe statistics
+    private static final long[][] samples = new long[MAX_PROBES][];
+    private static final int[] sampleHead = new int[MAX_PROBES];
+    private static final long[] calls = new long[MAX_PROBES];
+    private static final long[] totalNanos = new long[MAX_PROBES];
+    private static final long[] lastNanos = new long[MAX_PROBES];
+    private static final long[] frameNanos = new long[MAX_PROBES];
+    private static final int[] frameCalls = new int[MAX_PROBES];
+    private static final long[] lastFrameNanos = new long[MAX_PROBES];
+    private static final int[] lastFrameCalls = new int[MAX_PROBES];
+
+    // Per-frame counters
+    private static final String[] counterNames = new String[MAX_COUNTERS];
+    private static final long[][] counterSamples = new long[MAX_COUNTERS][];
+    private static final long[] counterFrames = new long[MAX_COUNTERS];
+    private static final long[] counterLast = new long[MAX_COUNTERS];
+    private static int counterCount = 0;
+
+    // Open scopes
+    private static final int[] stackProbe = new int[MAX_DEPTH];
+    private static final long[] stackStart = new long[MAX_DEPTH];
+    private static int depth = 0;
+
+    // Frames and allocation
+    private static final com.sun.management.ThreadMXBean THREAD_MX = initThreadMx();
+    private static final long[] frameAlloc = new long[WINDOW];
+    private static long frameCount = 0;
+    private static long frameAllocStart = 0L;
+    private static long lastFrameAlloc = -1L;
+    private static long frameArg = -1L; // allocation attached to the frame trace event
+
+    // Trace events (ring; oldest overwritten)
+    private static boolean tracing = false;
+    private static int[] traceProbe;
+    private static long[] traceStart;
+    private static long[] traceDur;
+    private static long[] traceArg;
+    private static int traceHead = 0;
+    private static int traceSize = 0;
+    private static final long traceEpoch = System.nanoTime();
+
+    // Overlay text, rebuilt a couple of times per second instead of every frame
+    private static final StringBuilder overlayText = new StringBuilder(2048);
+    private static long overlayBuiltAt = 0L;
+    private static final long[] scratch = new long[WINDOW];
+
+    /** Whole-frame probe driven by {@link #beginFrame()} / {@link #endFrame()}. */
+    public static final int FRAME = register("frame");
 
     private PerformanceProfiler() {}
 
-    public static void setEnabled(boolean e) { enabled = e; }
+    public static void setEnabled(boolean e) {
+        if (e != enabled) depth = 0;
+        enabled = e;
+    }
+
     public static boolean isEnabled() { return enabled; }
 
-    public static void start(String label) {
+    /**
+     * Return the handle for {@code name}, registering it on first use. Call once (e.g. in
+     * a static final field) and keep the handle.
+     */
+    public static synchronized int register(String name) {
+        for (int i = 0; i < probeCount; i++) {
+            if (names[i].equals(name)) return i;
+        }
+        if (probeCount >= MAX_PROBES) {
+            throw new IllegalStateException("Too many profiler probes (max " + MAX_PROBES + "): " + name);
+        }
+        int id = probeCount++;
+        names[id] = name;
+        samples[id] = new long[WINDOW];
+        return id;
+    }
+
+    /** Handle for counter {@code name}, registering it on first use (like {@link #register}). */
+    public static synchronized int registerCounter(String name) {
+        for (int i = 0; i < counterCount; i++) {
+            if (counterNames[i].equals(name)) return i;
+        }
+        if (counterCount >= MAX_COUNTERS) {
+            throw new IllegalStateException("Too many profiler counters (max " + MAX_COUNTERS + "): " + name);
+        }
+        int id = counterCount++;
+        counterNames[id] = name;
+        counterSamples[id] = new long[WINDOW];
+        return id;
+    }
+
+    /** Record this frame's value of {@code counter}. Call at most once per frame. */
+    public static void setCounter(int counter, long value) {
+        if (!enabled || offThread()) return;
+        counterSamples[counter][(int) (counterFrames[counter] & (WINDOW - 1))] = value;
+        counterFrames[counter]++;
+        counterLast[counter] = value;
+    }
+
+    public static void begin(int probe) {
+        if (!enabled || offThread()) return;
+        if (depth < MAX_DEPTH) {
+            stackProbe[depth] = probe;
+            stackStart[depth] = System.nanoTime();
+        }
+        depth++;
+    }
+
+    /**
+     * Close the innermost open scope of {@code probe}. Scopes opened inside it and left
+     * open (early return) are closed at the same time.
+     */
+    public static void end(int probe) {
+        if (!enabled || depth == 0 || offThread()) return;
+        long now = System.nanoTime();
+        if (depth > MAX_DEPTH) {
+            depth--; // overflowed scope, not tracked
+            return;
+        }
+        int at = depth - 1;
+        while (at >= 0 && stackProbe[at] != probe) at--;
+        if (at < 0) return; // not open (e.g. profiler enabled mid-scope)
+        while (depth > at) {
+            depth--;
+            int p = stackProbe[depth];
+            record(p, stackStart[depth], now - stackStart[depth]);
+        }
+    }
+
+    /** Record a call of {@code probe} measured elsewhere (e.g. a job on a worker thread). */
+    public static void add(int probe, long startNanos, long durNanos) {
+        if (!enabled || offThread()) return;
+        record(probe, startNanos, durNanos);
+    }
+
+    // Worker threads (frame jobs, async service) must not touch the scope stack
+    private static boolean offThread() {
+        return Thread.currentThread() instanceof java.util.concurrent.ForkJoinWorkerThread
+                || AsyncService.isWorkerThread();
+    }
+
+    private static void record(int p, long start, long dur) {
+        long[] ring = samples[p];
+        ring[sampleHead[p]] = dur;
+        sampleHead[p] = (sampleHead[p] + 1) & (WINDOW - 1);
+        calls[p]++;
+        totalNanos[p] += dur;
+        lastNanos[p] = dur;
+        frameNanos[p] += dur;
+        frameCalls[p]++;
+        if (tracing) {
+            int i = traceHead;
+            traceProbe[i] = p;
+            traceStart[i] = start;
+            traceDur[i] = dur;
+            traceArg[i] = (p == FRAME) ? frameArg : -1L;
+            traceHead = (i + 1) % TRACE_CAPACITY;
+            if (traceSize < TRACE_CAPACITY) traceSize++;
+        }
+    }
+
+    /** Start a frame: drops scopes left open by the previous one and snapshots allocation. */
+    public static void beginFrame() {
         if (!enabled) return;
-        startTimes.put(label, System.nanoTime());
+        depth = 0;
+        frameAllocStart = allocatedBytes();
+        begin(FRAME);
     }
 
-    public static void stop(String label) {
+    /** End the frame: closes open scopes, records allocated bytes and rolls per-frame totals. */
+    public static void endFrame() {
         if (!enabled) return;
-        Long t = startTimes.remove(label);
-        if (t != null) {
-            long dur = System.nanoTime() - t;
-            lastDurations.put(label, dur);
+        long alloc = (THREAD_MX != null) ? allocatedBytes() - frameAllocStart : -1L;
+        frameArg = alloc;
+        end(FRAME);
+        frameArg = -1L;
+        if (alloc >= 0L) {
+            frameAlloc[(int) (frameCount & (WINDOW - 1))] = alloc;
+            lastFrameAlloc = alloc;
+        }
+        frameCount++;
+        for (int i = 0; i < probeCount; i++) {
+            lastFrameNanos[i] = frameNanos[i];
+            lastFrameCalls[i] = frameCalls[i];
+            frameNanos[i] = 0L;
+            frameCalls[i] = 0;
         }
     }
 
-    public static Map<String, Long> getLastDurations() { return lastDurations; }
+    /** Clear all statistics and trace events (registrations are kept). */
+    public static void reset() {
+        for (int i = 0; i < probeCount; i++) {
+            Arrays.fill(samples[i], 0L);
+            sampleHead[i] = 0;
+            calls[i] = totalNanos[i] = lastNanos[i] = frameNanos[i] = lastFrameNanos[i] = 0L;
+            frameCalls[i] = lastFrameCalls[i] = 0;
+        }
+        for (int i = 0; i < counterCount; i++) {
+            Arrays.fill(counterSamples[i], 0L);
+            counterFrames[i] = counterLast[i] = 0L;
+        }
+        depth = 0;
+        frameCount = 0L;
+        lastFrameAlloc = -1L;
+        traceHead = traceSize = 0;
+        overlayText.setLength(0);
+    }
+
+    // --- Queries ---
+
+    public static int getProbeCount() { return probeCount; }
+    public static String getName(int probe) { return names[probe]; }
+    public static long getCalls(int probe) { return calls[probe]; }
+    public static long getTotalNanos(int probe) { return totalNanos[probe]; }
+    public static long getLastNanos(int probe) { return lastNanos[probe]; }
+    public static long getLastFrameNanos(int probe) { return lastFrameNanos[probe]; }
+    public static int getLastFrameCalls(int probe) { return lastFrameCalls[probe]; }
+    public static long getFrameCount() { return frameCount; }
+    /** Bytes allocated by the main thread during the last frame, or -1 if unsupported. */
+    public static long getLastFrameAllocatedBytes() { return lastFrameAlloc; }
 
+    public static int getCounterCount() { return counterCount; }
+    public static String getCounterName(int counter) { return counterNames[counter]; }
+    /** Value of {@code counter} in the last frame it was set. */
+    public static long getCounter(int counter) { return counterLast[counter]; }
+
+    /** Per-frame value percentile ({@code q} in 0..1) of {@code counter} over recent frames. */
+    public static long percentileCounter(int counter, float q) {
+        int n = sortWindow(counterSamples[counter], (int) Math.min(counterFrames[counter], WINDOW));
+        return pick(n, q);
+    }
+
+    /** Handle for a registered name, or -1. */
+    public static int find(String name) {
+        for (int i = 0; i < probeCount; i++) {
+            if (names[i].equals(name)) return i;
+        }
+        return -1;
+    }
+
+    /** Call-duration percentile ({@code q} in 0..1) over the probe's recent window. */
+    public static long percentileNanos(int probe, float q) {
+        int n = sortWindow(samples[probe], (int) Math.min(calls[probe], WINDOW));
+        return pick(n, q);
+    }
+
+    /** Allocated-bytes-per-frame percentile over the recent frame window (-1 if unsupported). */
+    public static long percentileFrameAllocatedBytes(float q) {
+        if (THREAD_MX == null) return -1L;
+        int n = sortWindow(frameAlloc, (int) Math.min(frameCount, WINDOW));
+        return pick(n, q);
+    }
+
+    private static int sortWindow(long[] ring, int n) {
+        System.arraycopy(ring, 0, scratch, 0, n);
+        Arrays.sort(scratch, 0, n);
+        return n;
+    }
+
+    private static long pick(int n, float q) {
+        if (n == 0) return 0L;
+        int idx = (int) Math.ceil(q * n) - 1;
+        return scratch[Math.max(0, Math.min(n - 1, idx))];
+    }
+
+    // --- Tracing / export ---
+
+    /** Keep trace events from now on (the most recent {@value #TRACE_CAPACITY} are retained). */
+    public static void startTrace() {
+        if (traceProbe == null) {
+            traceProbe = new int[TRACE_CAPACITY];
+            traceStart = new long[TRACE_CAPACITY];
+            traceDur = new long[TRACE_CAPACITY];
+            traceArg = new long[TRACE_CAPACITY];
+        }
+        traceHead = traceSize = 0;
+        tracing = true;
+    }
+
+    public static void stopTrace() { tracing = false; }
+    public static boolean isTracing() { return tracing; }
+
+    /** Write retained trace events as Chrome trace-event JSON. */
+    public static boolean exportChromeTrace(FileHandle file) {
+        if (traceProbe == null) return false;
+        StringBuilder sb = new StringBuilder(128);
+        try (Writer w = new BufferedWriter(file.writer(false, "UTF-8"))) {
+            w.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[\n");
+            w.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":1,\"args\":{\"name\":\"main\"}}");
+            int first = (traceHead - traceSize + TRACE_CAPACITY) % TRACE_CAPACITY;
+            for (int k = 0; k < traceSize; k++) {
+                int i = (first + k) % TRACE_CAPACITY;
+                sb.setLength(0);
+                sb.append(",\n{\"name\":\"").append(names[traceProbe[i]]).append("\",\"ph\":\"X\",\"pid\":1,\"tid\":1,\"ts\":");
+                appendFixed(sb, traceStart[i] - traceEpoch, 1000L, 3);
+                sb.append(",\"dur\":");
+                appendFixed(sb, traceDur[i], 1000L, 3);
+                sb.append('}');
+                if (traceArg[i] >= 0L) {
+                    // Allocation per frame as a counter track
+                    sb.append(",\n{\"name\":\"allocated_bytes\",\"ph\":\"C\",\"pid\":1,\"tid\":1,\"ts\":");
+                    appendFixed(sb, traceStart[i] - traceEpoch, 1000L, 3);
+                    sb.append(",\"args\":{\"bytes\":").append(traceArg[i]).append("}}");
+                }
+                w.append(sb);
+            }
+            w.write("\n]}\n");
+            return true;
+        } catch (IOException | RuntimeException e) {
+            Gdx.app.error("PerformanceProfiler", "Trace export failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /** Write one row per probe (durations in microseconds) plus frame allocation (bytes). */
+    public static boolean exportCsv(FileHandle file) {
+        StringBuilder sb = new StringBuilder(256);
+        try (Writer w = new BufferedWriter(file.writer(false, "UTF-8"))) {
+            w.write("name,unit,count,total,mean,p50,p95,p99,max\n");
+            for (int p = 0; p < probeCount; p++) {
+                if (calls[p] == 0L) continue;
+                int n = sortWindow(samples[p], (int) Math.min(calls[p], WINDOW));
+                sb.setLength(0);
+                sb.append(names[p]).append(",us,").append(calls[p]).append(',');
+                appendFixed(sb, totalNanos[p], 1000L, 3).append(',');
+                appendFixed(sb, totalNanos[p] / calls[p], 1000L, 3).append(',');
+                appendFixed(sb, pick(n, 0.50f), 1000L, 3).append(',');
+                appendFixed(sb, pick(n, 0.95f), 1000L, 3).append(',');
+                appendFixed(sb, pick(n, 0.99f), 1000L, 3).append(',');
+                appendFixed(sb, scratch[Math.max(0, n - 1)], 1000L, 3).append('\n');
+                w.append(sb);
+            }
+            if (THREAD_MX != null && frameCount > 0) {
+                int n = sortWindow(frameAlloc, (int) Math.min(frameCount, WINDOW));
+                long sum = 0L;
+                for (int i = 0; i < n; i++) sum += scratch[i];
+                sb.setLength(0);
+                sb.append("frame_allocated,bytes,").append(n).append(',').append(sum).append(',')
+                        .append(sum / n).append(',').append(pick(n, 0.50f)).append(',')
+                        .append(pick(n, 0.95f)).append(',').append(pick(n, 0.99f)).append(',')
+                        .append(scratch[n - 1]).append('\n');
+                w.append(sb);
+            }
+            for (int c = 0; c < counterCount; c++) {
+                if (counterFrames[c] == 0L) continue;
+                int n = sortWindow(counterSamples[c], (int) Math.min(counterFrames[c], WINDOW));
+                long sum = 0L;
+                for (int i = 0; i < n; i++) sum += scratch[i];
+                sb.setLength(0);
+                sb.append(counterNames[c]).append(",count,").append(n).append(',').append(sum).append(',')
+                        .append(sum / n).append(',').append(pick(n, 0.50f)).append(',')
+                        .append(pick(n, 0.95f)).append(',').append(pick(n, 0.99f)).append(',')
+                        .append(scratch[n - 1]).append('\n');
+                w.append(sb);
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            Gdx.app.error("PerformanceProfiler", "CSV export failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    // --- Overlay ---
+
+    /** Draw per-probe frame time and call percentiles; text is refreshed every 0.5 s. */
     public static void renderOverlay(SpriteBatch batch, BitmapFont font, float x, float y) {
         if (!enabled) return;
-        float dy = 0f;
-        for (Map.Entry<String, Long> e : lastDurations.entrySet()) {
-            float ms = e.getValue() / 1_000_000f;
-            font.draw(batch, e.getKey() + ": " + String.format("%.3f ms", ms), x, y - dy);
-            dy += 14f;
+        long now = System.nanoTime();
+        if (overlayText.length() == 0 || now - overlayBuiltAt >= OVERLAY_REFRESH_NANOS) {
+            rebuildOverlay();
+            overlayBuiltAt = now;
+        }
+        font.draw(batch, overlayText, x, y);
+    }
+
+    private static void rebuildOverlay() {
+        StringBuilder sb = overlayText;
+        sb.setLength(0);
+        sb.append("probe: frame ms (calls) | p50 / p95 / p99 / max us");
+        if (tracing) sb.append("  [trace ").append(traceSize).append(']');
+        for (int p = 0; p < probeCount; p++) {
+            if (calls[p] == 0L) continue;
+            int n = sortWindow(samples[p], (int) Math.min(calls[p], WINDOW));
+            sb.append('\n').append(names[p]).append(": ");
+            appendFixed(sb, lastFrameNanos[p], 1_000_000L, 2).append(" (").append(lastFrameCalls[p]).append(") | ");
+            appendFixed(sb, pick(n, 0.50f), 1000L, 1).append(" / ");
+            appendFixed(sb, pick(n, 0.95f), 1000L, 1).append(" / ");
+            appendFixed(sb, pick(n, 0.99f), 1000L, 1).append(" / ");
+            appendFixed(sb, scratch[Math.max(0, n - 1)], 1000L, 1);
+        }
+        if (lastFrameAlloc >= 0L) {
+            sb.append("\nalloc/frame: ").append(lastFrameAlloc / 1024L).append(" KB (p95 ")
+                    .append(percentileFrameAllocatedBytes(0.95f) / 1024L).append(" KB)");
+        }
+        int shown = 0;
+        for (int c = 0; c < counterCount; c++) {
+            if (counterFrames[c] == 0L) continue;
+            // Four counters per line
+            sb.append(shown++ % 4 == 0 ? "\n" : " | ").append(counterNames[c]).append(": ")
+                    .append(counterLast[c]).append(" (p95 ").append(percentileCounter(c, 0.95f)).append(')');
         }
     }
+
+    /** Append {@code value / divisor} with {@code decimals} fraction digits, no String.format. */
+    private static StringBuilder appendFixed(StringBuilder sb, long value, long divisor, int decimals) {
+        if (value < 0L) {
+            sb.append('-');
+            value = -value;
+        }
+        long scale = 1L;
+        for (int i = 0; i < decimals; i++) scale *= 10L;
+        long scaled = (value * scale + divisor / 2L) / divisor;
+        sb.append(scaled / scale);
+        if (decimals > 0) {
+            sb.append('.');
+            long frac = scaled % scale;
+            for (long s = scale / 10L; s > 0L; s /= 10L) {
+                sb.append((char) ('0' + (frac / s) % 10L));
+            }
+        }
+        return sb;
+    }
+
+    // --- Allocation counter ---
+
+    private static com.sun.management.ThreadMXBean initThreadMx() {
+        try {
+            java.lang.management.ThreadMXBean mx = java.lang.management.ManagementFactory.getThreadMXBean();
+            if (mx instanceof com.sun.management.ThreadMXBean sun && sun.isThreadAllocatedMemorySupported()) {
+                if (!sun.isThreadAllocatedMemoryEnabled()) sun.setThreadAllocatedMemoryEnabled(true);
+                return sun;
+            }
+        } catch (Throwable ignored) {
+            // Not a HotSpot-style VM (or management module missing): no allocation tracking
+        }
+        return null;
+    }
+
+    private static long allocatedBytes() {
+        return (THREAD_MX != null) ? THREAD_MX.getCurrentThreadAllocatedBytes() : 0L;
+    }
 }
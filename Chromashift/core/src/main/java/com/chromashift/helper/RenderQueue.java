@@ -0,0 +1,264 @@
+package com.chromashift.helper;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * Per-frame list of draw commands for the world pass. Objects are submitted with a layer
+ * instead of being drawn in code order; {@link #flush} sorts the commands and draws them:
+ *
+ * <pre>
+ * queue.submit(RenderQueue.LAYER_WALLS, wall);          // a Renderable
+ * queue.submitShape(RenderQueue.LAYER_TENTACLES, ShapeRenderer.ShapeType.Filled, tentacle);
+ * queue.submitPass(RenderQueue.LAYER_WALLS, () -&gt; wallCache.draw(camera)); // own renderer
+ * queue.flush(batch, shape);
+ * </pre>
+ *
+ * Layers draw in ascending order. Most layers hold things that overlap (interactables,
+ * collectibles, the boss), so their sprite and shape commands draw in submission order.
+ * Only in layers whose draws never overlap (background, walls) are sprite commands
+ * grouped by the texture they report ({@link Renderable#getRenderTexture()}) and shape
+ * commands by shape type, so the batch switches textures as rarely as possible; commands
+ * with the same texture keep submission order there. Consecutive sprite commands share
+ * one batch begin/end and consecutive shape commands one shape begin/end. Passes run with
+ * neither renderer active and come after the sprite and shape commands of their layer.
+ *
+ * {@link #beginFrame} / {@link #endFrame} report per-frame draw calls, texture binds,
+ * vertices (through a GLProfiler), batch flushes ({@link SpriteBatch#totalRenderCalls}),
+ * begin/end pairs and queue texture switches to the profiler while it is enabled.
+ * Main (GL) thread only.
+ */
+public final class RenderQueue {
+    /** Something drawn with the sprite batch (already begun). */
+    public interface Renderable {
+        void render(SpriteBatch batch);
+
+        /** Texture this mostly draws from, used to group draws; null when unknown or mixed. */
+        default Texture getRenderTexture() { return null; }
+    }
+
+    /** Something drawn with the shape renderer (already begun with the submitted type). */
+    public interface ShapeDrawable {
+        void draw(ShapeRenderer shape);
+    }
+
+    // World layers, back to front
+    public static final int LAYER_TENTACLES = 0;
+    public static final int LAYER_BACKGROUND = 1;
+    public static final int LAYER_WALLS = 2;
+    public static final int LAYER_BEAMS = 3;
+    public static final int LAYER_INTERACTABLES = 4;
+    public static final int LAYER_COLLECTIBLES = 5;
+    public static final int LAYER_MARKERS = 6;
+    public static final int LAYER_BOSS = 7;
+    public static final int LAYER_PLAYER = 8;
+    public static final int LAYER_OVERLAY = 9;
+    public static final int MAX_LAYER = 255;
+
+    // Layers whose draws never overlap, so they may be reordered by texture
+    private static final boolean[] GROUPED_LAYERS = new boolean[MAX_LAYER + 1];
+    static {
+        GROUPED_LAYERS[LAYER_BACKGROUND] = true;
+        GROUPED_LAYERS[LAYER_WALLS] = true;
+    }
+
+    // Sort key: layer | kind | texture (or shape type) | command index. Kind and texture
+    // are 0 for sprites and shapes outside grouped layers, leaving submission order.
+    private static final int INDEX_BITS = 24;
+    private static final int TEXTURE_BITS = 22;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    private static final int KIND_SHIFT = INDEX_BITS + TEXTURE_BITS;
+    private static final int LAYER_SHIFT = KIND_SHIFT + 2;
+    private static final int KIND_BATCH = 0, KIND_SHAPE = 1, KIND_PASS = 2;
+    private static final int MAX_TEXTURE_IDS = 1024; // ids are reassigned when exceeded
+
+    private static final int COUNTER_DRAW_CALLS = PerformanceProfiler.registerCounter("draw_calls");
+    private static final int COUNTER_BINDS = PerformanceProfiler.registerCounter("texture_binds");
+    private static final int COUNTER_VERTICES = PerformanceProfiler.registerCounter("vertices");
+    private static final int COUNTER_FLUSHES = PerformanceProfiler.registerCounter("batch_flushes");
+    private static final int COUNTER_PASSES = PerformanceProfiler.registerCounter("begin_end");
+    private static final int COUNTER_SWITCHES = PerformanceProfiler.registerCounter("queue_tex_switches");
+    private static final int COUNTER_COMMANDS = PerformanceProfiler.registerCounter("queue_commands");
+
+    private long[] keys = new long[128];
+    private Object[] items = new Object[128];
+    private Texture[] textures = new Texture[128];
+    private ShapeRenderer.ShapeType[] shapeTypes = new ShapeRenderer.ShapeType[128];
+    private int size = 0;
+
+    // Small ids for textures so they fit the sort key
+    private final ObjectIntMap<Texture> textureIds = new ObjectIntMap<>();
+
+    // Frame statistics
+    private GLProfiler glProfiler;
+    private int framePasses = 0;
+    private int frameSwitches = 0;
+    private int frameCommands = 0;
+    private int frameStartRenderCalls = 0;
+
+    /** Queue {@code r} on {@code layer}, grouped by its own render texture. */
+    public void submit(int layer, Renderable r) {
+        if (r == null) return;
+        submit(layer, r.getRenderTexture(), r);
+    }
+
+    /** Queue {@code r} on {@code layer}, grouped under {@code texture} (may be null). */
+    public void submit(int layer, Texture texture, Renderable r) {
+        if (r == null) return;
+        int i = add(layer, KIND_BATCH, textureId(texture), r);
+        textures[i] = texture;
+    }
+
+    /** Queue a shape command; shapes of one type in a layer share a begin/end. */
+    public void submitShape(int layer, ShapeRenderer.ShapeType type, ShapeDrawable s) {
+        if (s == null || type == null) return;
+        int i = add(layer, KIND_SHAPE, type.ordinal() + 1, s);
+        shapeTypes[i] = type;
+    }
+
+    /**
+     * Queue a draw that brings its own renderer (a SpriteCache, a framebuffer blit); it runs
+     * with the batch and shape renderer ended.
+     */
+    public void submitPass(int layer, Runnable pass) {
+        if (pass == null) return;
+        add(layer, KIND_PASS, 0, pass);
+    }
+
+    public int size() { return size; }
+
+    /**
+     * Draw and clear every queued command. The batch and shape renderer must not be drawing
+     * and must already have their projection matrices set; both are ended on return.
+     */
+    public void flush(SpriteBatch batch, ShapeRenderer shape) {
+        java.util.Arrays.sort(keys, 0, size);
+        ShapeRenderer.ShapeType activeShape = null;
+        Texture lastTexture = null;
+        try {
+            for (int k = 0; k < size; k++) {
+                int i = (int) (keys[k] & INDEX_MASK);
+                Object item = items[i];
+                if (item instanceof Renderable r) {
+                    if (activeShape != null) {
+                        shape.end();
+                        activeShape = null;
+                    }
+                    if (!batch.isDrawing()) {
+                        batch.begin();
+                        framePasses++;
+                    }
+                    Texture t = textures[i];
+                    if (t != null && t != lastTexture) {
+                        if (lastTexture != null) frameSwitches++;
+                        lastTexture = t;
+                    }
+                    r.render(batch);
+                } else if (item instanceof ShapeDrawable s) {
+                    if (batch.isDrawing()) batch.end();
+                    ShapeRenderer.ShapeType type = shapeTypes[i];
+                    if (activeShape == null) {
+                        shape.begin(type);
+                        framePasses++;
+                    } else if (activeShape != type) {
+                        shape.set(type);
+                    }
+                    activeShape = type;
+                    s.draw(shape);
+                } else {
+                    if (activeShape != null) {
+                        shape.end();
+                        activeShape = null;
+                    }
+                    if (batch.isDrawing()) batch.end();
+                    framePasses++;
+                    ((Runnable) item).run();
+                }
+            }
+        } finally {
+            if (activeShape != null) shape.end();
+            if (batch.isDrawing()) batch.end();
+            frameCommands += size;
+            for (int i = 0; i < size; i++) {
+                items[i] = null;
+                textures[i] = null;
+                shapeTypes[i] = null;
+            }
+            size = 0;
+        }
+    }
+
+    /** Start counting this frame's GL work. Call before the first draw of the frame. */
+    public void beginFrame(SpriteBatch batch) {
+        framePasses = frameSwitches = frameCommands = 0;
+        frameStartRenderCalls = batch.totalRenderCalls;
+        boolean profiling = PerformanceProfiler.isEnabled();
+        if (profiling && glProfiler == null && Gdx.graphics != null) {
+            glProfiler = new GLProfiler(Gdx.graphics);
+        }
+        if (glProfiler != null) {
+            if (profiling && !glProfiler.isEnabled()) glProfiler.enable();
+            else if (!profiling && glProfiler.isEnabled()) glProfiler.disable();
+            glProfiler.reset();
+        }
+    }
+
+    /** Report the frame's counts to the profiler. Call after the last draw to be counted. */
+    public void endFrame(SpriteBatch batch) {
+        if (!PerformanceProfiler.isEnabled()) return;
+        if (glProfiler != null && glProfiler.isEnabled()) {
+            PerformanceProfiler.setCounter(COUNTER_DRAW_CALLS, glProfiler.getDrawCalls());
+            PerformanceProfiler.setCounter(COUNTER_BINDS, glProfiler.getTextureBindings());
+            PerformanceProfiler.setCounter(COUNTER_VERTICES, (long) glProfiler.getVertexCount().total);
+        }
+        PerformanceProfiler.setCounter(COUNTER_FLUSHES, batch.totalRenderCalls - frameStartRenderCalls);
+        PerformanceProfiler.setCounter(COUNTER_PASSES, framePasses);
+        PerformanceProfiler.setCounter(COUNTER_SWITCHES, frameSwitches);
+        PerformanceProfiler.setCounter(COUNTER_COMMANDS, frameCommands);
+    }
+
+    /** Stop GL profiling (restores the unwrapped GL). */
+    public void dispose() {
+        if (glProfiler != null && glProfiler.isEnabled()) glProfiler.disable();
+        glProfiler = null;
+        textureIds.clear();
+    }
+
+    private int add(int layer, int kind, int texKey, Object item) {
+        if (size == keys.length) grow(size * 2);
+        int i = size++;
+        int l = Math.max(0, Math.min(MAX_LAYER, layer));
+        if (!GROUPED_LAYERS[l] && kind != KIND_PASS) {
+            kind = KIND_BATCH;
+            texKey = 0;
+        }
+        keys[i] = ((long) l << LAYER_SHIFT) | ((long) kind << KIND_SHIFT)
+                | ((long) texKey << INDEX_BITS) | i;
+        items[i] = item;
+        return i;
+    }
+
+    // 0 for no texture, so untextured commands sort first in their layer
+    private int textureId(Texture t) {
+        if (t == null) return 0;
+        int id = textureIds.get(t, 0);
+        if (id == 0) {
+            // Textures come and go with levels; start over rather than grow forever
+            if (textureIds.size >= MAX_TEXTURE_IDS) textureIds.clear();
+            id = textureIds.size + 1;
+            textureIds.put(t, id);
+        }
+        return id;
+    }
+
+    private void grow(int capacity) {
+        keys = java.util.Arrays.copyOf(keys, capacity);
+        items = java.util.Arrays.copyOf(items, capacity);
+        textures = java.util.Arrays.copyOf(textures, capacity);
+        shapeTypes = java.util.Arrays.copyOf(shapeTypes, capacity);
+    }
+}
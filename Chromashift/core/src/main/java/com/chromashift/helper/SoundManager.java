@@ -3,7 +3,6 @@ package com.chromashift.helper;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.utils.Timer;
 
 import java.util.*;
 
@@ -136,12 +135,9 @@ public class SoundManager {
         currentTracks.put(group, next);
         fadeIn(next, crossfadeDuration / 2f);
 
-        next.setOnCompletionListener(m -> Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                playMusic(group, crossfadeDuration, shuffle);
-            }
-        }, 0.25f));
+        // Fades and track changes run on the frame-time wheel, so they keep going in menus
+        next.setOnCompletionListener(m -> TimerWheel.realtime().schedule(0.25f,
+                () -> playMusic(group, crossfadeDuration, shuffle)));
     }
 
     public static void playPlaylist(String group, float crossfadeDuration, boolean shuffle) {
@@ -157,16 +153,16 @@ public class SoundManager {
         }
         final float interval = 0.05f;
         final int steps = (int) (duration / interval);
-        Timer.schedule(new Timer.Task() {
+        TimerWheel.realtime().scheduleRepeating(0f, interval, new Runnable() {
             float progress = 0f;
             @Override
             public void run() {
                 progress += 1f / steps;
                 float volume = Math.min(progress, 1f) * masterVolume * musicVolume;
                 music.setVolume(volume);
-                if (progress >= 1f) cancel();
+                if (progress >= 1f) TimerWheel.realtime().cancelRunning();
             }
-        }, 0f, interval);
+        });
     }
 
     private static void fadeOut(final Music music, final float duration) {
@@ -176,7 +172,7 @@ public class SoundManager {
         }
         final float interval = 0.05f;
         final int steps = (int) (duration / interval);
-        Timer.schedule(new Timer.Task() {
+        TimerWheel.realtime().scheduleRepeating(0f, interval, new Runnable() {
             float progress = 0f;
             @Override
             public void run() {
@@ -185,10 +181,10 @@ public class SoundManager {
                 music.setVolume(Math.max(volume, 0f));
                 if (progress >= 1f) {
                     music.stop();
-                    cancel();
+                    TimerWheel.realtime().cancelRunning();
                 }
             }
-        }, 0f, interval);
+        });
     }
 
     // ---------------- Volume Controls ----------------
@@ -235,7 +231,7 @@ public class SoundManager {
         final float interval = 0.05f;
         final int steps = (int) (duration / interval);
 
-        Timer.schedule(new Timer.Task() {
+        TimerWheel.realtime().scheduleRepeating(0f, interval, new Runnable() {
             int count = 0;
             @Override
             public void run() {
@@ -243,9 +239,9 @@ public class SoundManager {
                 float t = (float) count / steps;
                 float value = start + (targetVolume - start) * t;
                 setter.accept(value);
-                if (count >= steps) cancel();
+                if (count >= steps) TimerWheel.realtime().cancelRunning();
             }
-        }, 0f, interval);
+        });
     }
 
     private static void updateMusicVolumes() {
@@ -0,0 +1,224 @@
+package com.chromashift.helper;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * Uniform grid over objects with live bounds, for "what is in this rectangle" queries:
+ *
+ * <pre>
+ * grid.add(door, door.getBounds(), false);  // static: bucketed once
+ * grid.add(box, box.getBounds(), true);     // moves: re-checked by refresh()
+ * grid.refresh();                           // once per frame, before querying
+ * grid.query(viewRect, visible);
+ * </pre>
+ *
+ * Items keep the Rectangle they were added with and read it again on {@link #refresh()},
+ * so owners just move their bounds. A dynamic item is only re-bucketed when the range of
+ * cells it covers changes. Items bigger than {@link #MAX_CELLS_PER_ITEM} cells are kept in
+ * a list every query returns. Query results come in the order items were added (with
+ * removals keeping the relative order of the rest), which keeps draw order stable.
+ * Single-threaded.
+ */
+public final class SpatialGrid<T> {
+    public static final float DEFAULT_CELL_SIZE = 256f;
+    public static final int MAX_CELLS_PER_ITEM = 1024;
+
+    private final float cellSize;
+    private final LongMap<IntArray> cells = new LongMap<>();
+    private final IntArray large = new IntArray();
+
+    // Item slots (parallel arrays); order[] is the add sequence used to sort results
+    private Object[] items = new Object[64];
+    private Rectangle[] bounds = new Rectangle[64];
+    private boolean[] dynamic = new boolean[64];
+    private boolean[] inLarge = new boolean[64];
+    private long[] order = new long[64];
+    private int[] x0 = new int[64], y0 = new int[64], x1 = new int[64], y1 = new int[64];
+    private int slots = 0;
+    private final IntArray freeSlots = new IntArray();
+    private final IntArray dynamicSlots = new IntArray();
+    private final ObjectIntMap<Object> slotOf = new ObjectIntMap<>();
+    private long nextOrder = 0L;
+
+    // Query scratch: stamp per slot drops duplicates across cells
+    private final IntArray hits = new IntArray();
+    private int[] stamps = new int[64];
+    private int stamp = 0;
+
+    public SpatialGrid() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    public SpatialGrid(float cellSize) {
+        this.cellSize = Math.max(1f, cellSize);
+    }
+
+    public float getCellSize() { return cellSize; }
+    public int size() { return slotOf.size; }
+    public boolean contains(T item) { return slotOf.containsKey(item); }
+
+    /** Index {@code item} under {@code liveBounds}; ignored if already present. */
+    public void add(T item, Rectangle liveBounds, boolean isDynamic) {
+        if (item == null || liveBounds == null || slotOf.containsKey(item)) return;
+        int s;
+        if (freeSlots.size > 0) {
+            s = freeSlots.pop();
+        } else {
+            if (slots == items.length) grow(slots * 2);
+            s = slots++;
+        }
+        items[s] = item;
+        bounds[s] = liveBounds;
+        dynamic[s] = isDynamic;
+        order[s] = nextOrder++;
+        slotOf.put(item, s);
+        if (isDynamic) dynamicSlots.add(s);
+        insert(s);
+    }
+
+    public boolean remove(T item) {
+        int s = slotOf.remove(item, -1);
+        if (s < 0) return false;
+        unlink(s);
+        if (dynamic[s]) dynamicSlots.removeValue(s);
+        items[s] = null;
+        bounds[s] = null;
+        freeSlots.add(s);
+        return true;
+    }
+
+    public void clear() {
+        for (IntArray bucket : cells.values()) bucket.clear();
+        large.clear();
+        java.util.Arrays.fill(items, 0, slots, null);
+        java.util.Arrays.fill(bounds, 0, slots, null);
+        slots = 0;
+        freeSlots.clear();
+        dynamicSlots.clear();
+        slotOf.clear();
+    }
+
+    /** Re-bucket dynamic items whose bounds moved into other cells. */
+    public void refresh() {
+        for (int i = 0; i < dynamicSlots.size; i++) {
+            int s = dynamicSlots.get(i);
+            Rectangle b = bounds[s];
+            if (cell(b.x) != x0[s] || cell(b.y) != y0[s]
+                    || cell(b.x + b.width) != x1[s] || cell(b.y + b.height) != y1[s]) {
+                unlink(s);
+                insert(s);
+            }
+        }
+    }
+
+    /**
+     * Append the items whose bounds overlap {@code area} to {@code out} (not cleared), in
+     * add order. Bounds are tested exactly, so a result is never only a cell neighbour.
+     */
+    @SuppressWarnings("unchecked")
+    public void query(Rectangle area, Array<T> out) {
+        if (++stamp == 0) {
+            java.util.Arrays.fill(stamps, 0);
+            stamp = 1;
+        }
+        hits.clear();
+        int cx0 = cell(area.x), cy0 = cell(area.y);
+        int cx1 = cell(area.x + area.width), cy1 = cell(area.y + area.height);
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                IntArray bucket = cells.get(key(cx, cy));
+                if (bucket != null) collect(bucket, area);
+            }
+        }
+        collect(large, area);
+        if (hits.size > 1) sortByOrder();
+        for (int i = 0; i < hits.size; i++) out.add((T) items[hits.get(i)]);
+    }
+
+    private void collect(IntArray bucket, Rectangle area) {
+        for (int i = 0; i < bucket.size; i++) {
+            int s = bucket.get(i);
+            if (stamps[s] == stamp) continue;
+            stamps[s] = stamp;
+            if (bounds[s].overlaps(area)) hits.add(s);
+        }
+    }
+
+    // Insertion sort: hits are few and mostly ordered already (cells are walked row by row)
+    private void sortByOrder() {
+        int[] h = hits.items;
+        for (int i = 1; i < hits.size; i++) {
+            int s = h[i];
+            long o = order[s];
+            int j = i - 1;
+            while (j >= 0 && order[h[j]] > o) {
+                h[j + 1] = h[j];
+                j--;
+            }
+            h[j + 1] = s;
+        }
+    }
+
+    private void insert(int s) {
+        Rectangle b = bounds[s];
+        int ax = cell(b.x), ay = cell(b.y), bx = cell(b.x + b.width), by = cell(b.y + b.height);
+        x0[s] = ax;
+        y0[s] = ay;
+        x1[s] = bx;
+        y1[s] = by;
+        inLarge[s] = (long) (bx - ax + 1) * (by - ay + 1) > MAX_CELLS_PER_ITEM;
+        if (inLarge[s]) {
+            large.add(s);
+            return;
+        }
+        for (int cy = ay; cy <= by; cy++) {
+            for (int cx = ax; cx <= bx; cx++) {
+                long k = key(cx, cy);
+                IntArray bucket = cells.get(k);
+                if (bucket == null) {
+                    bucket = new IntArray(4);
+                    cells.put(k, bucket);
+                }
+                bucket.add(s);
+            }
+        }
+    }
+
+    private void unlink(int s) {
+        if (inLarge[s]) {
+            large.removeValue(s);
+            return;
+        }
+        for (int cy = y0[s]; cy <= y1[s]; cy++) {
+            for (int cx = x0[s]; cx <= x1[s]; cx++) {
+                IntArray bucket = cells.get(key(cx, cy));
+                if (bucket != null) bucket.removeValue(s);
+            }
+        }
+    }
+
+    private int cell(float v) {
+        return (int) Math.floor(v / cellSize);
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+
+    private void grow(int capacity) {
+        items = java.util.Arrays.copyOf(items, capacity);
+        bounds = java.util.Arrays.copyOf(bounds, capacity);
+        dynamic = java.util.Arrays.copyOf(dynamic, capacity);
+        inLarge = java.util.Arrays.copyOf(inLarge, capacity);
+        order = java.util.Arrays.copyOf(order, capacity);
+        x0 = java.util.Arrays.copyOf(x0, capacity);
+        y0 = java.util.Arrays.copyOf(y0, capacity);
+        x1 = java.util.Arrays.copyOf(x1, capacity);
+        y1 = java.util.Arrays.copyOf(y1, capacity);
+        stamps = java.util.Arrays.copyOf(stamps, capacity);
+    }
+}
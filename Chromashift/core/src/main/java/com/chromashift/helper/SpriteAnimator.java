@@ -1,67 +1,58 @@
 package com.chromashift.helper;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Array;
-import com.jjmc.chromashift.Assets;
-
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Local SpriteAnimator replacement that uses the project's AssetManager so
- * textures are preloaded on the GL thread (Assets.loadAll()).
+ * textures are preloaded on the GL thread (a level's manifest, see LevelAssets). Sheets are resolved
+ * through Assets.region, so packed sheets animate within their atlas page.
  *
  * This provides the minimal API used by the game code: constructors,
  * addAnimation / addAnimationFromTexture, play, update, render, reset, dispose.
+ *
+ * Clips live in a shared {@link AnimationSet} per sprite sheet, so building another
+ * animator on the same sheet does not split it again or rebuild its animations. An
+ * animator only holds playback state: the current clip handle, state time and flip.
+ * {@link #getClip(String)} / {@link #play(int, boolean)} skip the name lookup entirely.
  */
 public class SpriteAnimator {
-    private final Map<String, Animation<TextureRegion>> animations = new HashMap<>();
-    private final Map<String, Float> animFrameDuration = new HashMap<>();
-    private final Map<String, Boolean> animLoop = new HashMap<>();
+    private AnimationSet set;
+    // Set is shared with other animators; copied before a conflicting addAnimation
+    private boolean shared;
 
-    private String currentName = null;
+    private int current = -1;
     private float stateTime = 0f;
     private boolean flipX = false;
 
-    // optional sprite sheet (if constructed with a tiled sheet)
-    private Texture baseTexture;
-    private TextureRegion[][] splitRegions;
-    private int rows = 0, cols = 0;
-
     public SpriteAnimator() {
+        this.set = AnimationSet.create();
+        this.shared = false;
     }
 
     public SpriteAnimator(String spritePath, int rows, int cols) {
-        try {
-            this.baseTexture = Assets.manager.get(spritePath, Texture.class);
-            this.rows = rows;
-            this.cols = cols;
-            if (baseTexture != null && rows > 0 && cols > 0) {
-                splitRegions = TextureRegion.split(baseTexture, baseTexture.getWidth() / cols, baseTexture.getHeight() / rows);
-            }
-        } catch (Exception e) {
-            Gdx.app.error("SpriteAnimator", "Failed to load spritePath=" + spritePath, e);
-        }
+        this.set = AnimationSet.forSheet(spritePath, rows, cols);
+        this.shared = true;
+    }
+
+    /** Animator over an existing (usually cached) set of clips. */
+    public SpriteAnimator(AnimationSet set) {
+        this.set = set != null ? set : AnimationSet.create();
+        this.shared = set != null;
     }
 
     /**
      * Add an animation from a tiled sprite sheet previously provided to the
-     * constructor via (spritePath, rows, cols).
+     * constructor via (spritePath, rows, cols). Re-adding a clip that the shared set
+     * already has with the same frames and timing costs nothing.
      */
     public void addAnimation(String name, int row, int startCol, int frames, float frameDuration, boolean loop) {
-        if (splitRegions == null) return;
-        Array<TextureRegion> regs = new Array<>();
-        for (int c = startCol; c < startCol + frames; c++) {
-            if (row < splitRegions.length && c < splitRegions[row].length) regs.add(splitRegions[row][c]);
-        }
-        Animation<TextureRegion> a = new Animation<>(frameDuration, regs, Animation.PlayMode.NORMAL);
-        animations.put(name, a);
-        animFrameDuration.put(name, frameDuration);
-        animLoop.put(name, loop);
+        if (!set.hasSheet()) return;
+        int existing = set.find(name);
+        if (existing >= 0 && set.matchesSheet(existing, row, startCol, frames, frameDuration, loop)) return;
+        if (existing >= 0) ownSet();
+        set.define(name, row, startCol, frames, frameDuration, loop);
     }
 
     /**
@@ -69,32 +60,36 @@ public class SpriteAnimator {
      * frameWidth x frameHeight. Useful when the animation is a separate file.
      */
     public void addAnimationFromTexture(String animationName, String atlasPath, int frameWidth, int frameHeight, int frameCount, float frameDuration, boolean loop) {
-        try {
-            Texture tex = Assets.manager.get(atlasPath, Texture.class);
-            if (tex == null) return;
-            TextureRegion[][] split = TextureRegion.split(tex, frameWidth, frameHeight);
-            Array<TextureRegion> regs = new Array<>();
-            int collected = 0;
-            outer:
-            for (TextureRegion[] row : split) {
-                for (TextureRegion r : row) {
-                    regs.add(r);
-                    collected++;
-                    if (collected >= frameCount) break outer;
-                }
-            }
-            Animation<TextureRegion> a = new Animation<>(frameDuration, regs);
-            animations.put(animationName, a);
-            animFrameDuration.put(animationName, frameDuration);
-            animLoop.put(animationName, loop);
-        } catch (Exception e) {
-            Gdx.app.error("SpriteAnimator", "addAnimationFromTexture failed for=" + atlasPath, e);
-        }
+        int existing = set.find(animationName);
+        if (existing >= 0 && set.matchesTexture(existing, atlasPath, frameWidth, frameHeight, frameCount, frameDuration, loop)) return;
+        if (existing >= 0) ownSet();
+        set.defineFromTexture(animationName, atlasPath, frameWidth, frameHeight, frameCount, frameDuration, loop);
     }
 
+    // Switch to a private copy before changing a clip other animators use
+    private void ownSet() {
+        if (!shared) return;
+        set = set.copy();
+        shared = false;
+    }
+
+    /** Handle of clip {@code name} for {@link #play(int, boolean)}, or -1. */
+    public int getClip(String name) {
+        return set.find(name);
+    }
+
+    /** Handle of the playing clip, or -1. */
+    public int getCurrentClip() { return current; }
+
+    public AnimationSet getAnimationSet() { return set; }
+
     public void play(String name, boolean flipX) {
-        if (!animations.containsKey(name)) return;
-        this.currentName = name;
+        play(set.find(name), flipX);
+    }
+
+    public void play(int clip, boolean flipX) {
+        if (clip < 0 || clip >= set.size()) return;
+        this.current = clip;
         this.stateTime = 0f;
         this.flipX = flipX;
     }
@@ -127,14 +122,14 @@ public class SpriteAnimator {
      * If no animation is playing, this is a no-op.
      */
     public void setFrame(int frameIndex) {
-        if (currentName == null) return;
-        float fd = animFrameDuration.getOrDefault(currentName, 0.1f);
+        if (current < 0) return;
+        float fd = set.frameDuration(current);
         if (fd <= 0f) fd = 0.1f;
         this.stateTime = frameIndex * fd;
     }
 
     public void update(float delta) {
-        if (currentName == null) return;
+        if (current < 0) return;
         stateTime += delta;
     }
 
@@ -142,19 +137,13 @@ public class SpriteAnimator {
      * Return the current frame TextureRegion (without drawing). May return null.
      */
     public com.badlogic.gdx.graphics.g2d.TextureRegion getCurrentFrameRegion() {
-        if (currentName == null) return null;
-        Animation<TextureRegion> a = animations.get(currentName);
-        if (a == null) return null;
-        boolean loop = animLoop.getOrDefault(currentName, true);
-        return a.getKeyFrame(stateTime, loop);
+        if (current < 0) return null;
+        return set.clip(current).getKeyFrame(stateTime, set.loops(current));
     }
 
     public void render(SpriteBatch batch, float x, float y, float width, float height) {
-        if (currentName == null) return;
-        Animation<TextureRegion> a = animations.get(currentName);
-        if (a == null) return;
-        boolean loop = animLoop.getOrDefault(currentName, true);
-        TextureRegion frame = a.getKeyFrame(stateTime, loop);
+        if (current < 0) return;
+        TextureRegion frame = set.clip(current).getKeyFrame(stateTime, set.loops(current));
         if (frame == null) return;
         try {
             // Ensure we draw only while the batch is active. If caller didn't begin the
@@ -178,35 +167,30 @@ public class SpriteAnimator {
     }
 
     public boolean isAnimationFinished() {
-        if (currentName == null) return true;
-        Animation<TextureRegion> a = animations.get(currentName);
-        if (a == null) return true;
-        return a.isAnimationFinished(stateTime);
+        if (current < 0) return true;
+        return set.clip(current).isAnimationFinished(stateTime);
     }
 
     public void reset() {
         this.stateTime = 0f;
-        this.currentName = null;
+        this.current = -1;
     }
 
-    public String getCurrentAnimationName() { return currentName; }
+    public String getCurrentAnimationName() { return current >= 0 ? set.name(current) : null; }
 
     public void dispose() {
-        // Do NOT dispose textures here: Assets.manager owns them.
-        animations.clear();
-        animFrameDuration.clear();
-        animLoop.clear();
+        // Do NOT dispose textures here: Assets.manager owns them. Clips may be shared
+        // with other animators, so only this animator's playback is dropped.
+        current = -1;
     }
 
     @Override
     public String toString() {
-        return "SpriteAnimator[animations=" + animations.keySet() + "]";
+        return "SpriteAnimator[animations=" + set + "]";
     }
 
     public int getCurrentFrameIndex() {
-        if (currentName == null) return 0;
-        Animation<TextureRegion> a = animations.get(currentName);
-        if (a == null) return 0;
-        return a.getKeyFrameIndex(stateTime);
+        if (current < 0) return 0;
+        return set.clip(current).getKeyFrameIndex(stateTime);
     }
 }
@@ -0,0 +1,291 @@
+package com.chromashift.helper;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Hierarchical timer wheel for delayed and repeating callbacks. Time only moves through
+ * {@link #advance(float)}, so a wheel follows whatever clock drives it and stops while
+ * paused or not ticked. Scheduling and cancelling are O(1); timers live in pooled
+ * arrays, so after warm-up nothing is allocated per schedule (the Runnable is the
+ * caller's).
+ *
+ * Resolution is 1 ms. Four levels of 256 slots cover 2^32 ticks (~49 days); timers
+ * further out than a level's span wait in a coarser level and cascade down as the
+ * wheel turns.
+ *
+ * Two shared wheels exist:
+ * <ul>
+ * <li>{@link #game()} runs in simulation time; LevelSimulation ticks it each step, so
+ * boss attack chains and spawn phases pause with the game.</li>
+ * <li>{@link #realtime()} runs on frame time; ChromashiftGame ticks it every frame, so
+ * audio fades also run in menus and while the game is paused.</li>
+ * </ul>
+ * Main thread only.
+ */
+public final class TimerWheel {
+    public static final float TICK_SECONDS = 0.001f;
+    /** Never returned by schedule(); safe "no timer" value for handle fields. */
+    public static final long NO_HANDLE = 0L;
+
+    private static final int SLOT_BITS = 8;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final int NONE = -1;
+
+    private static final TimerWheel GAME = new TimerWheel();
+    private static final TimerWheel REALTIME = new TimerWheel();
+
+    /** Simulation-time wheel (ticked by LevelSimulation). */
+    public static TimerWheel game() { return GAME; }
+
+    /** Frame-time wheel (ticked by ChromashiftGame). */
+    public static TimerWheel realtime() { return REALTIME; }
+
+    // Slot list heads, LEVELS * SLOTS
+    private final int[] heads = new int[LEVELS * SLOTS];
+
+    // Timer pool (parallel arrays indexed by timer id)
+    private int[] next = new int[0];
+    private int[] prev = new int[0];
+    private int[] slotOf = new int[0]; // head index while linked, NONE otherwise
+    private int[] generation = new int[0];
+    private long[] deadline = new long[0];
+    private int[] interval = new int[0]; // ticks; 0 for one-shot
+    private Runnable[] actions = new Runnable[0];
+    private Object[] owners = new Object[0];
+    private int freeList = NONE;
+    private int size = 0;
+
+    private long now = 0L; // last tick processed
+    private float carry = 0f; // fractional ticks not yet processed
+    private boolean paused = false;
+    // Timer whose action is executing, and whether it cancelled itself
+    private int running = NONE;
+    private boolean runningCancelled = false;
+
+    public TimerWheel() {
+        java.util.Arrays.fill(heads, NONE);
+        grow(32);
+    }
+
+    /** Run {@code action} once after {@code delaySeconds}. */
+    public long schedule(float delaySeconds, Runnable action) {
+        return schedule(null, delaySeconds, 0f, action);
+    }
+
+    /** Same as {@link #schedule(float, Runnable)}, tagged with an owner for {@link #cancelAll}. */
+    public long schedule(Object owner, float delaySeconds, Runnable action) {
+        return schedule(owner, delaySeconds, 0f, action);
+    }
+
+    /**
+     * Run {@code action} after {@code delaySeconds} and then every {@code intervalSeconds}
+     * until cancelled (the action can stop itself with {@link #cancelRunning()}).
+     */
+    public long scheduleRepeating(float delaySeconds, float intervalSeconds, Runnable action) {
+        return schedule(null, delaySeconds, Math.max(TICK_SECONDS, intervalSeconds), action);
+    }
+
+    private long schedule(Object owner, float delaySeconds, float intervalSeconds, Runnable action) {
+        if (action == null) return NO_HANDLE;
+        if (freeList == NONE) grow(next.length * 2);
+        int id = freeList;
+        freeList = next[id];
+        actions[id] = action;
+        owners[id] = owner;
+        interval[id] = intervalSeconds > 0f ? toTicks(intervalSeconds) : 0;
+        // Due on a later tick, so an action scheduling with no delay runs on the next tick
+        deadline[id] = now + toTicks(delaySeconds);
+        link(id);
+        size++;
+        return handle(id);
+    }
+
+    /** Cancel a pending timer. Returns false if it already ran or was cancelled. */
+    public boolean cancel(long handle) {
+        int id = resolve(handle);
+        if (id == NONE) return false;
+        if (id == running) {
+            if (runningCancelled) return false;
+            runningCancelled = true;
+            return true;
+        }
+        unlink(id);
+        release(id);
+        return true;
+    }
+
+    /** Cancel the timer whose action is currently running (e.g. a finished fade). */
+    public void cancelRunning() {
+        if (running != NONE) runningCancelled = true;
+    }
+
+    /** Cancel every timer scheduled with {@code owner}. */
+    public void cancelAll(Object owner) {
+        if (owner == null) return;
+        for (int id = 0; id < owners.length; id++) {
+            if (owners[id] != owner) continue;
+            if (id == running) runningCancelled = true;
+            else if (slotOf[id] != NONE) {
+                unlink(id);
+                release(id);
+            }
+        }
+    }
+
+    public boolean isScheduled(long handle) {
+        int id = resolve(handle);
+        return id != NONE && !(id == running && runningCancelled);
+    }
+
+    /** Drop every pending timer. */
+    public void clear() {
+        for (int id = 0; id < slotOf.length; id++) {
+            if (slotOf[id] != NONE) {
+                unlink(id);
+                release(id);
+            }
+        }
+        if (running != NONE) runningCancelled = true;
+    }
+
+    /**
+     * Drop the fraction of a tick carried over from earlier advances, so the next
+     * advance starts on a tick boundary (a level started later fires its timers on the
+     * same steps as one started fresh, e.g. in a replay).
+     */
+    public void alignToTick() { carry = 0f; }
+
+    public void setPaused(boolean paused) { this.paused = paused; }
+    public boolean isPaused() { return paused; }
+    /** Pending timers. */
+    public int size() { return size; }
+
+    /** Move time forward and run everything that came due, in deadline order. */
+    public void advance(float deltaSeconds) {
+        if (paused || deltaSeconds <= 0f) return;
+        carry += deltaSeconds / TICK_SECONDS;
+        int ticks = (int) carry;
+        carry -= ticks;
+        for (int t = 0; t < ticks; t++) {
+            if (size == 0) {
+                // Nothing to cascade or fire; slot positions are derived from deadlines
+                now += ticks - t;
+                return;
+            }
+            now++;
+            if ((now & SLOT_MASK) == 0) cascade(1);
+            int head = (int) (now & SLOT_MASK);
+            int id;
+            while ((id = heads[head]) != NONE) {
+                unlink(id);
+                fire(id);
+            }
+        }
+    }
+
+    private void fire(int id) {
+        running = id;
+        runningCancelled = false;
+        try {
+            actions[id].run();
+        } catch (Exception e) {
+            if (Gdx.app != null) Gdx.app.error("TimerWheel", "Timer action failed", e);
+        } finally {
+            running = NONE;
+        }
+        if (interval[id] > 0 && !runningCancelled) {
+            deadline[id] = now + interval[id];
+            link(id);
+        } else {
+            release(id);
+        }
+    }
+
+    // Re-file the timers of the level slot the wheel just reached one level lower
+    private void cascade(int level) {
+        if (level >= LEVELS) return;
+        int slot = (int) ((now >>> (level * SLOT_BITS)) & SLOT_MASK);
+        if (slot == 0) cascade(level + 1);
+        int head = level * SLOTS + slot;
+        int id;
+        while ((id = heads[head]) != NONE) {
+            unlink(id);
+            link(id);
+        }
+    }
+
+    private void link(int id) {
+        long d = deadline[id];
+        long ahead = d - now;
+        int head;
+        if (ahead <= 0) {
+            // Cascaded onto the current tick, which fires right after the cascade
+            head = (int) (now & SLOT_MASK);
+        } else {
+            int level = 0;
+            while (level < LEVELS - 1 && ahead >= (1L << ((level + 1) * SLOT_BITS))) level++;
+            head = level * SLOTS + (int) ((d >>> (level * SLOT_BITS)) & SLOT_MASK);
+        }
+        int first = heads[head];
+        next[id] = first;
+        prev[id] = NONE;
+        if (first != NONE) prev[first] = id;
+        heads[head] = id;
+        slotOf[id] = head;
+    }
+
+    private void unlink(int id) {
+        int p = prev[id], n = next[id];
+        if (p != NONE) next[p] = n;
+        else heads[slotOf[id]] = n;
+        if (n != NONE) prev[n] = p;
+        slotOf[id] = NONE;
+    }
+
+    private void release(int id) {
+        actions[id] = null;
+        owners[id] = null;
+        generation[id]++;
+        next[id] = freeList;
+        freeList = id;
+        size--;
+    }
+
+    private long handle(int id) {
+        return ((long) generation[id] << 32) | id;
+    }
+
+    // Timer id for a live handle, or NONE
+    private int resolve(long handle) {
+        int id = (int) handle;
+        if (handle == NO_HANDLE || id < 0 || id >= generation.length) return NONE;
+        if (generation[id] != (int) (handle >>> 32)) return NONE;
+        return (slotOf[id] != NONE || id == running) ? id : NONE;
+    }
+
+    private static int toTicks(float seconds) {
+        return Math.max(1, (int) Math.ceil(seconds / TICK_SECONDS - 1e-4f));
+    }
+
+    private void grow(int capacity) {
+        int old = next.length;
+        next = java.util.Arrays.copyOf(next, capacity);
+        prev = java.util.Arrays.copyOf(prev, capacity);
+        slotOf = java.util.Arrays.copyOf(slotOf, capacity);
+        generation = java.util.Arrays.copyOf(generation, capacity);
+        deadline = java.util.Arrays.copyOf(deadline, capacity);
+        interval = java.util.Arrays.copyOf(interval, capacity);
+        actions = java.util.Arrays.copyOf(actions, capacity);
+        owners = java.util.Arrays.copyOf(owners, capacity);
+        // New ids go on the free list in ascending order; generations start at 1 so no
+        // handle is ever NO_HANDLE
+        for (int id = capacity - 1; id >= old; id--) {
+            slotOf[id] = NONE;
+            generation[id] = 1;
+            next[id] = freeList;
+            freeList = id;
+        }
+    }
+}
@@ -381,13 +381,11 @@ public class UIHelper {
     /**
      * Convenience overload: create an image-only button from a PNG file path.
      * The path should be relative to the assets root (e.g. "ui/mybtn.png").
-     * Note: this will create a new Texture; if you intend to reuse the texture elsewhere,
-     * consider creating a TextureRegion once and calling the other overload.
+     * The image comes from Assets (the UI atlas when packed), so buttons share one texture.
      */
     public static Container<Table> createImageButton(String pngPath, Skin skin, ClickListener onClick) {
         if (pngPath == null) return createImageButton((TextureRegion) null, skin, onClick);
-        com.badlogic.gdx.graphics.Texture tex = new com.badlogic.gdx.graphics.Texture(Gdx.files.internal(pngPath));
-        TextureRegion region = new TextureRegion(tex);
+        TextureRegion region = com.jjmc.chromashift.Assets.region(pngPath);
         return createImageButton(region, skin, onClick);
     }
 
@@ -1510,10 +1508,10 @@ public class UIHelper {
     public static ImageButton createImageButton(String iconPath, String inactivePath, String pressedPath, String hoverPath, Skin skin, ClickListener onClick) {
         ImageButton.ImageButtonStyle style = new ImageButton.ImageButtonStyle();
         
-        // Create TextureRegionDrawables from paths with proper scaling
-        TextureRegionDrawable upDrawable = new TextureRegionDrawable(new TextureRegion(new com.badlogic.gdx.graphics.Texture(Gdx.files.internal(inactivePath))));
-        TextureRegionDrawable downDrawable = new TextureRegionDrawable(new TextureRegion(new com.badlogic.gdx.graphics.Texture(Gdx.files.internal(pressedPath))));
-        TextureRegionDrawable overDrawable = new TextureRegionDrawable(new TextureRegion(new com.badlogic.gdx.graphics.Texture(Gdx.files.internal(hoverPath))));
+        // Create TextureRegionDrawables from paths with proper scaling (regions of the UI atlas when packed)
+        TextureRegionDrawable upDrawable = new TextureRegionDrawable(com.jjmc.chromashift.Assets.region(inactivePath));
+        TextureRegionDrawable downDrawable = new TextureRegionDrawable(com.jjmc.chromashift.Assets.region(pressedPath));
+        TextureRegionDrawable overDrawable = new TextureRegionDrawable(com.jjmc.chromashift.Assets.region(hoverPath));
         
         // Enable scaling for drawables
         upDrawable.setMinWidth(50);
@@ -2,11 +2,17 @@ package com.jjmc.chromashift;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
@@ -15,53 +21,67 @@ import java.io.InputStreamReader;
  * Centralized Asset loader using LibGDX AssetManager.
  * Reads `assets/assets.txt` and loads common textures/atlases at startup
  * to avoid runtime GPU uploads when creating SpriteAnimator instances.
+ *
+ * Small sprites are packed into the atlases under {@code atlas/} at build time
+ * (lwjgl3 packTextures). Their loose PNGs are not loaded; use {@link #region(String)}
+ * with the usual asset path to get the packed region, or the PNG when it isn't packed.
+ *
+ * The game keeps only what the current screen needs: {@link #acquire} / {@link #release}
+ * reference-count assets per named scope (LevelAssets switches between the menu and each
+ * level's manifest) and unload those no scope references. {@link #loadAll()} still loads
+ * everything, for headless runs. Textures decode in parallel on the AsyncService workers
+ * and upload on the GL thread within the budget given to {@link #update(int)}.
  */
 public final class Assets {
-    public static final AssetManager manager = new AssetManager();
+    // Decodes queued PNGs on the AsyncService workers (see ParallelTextureLoader)
+    private static final ParallelTextureLoader textureLoader =
+            new ParallelTextureLoader(new InternalFileHandleResolver());
+    public static final AssetManager manager = createManager();
+
+    /** Atlases written by packTextures; any that weren't built are skipped. */
+    private static final String[] ATLASES = { "atlas/player.atlas", "atlas/world.atlas", "atlas/ui.atlas" };
+    private static final String ATLAS_DIR = "atlas/";
+
+    // Packed region name ("player/sfx/dash") -> atlas it lives in
+    private static final ObjectMap<String, String> packed = new ObjectMap<>();
+    // Regions handed out so far, by asset path
+    private static final ObjectMap<String, TextureRegion> regions = new ObjectMap<>();
+    private static boolean indexed = false;
+    private static Array<String> assetsList;
+
+    // References per asset over all scopes; an asset is loaded while its count is above zero
+    private static final ObjectIntMap<String> refs = new ObjectIntMap<>();
+    // Scope name -> assets it references
+    private static final ObjectMap<String, ObjectSet<String>> scopes = new ObjectMap<>();
+    private static String fallbackScope;
 
     private Assets() {
     }
 
+    private static AssetManager createManager() {
+        AssetManager m = new AssetManager();
+        m.setLoader(Texture.class, textureLoader);
+        return m;
+    }
+
     /**
      * Load all listed assets synchronously. Call from the GL thread during
      * application startup (e.g. ChromashiftGame.create()).
      */
     public static void loadAll() {
-        Array<String> list = readAssetsList();
-        for (String path : list) {
+        queueAtlases();
+        for (String path : readAssetsList()) {
+            // Atlas pages come with their atlas; packed sprites are drawn from it
+            if (path.startsWith(ATLAS_DIR) || isPacked(path))
+                continue;
             // Skip missing files gracefully - some projects may list optional assets.
             boolean exists = Gdx.files.internal(path).exists();
             if (!exists) {
                 Gdx.app.error("Assets", "Missing asset listed in assets.txt, skipping: " + path);
                 continue;
             }
-
-            // Register assets by type so AssetManager can load them properly.
-            try {
-                if (path.endsWith(".png") || path.endsWith(".jpg")) {
-                    if (!manager.isLoaded(path, Texture.class))
-                        manager.load(path, Texture.class);
-                } else if (path.endsWith(".atlas")) {
-                    if (!manager.isLoaded(path, TextureAtlas.class))
-                        manager.load(path, TextureAtlas.class);
-                } else if (path.endsWith(".fnt")) {
-                    // Load bitmap fonts so their referenced textures are uploaded by AssetManager
-                    if (!manager.isLoaded(path, BitmapFont.class))
-                        manager.load(path, BitmapFont.class);
-                } else if (path.endsWith(".skin") || (path.endsWith(".json")
-                        && (path.toLowerCase().contains("uiskin") || path.toLowerCase().startsWith("ui/")))) {
-                    // Only treat known UI JSON files as Skin (they reference an atlas).
-                    // Avoid loading arbitrary .json files (levels, data) as Skin which would cause
-                    // the Skin loader to attempt to load a similarly-named .atlas.
-                    if (!manager.isLoaded(path, Skin.class))
-                        manager.load(path, Skin.class);
-                } else {
-                    // ignore other files for now (tmx, tsx, raw data). If needed we can extend
-                    // this.
-                }
-            } catch (Exception e) {
-                Gdx.app.error("Assets", "Failed to queue asset for loading: " + path, e);
-            }
+            if (!isLoaded(path))
+                queue(path);
         }
 
         // Block until finished so all textures are uploaded on the GL thread.
@@ -76,40 +96,287 @@ public final class Assets {
     /**
      * Queue all assets for asynchronous loading. Call this once (e.g. in a LoadingScreen)
      * and then poll {@link AssetManager#update()} each frame to progress loading.
+     * The game itself loads per screen through {@link #acquire}; this is kept for tools.
      */
     public static void queueAll() {
-        Array<String> list = readAssetsList();
-        for (String path : list) {
+        queueAtlases();
+        for (String path : readAssetsList()) {
+            if (path.startsWith(ATLAS_DIR) || isPacked(path))
+                continue;
             boolean exists = Gdx.files.internal(path).exists();
             if (!exists) {
                 Gdx.app.error("Assets", "Missing asset listed in assets.txt, skipping: " + path);
                 continue;
             }
+            if (!isLoaded(path))
+                queue(path);
+        }
+    }
+
+    /**
+     * Take a reference on {@code paths} (asset paths as listed in assets.txt) for
+     * {@code scope}, e.g. "menu" or one level. Packed sprites count against their atlas,
+     * and assets nobody referenced yet are queued; poll {@link #update(int)} to load them.
+     * Paths the scope already holds are ignored.
+     */
+    public static void acquire(String scope, Array<String> paths) {
+        ObjectSet<String> held = scopes.get(scope);
+        if (held == null) {
+            held = new ObjectSet<>();
+            scopes.put(scope, held);
+        }
+        int queued = 0;
+        for (String path : paths) {
+            String asset = assetFor(path);
+            if (asset == null || !held.add(asset))
+                continue;
+            if (refs.getAndIncrement(asset, 0, 1) == 0) {
+                // The first reference loads it; each reference maps to one AssetManager load
+                queue(asset);
+                queued++;
+            }
+        }
+        Gdx.app.log("Assets", "Acquired scope " + scope + ": " + held.size + " assets, " + queued + " queued");
+    }
 
+    /**
+     * Drop {@code scope}'s references. Assets no other scope references are unloaded and
+     * the region cache is emptied, so callers must also forget regions they cached
+     * themselves. Returns the number of assets unloaded.
+     */
+    public static int release(String scope) {
+        ObjectSet<String> held = scopes.remove(scope);
+        if (held == null)
+            return 0;
+        if (scope.equals(fallbackScope))
+            fallbackScope = null;
+        int unloaded = 0;
+        for (String asset : held) {
+            int left = refs.getAndIncrement(asset, 0, -1) - 1;
+            if (left > 0)
+                continue;
+            refs.remove(asset, 0);
             try {
-                if (path.endsWith(".png") || path.endsWith(".jpg")) {
-                    if (!manager.isLoaded(path, Texture.class))
+                if (manager.contains(asset))
+                    manager.unload(asset);
+                // Unloaded while still queued: drop its decode
+                textureLoader.discard(asset);
+                unloaded++;
+            } catch (Exception e) {
+                Gdx.app.error("Assets", "Failed to unload asset: " + asset, e);
+            }
+        }
+        if (unloaded > 0)
+            regions.clear();
+        Gdx.app.log("Assets", "Released scope " + scope + ": " + unloaded + " unloaded, "
+                + manager.getLoadedAssets() + " resident");
+        return unloaded;
+    }
+
+    /**
+     * Scope that sprites loaded on demand by {@link #region(String)} are charged to, so
+     * they are unloaded with it; null leaves them loaded for good (tools, headless runs).
+     */
+    public static void setFallbackScope(String scope) {
+        fallbackScope = scope;
+    }
+
+    /**
+     * Load queued assets for up to {@code millis}; true once nothing is queued. A failed
+     * asset is logged and skipped.
+     */
+    public static boolean update(int millis) {
+        try {
+            boolean done = manager.update(millis);
+            if (done)
+                textureLoader.reset();
+            return done;
+        } catch (Exception e) {
+            Gdx.app.error("Assets", "Failed to load asset", e);
+            return false;
+        }
+    }
+
+    /**
+     * Loading progress (0..1) of what was queued since the queue was last empty, by
+     * compressed bytes of textures decoded; by asset count when no textures are queued.
+     * Stays below 1 until the last upload is done.
+     */
+    public static float getProgress() {
+        if (manager.isFinished())
+            return 1f;
+        float decoded = textureLoader.getProgress();
+        float progress = decoded >= 0f ? decoded : manager.getProgress();
+        return Math.min(progress, 0.99f);
+    }
+
+    /** Paths listed in assets.txt that start with any of {@code prefixes}. */
+    public static Array<String> listed(String... prefixes) {
+        Array<String> out = new Array<>();
+        for (String path : readAssetsList()) {
+            for (String prefix : prefixes) {
+                if (path.startsWith(prefix)) {
+                    out.add(path);
+                    break;
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Region for the sprite at {@code path} (e.g. "player/sfx/dash.png"): from its atlas when
+     * packed, otherwise the whole PNG as a managed texture. Either way it is loaded now if it
+     * wasn't queued, charged to the fallback scope. The region is shared; copy it before
+     * flipping. Null if it can't be loaded. GL thread only.
+     */
+    public static TextureRegion region(String path) {
+        if (path == null)
+            return null;
+        TextureRegion r = regions.get(path);
+        if (r != null)
+            return r;
+        try {
+            String name = regionName(path);
+            String atlasPath = packedIndex().get(name);
+            if (atlasPath != null) {
+                if (!manager.isLoaded(atlasPath, TextureAtlas.class)) {
+                    if (!manager.contains(atlasPath)) {
+                        manager.load(atlasPath, TextureAtlas.class);
+                        adopt(atlasPath);
+                    }
+                    manager.finishLoadingAsset(atlasPath);
+                }
+                r = manager.get(atlasPath, TextureAtlas.class).findRegion(name);
+            }
+            if (r == null) {
+                if (!manager.isLoaded(path, Texture.class)) {
+                    if (!manager.contains(path)) {
                         manager.load(path, Texture.class);
-                } else if (path.endsWith(".atlas")) {
-                    if (!manager.isLoaded(path, TextureAtlas.class))
-                        manager.load(path, TextureAtlas.class);
-                } else if (path.endsWith(".fnt")) {
-                    if (!manager.isLoaded(path, BitmapFont.class))
-                        manager.load(path, BitmapFont.class);
-                } else if (path.endsWith(".skin") || (path.endsWith(".json")
-                        && (path.toLowerCase().contains("uiskin") || path.toLowerCase().startsWith("ui/")))) {
-                    if (!manager.isLoaded(path, Skin.class))
-                        manager.load(path, Skin.class);
-                } else {
-                    // ignore other file types here; they are loaded on demand elsewhere
+                        adopt(path);
+                    }
+                    manager.finishLoadingAsset(path);
+                }
+                r = new TextureRegion(manager.get(path, Texture.class));
+            }
+        } catch (Exception e) {
+            Gdx.app.error("Assets", "Failed to load sprite: " + path, e);
+            return null;
+        }
+        regions.put(path, r);
+        return r;
+    }
+
+    /** True if {@code path} is drawn from a packed atlas instead of its own texture. */
+    public static boolean isPacked(String path) {
+        return path.endsWith(".png") && packedIndex().containsKey(regionName(path));
+    }
+
+    // Queue the built atlases (those that contain at least one sprite)
+    private static void queueAtlases() {
+        for (String atlasPath : ATLASES) {
+            if (packedIndex().containsValue(atlasPath, false) && !manager.isLoaded(atlasPath, TextureAtlas.class))
+                manager.load(atlasPath, TextureAtlas.class);
+        }
+    }
+
+    // Asset that holds path: its atlas when packed, null for atlas pages, missing files and
+    // types the manager doesn't load here
+    private static String assetFor(String path) {
+        if (path.startsWith(ATLAS_DIR))
+            return path.endsWith(".atlas") ? path : null;
+        if (path.endsWith(".png")) {
+            String atlasPath = packedIndex().get(regionName(path));
+            if (atlasPath != null)
+                return atlasPath;
+        }
+        if (typeOf(path) == null)
+            return null;
+        if (!Gdx.files.internal(path).exists()) {
+            Gdx.app.error("Assets", "Missing asset listed in assets.txt, skipping: " + path);
+            return null;
+        }
+        return path;
+    }
+
+    // Register an asset by type so AssetManager can load it properly
+    private static void queue(String path) {
+        Class<?> type = typeOf(path);
+        if (type == null)
+            return;
+        try {
+            boolean fresh = !manager.contains(path);
+            manager.load(path, type);
+            // Start decoding now, alongside everything else queued
+            if (fresh && type == Texture.class)
+                textureLoader.prefetch(path);
+        } catch (Exception e) {
+            Gdx.app.error("Assets", "Failed to queue asset for loading: " + path, e);
+        }
+    }
+
+    private static boolean isLoaded(String path) {
+        Class<?> type = typeOf(path);
+        return type != null && manager.isLoaded(path, type);
+    }
+
+    private static Class<?> typeOf(String path) {
+        if (path.endsWith(".png") || path.endsWith(".jpg"))
+            return Texture.class;
+        if (path.endsWith(".atlas"))
+            return TextureAtlas.class;
+        // Bitmap fonts, so their referenced textures are uploaded by AssetManager
+        if (path.endsWith(".fnt"))
+            return BitmapFont.class;
+        // Only treat known UI JSON files as Skin (they reference an atlas). Avoid loading
+        // arbitrary .json files (levels, data) as Skin which would cause the Skin loader to
+        // attempt to load a similarly-named .atlas.
+        if (path.endsWith(".skin") || (path.endsWith(".json")
+                && (path.toLowerCase().contains("uiskin") || path.toLowerCase().startsWith("ui/"))))
+            return Skin.class;
+        // Other files (tmx, tsx, raw data) are loaded on demand elsewhere
+        return null;
+    }
+
+    // Count an on-demand load against the fallback scope
+    private static void adopt(String asset) {
+        if (fallbackScope == null)
+            return;
+        ObjectSet<String> held = scopes.get(fallbackScope);
+        if (held != null && held.add(asset))
+            refs.getAndIncrement(asset, 0, 1);
+    }
+
+    // Region names of every built atlas, read from the .atlas text files (no textures loaded)
+    private static ObjectMap<String, String> packedIndex() {
+        if (!indexed) {
+            indexed = true;
+            for (String atlasPath : ATLASES) {
+                FileHandle file = Gdx.files.internal(atlasPath);
+                if (!file.exists())
+                    continue;
+                try {
+                    TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(file, file.parent(), false);
+                    for (TextureAtlas.TextureAtlasData.Region region : data.getRegions()) {
+                        packed.put(region.name, atlasPath);
+                    }
+                } catch (Exception e) {
+                    Gdx.app.error("Assets", "Failed to read atlas: " + atlasPath, e);
                 }
-            } catch (Exception e) {
-                Gdx.app.error("Assets", "Failed to queue asset for loading: " + path, e);
             }
+            Gdx.app.log("Assets", "Packed sprites: " + packed.size);
         }
+        return packed;
+    }
+
+    private static String regionName(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot > 0 ? path.substring(0, dot) : path;
     }
 
     private static Array<String> readAssetsList() {
+        if (assetsList != null)
+            return assetsList;
         Array<String> out = new Array<>();
         try (BufferedReader br = new BufferedReader(new InputStreamReader(Gdx.files.internal("assets.txt").read()))) {
             String line;
@@ -122,10 +389,15 @@ public final class Assets {
         } catch (Exception e) {
             Gdx.app.error("Assets", "Failed to read assets.txt", e);
         }
+        assetsList = out;
         return out;
     }
 
     public static void dispose() {
+        regions.clear();
+        scopes.clear();
+        refs.clear();
+        fallbackScope = null;
         try {
             manager.dispose();
         } catch (Exception ignored) {
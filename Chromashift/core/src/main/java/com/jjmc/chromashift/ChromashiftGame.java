@@ -1,8 +1,13 @@
 package com.jjmc.chromashift;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.chromashift.helper.AsyncService;
+import com.chromashift.helper.FrameJobs;
 import com.chromashift.helper.SoundManager;
+import com.chromashift.helper.TimerWheel;
 import com.jjmc.chromashift.config.AudioConfig;
+import com.jjmc.chromashift.screens.levels.LevelAssets;
 import com.jjmc.chromashift.screens.ui.LoadingScreen;
 
 /** {@link com.badlogic.gdx.ApplicationListener} implementation shared by all platforms. */
@@ -15,11 +20,30 @@ public class ChromashiftGame extends Game {
         // Initialize audio system early so UI sounds are ready
         initializeAudio();
         
-        // Start with loading screen that enqueues and loads all assets,
+        // Start with loading screen that loads the menu assets,
         // then transitions to the initial screen.
         setScreen(new LoadingScreen(this));
     }
 
+    @Override
+    public void render() {
+        // Frame-time timers (audio fades) run on every screen, paused or not
+        TimerWheel.realtime().advance(Gdx.graphics.getDeltaTime());
+        // Finished background work hands over to the GL thread within a per-frame budget
+        AsyncService.drainCompletions();
+        // Assets of the current menu/level scope load in small slices on every screen
+        LevelAssets.update();
+        super.render();
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        // Let queued saves reach the disk before the JVM exits (workers are daemons)
+        AsyncService.shutdown(2000L);
+        FrameJobs.shutdown();
+    }
+
     private void initializeAudio() {
         try {
             SoundManager.init(false);
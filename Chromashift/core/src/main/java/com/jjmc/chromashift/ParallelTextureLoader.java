@@ -0,0 +1,159 @@
+package com.jjmc.chromashift;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+import com.chromashift.helper.AsyncService;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Texture loader that decodes PNGs in parallel. AssetManager runs one loader task at a time
+ * on its single thread, so a queue of textures used to be decoded one after another.
+ * {@link #prefetch} starts decoding a texture on the AsyncService workers as soon as it is
+ * queued; when AssetManager reaches it, {@link #loadAsync} picks up the finished Pixmap
+ * (waiting for it, or decoding it there if no worker started yet) and the GL upload stays
+ * in loadSync on the render thread, within the budget passed to AssetManager.update.
+ *
+ * Decoded textures are still file-backed (FileTextureData), so they reload from disk after
+ * a context loss like regular ones. Progress is counted in compressed bytes decoded.
+ */
+final class ParallelTextureLoader extends TextureLoader {
+    private static final int PENDING = 0, RUNNING = 1, DONE = 2;
+
+    private static final class Decode {
+        final long bytes;
+        int state = PENDING;
+        boolean discarded = false;
+        Pixmap pixmap;
+
+        Decode(long bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Decode> decodes = new ConcurrentHashMap<>();
+    private final AtomicLong bytesQueued = new AtomicLong();
+    private final AtomicLong bytesDecoded = new AtomicLong();
+
+    ParallelTextureLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    /** Start decoding {@code fileName} on a worker; call right after queueing it. */
+    void prefetch(String fileName) {
+        FileHandle file = resolve(fileName);
+        if (file == null || !file.exists()) return;
+        Decode d = new Decode(file.length());
+        if (decodes.putIfAbsent(fileName, d) != null) return;
+        bytesQueued.addAndGet(d.bytes);
+        AsyncService.submit(this, () -> {
+            synchronized (d) {
+                if (d.state != PENDING || d.discarded) return;
+                d.state = RUNNING;
+            }
+            finish(d, decode(fileName, file));
+        });
+    }
+
+    /** Forget a prefetched texture that will not be loaded (unloaded while still queued). */
+    void discard(String fileName) {
+        Decode d = decodes.remove(fileName);
+        if (d == null) return;
+        synchronized (d) {
+            d.discarded = true;
+            // A decode still running disposes its own result; one never started is not waited for
+            if (d.state == PENDING) {
+                bytesQueued.addAndGet(-d.bytes);
+            } else if (d.state == DONE && d.pixmap != null) {
+                d.pixmap.dispose();
+                d.pixmap = null;
+            }
+        }
+    }
+
+    /** Drop leftover decodes and start counting progress from zero; call when nothing is queued. */
+    void reset() {
+        for (String fileName : decodes.keySet()) discard(fileName);
+        bytesQueued.set(0L);
+        bytesDecoded.set(0L);
+    }
+
+    /** Compressed bytes decoded over bytes queued since the last reset; -1 if none were queued. */
+    float getProgress() {
+        long queued = bytesQueued.get();
+        if (queued <= 0L) return -1f;
+        return Math.min(1f, (float) bytesDecoded.get() / queued);
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+        // Only plain loads (Assets never passes parameters) use the parallel decode
+        Decode d = parameter == null ? decodes.remove(fileName) : null;
+        Pixmap pixmap = d != null ? take(fileName, file, d) : null;
+        if (pixmap == null) {
+            super.loadAsync(manager, fileName, file, parameter);
+            return;
+        }
+        TextureParameter decoded = new TextureParameter();
+        decoded.textureData = new FileTextureData(file, pixmap, null, false);
+        super.loadAsync(manager, fileName, file, decoded);
+    }
+
+    // Wait for the worker's Pixmap, or decode here if it never started
+    private Pixmap take(String fileName, FileHandle file, Decode d) {
+        synchronized (d) {
+            if (d.state == PENDING) {
+                d.state = RUNNING;
+            } else {
+                while (d.state != DONE) {
+                    try {
+                        d.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return null;
+                    }
+                }
+                Pixmap p = d.pixmap;
+                d.pixmap = null;
+                return p;
+            }
+        }
+        // Already out of the map, so it can no longer be discarded
+        Pixmap p = decode(fileName, file);
+        bytesDecoded.addAndGet(d.bytes);
+        synchronized (d) {
+            d.state = DONE;
+            d.notifyAll();
+        }
+        return p;
+    }
+
+    private void finish(Decode d, Pixmap p) {
+        bytesDecoded.addAndGet(d.bytes);
+        synchronized (d) {
+            d.state = DONE;
+            if (d.discarded) {
+                if (p != null) p.dispose();
+            } else {
+                d.pixmap = p;
+            }
+            d.notifyAll();
+        }
+    }
+
+    private static Pixmap decode(String fileName, FileHandle file) {
+        try {
+            return new Pixmap(file);
+        } catch (Exception e) {
+            // loadAsync falls back to the regular loader, which reports the error
+            Gdx.app.error("Assets", "Failed to decode texture: " + fileName, e);
+            return null;
+        }
+    }
+}
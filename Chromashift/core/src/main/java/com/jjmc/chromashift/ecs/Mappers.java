@@ -0,0 +1,21 @@
+package com.jjmc.chromashift.ecs;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.jjmc.chromashift.ecs.component.AnimationComponent;
+import com.jjmc.chromashift.ecs.component.BodyComponent;
+import com.jjmc.chromashift.ecs.component.BoundsComponent;
+import com.jjmc.chromashift.ecs.component.CollectibleComponent;
+import com.jjmc.chromashift.ecs.component.PositionComponent;
+import com.jjmc.chromashift.ecs.component.VelocityComponent;
+
+/** Shared component mappers (O(1) component lookup by type index). */
+public final class Mappers {
+    public static final ComponentMapper<PositionComponent> position = ComponentMapper.getFor(PositionComponent.class);
+    public static final ComponentMapper<VelocityComponent> velocity = ComponentMapper.getFor(VelocityComponent.class);
+    public static final ComponentMapper<BoundsComponent> bounds = ComponentMapper.getFor(BoundsComponent.class);
+    public static final ComponentMapper<AnimationComponent> animation = ComponentMapper.getFor(AnimationComponent.class);
+    public static final ComponentMapper<CollectibleComponent> collectible = ComponentMapper.getFor(CollectibleComponent.class);
+    public static final ComponentMapper<BodyComponent> body = ComponentMapper.getFor(BodyComponent.class);
+
+    private Mappers() {}
+}
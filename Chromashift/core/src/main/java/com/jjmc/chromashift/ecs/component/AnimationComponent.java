@@ -0,0 +1,15 @@
+package com.jjmc.chromashift.ecs.component;
+
+import com.badlogic.ashley.core.Component;
+import com.chromashift.helper.SpriteAnimator;
+
+/** Sprite animation advanced by AnimationSystem while the entity is on screen. */
+public class AnimationComponent implements Component {
+    public final SpriteAnimator animator;
+    // Off-screen margin before the animation pauses
+    public float cullMargin = 64f;
+
+    public AnimationComponent(SpriteAnimator animator) {
+        this.animator = animator;
+    }
+}
@@ -0,0 +1,38 @@
+package com.jjmc.chromashift.ecs.component;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Array;
+import com.jjmc.chromashift.environment.Solid;
+import com.jjmc.chromashift.environment.SolidIndex;
+import com.jjmc.chromashift.environment.interactable.Interactable;
+
+/**
+ * Physics body (Box, Orb). PhysicsSystem integrates the entity's Position/VelocityComponent
+ * with these parameters and pushes it out of {@link #solids}; the owning class keeps what
+ * is its own (following a holder, contacts with other bodies, respawn) in update().
+ */
+public class BodyComponent implements Component {
+    public final Interactable body;
+    public final float width, height;
+    // Velocity lost per second on the ground (scaled by 60) and fraction lost in the air
+    public final float groundFriction, airDamping;
+    // On a blocked axis reflect the velocity (times bounciness) instead of zeroing it
+    public boolean bounce = false;
+    public float bounciness = 1f;
+    public float maxSpeed = Float.MAX_VALUE;
+    // Carried by the player: not integrated, the owner follows its holder
+    public boolean held = false;
+    public final Array<Solid> solids;
+    // Optional broadphase, used when built over the same solids list
+    public SolidIndex solidIndex;
+
+    public BodyComponent(Interactable body, float width, float height, float groundFriction, float airDamping,
+            Array<Solid> solids) {
+        this.body = body;
+        this.width = width;
+        this.height = height;
+        this.groundFriction = groundFriction;
+        this.airDamping = airDamping;
+        this.solids = solids;
+    }
+}
@@ -0,0 +1,13 @@
+package com.jjmc.chromashift.ecs.component;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Rectangle;
+
+/** Axis-aligned collision/pickup bounds, updated in place by the owner. */
+public class BoundsComponent implements Component {
+    public final Rectangle rect;
+
+    public BoundsComponent(float x, float y, float width, float height) {
+        this.rect = new Rectangle(x, y, width, height);
+    }
+}
@@ -0,0 +1,13 @@
+package com.jjmc.chromashift.ecs.component;
+
+import com.badlogic.ashley.core.Component;
+import com.jjmc.chromashift.environment.collectible.Collectible;
+
+/** Marks a pickup; CollectibleSystem calls {@link Collectible#onCollect} on overlap. */
+public class CollectibleComponent implements Component {
+    public final Collectible item;
+
+    public CollectibleComponent(Collectible item) {
+        this.item = item;
+    }
+}
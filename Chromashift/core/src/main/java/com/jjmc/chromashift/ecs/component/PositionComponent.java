@@ -0,0 +1,13 @@
+package com.jjmc.chromashift.ecs.component;
+
+import com.badlogic.ashley.core.Component;
+
+/** Bottom-left corner in world units. */
+public class PositionComponent implements Component {
+    public float x, y;
+
+    public PositionComponent(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+}
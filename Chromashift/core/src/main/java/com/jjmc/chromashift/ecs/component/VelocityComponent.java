@@ -0,0 +1,8 @@
+package com.jjmc.chromashift.ecs.component;
+
+import com.badlogic.ashley.core.Component;
+
+/** Velocity in world units per second. */
+public class VelocityComponent implements Component {
+    public float x, y;
+}
@@ -0,0 +1,29 @@
+package com.jjmc.chromashift.ecs.system;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Rectangle;
+import com.chromashift.helper.VisibilityCuller;
+import com.jjmc.chromashift.ecs.Mappers;
+import com.jjmc.chromashift.ecs.component.AnimationComponent;
+import com.jjmc.chromashift.ecs.component.BoundsComponent;
+
+/** Advances sprite animations of entities that are on screen. */
+public class AnimationSystem extends IteratingSystem {
+    public AnimationSystem() {
+        super(Family.all(AnimationComponent.class, BoundsComponent.class).get());
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        animate(Mappers.animation.get(entity), Mappers.bounds.get(entity).rect, deltaTime);
+    }
+
+    /** One animation step, skipped off screen (culling disabled in the editor). */
+    public static void animate(AnimationComponent anim, Rectangle bounds, float delta) {
+        if (anim == null || anim.animator == null) return;
+        if (VisibilityCuller.isEnabled() && !VisibilityCuller.isVisible(bounds, anim.cullMargin)) return;
+        anim.animator.update(delta);
+    }
+}
@@ -0,0 +1,60 @@
+package com.jjmc.chromashift.ecs.system;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.utils.Array;
+import com.jjmc.chromashift.ecs.Mappers;
+import com.jjmc.chromashift.ecs.component.BoundsComponent;
+import com.jjmc.chromashift.ecs.component.CollectibleComponent;
+import com.jjmc.chromashift.environment.collectible.Collectible;
+import com.jjmc.chromashift.player.Player;
+
+/**
+ * Picks up collectibles the player overlaps. Collected items leave the engine and the
+ * level's collectible list (which screens render and saves read). Items appended to
+ * that list from outside (e.g. tentacle diamond drops) join the engine on the next
+ * update.
+ */
+public class CollectibleSystem extends IteratingSystem {
+    private final Array<Collectible> collectibles;
+    private final Player player;
+    private final Array<Entity> collected = new Array<>();
+
+    public CollectibleSystem(Array<Collectible> collectibles, Player player) {
+        super(Family.all(CollectibleComponent.class, BoundsComponent.class).get());
+        this.collectibles = collectibles;
+        this.player = player;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        if (getEntities().size() != collectibles.size) adopt();
+        super.update(deltaTime);
+        for (int i = 0; i < collected.size; i++) {
+            Entity e = collected.get(i);
+            getEngine().removeEntity(e);
+            collectibles.removeValue(Mappers.collectible.get(e).item, true);
+        }
+        collected.clear();
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Collectible item = Mappers.collectible.get(entity).item;
+        if (!item.isCollected() && item.overlaps(player)) {
+            item.onCollect(player);
+            item.setCollected(true);
+        }
+        if (item.isCollected()) collected.add(entity);
+    }
+
+    // Add list items that are not in the engine yet; the family keeps list order for
+    // items added together
+    private void adopt() {
+        for (int i = 0; i < collectibles.size; i++) {
+            Entity e = collectibles.get(i).getEntity();
+            if (!getEntities().contains(e, true)) getEngine().addEntity(e);
+        }
+    }
+}
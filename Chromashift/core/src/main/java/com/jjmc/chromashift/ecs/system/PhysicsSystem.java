@@ -0,0 +1,92 @@
+package com.jjmc.chromashift.ecs.system;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Rectangle;
+import com.jjmc.chromashift.ecs.Mappers;
+import com.jjmc.chromashift.ecs.component.BodyComponent;
+import com.jjmc.chromashift.ecs.component.PositionComponent;
+import com.jjmc.chromashift.ecs.component.VelocityComponent;
+import com.jjmc.chromashift.player.PlayerCollision;
+
+/**
+ * Steps physics bodies (boxes, orbs) in the order they joined the engine: gravity,
+ * friction or air damping, integration of Position/VelocityComponent and push-out from
+ * solids, all from the BodyComponent's parameters. The body's own update() runs after
+ * it for holder following, body contacts and respawn; the player-range check runs first
+ * as it did in the interactable pass. Main thread only.
+ */
+public class PhysicsSystem extends IteratingSystem {
+    private static final float GRAVITY = -800f;
+
+    private Rectangle playerBounds;
+    // Scratch for the collision pass
+    private final Rectangle resolved = new Rectangle();
+
+    public PhysicsSystem() {
+        super(Family.all(BodyComponent.class, PositionComponent.class, VelocityComponent.class).get());
+    }
+
+    /** Player hitbox for this step's interaction checks (null to skip them). */
+    public void setPlayerBounds(Rectangle playerBounds) {
+        this.playerBounds = playerBounds;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        BodyComponent body = Mappers.body.get(entity);
+        if (playerBounds != null) body.body.checkInteraction(playerBounds);
+        if (!body.held) integrate(body, Mappers.position.get(entity), Mappers.velocity.get(entity), deltaTime);
+        body.body.update(deltaTime);
+    }
+
+    private void integrate(BodyComponent body, PositionComponent p, VelocityComponent v, float delta) {
+        v.y += GRAVITY * delta;
+
+        // Close to zero vertical speed counts as resting on something
+        if (Math.abs(v.y) < 0.1f) {
+            float frictionForce = body.groundFriction * 60f;
+            if (Math.abs(v.x) <= frictionForce * delta) {
+                v.x = 0;
+            } else {
+                float direction = v.x > 0 ? -1 : 1;
+                v.x += direction * frictionForce * delta;
+            }
+        } else {
+            v.x *= (1f - body.airDamping * delta);
+            v.y *= (1f - body.airDamping * delta);
+        }
+
+        float startX = p.x, startY = p.y;
+        p.x += v.x * delta;
+        p.y += v.y * delta;
+
+        if (body.solids != null) {
+            resolved.set(p.x, p.y, body.width, body.height);
+            if (body.solidIndex != null && body.solidIndex.getSolids() == body.solids) {
+                // Reach: this step's travel plus one body size of push-out
+                float reach = (Math.abs(v.x) + Math.abs(v.y)) * delta + Math.max(body.width, body.height);
+                PlayerCollision.resolveSolidCollision(resolved, body.solidIndex, reach);
+            } else {
+                PlayerCollision.resolveSolidCollision(resolved, body.solids);
+            }
+
+            boolean blockedX = Math.abs((resolved.x - startX) - (p.x - startX)) > 0.001f;
+            boolean blockedY = Math.abs((resolved.y - startY) - (p.y - startY)) > 0.001f;
+            if (blockedX) v.x = body.bounce ? -v.x * body.bounciness : 0f;
+            if (blockedY) v.y = body.bounce ? -v.y * body.bounciness : 0f;
+
+            p.x = resolved.x;
+            p.y = resolved.y;
+        }
+
+        // Clamp so stacked impulses (several launchpads) can't run away
+        float speedSq = v.x * v.x + v.y * v.y;
+        if (speedSq > body.maxSpeed * body.maxSpeed) {
+            float scale = body.maxSpeed / (float) Math.sqrt(speedSq);
+            v.x *= scale;
+            v.y *= scale;
+        }
+    }
+}
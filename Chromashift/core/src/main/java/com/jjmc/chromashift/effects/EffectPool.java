@@ -0,0 +1,179 @@
+package com.jjmc.chromashift.effects;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shared pool of {@link SFX} instances, one free list per effect definition. Building an
+ * SFX splits its sprite sheet and sets up the animation, so effects are created up front
+ * ({@link #prewarm}, e.g. when a boss is built for a level) and recycled afterwards:
+ *
+ * <pre>
+ * static final EffectPool.EffectDef BURST = EffectPool.define("boss_burst", sheet, 4, 25, w, h, 2, 0, 20, 0.04f, false);
+ * SFX s = EffectPool.obtain(BURST);   // reset and playing
+ * boss.spawnEffect(s, x, y);          // returned automatically once finished
+ * </pre>
+ *
+ * obtain() and release() are O(1) stack operations. Effects spawned through
+ * Boss.spawnEffect go back when they finish or are removed; other owners call
+ * {@link #release} themselves. Per-definition counts of created, in-use and the in-use
+ * high-water mark show how far prewarm counts are off. GL thread only.
+ */
+public final class EffectPool {
+    /** What an effect looks like; pooled instances are interchangeable within one definition. */
+    public static final class EffectDef {
+        public final String id;
+        public final String spritePath;
+        public final int rows, cols;
+        public final float width, height;
+        public final int row, startCol, frames;
+        public final float frameDuration;
+        public final boolean loop;
+
+        private SFX[] free = new SFX[4];
+        private int freeCount = 0;
+        private int created = 0;
+        private int inUse = 0;
+        private int highWater = 0;
+        private int generation = 0; // bumped by clear(); older instances are not taken back
+
+        private EffectDef(String id, String spritePath, int rows, int cols, float width, float height,
+                          int row, int startCol, int frames, float frameDuration, boolean loop) {
+            this.id = id;
+            this.spritePath = spritePath;
+            this.rows = rows;
+            this.cols = cols;
+            this.width = width;
+            this.height = height;
+            this.row = row;
+            this.startCol = startCol;
+            this.frames = frames;
+            this.frameDuration = frameDuration;
+            this.loop = loop;
+        }
+
+        public int getCreated() { return created; }
+        public int getInUse() { return inUse; }
+        public int getFree() { return freeCount; }
+        public int getHighWater() { return highWater; }
+    }
+
+    private static final Map<String, EffectDef> definitions = new HashMap<>();
+    private static final Array<EffectDef> ordered = new Array<>();
+
+    private EffectPool() {}
+
+    /**
+     * Definition registered under {@code id}; the first call creates it and later calls with
+     * the same id return that one, so bosses can define their effects in constructors.
+     * Looping effects never finish on their own and must be removed/released by the owner.
+     */
+    public static EffectDef define(String id, String spritePath, int rows, int cols, float width, float height,
+                                   int row, int startCol, int frames, float frameDuration, boolean loop) {
+        EffectDef def = definitions.get(id);
+        if (def == null) {
+            def = new EffectDef(id, spritePath, rows, cols, width, height, row, startCol, frames, frameDuration, loop);
+            definitions.put(id, def);
+            ordered.add(def);
+        }
+        return def;
+    }
+
+    public static EffectDef get(String id) {
+        return definitions.get(id);
+    }
+
+    /** Make sure at least {@code count} instances of {@code def} exist (free or in use). */
+    public static void prewarm(EffectDef def, int count) {
+        if (def == null) return;
+        while (def.created < count) {
+            push(def, create(def));
+        }
+    }
+
+    /** A reset instance of {@code def}, already playing from its first frame. */
+    public static SFX obtain(EffectDef def) {
+        SFX s;
+        if (def.freeCount > 0) {
+            s = def.free[--def.freeCount];
+            def.free[def.freeCount] = null;
+        } else {
+            s = create(def);
+            if (Gdx.app != null && def.created > 1) {
+                Gdx.app.debug("EffectPool", "Grew '" + def.id + "' to " + def.created + " (prewarm more)");
+            }
+        }
+        s.reset();
+        s.setSize(def.width, def.height);
+        s.setFlipX(false);
+        s.play(def.id);
+        s.pooledInUse = true;
+        def.inUse++;
+        if (def.inUse > def.highWater) def.highWater = def.inUse;
+        return s;
+    }
+
+    /** Return a pooled effect. Ignores nulls, unpooled effects and effects already returned. */
+    public static void release(SFX s) {
+        if (s == null || s.pooledDef == null || !s.pooledInUse) return;
+        EffectDef def = s.pooledDef;
+        s.pooledInUse = false;
+        s.markFinishedForReuse();
+        def.inUse--;
+        if (s.pooledGeneration != def.generation) {
+            s.dispose();
+            def.created--;
+            return;
+        }
+        push(def, s);
+    }
+
+    /**
+     * Drop every free instance (in-use ones are dropped when released). Call after the
+     * textures the effects were split from are unloaded.
+     */
+    public static void clear() {
+        for (EffectDef def : ordered) {
+            for (int i = 0; i < def.freeCount; i++) {
+                def.free[i].dispose();
+                def.free[i] = null;
+                def.created--;
+            }
+            def.freeCount = 0;
+            def.generation++;
+        }
+    }
+
+    public static Array<EffectDef> getDefinitions() { return ordered; }
+
+    /** Log created / in use / high-water per definition. */
+    public static void logStats() {
+        if (Gdx.app == null) return;
+        for (EffectDef def : ordered) {
+            Gdx.app.log("EffectPool", def.id + ": created=" + def.created + " inUse=" + def.inUse
+                    + " free=" + def.freeCount + " highWater=" + def.highWater);
+        }
+    }
+
+    private static SFX create(EffectDef def) {
+        SFX s = new SFX(def.spritePath, def.rows, def.cols, def.width, def.height);
+        // Clip named after the definition, so definitions on one sheet share its AnimationSet
+        s.addAnimation(def.id, def.row, def.startCol, def.frames, def.frameDuration, def.loop);
+        // Looping effects (warnings) stay until their owner removes them
+        s.setAutoRemove(!def.loop);
+        s.pooledDef = def;
+        s.pooledGeneration = def.generation;
+        def.created++;
+        return s;
+    }
+
+    private static void push(EffectDef def, SFX s) {
+        if (def.freeCount == def.free.length) {
+            def.free = java.util.Arrays.copyOf(def.free, def.free.length * 2);
+        }
+        def.free[def.freeCount++] = s;
+    }
+}
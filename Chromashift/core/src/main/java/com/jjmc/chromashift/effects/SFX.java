@@ -16,6 +16,10 @@ public class SFX {
     private boolean autoRemove;
     private boolean isFinished;
     private boolean flipX = false;
+    // Set for instances owned by EffectPool
+    EffectPool.EffectDef pooledDef;
+    int pooledGeneration;
+    boolean pooledInUse;
     
     public SFX(String spritePath, int rows, int cols, float width, float height) {
         this.anim = new SpriteAnimator(spritePath, rows, cols);
@@ -90,6 +94,8 @@ public class SFX {
     }
     
     public boolean isFinished() { return isFinished; }
+    /** True for instances owned by {@link EffectPool}. */
+    public boolean isPooled() { return pooledDef != null; }
     public float getX() { return x; }
     public float getY() { return y; }
     public float getWidth() { return width; }
@@ -117,7 +123,7 @@ public class SFX {
     /**
      * Mark this SFX as finished so it can be considered available for reuse
      * by pooling logic. This does not dispose resources; it simply sets the
-     * finished flag so `obtainPooledSFX` can pick it up.
+     * finished flag so pooling logic can pick it up.
      */
     public void markFinishedForReuse() {
         this.isFinished = true;
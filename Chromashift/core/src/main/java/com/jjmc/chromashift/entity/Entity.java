@@ -1,6 +1,7 @@
 package com.jjmc.chromashift.entity;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.chromashift.helper.RenderQueue;
 import com.jjmc.chromashift.healthsystem.HealthListener;
 import com.jjmc.chromashift.healthsystem.HealthSystem;
 
@@ -8,7 +9,7 @@ import com.jjmc.chromashift.healthsystem.HealthSystem;
  * Generic game Entity base class.
  * Holds position and a HealthSystem and provides basic update/render hooks.
  */
-public class Entity {
+public class Entity implements RenderQueue.Renderable {
     protected final HealthSystem health;
 
     // Position in world space
@@ -1,19 +1,15 @@
 package com.jjmc.chromashift.entity.boss;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.jjmc.chromashift.effects.EffectPool;
 import com.jjmc.chromashift.effects.SFX;
 import com.jjmc.chromashift.entity.Entity;
 import com.chromashift.helper.SpriteAnimator;
+import com.chromashift.helper.TimerWheel;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.function.Consumer;
-import java.util.function.Supplier;
 
 /**
  * Simple Boss implementation with multiple attack support.
@@ -68,18 +64,13 @@ public class Boss extends Entity {
     // Active special effects spawned by the boss (indicator, impact, etc.)
     private final List<SFX> activeEffects = new ArrayList<>();
 
+    // Input for the current simulation tick (debug attack keys read this, not Gdx.input)
+    protected com.jjmc.chromashift.input.InputFrame input = new com.jjmc.chromashift.input.InputFrame();
+
     // If true, the subclass (e.g. BossInstance) will manage attack scheduling
     // itself and Boss.update() should not run the automatic attack picker.
     private boolean useCustomAttackScheduler = false;
 
-    // Executor for background work (creating SFX payloads, asset parsing, etc.)
-    // Note: actual Texture/GL objects must be created on the GL thread. Use
-    // this to prepare data and then post creation to the GL thread with
-    // Gdx.app.postRunnable.
-    // Use a fixed-size pool to avoid creating unbounded threads under heavy load.
-    private static final int BG_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors() - 1);
-    private static final ExecutorService bgExecutor = Executors.newFixedThreadPool(BG_POOL_SIZE);
-
     // Lightweight profiling switch: enable to emit SFX creation/spawn timings.
     // Set to true to gather lightweight logs; keep false in production.
     public static final boolean SFX_PROFILING = false;
@@ -91,16 +82,11 @@ public class Boss extends Entity {
         } catch (Exception ignored) {}
     }
 
-    // Reusable temporary collections to avoid per-frame allocations
-    private final List<SFX> effectsToRemove = new ArrayList<>();
-    private final List<PendingAction> duePending = new ArrayList<>();
-
     // Thread-safe queue for removals requested from other contexts. Drained
     // on the GL thread during update() to actually remove from activeEffects.
     private final ConcurrentLinkedQueue<SFX> removalQueue = new ConcurrentLinkedQueue<>();
 
-    // Scheduled delayed actions (delay seconds -> Runnable)
-    private final List<PendingAction> pending = new ArrayList<>();
+    // Delayed actions run on the game timer wheel (simulation time), tagged with this boss
 
     // Spawning state
     private boolean isSpawning = false;
@@ -267,6 +253,11 @@ public class Boss extends Entity {
         this.spawnDuration = duration;
     }
 
+    /** Share the simulation's per-tick input frame with this boss. */
+    public void setInputFrame(com.jjmc.chromashift.input.InputFrame frame) {
+        this.input = (frame != null) ? frame : new com.jjmc.chromashift.input.InputFrame();
+    }
+
     @Override
     public void update(float delta) {
         super.update(delta);
@@ -287,13 +278,8 @@ public class Boss extends Entity {
             return;
         }
 
-        // Use raw delta time to reduce perceived stutter when frames spike.
-        // Note: raw delta may be larger during big frame drops; use carefully.
-        @SuppressWarnings("deprecation")
-        float frameDelta = Gdx.graphics.getRawDeltaTime();
-
         // Update bob timer and calculate current hover height
-        bobTimer += frameDelta;
+        bobTimer += delta;
         float currentHoverHeight = baseHoverHeight + (float)(Math.sin(bobTimer * bobFrequency) * bobAmplitude);
         
         // Movement update
@@ -307,8 +293,8 @@ public class Boss extends Entity {
             float ay = dy * followSpeed;
 
             // Update velocity with acceleration
-            velocityX += ax * frameDelta;
-            velocityY += ay * frameDelta;
+            velocityX += ax * delta;
+            velocityY += ay * delta;
             
             // Apply speed limits
             float speed = (float)Math.sqrt(velocityX * velocityX + velocityY * velocityY);
@@ -318,8 +304,8 @@ public class Boss extends Entity {
             }
             
             // Apply movement
-            x += velocityX * frameDelta;
-            y += velocityY * frameDelta;
+            x += velocityX * delta;
+            y += velocityY * delta;
             
             // Apply damping
             velocityX *= 0.95f;
@@ -327,50 +313,37 @@ public class Boss extends Entity {
         }
 
         // Update arm positions with physics (lerp)
-    updateArmPhysics(frameDelta);
-
-        // Update SFX/effects - reuse temporary list to avoid per-frame allocations
-        effectsToRemove.clear();
-        for (SFX s : activeEffects) {
-            s.update(frameDelta);
+    updateArmPhysics(delta);
+
+        // Update SFX/effects; finished ones are compacted out in place and pooled
+        // instances go back to the EffectPool
+        int kept = 0;
+        for (int i = 0, n = activeEffects.size(); i < n; i++) {
+            SFX s = activeEffects.get(i);
+            s.update(delta);
             if (s.isFinished()) {
-                effectsToRemove.add(s);
+                EffectPool.release(s);
+            } else {
+                activeEffects.set(kept++, s);
             }
         }
-        // Remove finished effects after iteration
-        if (!effectsToRemove.isEmpty()) activeEffects.removeAll(effectsToRemove);
+        if (kept < activeEffects.size()) activeEffects.subList(kept, activeEffects.size()).clear();
 
         // Drain removalQueue (thread-safe) to handle safeRemoveEffect requests
         SFX queued;
         while ((queued = removalQueue.poll()) != null) {
-            activeEffects.remove(queued);
+            if (activeEffects.remove(queued)) EffectPool.release(queued);
         }
 
         // Update SpriteAnimator parts
-    if (bodyAnim != null) bodyAnim.update(frameDelta);
-    if (leftUpperArmAnim != null) leftUpperArmAnim.update(frameDelta);
-    if (leftLowerArmAnim != null) leftLowerArmAnim.update(frameDelta);
-    if (rightUpperArmAnim != null) rightUpperArmAnim.update(frameDelta);
-    if (rightLowerArmAnim != null) rightLowerArmAnim.update(frameDelta);
-
-        // Update pending actions - reuse duePending list to avoid allocations
-        duePending.clear();
-        for (PendingAction pa : pending) {
-            pa.delay -= frameDelta;
-            if (pa.delay <= 0f) duePending.add(pa);
-        }
-        if (!duePending.isEmpty()) {
-            // Remove due actions from the pending list before executing them so
-            // they can safely schedule new pending actions without modifying
-            // the collection we're iterating.
-            pending.removeAll(duePending);
-            for (PendingAction pa : duePending) {
-                try { pa.action.run(); } catch (Exception ignored) {}
-            }
-        }
+    if (bodyAnim != null) bodyAnim.update(delta);
+    if (leftUpperArmAnim != null) leftUpperArmAnim.update(delta);
+    if (leftLowerArmAnim != null) leftLowerArmAnim.update(delta);
+    if (rightUpperArmAnim != null) rightUpperArmAnim.update(delta);
+    if (rightLowerArmAnim != null) rightLowerArmAnim.update(delta);
 
         // Attack scheduling
-    if (attackCooldownTimer > 0f) attackCooldownTimer -= frameDelta;
+    if (attackCooldownTimer > 0f) attackCooldownTimer -= delta;
         // Optionally transition phase automatically based on health percentage (if enabled)
         if (autoPhaseByHealth && health != null) {
             float cur = health.getCurrentHealth();
@@ -411,7 +384,7 @@ public class Boss extends Entity {
                         float localSum = 0f;
                         for (float v : work) localSum += v;
                         if (localSum <= 0f) break; // nothing left
-                        double r = Math.random() * localSum;
+                        double r = com.badlogic.gdx.math.MathUtils.random() * localSum;
                         int pick = -1;
                         float acc = 0f;
                         for (int i = 0; i < n; i++) {
@@ -506,105 +479,6 @@ public class Boss extends Entity {
         }
     }
 
-    /**
-     * Create an SFX in a background thread (callable) and spawn it on the GL thread
-     * at (px,py). The callable should avoid creating GL textures directly; prefer
-     * using preloaded assets or creating light-weight SFX state. The SFX instance
-     * returned by the callable will be added on the main thread.
-     */
-    public void spawnEffectAsync(final Callable<SFX> creator, final float px, final float py) {
-        spawnEffectAsync(creator, px, py, null);
-    }
-
-    /**
-     * Like spawnEffectAsync but provides a callback invoked on the GL thread with
-     * the spawned SFX instance (useful to keep references to indicators).
-     */
-    public void spawnEffectAsync(final Callable<SFX> creator, final float px, final float py, final Consumer<SFX> onSpawned) {
-        if (creator == null) return;
-        bgExecutor.submit(new Runnable() {
-            @Override
-            public void run() {
-                long bgStart = SFX_PROFILING ? System.nanoTime() : 0L;
-                try {
-                    // NOTE: creator.call() may not be allowed to create GL resources
-                    // (textures) because it runs off the GL thread. If a caller needs
-                    // to perform GL allocations then use spawnEffectAsyncGL below.
-                    final SFX s = creator.call();
-                    long bgEnd = SFX_PROFILING ? System.nanoTime() : 0L;
-                    // Post to GL thread to attach the effect (safe to call GL ops there)
-                    Gdx.app.postRunnable(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                long glStart = SFX_PROFILING ? System.nanoTime() : 0L;
-                                spawnEffect(s, px, py);
-                                if (onSpawned != null) onSpawned.accept(s);
-                                long glEnd = SFX_PROFILING ? System.nanoTime() : 0L;
-                                if (SFX_PROFILING) {
-                                    profLog("SFX_PROF", "spawnEffectAsync: bgMillis=" + ((bgEnd-bgStart)/1_000_000.0)
-                                            + " glMillis=" + ((glEnd-glStart)/1_000_000.0)
-                                            + " totalMillis=" + ((glEnd-bgStart)/1_000_000.0));
-                                }
-                            } catch (Exception e) {
-                                e.printStackTrace();
-                            }
-                        }
-                    });
-                } catch (Exception e) {
-                    // log and ignore errors from background creation
-                    e.printStackTrace();
-                }
-            }
-        });
-    }
-
-    /**
-     * Async helper that runs optional background work, then creates the SFX on
-     * the GL thread via the provided Supplier. Use this when SFX construction
-     * performs GL calls (texture allocation) which must be done on the GL thread.
-     * The bgTask may be null if no background work is needed.
-     */
-    public void spawnEffectAsyncGL(final Runnable bgTask, final Supplier<SFX> glCreator, final float px, final float py, final Consumer<SFX> onSpawned) {
-        if (glCreator == null) return;
-        bgExecutor.submit(new Runnable() {
-            @Override
-            public void run() {
-                long bgStart = SFX_PROFILING ? System.nanoTime() : 0L;
-                try {
-                    if (bgTask != null) {
-                        try { bgTask.run(); } catch (Exception ignored) {}
-                    }
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
-                long bgEnd = SFX_PROFILING ? System.nanoTime() : 0L;
-                // Now post to GL thread to construct any GL resources safely
-                Gdx.app.postRunnable(new Runnable() {
-                    @Override
-                    public void run() {
-                        long glStart = SFX_PROFILING ? System.nanoTime() : 0L;
-                        try {
-                            SFX s = glCreator.get();
-                            long glCreated = SFX_PROFILING ? System.nanoTime() : 0L;
-                            spawnEffect(s, px, py);
-                            if (onSpawned != null) onSpawned.accept(s);
-                            long glEnd = SFX_PROFILING ? System.nanoTime() : 0L;
-                            if (SFX_PROFILING) {
-                                profLog("SFX_PROF", "spawnEffectAsyncGL: bgMillis=" + ((bgEnd-bgStart)/1_000_000.0)
-                                        + " glCreateMillis=" + ((glCreated-glStart)/1_000_000.0)
-                                        + " spawnMillis=" + ((glEnd-glCreated)/1_000_000.0)
-                                        + " totalMillis=" + ((glEnd-bgStart)/1_000_000.0));
-                            }
-                        } catch (Exception e) {
-                            e.printStackTrace();
-                        }
-                    }
-                });
-            }
-        });
-    }
-
     // --- Helpers to control part animations ---
     public void playBody(String animName, boolean flipX) { if (bodyAnim != null) bodyAnim.play(animName, flipX); }
     public void playLeftUpper(String animName, boolean flipX) { if (leftUpperArmAnim != null) leftUpperArmAnim.play(animName, flipX); }
@@ -613,6 +487,10 @@ public class Boss extends Entity {
     public void playRightLower(String animName, boolean flipX) { if (rightLowerArmAnim != null) rightLowerArmAnim.play(animName, flipX); }
 
     public void disposeParts() {
+        cancelScheduledActions();
+        for (SFX s : activeEffects) EffectPool.release(s);
+        activeEffects.clear();
+        removalQueue.clear();
         disposeAnimator(bodyAnim);
         disposeAnimator(leftUpperArmAnim);
         disposeAnimator(leftLowerArmAnim);
@@ -620,9 +498,18 @@ public class Boss extends Entity {
         disposeAnimator(rightLowerArmAnim);
     }
 
-    public void scheduleAction(float delaySeconds, Runnable r) {
-        if (r == null) return;
-        pending.add(new PendingAction(Math.max(0f, delaySeconds), r));
+    /**
+     * Run {@code r} after {@code delaySeconds} of simulation time (see TimerWheel.game()).
+     * Returns a handle for {@link TimerWheel#cancel(long)}.
+     */
+    public long scheduleAction(float delaySeconds, Runnable r) {
+        if (r == null) return TimerWheel.NO_HANDLE;
+        return TimerWheel.game().schedule(this, Math.max(0f, delaySeconds), r);
+    }
+
+    /** Drop every action this boss still has scheduled. */
+    public void cancelScheduledActions() {
+        TimerWheel.game().cancelAll(this);
     }
 
     // --- Phase configuration API ---
@@ -797,12 +684,6 @@ public class Boss extends Entity {
     }
 
     // --- Inner types ---
-    private static class PendingAction {
-        float delay;
-        final Runnable action;
-        PendingAction(float delay, Runnable action) { this.delay = delay; this.action = action; }
-    }
-
     /**
      * Base Attack class. Implementations should define start behavior.
      */
@@ -61,9 +61,9 @@ public class BossGuardian extends Boss {
             this.paddingLeft = padLeft;
             this.paddingRight = padRight;
             this.paddingBottom = padBottom;
-            this.bobPhase = (float)(Math.random() * Math.PI * 2);
-            this.bobSpeed = 1.2f + (float)Math.random() * 0.8f;
-            this.bobAmplitude = 10f + (float)Math.random() * 10f;
+            this.bobPhase = (float)(MathUtils.random() * Math.PI * 2);
+            this.bobSpeed = 1.2f + (float)MathUtils.random() * 0.8f;
+            this.bobAmplitude = 10f + (float)MathUtils.random() * 10f;
             this.flipX = false;
             this.attacking = false;
             
@@ -249,6 +249,8 @@ public class BossGuardian extends Boss {
     private float guardian3EntryDuration = 1.8f; // guardian 3 enters from right
     private float guardian1DropDuration = 1.5f; // guardian 1 drops from top
     private float delayBetweenGuardians = 0.4f; // gap between each entrance
+    // Pending phase change on the game timer wheel; updateSpawn only interpolates
+    private long spawnPhaseHandle = com.chromashift.helper.TimerWheel.NO_HANDLE;
     
     // Camera zoom/focus state during spawn
     private float spawnCameraZoom = 1.0f; // target camera zoom
@@ -353,6 +355,9 @@ public class BossGuardian extends Boss {
         spawnPhase = SpawnPhase.GUARDIAN2_ENTER;
         spawnPhaseTimer = -spawnPhaseStartDelay; // Start with delay before first guardian
         spawnCameraActive = true;
+        // Phase changes are chained on the timer wheel: each one schedules the next
+        com.chromashift.helper.TimerWheel.game().cancel(spawnPhaseHandle);
+        spawnPhaseHandle = scheduleAction(spawnPhaseStartDelay + guardian2EntryDuration, this::finishGuardian2Entry);
         
         // Set all guardians invisible initially
         guardian1.alpha = 0f;
@@ -377,65 +382,42 @@ public class BossGuardian extends Boss {
         spawnPhaseTimer += delta;
         
         // Guardian 2 enters from left
-        if (spawnPhase == SpawnPhase.GUARDIAN2_ENTER) {
-            float phaseDuration = guardian2EntryDuration;
-            if (spawnPhaseTimer >= 0f && spawnPhaseTimer < phaseDuration) {
-                float phaseProgress = spawnPhaseTimer / phaseDuration;
-                // Ease-out motion: starts fast, slows down
-                float easeProgress = 1f - (float)Math.pow(1f - phaseProgress, 3f);
-                float startX = bossCenter.x - 1200f;
-                float targetX = bossCenter.x + guardian2.targetOffset.x;
-                guardian2.position.x = startX + (targetX - startX) * easeProgress;
-                guardian2.position.y = bossCenter.y + guardian2.targetOffset.y; // Keep Y at target
-                // Fade in guardian 2
-                guardian2.alpha = easeProgress;
-            } else if (spawnPhaseTimer >= phaseDuration) {
-                guardian2.position.set(bossCenter.x + guardian2.targetOffset.x, bossCenter.y + guardian2.targetOffset.y);
-                guardian2.alpha = 1f;
-                spawnPhase = SpawnPhase.GUARDIAN3_ENTER;
-                spawnPhaseTimer = 0f;
-            }
+        if (spawnPhase == SpawnPhase.GUARDIAN2_ENTER && spawnPhaseTimer >= 0f) {
+            float phaseProgress = Math.min(spawnPhaseTimer / guardian2EntryDuration, 1f);
+            // Ease-out motion: starts fast, slows down
+            float easeProgress = 1f - (float)Math.pow(1f - phaseProgress, 3f);
+            float startX = bossCenter.x - 1200f;
+            float targetX = bossCenter.x + guardian2.targetOffset.x;
+            guardian2.position.x = startX + (targetX - startX) * easeProgress;
+            guardian2.position.y = bossCenter.y + guardian2.targetOffset.y; // Keep Y at target
+            // Fade in guardian 2
+            guardian2.alpha = easeProgress;
         }
         
         // Guardian 3 enters from right
         if (spawnPhase == SpawnPhase.GUARDIAN3_ENTER) {
-            float phaseDuration = guardian3EntryDuration;
-            if (spawnPhaseTimer < phaseDuration) {
-                float phaseProgress = spawnPhaseTimer / phaseDuration;
-                // Ease-out motion
-                float easeProgress = 1f - (float)Math.pow(1f - phaseProgress, 3f);
-                float startX = bossCenter.x + 1200f;
-                float targetX = bossCenter.x + guardian3.targetOffset.x;
-                guardian3.position.x = startX + (targetX - startX) * easeProgress;
-                guardian3.position.y = bossCenter.y + guardian3.targetOffset.y; // Keep Y at target
-                // Fade in guardian 3
-                guardian3.alpha = easeProgress;
-            } else {
-                guardian3.position.set(bossCenter.x + guardian3.targetOffset.x, bossCenter.y + guardian3.targetOffset.y);
-                guardian3.alpha = 1f;
-                spawnPhase = SpawnPhase.GUARDIAN1_DROP;
-                spawnPhaseTimer = 0f;
-            }
+            float phaseProgress = Math.min(spawnPhaseTimer / guardian3EntryDuration, 1f);
+            // Ease-out motion
+            float easeProgress = 1f - (float)Math.pow(1f - phaseProgress, 3f);
+            float startX = bossCenter.x + 1200f;
+            float targetX = bossCenter.x + guardian3.targetOffset.x;
+            guardian3.position.x = startX + (targetX - startX) * easeProgress;
+            guardian3.position.y = bossCenter.y + guardian3.targetOffset.y; // Keep Y at target
+            // Fade in guardian 3
+            guardian3.alpha = easeProgress;
         }
         
         // Guardian 1 drops from top
         if (spawnPhase == SpawnPhase.GUARDIAN1_DROP) {
-            float phaseDuration = guardian1DropDuration;
-            if (spawnPhaseTimer < phaseDuration) {
-                float phaseProgress = spawnPhaseTimer / phaseDuration;
-                // Ease-out motion with some bounce
-                float easeProgress = 1f - (float)Math.pow(1f - phaseProgress, 2.5f);
-                float startY = bossCenter.y - 600f;
-                float targetY = bossCenter.y + guardian1.targetOffset.y;
-                guardian1.position.x = bossCenter.x + guardian1.targetOffset.x; // Keep X at target
-                guardian1.position.y = startY + (targetY - startY) * easeProgress;
-                // Fade in guardian 1
-                guardian1.alpha = easeProgress;
-            } else {
-                guardian1.position.set(bossCenter.x + guardian1.targetOffset.x, bossCenter.y + guardian1.targetOffset.y);
-                guardian1.alpha = 1f;
-                spawnPhase = SpawnPhase.COMPLETE;
-            }
+            float phaseProgress = Math.min(spawnPhaseTimer / guardian1DropDuration, 1f);
+            // Ease-out motion with some bounce
+            float easeProgress = 1f - (float)Math.pow(1f - phaseProgress, 2.5f);
+            float startY = bossCenter.y - 600f;
+            float targetY = bossCenter.y + guardian1.targetOffset.y;
+            guardian1.position.x = bossCenter.x + guardian1.targetOffset.x; // Keep X at target
+            guardian1.position.y = startY + (targetY - startY) * easeProgress;
+            // Fade in guardian 1
+            guardian1.alpha = easeProgress;
         }
         
         // Update camera zoom and focus during spawn
@@ -447,6 +429,30 @@ public class BossGuardian extends Boss {
         guardian3.update(delta * 0.5f, bossCenter, timeAccum);
     }
 
+    // Spawn phase ends, fired by the timer wheel
+    private void finishGuardian2Entry() {
+        guardian2.position.set(bossCenter.x + guardian2.targetOffset.x, bossCenter.y + guardian2.targetOffset.y);
+        guardian2.alpha = 1f;
+        spawnPhase = SpawnPhase.GUARDIAN3_ENTER;
+        spawnPhaseTimer = 0f;
+        spawnPhaseHandle = scheduleAction(guardian3EntryDuration, this::finishGuardian3Entry);
+    }
+
+    private void finishGuardian3Entry() {
+        guardian3.position.set(bossCenter.x + guardian3.targetOffset.x, bossCenter.y + guardian3.targetOffset.y);
+        guardian3.alpha = 1f;
+        spawnPhase = SpawnPhase.GUARDIAN1_DROP;
+        spawnPhaseTimer = 0f;
+        spawnPhaseHandle = scheduleAction(guardian1DropDuration, this::finishGuardian1Drop);
+    }
+
+    private void finishGuardian1Drop() {
+        guardian1.position.set(bossCenter.x + guardian1.targetOffset.x, bossCenter.y + guardian1.targetOffset.y);
+        guardian1.alpha = 1f;
+        spawnPhase = SpawnPhase.COMPLETE;
+        spawnPhaseHandle = com.chromashift.helper.TimerWheel.NO_HANDLE;
+    }
+
     @Override
     protected void onSpawnComplete() {
         // Snap all guardians to their final positions
@@ -553,19 +559,19 @@ public class BossGuardian extends Boss {
         
         // Debug: Force guardian attacks with 1, 2, 3 keys (only if debug enabled)
         if (debugDisplay) {
-            if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.NUM_1)) {
+            if (input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.NUM_1)) {
                 boolean faceLeft = targetX < bossCenter.x;
                 if (!guardian1.attacking) {
                     guardian1.startAttack(faceLeft);
                 }
             }
-            if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.NUM_2)) {
+            if (input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.NUM_2)) {
                 boolean faceLeft = targetX < bossCenter.x;
                 if (!guardian2.attacking) {
                     guardian2.startAttack(faceLeft);
                 }
             }
-            if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.NUM_3)) {
+            if (input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.NUM_3)) {
                 boolean faceLeft = targetX < bossCenter.x;
                 startBoss2Attack(faceLeft);
             }
@@ -1091,6 +1097,7 @@ public class BossGuardian extends Boss {
     }
     
     public void dispose() {
+        cancelScheduledActions();
         guardian1.dispose();
         guardian2.dispose();
         guardian3.dispose();
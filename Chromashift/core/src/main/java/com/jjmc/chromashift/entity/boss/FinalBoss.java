@@ -4,14 +4,14 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
+import com.jjmc.chromashift.effects.EffectPool;
 import com.jjmc.chromashift.effects.SFX;
 import com.jjmc.chromashift.environment.Solid;
+import com.jjmc.chromashift.environment.SolidIndex;
 import com.jjmc.chromashift.environment.Wall;
 
 import java.util.List;
-import java.util.ArrayList;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Supplier;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.Color;
@@ -41,6 +41,9 @@ public class FinalBoss extends Boss {
     // References to game objects for collision detection
     private Array<Solid> solids;
     private Array<Wall> walls;
+    // Broadphase over solids (walls included) for ground searches; scratch for its results
+    private SolidIndex solidIndex;
+    private final Array<Solid> nearbySolids = new Array<>();
     // keep references to the attacks so debug keys can trigger them
     private Attack debugAttack1, debugAttack2, debugAttack3, debugAttack4;
     // Player position tracking for attacks and movement
@@ -48,9 +51,6 @@ public class FinalBoss extends Boss {
     private float lastPlayerY = 0f;
     private float prevPlayerX = 0f;
     private float prevPlayerY = 0f;
-    // Pools to reuse SFX instances and reduce allocations
-    private final List<SFX> indicatorPool = new ArrayList<>();
-    private final List<SFX> attackPool = new ArrayList<>();
     // Arena trigger state (used to bias movement and attack patterns)
     private enum TriggerZone { TRIGGER_1, TRIGGER_2, TRIGGER_3, TRIGGER_4, TRIGGER_5, TRIGGER_6, NONE }
     private TriggerZone activeTriggerZone = TriggerZone.NONE;
@@ -78,6 +78,15 @@ public class FinalBoss extends Boss {
         this.walls = walls;
     }
 
+    public void setSolidIndex(SolidIndex solidIndex) {
+        this.solidIndex = solidIndex;
+    }
+
+    // The level's walls are also in its solids list, so an index over solids answers both loops
+    private boolean useIndex() {
+        return solidIndex != null && solidIndex.getSolids() == solids;
+    }
+
     // Get preferred attack index based on current trigger zone
     // Returns -1 if no preference (any attack can be used)
     // Note: TRIGGER_6 is only for boundary checking, not attack selection
@@ -116,7 +125,7 @@ public class FinalBoss extends Boss {
         if (attackIdx == preferred) return true;
         
         // Other attacks have 20% chance to spawn in wrong trigger zone
-        return Math.random() < 0.20f;
+        return com.badlogic.gdx.math.MathUtils.random() < 0.20f;
     }
 
     // Check if a position is within trigger_6 bounds (attack spawn boundary)
@@ -196,41 +205,27 @@ public class FinalBoss extends Boss {
         final float attackWidth = 182f * SCALE/2;   // 273f
         final float attackHeight = 182f * SCALE/2;  // 273f
 
-        // Prewarm SFX pools to avoid first-use GL stalls when attacks trigger.
-        // Instead of creating everything in a single frame (which causes a big
-        // hitch), stagger creation across several frames using scheduleAction
-        // so texture uploads happen gradually during idle frames.
-        try {
-            for (int i = 0; i < 6; i++) {
-                final int idx = i;
-                // small stagger so work is spread over frames
-                float delay = 0.02f * idx;
-                scheduleAction(delay, new Runnable() {
-                    @Override
-                    public void run() {
-                        try {
-                            SFX indicator = new SFX(attackSprite, spriteRows, spriteCols, attackWidth, attackHeight * 0.5f);
-                            indicator.addAnimation("warning", 0, 0, 5, 0.08f, true);
-                            indicator.setAutoRemove(false);
-                            indicator.reset();
-                            // mark finished so obtainPooledSFX can find it for reuse
-                            indicator.markFinishedForReuse();
-                            indicatorPool.add(indicator);
-
-                            SFX atk = new SFX(attackSprite, spriteRows, spriteCols, attackWidth, attackHeight);
-                            atk.addAnimation("attack", ROW_ATTACK_1, 0, 25, 0.03f, false);
-                            atk.setAutoRemove(true);
-                            atk.reset();
-                            atk.markFinishedForReuse();
-                            attackPool.add(atk);
-                        } catch (Exception ignored) {
-                            // ignore errors during staggered prewarm
-                        }
-                    }
-                });
-            }
-        } catch (Exception ignored) {
-            // If scheduling fails, fall back to on-demand creation.
+        // One pooled effect definition per attack visual (EffectPool); instances are
+        // recycled when they finish instead of re-registering animations on shared ones
+        final EffectPool.EffectDef warningFx = EffectPool.define("boss_warning", attackSprite, spriteRows, spriteCols,
+                attackWidth, attackHeight * 0.5f, 0, 0, 5, 0.08f, true);
+        final EffectPool.EffectDef waveFx = EffectPool.define("boss_wave", attackSprite, spriteRows, spriteCols,
+                attackWidth, attackHeight, ROW_ATTACK_1, 0, 25, 0.03f, false);
+        final EffectPool.EffectDef eruptionFx = EffectPool.define("boss_eruption", attackSprite, spriteRows, spriteCols,
+                attackWidth, attackHeight * 2f, ROW_ATTACK_2, 0, 20, 0.1f, false);
+        final EffectPool.EffectDef burstFx = EffectPool.define("boss_burst", attackSprite, spriteRows, spriteCols,
+                attackWidth, attackHeight, ROW_ATTACK_3, 0, 20, 0.04f, false);
+        final EffectPool.EffectDef sweepFx = EffectPool.define("boss_sweep", attackSprite, spriteRows, spriteCols,
+                attackWidth, attackHeight, ROW_ATTACK_4, 0, 20, 0.05f, false);
+
+        // Prewarm for the most instances each attack has on screen at once, so no effect
+        // is built mid-fight. Creation is staggered across frames (one definition per
+        // scheduled step) instead of causing one big hitch.
+        final EffectPool.EffectDef[] prewarmDefs = { warningFx, waveFx, eruptionFx, burstFx, sweepFx };
+        final int[] prewarmCounts = { 2, 6, 2, 2, 5 };
+        for (int i = 0; i < prewarmDefs.length; i++) {
+            final int idx = i;
+            scheduleAction(0.02f * idx, () -> EffectPool.prewarm(prewarmDefs[idx], prewarmCounts[idx]));
         }
     
         // Attack 1 - Directional wave attack based on player movement
@@ -272,25 +267,9 @@ public class FinalBoss extends Boss {
                             final float spawnX = firstAttackX + xOffset - attackWidth / 2;
                             final float groundY = findGroundY(spawnX + attackWidth / 2f, py, attackWidth);
                             final float spawnY = groundY - 35f; // anchor wave just above ground like eruption
-                            // obtain or create attack SFX from pool
-                            SFX atk = obtainPooledSFX(attackPool, new Supplier<SFX>() {
-                                @Override
-                                public SFX get() {
-                                    SFX s = new SFX(attackSprite, spriteRows, spriteCols, attackWidth, attackHeight);
-                                    s.addAnimation("attack", ROW_ATTACK_1, 0, 25, 0.03f, false);
-                                    s.setAutoRemove(true);
-                                    return s;
-                                }
-                            });
-                            if (atk != null) {
-                                // Check if spawn position is within trigger_6 bounds
-                                if (bossInst != null && bossInst.isPositionInTrigger6(spawnX, spawnY, attackWidth, attackHeight)) {
-                                    // Ensure this pooled instance uses the correct animation definition
-                                    atk.addAnimation("attack", ROW_ATTACK_1, 0, 25, 0.03f, false);
-                                    atk.reset();
-                                    atk.play("attack");
-                                    boss.spawnEffect(atk, spawnX, spawnY);
-                                }
+                            // Check if spawn position is within trigger_6 bounds, then take a pooled wave
+                            if (bossInst != null && bossInst.isPositionInTrigger6(spawnX, spawnY, attackWidth, attackHeight)) {
+                                boss.spawnEffect(EffectPool.obtain(waveFx), spawnX, spawnY);
                             }
 
                             // No indicator to remove for this attack
@@ -340,21 +319,9 @@ public class FinalBoss extends Boss {
                 final AtomicReference<SFX> warningRef = new AtomicReference<>();
                 final float warnX = px - attackWidth / 2;
                 final float warnY = groundY - 30;
-                // obtain a pooled indicator (should be prewarmed); reset and spawn synchronously
-                SFX warning = obtainPooledSFX(indicatorPool, new Supplier<SFX>() {
-                    @Override
-                    public SFX get() {
-                        SFX w = new SFX(attackSprite, spriteRows, spriteCols, attackWidth, attackHeight * 0.5f);
-                        // use the same animation mapping as the prewarmed indicators (row 0)
-                        w.addAnimation("warning", 0, 0, 5, 0.08f, true);
-                        return w;
-                    }
-                });
-                if (warning != null && bossInst != null && bossInst.isPositionInTrigger6(warnX, warnY, attackWidth, attackHeight * 0.5f)) {
-                    warning.reset();
-                    // Ensure the pooled instance has the expected animation mapping for this attack
-                    warning.addAnimation("warning", 0, 0, 5, 0.08f, true);
-                    warning.play("warning");
+                // pooled indicator (prewarmed); loops until removed when the eruption fires
+                if (bossInst != null && bossInst.isPositionInTrigger6(warnX, warnY, attackWidth, attackHeight * 0.5f)) {
+                    SFX warning = EffectPool.obtain(warningFx);
                     boss.spawnEffect(warning, warnX, warnY);
                     warningRef.set(warning);
                 }
@@ -364,27 +331,12 @@ public class FinalBoss extends Boss {
                 final float eruption_y = groundY;
                 boss.scheduleAction(2.0f, new Runnable() {
                     public void run() {
-                        // Vertical eruption effect (use pooled SFX to avoid GL allocations)
-                                SFX eruption = obtainPooledSFX(attackPool, new Supplier<SFX>() {
-                            @Override
-                            public SFX get() {
-                                SFX s = new SFX(attackSprite, spriteRows, spriteCols, attackWidth, attackHeight * 2f);
-                                s.addAnimation("attack", ROW_ATTACK_2, 0, 20, .25f, false);
-                                s.setAutoRemove(true);
-                                return s;
-                            }
-                        });
-                        if (eruption != null) {
-                            final float eruptX = eruption_px - attackWidth / 2;
-                            final float eruptY = eruption_y - 35;
-                            // Check if spawn position is within trigger_6 bounds
-                            if (bossInst != null && bossInst.isPositionInTrigger6(eruptX, eruptY, attackWidth, attackHeight * 2f)) {
-                                // ensure pooled instance has correct animation row for the eruption
-                                eruption.addAnimation("attack", ROW_ATTACK_2, 0, 20, .1f, false);
-                                eruption.reset();
-                                eruption.play("attack");
-                                boss.spawnEffect(eruption, eruptX, eruptY);
-                            }
+                        // Vertical eruption effect (pooled, so no GL allocations here)
+                        final float eruptX = eruption_px - attackWidth / 2;
+                        final float eruptY = eruption_y - 35;
+                        // Check if spawn position is within trigger_6 bounds
+                        if (bossInst != null && bossInst.isPositionInTrigger6(eruptX, eruptY, attackWidth, attackHeight * 2f)) {
+                            boss.spawnEffect(EffectPool.obtain(eruptionFx), eruptX, eruptY);
                         }
                         boss.safeRemoveEffect(warningRef.get());
 
@@ -417,26 +369,11 @@ public class FinalBoss extends Boss {
                 float px = bossInst != null ? bossInst.lastPlayerX : boss.getX();
                 float py = bossInst != null ? bossInst.lastPlayerY : boss.getY();
                 // Use pooled SFX for quick burst attack to avoid GL allocations during spawn.
-                        SFX burst = obtainPooledSFX(attackPool, new Supplier<SFX>() {
-                    @Override
-                    public SFX get() {
-                        SFX s = new SFX(attackSprite, spriteRows, spriteCols, attackWidth, attackHeight);
-                        s.addAnimation("attack", ROW_ATTACK_3, 0, 20, 0.04f, false);
-                        s.setAutoRemove(true);
-                        return s;
-                    }
-                });
-                if (burst != null) {
-                    final float burstX = px - attackWidth / 2;
-                    final float burstY = py - attackHeight / 2;
-                    // Check if spawn position is within trigger_6 bounds
-                    if (bossInst != null && bossInst.isPositionInTrigger6(burstX, burstY, attackWidth, attackHeight)) {
-                        // ensure the pooled instance has the correct animation mapping for this attack
-                        burst.addAnimation("attack", ROW_ATTACK_3, 0, 20, 0.04f, false);
-                        burst.reset();
-                        burst.play("attack");
-                        boss.spawnEffect(burst, burstX, burstY);
-                    }
+                final float burstX = px - attackWidth / 2;
+                final float burstY = py - attackHeight / 2;
+                // Check if spawn position is within trigger_6 bounds
+                if (bossInst != null && bossInst.isPositionInTrigger6(burstX, burstY, attackWidth, attackHeight)) {
+                    boss.spawnEffect(EffectPool.obtain(burstFx), burstX, burstY);
                 }
 
                 // Reset attack flag after animation completes
@@ -578,26 +515,10 @@ public class FinalBoss extends Boss {
                                 if (spawnY < minY) spawnY = minY;
                                 if (spawnY > maxY) spawnY = maxY;
                             }
-                            // Create attack SFX on the GL thread to avoid OpenGL calls from background threads
-                            // Use pooled attack SFX to avoid creating a new SpriteAnimator here
-                            SFX wave = obtainPooledSFX(attackPool, new Supplier<SFX>() {
-                                @Override
-                                public SFX get() {
-                                    SFX s = new SFX(attackSprite, spriteRows, spriteCols, attackWidth, attackHeight);
-                                    s.addAnimation("attack", ROW_ATTACK_4, 0, 20, 0.05f, false);
-                                    s.setAutoRemove(true);
-                                    return s;
-                                }
-                            });
-                            if (wave != null) {
-                                // Check if spawn position is within trigger_6 bounds
-                                if (bossInst != null && bossInst.isPositionInTrigger6(spawnX, spawnY, attackWidth, attackHeight)) {
-                                    // Ensure a pooled instance gets the correct animation mapping
-                                    wave.addAnimation("attack", ROW_ATTACK_4, 0, 20, 0.05f, false);
-                                    wave.reset();
-                                    wave.play("attack");
-                                    boss.spawnEffect(wave, spawnX, spawnY);
-                                }
+                            // Pooled sweep SFX, so no SpriteAnimator is created here
+                            // Check if spawn position is within trigger_6 bounds
+                            if (bossInst != null && bossInst.isPositionInTrigger6(spawnX, spawnY, attackWidth, attackHeight)) {
+                                boss.spawnEffect(EffectPool.obtain(sweepFx), spawnX, spawnY);
                             }
 
                             // No indicator to remove for this attack
@@ -636,32 +557,15 @@ public class FinalBoss extends Boss {
     configurePhaseCooldownMultiplier(3, 0.7f);
     }
 
-    // Helper: obtain pooled SFX instance (reuses finished instances or creates new via supplier)
-    // Must be called on the GL thread when creating new instances
-    private SFX obtainPooledSFX(List<SFX> pool, Supplier<SFX> creator) {
-        for (SFX s : pool) {
-            if (s.isFinished()) {
-                return s;
-            }
-        }
-        long t0 = Boss.SFX_PROFILING ? System.nanoTime() : 0L;
-        SFX n = creator.get();
-        long t1 = Boss.SFX_PROFILING ? System.nanoTime() : 0L;
-        pool.add(n);
-        if (Boss.SFX_PROFILING) {
-            try { com.badlogic.gdx.Gdx.app.log("SFX_PROF", "obtainPooledSFX: createdMillis=" + ((t1-t0)/1_000_000.0)); } catch (Exception ignored) {}
-        }
-        return n;
-    }
-
     // Find the highest ground below a given point within a vertical search band
     private float findGroundY(float centerX, float centerY, float width) {
         float groundY = centerY - groundAttackOffset;
         float range = groundAttackOffset * 2f; // Expand search range to find topmost surfaces
         Rectangle searchArea = new Rectangle(centerX - (width / 2f), centerY - range, width, range * 2f);
+        boolean indexed = useIndex();
 
         if (solids != null) {
-            for (Solid solid : solids) {
+            for (Solid solid : indexed ? solidIndex.query(searchArea, nearbySolids) : solids) {
                 if (!solid.isBlocking()) continue;
                 Rectangle bounds = solid.getCollisionBounds();
                 if (bounds != null && bounds.overlaps(searchArea)) {
@@ -673,7 +577,7 @@ public class FinalBoss extends Boss {
             }
         }
 
-        if (walls != null) {
+        if (walls != null && !indexed) {
             for (Wall wall : walls) {
                 Rectangle b = wall.getBounds();
                 if (b != null && b.overlaps(searchArea)) {
@@ -737,9 +641,10 @@ public class FinalBoss extends Boss {
     private boolean collectHighestSurface(Rectangle area, float minY, float maxY) {
         float best = Float.NEGATIVE_INFINITY;
         boolean hit = false;
+        boolean indexed = useIndex();
 
         if (solids != null) {
-            for (Solid solid : solids) {
+            for (Solid solid : indexed ? solidIndex.query(area, nearbySolids) : solids) {
                 if (!solid.isBlocking()) continue;
                 Rectangle bounds = solid.getCollisionBounds();
                 if (bounds != null && bounds.overlaps(area)) {
@@ -752,7 +657,7 @@ public class FinalBoss extends Boss {
             }
         }
 
-        if (walls != null) {
+        if (walls != null && !indexed) {
             for (Wall wall : walls) {
                 Rectangle b = wall.getBounds();
                 if (b != null && b.overlaps(area)) {
@@ -967,7 +872,7 @@ public class FinalBoss extends Boss {
         int chosen = lastIndex;
         int attempts = 0;
         while (attempts++ < Math.max(1, maxAttempts)) {
-            int candidate = (int)(Math.random() * patterns.length);
+            int candidate = (int)(com.badlogic.gdx.math.MathUtils.random() * patterns.length);
             if (candidate != lastIndex) {
                 chosen = candidate;
                 break;
@@ -1016,7 +921,7 @@ public class FinalBoss extends Boss {
         if (patternsLen > 1) {
             int attempts = 0;
             while (attempts++ < 6) {
-                chosen2 = (int) (Math.random() * patternsLen);
+                chosen2 = (int) (com.badlogic.gdx.math.MathUtils.random() * patternsLen);
                 if (chosen2 != phase2PatternIndex) break;
             }
         }
@@ -1066,7 +971,7 @@ public class FinalBoss extends Boss {
         if (patternsLen > 1) {
             int attempts = 0;
             while (attempts++ < 6) {
-                chosen3 = (int)(Math.random() * patternsLen);
+                chosen3 = (int)(com.badlogic.gdx.math.MathUtils.random() * patternsLen);
                 if (chosen3 != phase3PatternIndex) break;
             }
         }
@@ -1176,16 +1081,16 @@ public class FinalBoss extends Boss {
         // Debug controls: press 1-4 to manually trigger each configured attack.
         try {
             if (!isAttacking) {  // Only allow new attacks if no attack is in progress
-                if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1)) {
+                if (input.isKeyJustPressed(Input.Keys.NUM_1)) {
                     if (debugAttack1 != null) debugAttack1.tryStart(this);
                 }
-                if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2)) {
+                if (input.isKeyJustPressed(Input.Keys.NUM_2)) {
                     if (debugAttack2 != null) debugAttack2.tryStart(this);
                 }
-                if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3)) {
+                if (input.isKeyJustPressed(Input.Keys.NUM_3)) {
                     if (debugAttack3 != null) debugAttack3.tryStart(this);
                 }
-                if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_4)) {
+                if (input.isKeyJustPressed(Input.Keys.NUM_4)) {
                     if (debugAttack4 != null) debugAttack4.tryStart(this);
                 }
             }
@@ -1194,7 +1099,7 @@ public class FinalBoss extends Boss {
 
         // Toggle debug overlay with F2
         try {
-            if (Gdx.input.isKeyJustPressed(Input.Keys.F2)) {
+            if (input.isKeyJustPressed(Input.Keys.F2)) {
                 debugOverlayEnabled = !debugOverlayEnabled;
             }
         } catch (Exception ignored) {}
@@ -3,12 +3,13 @@ package com.jjmc.chromashift.environment;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.chromashift.helper.RenderQueue;
 
 /**
  * Represents any physical object that can block or interact with collisions.
  * Examples: Wall, Slope, Door.
  */
-public interface Solid {
+public interface Solid extends RenderQueue.Renderable {
     Rectangle getBounds();
 
     /**
@@ -18,6 +19,15 @@ public interface Solid {
         return getBounds();
     }
 
+    /**
+     * Same as {@link #getCollisionBounds()} but copied into {@code out}, so per-step callers
+     * can read solids whose bounds are computed on demand without allocating.
+     */
+    default Rectangle getCollisionBounds(Rectangle out) {
+        Rectangle r = getCollisionBounds();
+        return r != null ? out.set(r) : null;
+    }
+
     boolean isSolid();
 
     void render(SpriteBatch batch);
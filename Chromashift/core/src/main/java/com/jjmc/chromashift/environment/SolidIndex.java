@@ -0,0 +1,235 @@
+package com.jjmc.chromashift.environment;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * Uniform grid (spatial hash) over a level's solids, used as a collision broadphase.
+ * Walls are static during gameplay and are bucketed once by the cells their bounds cover;
+ * every other solid (doors, boxes, targets, launchpads) can move or open, so those are kept
+ * in a short list that every query returns.
+ *
+ * Queries fill a caller-owned Array in the same order as the source list, so sequential
+ * resolvers like PlayerCollision push the same way they did with the full list. Nothing
+ * is allocated per query once the scratch buffers have grown. Single-threaded use only.
+ * Call {@link #rebuild()} if walls are added, removed or moved.
+ */
+public class SolidIndex {
+    public static final float DEFAULT_CELL_SIZE = 64f;
+    // Walls bigger than this many cells go in the always-returned list instead of the grid
+    private static final int MAX_CELLS_PER_WALL = 4096;
+
+    private final Array<Solid> solids;
+    private final float cellSize;
+    private final LongMap<IntArray> cells = new LongMap<>();
+    private final IntArray dynamic = new IntArray();
+
+    // Query scratch: candidate indices and a per-solid stamp to drop duplicates across cells
+    private final IntArray candidates = new IntArray();
+    private int[] stamps = new int[0];
+    private int stamp = 0;
+
+    public SolidIndex(Array<Solid> solids) {
+        this(solids, DEFAULT_CELL_SIZE);
+    }
+
+    public SolidIndex(Array<Solid> solids, float cellSize) {
+        this.solids = solids;
+        this.cellSize = Math.max(1f, cellSize);
+        rebuild();
+    }
+
+    public Array<Solid> getSolids() { return solids; }
+    public float getCellSize() { return cellSize; }
+
+    /** Re-bucket everything from the source list. */
+    public void rebuild() {
+        for (IntArray bucket : cells.values()) bucket.clear();
+        dynamic.clear();
+        if (stamps.length < solids.size) stamps = new int[solids.size];
+        stamp = 0;
+        java.util.Arrays.fill(stamps, 0);
+
+        for (int i = 0; i < solids.size; i++) {
+            Solid s = solids.get(i);
+            if (!(s instanceof Wall w)) {
+                dynamic.add(i);
+                continue;
+            }
+            Rectangle b = w.bounds;
+            int x0 = cell(b.x), y0 = cell(b.y);
+            int x1 = cell(b.x + b.width), y1 = cell(b.y + b.height);
+            if ((long) (x1 - x0 + 1) * (y1 - y0 + 1) > MAX_CELLS_PER_WALL) {
+                dynamic.add(i);
+                continue;
+            }
+            for (int cy = y0; cy <= y1; cy++) {
+                for (int cx = x0; cx <= x1; cx++) {
+                    long key = key(cx, cy);
+                    IntArray bucket = cells.get(key);
+                    if (bucket == null) {
+                        bucket = new IntArray(4);
+                        cells.put(key, bucket);
+                    }
+                    bucket.add(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Solids that may touch {@code area}: walls whose bounds overlap it plus every
+     * non-wall solid (callers still check isBlocking/getCollisionBounds as before).
+     */
+    public Array<Solid> query(Rectangle area, Array<Solid> out) {
+        out.clear();
+        gather(area.x, area.y, area.x + area.width, area.y + area.height);
+        for (int i = 0; i < candidates.size; i++) {
+            Solid s = solids.get(candidates.get(i));
+            if (s instanceof Wall w && !w.bounds.overlaps(area)) continue;
+            out.add(s);
+        }
+        return out;
+    }
+
+    /** Blocking walls whose bounds overlap {@code area}. */
+    public Array<Wall> queryWalls(Rectangle area, Array<Wall> out) {
+        out.clear();
+        gather(area.x, area.y, area.x + area.width, area.y + area.height);
+        for (int i = 0; i < candidates.size; i++) {
+            if (solids.get(candidates.get(i)) instanceof Wall w && w.isBlocking() && w.bounds.overlaps(area)) {
+                out.add(w);
+            }
+        }
+        return out;
+    }
+
+    /** Blocking solids whose collision bounds contain the point. */
+    public Array<Solid> queryPoint(float x, float y, Array<Solid> out) {
+        out.clear();
+        gather(x, y, x, y);
+        for (int i = 0; i < candidates.size; i++) {
+            Solid s = solids.get(candidates.get(i));
+            if (!s.isBlocking()) continue;
+            Rectangle b = s.getCollisionBounds();
+            if (b != null && b.contains(x, y)) out.add(s);
+        }
+        return out;
+    }
+
+    /**
+     * Blocking solids whose collision bounds are crossed by the segment (x0,y0)-(x1,y1).
+     * Cells are walked along the segment (Amanatides-Woo), so long rays only touch the
+     * buckets they pass through.
+     */
+    public Array<Solid> querySegment(float x0, float y0, float x1, float y1, Array<Solid> out) {
+        out.clear();
+        beginGather();
+        int cx = cell(x0), cy = cell(y0);
+        int endX = cell(x1), endY = cell(y1);
+        float dx = x1 - x0, dy = y1 - y0;
+        int stepX = dx > 0f ? 1 : (dx < 0f ? -1 : 0);
+        int stepY = dy > 0f ? 1 : (dy < 0f ? -1 : 0);
+        float tDeltaX = stepX != 0 ? cellSize / Math.abs(dx) : Float.POSITIVE_INFINITY;
+        float tDeltaY = stepY != 0 ? cellSize / Math.abs(dy) : Float.POSITIVE_INFINITY;
+        float tMaxX = stepX > 0 ? ((cx + 1) * cellSize - x0) / dx
+                : (stepX < 0 ? (cx * cellSize - x0) / dx : Float.POSITIVE_INFINITY);
+        float tMaxY = stepY > 0 ? ((cy + 1) * cellSize - y0) / dy
+                : (stepY < 0 ? (cy * cellSize - y0) / dy : Float.POSITIVE_INFINITY);
+        int maxCells = Math.abs(endX - cx) + Math.abs(endY - cy) + 1;
+        for (int n = 0; n < maxCells; n++) {
+            addCell(cx, cy);
+            if (cx == endX && cy == endY) break;
+            if (tMaxX < tMaxY) {
+                cx += stepX;
+                tMaxX += tDeltaX;
+            } else {
+                cy += stepY;
+                tMaxY += tDeltaY;
+            }
+        }
+        endGather();
+        for (int i = 0; i < candidates.size; i++) {
+            Solid s = solids.get(candidates.get(i));
+            if (!s.isBlocking()) continue;
+            Rectangle b = s.getCollisionBounds();
+            if (b != null && segmentOverlaps(x0, y0, x1, y1, b)) out.add(s);
+        }
+        return out;
+    }
+
+    private void gather(float minX, float minY, float maxX, float maxY) {
+        beginGather();
+        int x0 = cell(minX), y0 = cell(minY);
+        int x1 = cell(maxX), y1 = cell(maxY);
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                addCell(cx, cy);
+            }
+        }
+        endGather();
+    }
+
+    private void beginGather() {
+        candidates.clear();
+        if (stamps.length < solids.size) stamps = java.util.Arrays.copyOf(stamps, solids.size);
+        if (++stamp == 0) {
+            // Wrapped around: old stamps could collide with the new value
+            java.util.Arrays.fill(stamps, 0);
+            stamp = 1;
+        }
+    }
+
+    private void addCell(int cx, int cy) {
+        IntArray bucket = cells.get(key(cx, cy));
+        if (bucket == null) return;
+        for (int i = 0; i < bucket.size; i++) {
+            int idx = bucket.get(i);
+            if (idx >= stamps.length || stamps[idx] == stamp) continue;
+            stamps[idx] = stamp;
+            candidates.add(idx);
+        }
+    }
+
+    private void endGather() {
+        for (int i = 0; i < dynamic.size; i++) {
+            int idx = dynamic.get(i);
+            if (idx < solids.size) candidates.add(idx);
+        }
+        // Back to source-list order; the dynamic indices are never in a cell, so no duplicates
+        candidates.sort();
+        // The source list may have shrunk since the last rebuild
+        while (candidates.size > 0 && candidates.peek() >= solids.size) candidates.pop();
+    }
+
+    private int cell(float v) {
+        return (int) Math.floor(v / cellSize);
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+
+    // Slab test of a segment against a rectangle
+    private static boolean segmentOverlaps(float x0, float y0, float x1, float y1, Rectangle r) {
+        float tMin = 0f, tMax = 1f;
+        float dx = x1 - x0, dy = y1 - y0;
+        if (Math.abs(dx) < 1e-6f) {
+            if (x0 < r.x || x0 > r.x + r.width) return false;
+        } else {
+            float t1 = (r.x - x0) / dx, t2 = (r.x + r.width - x0) / dx;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+        if (Math.abs(dy) < 1e-6f) {
+            if (y0 < r.y || y0 > r.y + r.height) return false;
+        } else {
+            float t1 = (r.y - y0) / dy, t2 = (r.y + r.height - y0) / dy;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+        return tMin <= tMax;
+    }
+}
@@ -1,6 +1,7 @@
 package com.jjmc.chromashift.environment;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.chromashift.helper.RenderQueue;
 import com.chromashift.helper.SpriteAnimator;
 
 /**
@@ -8,7 +9,7 @@ import com.chromashift.helper.SpriteAnimator;
  * In-game, call playOnce() on respawn to show a one-shot 6-frame animation,
  * then hide again when finished.
  */
-public class Spawn {
+public class Spawn implements RenderQueue.Renderable {
 	private static final String SPRITE_PATH = "environment/spawn/spawn.png";
 	private static final String ANIM_NAME = "SPAWN";
 	private static final int TILE_W = 32;
@@ -1,17 +1,18 @@
 package com.jjmc.chromashift.environment;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.jjmc.chromashift.Assets;
 
 public class Wall implements Solid {
     public final Rectangle bounds;
-    // Tiling texture (32x32) for walls
-    private static Texture solidTexture;
+    // Tiling sprite (32x32) for walls, from the world atlas
+    private static TextureRegion solidSprite;
+    // Reused for partial edge tiles (GL thread only)
+    private static final TextureRegion partTile = new TextureRegion();
     private final TextureRegion solidRegion;
 
     public Wall(float x, float y, int cols, int rows) {
@@ -81,10 +82,10 @@ public class Wall implements Solid {
     }
 
     private TextureRegion[][] loadSolidTiles() {
-        if (solidTexture == null) {
-            solidTexture = new Texture(Gdx.files.internal("environment/solid.png"));
+        if (solidSprite == null) {
+            solidSprite = Assets.region("environment/solid.png");
         }
-        return TextureRegion.split(solidTexture, 32, 32);
+        return solidSprite.split(32, 32);
     }
 
     @Override
@@ -103,26 +104,58 @@ public class Wall implements Solid {
         final int TILE = 32;
         int tilesX = (int)Math.ceil(bounds.width / TILE);
         int tilesY = (int)Math.ceil(bounds.height / TILE);
-        int baseX = solidRegion.getRegionX();
-        int baseY = solidRegion.getRegionY();
 
         for (int ix = 0; ix < tilesX; ix++) {
-            float drawX = bounds.x + ix * TILE;
-            float remainingW = Math.min(TILE, bounds.x + bounds.width - drawX);
             for (int iy = 0; iy < tilesY; iy++) {
-                float drawY = bounds.y + iy * TILE;
-                float remainingH = Math.min(TILE, bounds.y + bounds.height - drawY);
-
-                if (remainingW >= TILE && remainingH >= TILE) {
-                    batch.draw(solidRegion, drawX, drawY, TILE, TILE);
-                } else {
-                    int drawW = Math.max(1, (int)remainingW);
-                    int drawH = Math.max(1, (int)remainingH);
-                    TextureRegion part = new TextureRegion(solidRegion.getTexture(), baseX, baseY, drawW, drawH);
-                    batch.draw(part, drawX, drawY, drawW, drawH);
+                TextureRegion tile = tile(ix, iy);
+                batch.draw(tile, bounds.x + ix * TILE, bounds.y + iy * TILE,
+                        tile.getRegionWidth(), tile.getRegionHeight());
+            }
+        }
+    }
+
+    /**
+     * Add the tiles whose bottom-left corner lies in [minX, maxX) x [minY, maxY) to
+     * {@code cache} (inside beginCache/endCache) and return how many there are; with a null
+     * cache they are only counted. Tiles are the same ones {@link #render} draws, so areas
+     * that split the plane give every tile to exactly one of them.
+     */
+    public int bakeTiles(com.badlogic.gdx.graphics.g2d.SpriteCache cache, float minX, float minY, float maxX, float maxY) {
+        final int TILE = 32;
+        int tilesX = (int)Math.ceil(bounds.width / TILE);
+        int tilesY = (int)Math.ceil(bounds.height / TILE);
+        int ix0 = Math.max(0, (int)Math.ceil((minX - bounds.x) / TILE));
+        int iy0 = Math.max(0, (int)Math.ceil((minY - bounds.y) / TILE));
+        int ix1 = Math.min(tilesX, (int)Math.ceil((maxX - bounds.x) / TILE));
+        int iy1 = Math.min(tilesY, (int)Math.ceil((maxY - bounds.y) / TILE));
+        if (ix1 <= ix0 || iy1 <= iy0) return 0;
+        if (cache != null) {
+            for (int ix = ix0; ix < ix1; ix++) {
+                for (int iy = iy0; iy < iy1; iy++) {
+                    TextureRegion tile = tile(ix, iy);
+                    cache.add(tile, bounds.x + ix * TILE, bounds.y + iy * TILE,
+                            tile.getRegionWidth(), tile.getRegionHeight());
                 }
             }
         }
+        return (ix1 - ix0) * (iy1 - iy0);
+    }
+
+    // Full tile, or the bottom-left part of one where the wall ends mid-tile
+    private TextureRegion tile(int ix, int iy) {
+        final int TILE = 32;
+        float remainingW = Math.min(TILE, bounds.width - ix * TILE);
+        float remainingH = Math.min(TILE, bounds.height - iy * TILE);
+        if (remainingW >= TILE && remainingH >= TILE) return solidRegion;
+        int drawW = Math.max(1, (int)remainingW);
+        int drawH = Math.max(1, (int)remainingH);
+        partTile.setRegion(solidRegion.getTexture(), solidRegion.getRegionX(), solidRegion.getRegionY(), drawW, drawH);
+        return partTile;
+    }
+
+    @Override
+    public com.badlogic.gdx.graphics.Texture getRenderTexture() {
+        return solidRegion.getTexture();
     }
 
     @Override
@@ -137,10 +170,8 @@ public class Wall implements Solid {
     }
 
     public static void dispose() {
-        if (solidTexture != null) {
-            solidTexture.dispose();
-            solidTexture = null;
-        }
+        // The sprite belongs to Assets; just drop the reference
+        solidSprite = null;
     }
 
     public float getX() {
@@ -0,0 +1,202 @@
+package com.jjmc.chromashift.environment;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.chromashift.helper.PerformanceProfiler;
+
+/**
+ * Wall tiles baked into SpriteCaches, one per square chunk of the level. Walls never change
+ * during play, so their tiles are uploaded once and each frame draws only the chunks the
+ * camera sees, one cached draw each, however many walls there are:
+ *
+ * <pre>
+ * wallCache.setWalls(loaded.walls);   // new level: everything is rebaked on the next draw
+ * wallCache.invalidate(wall.bounds);  // editor: rebake only the chunks under an edit
+ * wallCache.draw(camera);             // batch and shape renderer must not be drawing
+ * </pre>
+ *
+ * A tile belongs to the chunk holding its bottom-left corner (see Wall.bakeTiles), so a
+ * chunk's tiles can reach one tile past its top and right edges. Baking happens lazily in
+ * {@link #draw}, on the GL thread.
+ */
+public class WallCache {
+    public static final float CHUNK_SIZE = 1024f;
+    private static final float TILE = 32f;
+    // 16-bit indices address at most this many sprites
+    private static final int MAX_INDEXED_SPRITES = 8191;
+
+    private static final int COUNTER_CHUNKS = PerformanceProfiler.registerCounter("wall_chunks");
+    private static final int COUNTER_TILES = PerformanceProfiler.registerCounter("wall_tiles");
+    private static final int COUNTER_REBAKES = PerformanceProfiler.registerCounter("wall_rebakes");
+
+    private static final class Chunk {
+        final int cx, cy;
+        SpriteCache cache;
+        int capacity;
+        int cacheId = -1;
+        int sprites;
+        boolean dirty = true;
+
+        Chunk(int cx, int cy) {
+            this.cx = cx;
+            this.cy = cy;
+        }
+    }
+
+    private final LongMap<Chunk> chunks = new LongMap<>();
+    private final Array<Chunk> dirty = new Array<>(false, 16);
+    private Array<Wall> walls;
+    private boolean rebuildAll = false;
+
+    /** Bake {@code walls} from scratch on the next draw (a new or reloaded level). */
+    public void setWalls(Array<Wall> walls) {
+        this.walls = walls;
+        rebuildAll = true;
+    }
+
+    /**
+     * Switch to a rebuilt list with the same geometry (the editor rebuilds its preview
+     * objects after every edit). Baked chunks are kept; only invalidated ones are rebaked.
+     */
+    public void rebind(Array<Wall> walls) {
+        this.walls = walls;
+    }
+
+    /** Rebake the chunks holding tiles inside {@code area}, e.g. a wall that was placed or removed. */
+    public void invalidate(Rectangle area) {
+        if (area == null) return;
+        // Tiles are filed by their corner, so a tile covering area's left/bottom edge starts a tile earlier
+        int x0 = chunk(area.x - TILE), y0 = chunk(area.y - TILE);
+        int x1 = chunk(area.x + area.width), y1 = chunk(area.y + area.height);
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                markDirty(cx, cy);
+            }
+        }
+    }
+
+    /** Draw the chunks overlapping the camera's view, baking any that are out of date first. */
+    public void draw(OrthographicCamera camera) {
+        if (walls == null) return;
+        bake();
+        if (chunks.size == 0) return;
+
+        float halfW = camera.viewportWidth * camera.zoom / 2f;
+        float halfH = camera.viewportHeight * camera.zoom / 2f;
+        int x0 = chunk(camera.position.x - halfW - TILE), y0 = chunk(camera.position.y - halfH - TILE);
+        int x1 = chunk(camera.position.x + halfW), y1 = chunk(camera.position.y + halfH);
+
+        int drawnChunks = 0, drawnTiles = 0;
+        // SpriteCache leaves blending to the caller
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                Chunk c = chunks.get(key(cx, cy));
+                if (c == null || c.cacheId < 0) continue;
+                c.cache.setProjectionMatrix(camera.combined);
+                c.cache.begin();
+                c.cache.draw(c.cacheId);
+                c.cache.end();
+                drawnChunks++;
+                drawnTiles += c.sprites;
+            }
+        }
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+        if (PerformanceProfiler.isEnabled()) {
+            PerformanceProfiler.setCounter(COUNTER_CHUNKS, drawnChunks);
+            PerformanceProfiler.setCounter(COUNTER_TILES, drawnTiles);
+        }
+    }
+
+    public int getChunkCount() { return chunks.size; }
+
+    public void dispose() {
+        for (Chunk c : chunks.values()) {
+            if (c.cache != null) c.cache.dispose();
+        }
+        chunks.clear();
+        dirty.clear();
+        walls = null;
+    }
+
+    private void bake() {
+        if (rebuildAll) {
+            rebuildAll = false;
+            for (Chunk c : chunks.values()) markDirty(c.cx, c.cy);
+            for (Wall w : walls) {
+                Rectangle b = w.getBounds();
+                int x0 = chunk(b.x), y0 = chunk(b.y);
+                int x1 = chunk(b.x + b.width), y1 = chunk(b.y + b.height);
+                for (int cy = y0; cy <= y1; cy++) {
+                    for (int cx = x0; cx <= x1; cx++) {
+                        markDirty(cx, cy);
+                    }
+                }
+            }
+        }
+        if (dirty.size == 0) return;
+        int rebakes = dirty.size;
+        for (Chunk c : dirty) bakeChunk(c);
+        dirty.clear();
+        if (PerformanceProfiler.isEnabled()) PerformanceProfiler.setCounter(COUNTER_REBAKES, rebakes);
+    }
+
+    private void bakeChunk(Chunk c) {
+        c.dirty = false;
+        float minX = c.cx * CHUNK_SIZE, minY = c.cy * CHUNK_SIZE;
+        float maxX = minX + CHUNK_SIZE, maxY = minY + CHUNK_SIZE;
+
+        // Count first so the cache can be sized (SpriteCache capacity is fixed)
+        int count = 0;
+        for (Wall w : walls) count += w.bakeTiles(null, minX, minY, maxX, maxY);
+        if (count == 0) {
+            if (c.cache != null) c.cache.dispose();
+            chunks.remove(key(c.cx, c.cy));
+            return;
+        }
+        if (c.cache == null || count > c.capacity) {
+            if (c.cache != null) c.cache.dispose();
+            // Headroom so small editor additions don't reallocate
+            c.capacity = Math.max(64, com.badlogic.gdx.math.MathUtils.nextPowerOfTwo(count));
+            c.cache = new SpriteCache(c.capacity, c.capacity <= MAX_INDEXED_SPRITES);
+        }
+        try {
+            c.cache.clear();
+            c.cache.beginCache();
+            for (Wall w : walls) w.bakeTiles(c.cache, minX, minY, maxX, maxY);
+            c.cacheId = c.cache.endCache();
+            c.sprites = count;
+        } catch (Exception e) {
+            Gdx.app.error("WallCache", "Failed to bake chunk " + c.cx + "," + c.cy, e);
+            c.cacheId = -1;
+            c.sprites = 0;
+        }
+    }
+
+    private void markDirty(int cx, int cy) {
+        long k = key(cx, cy);
+        Chunk c = chunks.get(k);
+        if (c == null) {
+            c = new Chunk(cx, cy);
+            chunks.put(k, c);
+        } else if (c.dirty) {
+            return; // already queued
+        }
+        c.dirty = true;
+        dirty.add(c);
+    }
+
+    private static int chunk(float v) {
+        return (int) Math.floor(v / CHUNK_SIZE);
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+}
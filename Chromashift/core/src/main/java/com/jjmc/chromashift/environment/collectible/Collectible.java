@@ -1,25 +1,30 @@
 package com.jjmc.chromashift.environment.collectible;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.chromashift.helper.RenderQueue;
+import com.jjmc.chromashift.ecs.component.BoundsComponent;
+import com.jjmc.chromashift.ecs.component.CollectibleComponent;
 import com.jjmc.chromashift.player.Player;
 
 /**
  * Abstract base class for all collectible objects.
  * Collectibles are items that the player can pick up by overlapping with them.
+ * Bounds live in the item's ECS entity; in a level, CollectibleSystem checks pickups
+ * and AnimationSystem animates items that add an AnimationComponent.
  */
-public abstract class Collectible {
-    protected float x, y;
-    protected float width, height;
+public abstract class Collectible implements RenderQueue.Renderable {
+    protected final Entity entity = new Entity();
+    protected final Rectangle bounds; // the entity's BoundsComponent
     protected boolean collected = false;
     protected String id; // Unique stable ID for save/load persistence
 
     public Collectible(float x, float y, float width, float height) {
-        this.x = x;
-        this.y = y;
-        this.width = width;
-        this.height = height;
+        BoundsComponent boundsComponent = new BoundsComponent(x, y, width, height);
+        this.bounds = boundsComponent.rect;
+        entity.add(boundsComponent).add(new CollectibleComponent(this));
         // Generate deterministic ID based on type and position
         this.id = generateDefaultId();
     }
@@ -29,7 +34,7 @@ public abstract class Collectible {
      * Can be overridden by subclasses or set explicitly.
      */
     protected String generateDefaultId() {
-        return getClass().getSimpleName() + "_" + ((int)x) + "_" + ((int)y);
+        return getClass().getSimpleName() + "_" + ((int) bounds.x) + "_" + ((int) bounds.y);
     }
 
     /**
@@ -47,7 +52,7 @@ public abstract class Collectible {
      */
     public void debugDraw(ShapeRenderer shape) {
         if (!collected) {
-            shape.rect(x, y, width, height);
+            shape.rect(bounds.x, bounds.y, bounds.width, bounds.height);
         }
     }
 
@@ -63,22 +68,27 @@ public abstract class Collectible {
     public void checkCollision(Player player) {
         if (collected) return;
         
-        Rectangle collectibleBounds = getBounds();
-        Rectangle playerBounds = new Rectangle(
-            player.getHitboxX(), 
-            player.getHitboxY(), 
-            player.getHitboxWidth(), 
-            player.getHitboxHeight()
-        );
-
-        if (collectibleBounds.overlaps(playerBounds)) {
+        if (overlaps(player)) {
             onCollect(player);
             collected = true;
         }
     }
 
+    /** True if the player's hitbox overlaps this item. */
+    public boolean overlaps(Player player) {
+        return bounds.x < player.getHitboxX() + player.getHitboxWidth()
+                && bounds.x + bounds.width > player.getHitboxX()
+                && bounds.y < player.getHitboxY() + player.getHitboxHeight()
+                && bounds.y + bounds.height > player.getHitboxY();
+    }
+
+    /** Live bounds; do not modify. */
     public Rectangle getBounds() {
-        return new Rectangle(x, y, width, height);
+        return bounds;
+    }
+
+    public Entity getEntity() {
+        return entity;
     }
 
     public boolean isCollected() {
@@ -86,19 +96,19 @@ public abstract class Collectible {
     }
 
     public float getX() {
-        return x;
+        return bounds.x;
     }
 
     public float getY() {
-        return y;
+        return bounds.y;
     }
 
     public float getWidth() {
-        return width;
+        return bounds.width;
     }
 
     public float getHeight() {
-        return height;
+        return bounds.height;
     }
     
     /**
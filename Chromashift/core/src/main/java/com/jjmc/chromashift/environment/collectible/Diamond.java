@@ -4,6 +4,9 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.chromashift.helper.SpriteAnimator;
 import com.chromashift.helper.VisibilityCuller;
+import com.jjmc.chromashift.ecs.Mappers;
+import com.jjmc.chromashift.ecs.component.AnimationComponent;
+import com.jjmc.chromashift.ecs.system.AnimationSystem;
 import com.jjmc.chromashift.player.Player;
 import com.chromashift.helper.SoundManager;
 
@@ -25,6 +28,7 @@ public class Diamond extends Collectible {
             animator = new SpriteAnimator("environment/diamond.png", 1, FRAME_COUNT);
             animator.addAnimation("spin", 0, 0, FRAME_COUNT, FRAME_DURATION, true);
             animator.play("spin", false);
+            entity.add(new AnimationComponent(animator));
         } catch (Exception e) {
             Gdx.app.error("Diamond", "Failed to load diamond sprite: " + e.getMessage(), e);
         }
@@ -32,17 +36,16 @@ public class Diamond extends Collectible {
 
     @Override
     public void update(float delta) {
+        // In a level AnimationSystem does this for every collectible
         if (collected || animator == null) return;
-        // Skip culling when disabled (editor)
-        if (VisibilityCuller.isEnabled() && !VisibilityCuller.isVisible(getBounds(), 64f)) return;
-        animator.update(delta);
+        AnimationSystem.animate(Mappers.animation.get(entity), bounds, delta);
     }
 
     @Override
     public void render(SpriteBatch batch) {
         if (collected || animator == null) return;
         if (VisibilityCuller.isEnabled() && !VisibilityCuller.isVisible(getBounds(), 64f)) return;
-        animator.render(batch, x, y, width, height);
+        animator.render(batch, bounds.x, bounds.y, bounds.width, bounds.height);
     }
 
     @Override
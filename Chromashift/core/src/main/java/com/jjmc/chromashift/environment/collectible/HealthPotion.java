@@ -1,9 +1,9 @@
 package com.jjmc.chromashift.environment.collectible;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.jjmc.chromashift.Assets;
 import com.jjmc.chromashift.player.Player;
 import com.chromashift.helper.SoundManager;
 import com.chromashift.helper.VisibilityCuller;
@@ -14,7 +14,6 @@ import com.chromashift.helper.VisibilityCuller;
  */
 public class HealthPotion extends Collectible {
     private static final float POTION_SIZE = 32f;
-    private Texture potionTexture;
     private TextureRegion potionRegion;
 
     public HealthPotion(float x, float y) {
@@ -23,11 +22,9 @@ public class HealthPotion extends Collectible {
     }
 
     private void loadTexture() {
-        try {
-            potionTexture = new Texture(Gdx.files.internal("player/ui/HealthPotion.png"));
-            potionRegion = new TextureRegion(potionTexture, 0, 0, (int) POTION_SIZE, (int) POTION_SIZE);
-        } catch (Exception e) {
-            Gdx.app.error("HealthPotion", "Failed to load potion sprite: " + e.getMessage());
+        TextureRegion sprite = Assets.region("player/ui/HealthPotion.png");
+        if (sprite != null) {
+            potionRegion = new TextureRegion(sprite, 0, 0, (int) POTION_SIZE, (int) POTION_SIZE);
         }
     }
 
@@ -43,7 +40,7 @@ public class HealthPotion extends Collectible {
     public void render(SpriteBatch batch) {
         if (collected || potionRegion == null) return;
         if (VisibilityCuller.isEnabled() && !VisibilityCuller.isVisible(getBounds(), 64f)) return;
-        batch.draw(potionRegion, x, y, width, height);
+        batch.draw(potionRegion, bounds.x, bounds.y, bounds.width, bounds.height);
     }
 
     @Override
@@ -62,8 +59,6 @@ public class HealthPotion extends Collectible {
 
     @Override
     public void dispose() {
-        if (potionTexture != null) {
-            potionTexture.dispose();
-        }
+        // The sprite belongs to Assets
     }
 }
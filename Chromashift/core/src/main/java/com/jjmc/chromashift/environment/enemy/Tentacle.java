@@ -4,12 +4,15 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.chromashift.helper.PerformanceProfiler;
+import com.chromashift.helper.RenderQueue;
 import com.chromashift.helper.VisibilityCuller;
 
 /**
  * Flexible spring-driven tentacle; tip follows mouse.
  */
-public class Tentacle implements Enemy {
+public class Tentacle implements Enemy, RenderQueue.ShapeDrawable {
+    private static final int PROBE_UPDATE = PerformanceProfiler.register("tentacle_update");
+
     // Hit-based system
     private int maxHits = 6;                    // hits to kill
     private int hitPointsRemaining = 6;         // remaining
@@ -22,10 +25,10 @@ public class Tentacle implements Enemy {
     private final int segments;
     private final float segmentLength = 12f;
 
-    // State arrays (allocated once)
+    // State arrays (allocated once), one float per segment per component
     private final Vector2 anchor; // root
-    private final Vector2[] pos; // segment positions
-    private final Vector2[] vel; // velocities
+    private final float[] px, py; // segment positions
+    private final float[] vx, vy; // velocities
     private final float[] thickness; // visual: thick → thin
     private final float[] suctionScale; // suction cup size
 
@@ -57,14 +60,24 @@ public class Tentacle implements Enemy {
     private float stiffnessModFrequency = 0.5f; // stiffness mod Hz
     private float neighborVelocityBlend = 0.08f; // neighbor blend
     private final Vector2 prevMouse = new Vector2();
-    private boolean sleeping = false; // sleep when far offscreen
-
-    // Reusable temp vectors to avoid allocations in update()
-    private final Vector2 tempDiff = new Vector2();
-    private final Vector2 tempDir = new Vector2();
-    private final Vector2 tempForce = new Vector2();
+    private boolean sleeping = false; // sleep when far from the player
     private final Vector2 tempTarget = new Vector2();
 
+    // Level of detail from the distance between the player and the tentacle's bounds:
+    // full rate nearby, reduced step rate further out, no physics beyond that. Sim state
+    // only, so live play, headless runs and replays step tentacles the same way.
+    private static final int LOD_FULL = 0;
+    private static final int LOD_REDUCED = 1;
+    private static final int LOD_SLEEP = 2;
+    private static final int REDUCED_STEP_INTERVAL = 2; // ticks per solver step at reduced LOD
+    private static final float LOD_NEAR_DISTANCE = 640f; // full rate within this
+    private static final float LOD_SLEEP_DISTANCE = 1600f; // no physics beyond this
+    private static final float MAX_STEP = 1f / 15f; // cap for accumulated reduced-rate steps
+    private int lodPhase = 0; // stagger tentacles, see setLodIndex
+    private int lod = LOD_FULL;
+    private int lodTick = 0;
+    private float pendingDelta = 0f;
+
     /**
      * Tentacle at (x, y) with default segments (30).
      */
@@ -97,16 +110,18 @@ public class Tentacle implements Enemy {
         this.segments = Math.max(10, Math.min(50, segmentCount)); // Clamp between 10-50
         anchor = new Vector2(x, y);
 
-        pos = new Vector2[segments];
-        vel = new Vector2[segments];
+        px = new float[segments];
+        py = new float[segments];
+        vx = new float[segments];
+        vy = new float[segments];
         thickness = new float[segments];
         suctionScale = new float[segments];
 
         // Initialize all segments hanging downward
         segmentHitboxes = new com.badlogic.gdx.math.Circle[segments];
         for (int i = 0; i < segments; i++) {
-            pos[i] = new Vector2(anchor.x, anchor.y - i * segmentLength);
-            vel[i] = new Vector2();
+            px[i] = anchor.x;
+            py[i] = anchor.y - i * segmentLength;
 
             // Thickness: thick at base (i=0) → thin at tip (i=segments-1)
             float t = 1f - (i / (float) segments);
@@ -115,8 +130,9 @@ public class Tentacle implements Enemy {
             suctionScale[i] = 1f; // default scale
             
             // Create hitbox for each segment
-            segmentHitboxes[i] = new com.badlogic.gdx.math.Circle(pos[i].x, pos[i].y, thickness[i] / 2f);
+            segmentHitboxes[i] = new com.badlogic.gdx.math.Circle(px[i], py[i], thickness[i] / 2f);
         }
+        computeBounds();
     }
 
     /**
@@ -139,240 +155,268 @@ public class Tentacle implements Enemy {
 
     /**
      * Update physics: spring forces, tip attraction, velocity integration,
-     * constraint pass.
+     * constraint pass. Tentacles far from the target (the player) sleep; ones at middle
+     * distance step every {@link #REDUCED_STEP_INTERVAL} ticks with the accumulated delta.
      */
     public void update(float delta, float targetX, float targetY) {
         if (dead || staticMode) return;
-        PerformanceProfiler.start("tentacle_update");
-        // visibility based sleep
-        boolean visible = VisibilityCuller.isVisible(getBounds(), 96f);
-        if (!visible) sleeping = true; else sleeping = false;
-        if (sleeping) { time += delta; PerformanceProfiler.stop("tentacle_update"); return; }
+        PerformanceProfiler.begin(PROBE_UPDATE);
         time += delta;
+        // A held player always gets the full-rate solver
+        lod = isPlayerCaptured ? LOD_FULL : computeLod(targetX, targetY);
+        sleeping = lod == LOD_SLEEP;
+        if (sleeping) {
+            pendingDelta = 0f;
+            PerformanceProfiler.end(PROBE_UPDATE);
+            return;
+        }
+        pendingDelta += delta;
+        if (lod == LOD_REDUCED && (++lodTick + lodPhase) % REDUCED_STEP_INTERVAL != 0) {
+            PerformanceProfiler.end(PROBE_UPDATE);
+            return;
+        }
+        float dt = Math.min(pendingDelta, MAX_STEP);
+        pendingDelta = 0f;
+        simulate(dt, targetX, targetY);
+        PerformanceProfiler.end(PROBE_UPDATE);
+    }
+
+    private int computeLod(float targetX, float targetY) {
+        float dx = Math.max(0f, Math.max(bounds.x - targetX, targetX - (bounds.x + bounds.width)));
+        float dy = Math.max(0f, Math.max(bounds.y - targetY, targetY - (bounds.y + bounds.height)));
+        float d2 = dx * dx + dy * dy;
+        if (d2 > LOD_SLEEP_DISTANCE * LOD_SLEEP_DISTANCE) return LOD_SLEEP;
+        return d2 > LOD_NEAR_DISTANCE * LOD_NEAR_DISTANCE ? LOD_REDUCED : LOD_FULL;
+    }
+
+    /**
+     * Position of this tentacle in its level (LevelLoader.build sets it), so reduced-rate
+     * tentacles take turns stepping the same way on every run of the level.
+     */
+    public void setLodIndex(int index) {
+        lodPhase = index % REDUCED_STEP_INTERVAL;
+    }
+
+    // One solver step. Passes that only read already-final neighbours are fused.
+    private void simulate(float delta, float targetX, float targetY) {
+        final float[] px = this.px, py = this.py, vx = this.vx, vy = this.vy;
+        final int n = segments;
+        final int tipIdx = n - 1;
 
         // Set target to provided coordinates (Player position)
         tempTarget.set(targetX, targetY);
+        final float tx = targetX, ty = targetY;
 
         // ===== Pin root segment =====
-        pos[0].set(anchor);
-        vel[0].setZero();
-
-        // ===== Apply spring forces between consecutive segments + idle lateral wave
-        // =====
-        for (int i = 1; i < segments; i++) {
-            Vector2 pPrev = pos[i - 1];
-            Vector2 p = pos[i];
-
+        px[0] = anchor.x;
+        py[0] = anchor.y;
+        vx[0] = 0f;
+        vy[0] = 0f;
+
+        // Tip distance to target, from positions before integration
+        float toTx = tx - px[tipIdx], toTy = ty - py[tipIdx];
+        float distToTarget = (float) Math.sqrt(toTx * toTx + toTy * toTy);
+
+        // ===== Springs + idle lateral wave + twitch, fused with integration =====
+        // Segment i's spring reads segment i-1's position before it moves, so i-1 is
+        // integrated right after i's forces are applied.
+        final float wavePhaseBase = time * idleWaveFrequency * (float) Math.PI * 2f;
+        final float stiffPhaseBase = time * stiffnessModFrequency;
+        final float twitchPhaseBase = time * lifeTwitchFrequency;
+        for (int i = 1; i < n; i++) {
             // Difference vector: from previous to current
-            tempDiff.set(p).sub(pPrev);
-            float dist = tempDiff.len();
-            if (dist < 1e-6f)
-                continue; // avoid division by zero
-
-            // Normalized direction
-            tempDir.set(tempDiff).scl(1f / dist);
-
-            // Stretch = how much the spring is extended beyond rest length
-            float stretch = dist - segmentLength;
-
-            // Relative velocity along spring direction (for damping term)
-            float relVelAlong = vel[i].dot(tempDir) - vel[i - 1].dot(tempDir);
-
-            // Local stiffness modulation (gives breathing / alive feeling)
-                float localStiff = springStiffness * (1f + stiffnessModAmplitude * fastSin(time * stiffnessModFrequency + i * 0.1f));
-
-            // Hooke's law + damping: F = -k*x - c*v_rel
-            float forceMag = -localStiff * stretch - springDamping * relVelAlong;
-
-            // Apply force to current segment (assuming unit mass)
-            tempForce.set(tempDir).scl(forceMag * delta);
-            vel[i].add(tempForce);
-
-            // ---- Idle lateral wave force (perpendicular to spring direction) ----
-            // Compute perpendicular (rotate +90 deg): (x,y)->(-y,x)
-            float perpX = -tempDir.y;
-            float perpY = tempDir.x;
-            float wavePhase = time * idleWaveFrequency * (float) Math.PI * 2f + i * idleWavePropagation;
-            // Amplitude taper: root -> tip using linear interpolation to waveTipFactor
-            float normalized = i / (float) (segments - 1); // 0 at root, ~1 at tip
-            float amp = waveBaseAmplitude * ((1f - normalized) + waveTipFactor * normalized);
-            float waveForceMag = amp * fastSin(wavePhase);
-            vel[i].x += perpX * waveForceMag * delta;
-            vel[i].y += perpY * waveForceMag * delta;
-
-            // ---- Small life twitch (along perpendicular + slight along-axis), smaller
-            // toward tip ----
-            float twitchPhase = time * lifeTwitchFrequency + i * 0.27f;
-            float twitch = lifeTwitchAmplitude * (1f - normalized) * fastSin(twitchPhase);
-            // Add along-perp twitch
-            vel[i].x += perpX * twitch * delta;
-            vel[i].y += perpY * twitch * delta;
-            // Add tiny along-axis twitch
-            vel[i].x += tempDir.x * (twitch * 0.12f) * delta;
-            vel[i].y += tempDir.y * (twitch * 0.12f) * delta;
-        }
-
-        // Defer mouse attraction to after constraints so wave motion has priority.
-        Vector2 tip = pos[segments - 1];
-        tempDiff.set(tempTarget).sub(tip);
-        float distToTarget = tempDiff.len();
-
-        // ===== Integrate positions & apply global damping =====
-        for (int i = 1; i < segments; i++) {
-            // Clamp velocity to prevent instability
-            float vLen = vel[i].len();
-            if (vLen > maxVelocity) {
-                vel[i].scl(maxVelocity / vLen);
+            float dx = px[i] - px[i - 1];
+            float dy = py[i] - py[i - 1];
+            float dist = (float) Math.sqrt(dx * dx + dy * dy);
+            if (dist >= 1e-6f) { // avoid division by zero
+                float inv = 1f / dist;
+                float dirX = dx * inv, dirY = dy * inv;
+
+                // Stretch = how much the spring is extended beyond rest length
+                float stretch = dist - segmentLength;
+                // Relative velocity along spring direction (for damping term)
+                float relVelAlong = (vx[i] * dirX + vy[i] * dirY) - (vx[i - 1] * dirX + vy[i - 1] * dirY);
+                // Local stiffness modulation (gives breathing / alive feeling)
+                float localStiff = springStiffness * (1f + stiffnessModAmplitude * fastSin(stiffPhaseBase + i * 0.1f));
+                // Hooke's law + damping: F = -k*x - c*v_rel (unit mass)
+                float forceMag = -localStiff * stretch - springDamping * relVelAlong;
+                float f = forceMag * delta;
+
+                // Idle lateral wave force (perpendicular to spring direction), amplitude
+                // tapering root -> tip toward waveTipFactor
+                float perpX = -dirY, perpY = dirX;
+                float normalized = i / (float) (n - 1); // 0 at root, ~1 at tip
+                float amp = waveBaseAmplitude * ((1f - normalized) + waveTipFactor * normalized);
+                float wave = amp * fastSin(wavePhaseBase + i * idleWavePropagation) * delta;
+
+                // Small life twitch (mostly perpendicular), smaller toward tip
+                float twitch = lifeTwitchAmplitude * (1f - normalized) * fastSin(twitchPhaseBase + i * 0.27f) * delta;
+                float along = twitch * 0.12f;
+
+                vx[i] += dirX * f + perpX * wave + perpX * twitch + dirX * along;
+                vy[i] += dirY * f + perpY * wave + perpY * twitch + dirY * along;
             }
-
-            // Euler integration: position += velocity * dt
-            pos[i].x += vel[i].x * delta;
-            pos[i].y += vel[i].y * delta;
-
-            // Apply global damping (energy bleed)
-            vel[i].scl(globalDamping);
+            if (i > 1) integrate(i - 1, delta);
         }
+        integrate(tipIdx, delta);
 
-        // ===== Mouse quick-move impulse (gives reactive life when player moves fast)
-        // =====
-        // reuse tempDiff: mouse delta = currentMouse - prevMouse
-        tempDiff.set(tempTarget).sub(prevMouse);
-        float mouseDeltaLen = tempDiff.len();
+        // ===== Mouse quick-move impulse (gives reactive life when player moves fast) =====
+        float mdx = tx - prevMouse.x, mdy = ty - prevMouse.y;
+        float mouseDeltaLen = (float) Math.sqrt(mdx * mdx + mdy * mdy);
         if (mouseDeltaLen > 12f) {
-            // small impulse proportional to mouse movement, mostly perpendicular to tip
-            // direction
-            tempDir.set(tempDiff);
-            if (tempDir.len() > 1e-6f)
-                tempDir.nor();
-            float px = -tempDir.y, py = tempDir.x;
-            vel[segments - 1].x += px * (mouseDeltaLen * 0.06f);
-            vel[segments - 1].y += py * (mouseDeltaLen * 0.06f);
+            // small impulse proportional to mouse movement, mostly perpendicular, plus a
             // small forward kick
-            vel[segments - 1].x += tempDir.x * (mouseDeltaLen * 0.02f);
-            vel[segments - 1].y += tempDir.y * (mouseDeltaLen * 0.02f);
+            float ix = mdx / mouseDeltaLen, iy = mdy / mouseDeltaLen;
+            vx[tipIdx] += -iy * (mouseDeltaLen * 0.06f) + ix * (mouseDeltaLen * 0.02f);
+            vy[tipIdx] += ix * (mouseDeltaLen * 0.06f) + iy * (mouseDeltaLen * 0.02f);
         }
 
         // ===== Tip positional lerp (direct positional attraction) =====
         // This ensures visible pursuit even if velocity force small.
         if (distToTarget > 1e-3f) {
-            // Lerp the tip directly toward target (not modifying velocity yet)
-            tip.lerp(tempTarget, tipFollowLerp);
+            px[tipIdx] += (tx - px[tipIdx]) * tipFollowLerp;
+            py[tipIdx] += (ty - py[tipIdx]) * tipFollowLerp;
         }
 
         // ===== FABRIK-style constraint passes =====
-        // Backward pass: keep distances starting from tip going to root
-        for (int i = segments - 2; i >= 0; i--) {
-            if (i == 0)
-                break; // leave root for forward anchoring
-            tempDiff.set(pos[i]).sub(pos[i + 1]);
-            float d = tempDiff.len();
+        // Backward pass: keep distances from the tip toward the root (root left for the
+        // forward pass)
+        for (int i = n - 2; i >= 1; i--) {
+            float dx = px[i] - px[i + 1];
+            float dy = py[i] - py[i + 1];
+            float d = (float) Math.sqrt(dx * dx + dy * dy);
             if (d > 1e-6f) {
-                pos[i].set(pos[i + 1]).add(tempDiff.scl(segmentLength / d));
+                float k = segmentLength / d;
+                px[i] = px[i + 1] + dx * k;
+                py[i] = py[i + 1] + dy * k;
             }
         }
-        // Anchor root explicitly
-        pos[0].set(anchor);
-        // Forward pass: rebuild chain outward from root to tip maintaining lengths
-        for (int i = 1; i < segments; i++) {
-            tempDiff.set(pos[i]).sub(pos[i - 1]);
-            float d = tempDiff.len();
+        // Anchor root explicitly, then rebuild outward keeping lengths
+        px[0] = anchor.x;
+        py[0] = anchor.y;
+        float tipDirX = 0f, tipDirY = 0f;
+        for (int i = 1; i < n; i++) {
+            float dx = px[i] - px[i - 1];
+            float dy = py[i] - py[i - 1];
+            float d = (float) Math.sqrt(dx * dx + dy * dy);
             if (d > 1e-6f) {
-                pos[i].set(pos[i - 1]).add(tempDiff.scl(segmentLength / d));
+                float k = segmentLength / d;
+                px[i] = px[i - 1] + dx * k;
+                py[i] = py[i - 1] + dy * k;
+            }
+            if (i == tipIdx && d > 0f) {
+                tipDirX = dx / d;
+                tipDirY = dy / d;
             }
         }
 
-        // ===== Mouse attraction AFTER wave + constraint =====
+        // ===== Target attraction AFTER wave + constraint =====
+        // The velocity nudge follows the tip segment's direction, as tuned.
         if (distToTarget > 1e-3f) {
             // Influence scales up beyond threshold distance
             float influenceScale = mouseInfluence;
             if (distToTarget < mouseDistanceThreshold) {
                 influenceScale *= (distToTarget / mouseDistanceThreshold);
             }
-            tempDir.set(tempDiff).nor();
-            // Velocity nudge (subtle compared to wave)
-            tempForce.set(tempDir).scl(targetAttract * influenceScale * delta);
-            vel[segments - 1].add(tempForce);
+            float nudge = targetAttract * influenceScale * delta;
+            vx[tipIdx] += tipDirX * nudge;
+            vy[tipIdx] += tipDirY * nudge;
             // Positional blend for immediate visual response
-            tip.lerp(tempTarget, tipFollowLerp * influenceScale);
-        }
-        // ===== Recompute velocities from positional changes (optional for coherence)
-        // =====
-        // We approximate new velocities after positional constraints to avoid jitter.
-        // (Could store previous positions; here we damp to avoid large snaps.)
-        for (int i = 1; i < segments; i++) {
-            vel[i].scl(globalDamping); // additional light damping post solve
+            float a = tipFollowLerp * influenceScale;
+            px[tipIdx] += (tx - px[tipIdx]) * a;
+            py[tipIdx] += (ty - py[tipIdx]) * a;
         }
 
-        // ===== Neighbor velocity blending for smooth, organic motion =====
-        for (int i = 1; i < segments - 1; i++) {
-            float avgX = (vel[i - 1].x + vel[i + 1].x) * 0.5f;
-            float avgY = (vel[i - 1].y + vel[i + 1].y) * 0.5f;
-            vel[i].x += (avgX - vel[i].x) * neighborVelocityBlend;
-            vel[i].y += (avgY - vel[i].y) * neighborVelocityBlend;
-        }
-
-        // ===== Update suction cup animation (traveling sine wave) =====
-        for (int i = 1; i < segments; i++) {
+        // ===== Post-solve damping, neighbour velocity blending, suction wave, hitboxes
+        // and bounds in one pass. Blending i reads i-1 (already blended) and i+1 (damped
+        // just before). =====
+        final float g = globalDamping;
+        vx[1] *= g;
+        vy[1] *= g;
+        float minX = px[0], maxX = px[0], minY = py[0], maxY = py[0];
+        segmentHitboxes[0].set(px[0], py[0], thickness[0] / 2f);
+        for (int i = 1; i < n; i++) {
+            if (i < tipIdx) {
+                vx[i + 1] *= g;
+                vy[i + 1] *= g;
+                float avgX = (vx[i - 1] + vx[i + 1]) * 0.5f;
+                float avgY = (vy[i - 1] + vy[i + 1]) * 0.5f;
+                vx[i] += (avgX - vx[i]) * neighborVelocityBlend;
+                vy[i] += (avgY - vy[i]) * neighborVelocityBlend;
+            }
+            // Suction cup animation (traveling sine wave)
             suctionScale[i] = 0.8f + 0.2f * fastSin(time * suctionWaveSpeed + i * suctionWaveOffset);
+            float x = px[i], y = py[i];
+            segmentHitboxes[i].set(x, y, thickness[i] / 2f);
+            if (x < minX) minX = x;
+            if (x > maxX) maxX = x;
+            if (y < minY) minY = y;
+            if (y > maxY) maxY = y;
         }
-        // store mouse for next-frame delta
+        setBounds(minX, minY, maxX, maxY);
+
+        // store mouse for next-step delta
         prevMouse.set(tempTarget);
-        
-        // ===== Update segment hitboxes =====
-        for (int i = 0; i < segments; i++) {
-            segmentHitboxes[i].setPosition(pos[i].x, pos[i].y);
-            segmentHitboxes[i].setRadius(thickness[i] / 2f);
-        }
-        
+
         // ===== Update curl detection =====
         updateCurlDetection();
-        
+
         // ===== Handle curl state changes (reset capture flag when uncurling) =====
         boolean nowCurled = isCurled();
         if (wasCurledLastFrame && !nowCurled) {
             hasCapturedThisCurl = false; // allow capture again after uncurl
         }
         wasCurledLastFrame = nowCurled;
-        PerformanceProfiler.stop("tentacle_update");
+    }
+
+    // Clamp, Euler-integrate and bleed energy for one segment
+    private void integrate(int i, float delta) {
+        float vLen = (float) Math.sqrt(vx[i] * vx[i] + vy[i] * vy[i]);
+        if (vLen > maxVelocity) {
+            float k = maxVelocity / vLen;
+            vx[i] *= k;
+            vy[i] *= k;
+        }
+        px[i] += vx[i] * delta;
+        py[i] += vy[i] * delta;
+        vx[i] *= globalDamping;
+        vy[i] *= globalDamping;
     }
 
     /**
-     * Render the tentacle using ShapeRenderer.
+     * Render the tentacle into a ShapeRenderer already begun with ShapeType.Filled
+     * (queued with RenderQueue.submitShape), so all tentacles share one pass.
      */
+    @Override
     public void draw(ShapeRenderer sr) {
-        if (sleeping) return; // cull render
+        if (!VisibilityCuller.isVisible(bounds, 96f)) return; // cull render
         // 1. Draw Outline (Darker, slightly thicker)
-        sr.begin(ShapeRenderer.ShapeType.Filled);
         sr.setColor(0.1f, 0.05f, 0.15f, 1f); // Dark purple/black outline
         for (int i = 0; i < segments - 1; i++) {
             float lineThickness = thickness[i + 1] + 4f; // Outline thickness
-            sr.rectLine(pos[i], pos[i + 1], lineThickness);
+            sr.rectLine(px[i], py[i], px[i + 1], py[i + 1], lineThickness);
         }
-        sr.end();
 
-        // 2. Draw Main Body (Gradient)
-        sr.begin(ShapeRenderer.ShapeType.Filled);
+        // 2. Draw Main Body (Gradient), over the outline
         for (int i = 0; i < segments - 1; i++) {
             float t = i / (float) segments;
             // Gradient from dark purple to lighter magenta
             sr.setColor(0.3f + t * 0.4f, 0.1f, 0.4f + t * 0.2f, 1f);
 
             float lineThickness = thickness[i + 1];
-            sr.rectLine(pos[i], pos[i + 1], lineThickness);
+            sr.rectLine(px[i], py[i], px[i + 1], py[i + 1], lineThickness);
 
             // Draw suction cup circle at segment i
             // Make cups slightly lighter
             sr.setColor(0.5f + t * 0.3f, 0.2f, 0.6f + t * 0.2f, 1f);
             float cupSize = lineThickness * 0.4f * suctionScale[i];
-            sr.circle(pos[i].x, pos[i].y, cupSize);
+            sr.circle(px[i], py[i], cupSize);
         }
 
         // Draw final suction cup at tip
         sr.setColor(0.9f, 0.3f, 0.8f, 1f); // Bright tip
         float tipCupSize = thickness[segments - 1] * 0.4f * suctionScale[segments - 1];
-        sr.circle(pos[segments - 1].x, pos[segments - 1].y, tipCupSize);
-
-        sr.end();
+        sr.circle(px[segments - 1], py[segments - 1], tipCupSize);
     }
 
     // ===== Convenience Methods =====
@@ -398,7 +442,7 @@ public class Tentacle implements Enemy {
             return; // Too few segments to form a meaningful curl
         }
         
-        Vector2 tip = pos[segments - 1];
+        float tipX = px[segments - 1], tipY = py[segments - 1];
         
         // Check if tip has curled back toward middle segments
         int checkStart = segments / 3; // Start checking from 1/3 of the way
@@ -408,7 +452,7 @@ public class Tentacle implements Enemy {
         int closestSegment = -1;
         
         for (int i = checkStart; i < checkEnd; i++) {
-            float dist = tip.dst(pos[i]);
+            float dist = dst(tipX, tipY, px[i], py[i]);
             if (dist < closestDist) {
                 closestDist = dist;
                 closestSegment = i;
@@ -421,16 +465,16 @@ public class Tentacle implements Enemy {
             isCurledCached = true;
             
             // Calculate curl center as midpoint between tip and closest segment
-            curlCenter.set(pos[closestSegment]).add(tip).scl(0.5f);
+            curlCenter.set((px[closestSegment] + tipX) * 0.5f, (py[closestSegment] + tipY) * 0.5f);
             
             // Calculate radius as distance from center to tip plus margin
-            curlRadius = curlCenter.dst(tip) + segmentLength * 2f;
+            curlRadius = curlCenter.dst(tipX, tipY) + segmentLength * 2f;
             
             // Check if we have a "full curl" by seeing how closed the loop is
             // Count how many segments are within the curl radius
             int segmentsInCurl = 0;
             for (int i = closestSegment; i < segments; i++) {
-                if (curlCenter.dst(pos[i]) < curlRadius) {
+                if (curlCenter.dst(px[i], py[i]) < curlRadius) {
                     segmentsInCurl++;
                 }
             }
@@ -440,11 +484,16 @@ public class Tentacle implements Enemy {
             hasFullCurlCached = curlCompleteness >= curlDetectionThreshold;
         } else {
             // No curl detected
-            curlCenter.set(tip);
+            curlCenter.set(tipX, tipY);
             curlRadius = 40f;
         }
     }
 
+    private static float dst(float x1, float y1, float x2, float y2) {
+        float dx = x2 - x1, dy = y2 - y1;
+        return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+
     public Vector2 getCurlCenter() {
         return curlCenter;
     }
@@ -645,31 +694,28 @@ public class Tentacle implements Enemy {
     @Override
     public boolean isAlive() { return !dead; }
 
+    /** Bounds of all segments padded by the base thickness, as of the last solver step. */
     @Override
     public Rectangle getBounds() {
-        // Calculate bounds encompassing all segments
-        if (segments == 0) {
-            bounds.set(anchor.x, anchor.y, 0, 0);
-            return bounds;
-        }
-
-        float minX = pos[0].x;
-        float maxX = pos[0].x;
-        float minY = pos[0].y;
-        float maxY = pos[0].y;
+        return bounds;
+    }
 
+    private void computeBounds() {
+        float minX = px[0], maxX = px[0], minY = py[0], maxY = py[0];
         for (int i = 1; i < segments; i++) {
-            if (pos[i].x < minX) minX = pos[i].x;
-            if (pos[i].x > maxX) maxX = pos[i].x;
-            if (pos[i].y < minY) minY = pos[i].y;
-            if (pos[i].y > maxY) maxY = pos[i].y;
+            if (px[i] < minX) minX = px[i];
+            if (px[i] > maxX) maxX = px[i];
+            if (py[i] < minY) minY = py[i];
+            if (py[i] > maxY) maxY = py[i];
         }
+        setBounds(minX, minY, maxX, maxY);
+    }
 
+    private void setBounds(float minX, float minY, float maxX, float maxY) {
         // Add padding for thickness
         float maxThickness = thickness[0];
-        bounds.set(minX - maxThickness, minY - maxThickness, 
+        bounds.set(minX - maxThickness, minY - maxThickness,
                    (maxX - minX) + maxThickness * 2, (maxY - minY) + maxThickness * 2);
-        return bounds;
     }
 
     /**
@@ -687,13 +733,13 @@ public class Tentacle implements Enemy {
         dead = true;
         // Spawn diamond drops (3–5) around the TIP (visual reward where fight ended)
         if (dropTarget != null) {
-            int count = 3 + (int)(Math.random() * 3); // 3,4,5
-            float tipX = pos[segments - 1].x;
-            float tipY = pos[segments - 1].y;
+            int count = 3 + (int)(com.badlogic.gdx.math.MathUtils.random() * 3); // 3,4,5
+            float tipX = px[segments - 1];
+            float tipY = py[segments - 1];
             float spread = 28f; // radius of scatter
             for (int i = 0; i < count; i++) {
-                float ox = tipX + (float)(Math.random() * spread - spread/2f);
-                float oy = tipY + (float)(Math.random() * spread - spread/2f);
+                float ox = tipX + (float)(com.badlogic.gdx.math.MathUtils.random() * spread - spread/2f);
+                float oy = tipY + (float)(com.badlogic.gdx.math.MathUtils.random() * spread - spread/2f);
                 dropTarget.add(new com.jjmc.chromashift.environment.collectible.Diamond(ox, oy));
             }
         }
@@ -705,9 +751,11 @@ public class Tentacle implements Enemy {
      */
     public int getSegmentCount() { return segments; }
     public boolean isSleeping() { return sleeping; }
+    /** True while stepping at the reduced rate (at middle distance from the player). */
+    public boolean isReducedDetail() { return lod == LOD_REDUCED; }
 
     /** Convenience: tip X */
-    public float getTipX() { return pos[segments - 1].x; }
+    public float getTipX() { return px[segments - 1]; }
     /** Convenience: tip Y */
-    public float getTipY() { return pos[segments - 1].y; }
+    public float getTipY() { return py[segments - 1]; }
 }
\ No newline at end of file
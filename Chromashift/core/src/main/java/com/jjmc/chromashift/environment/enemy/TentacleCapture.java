@@ -19,6 +19,8 @@ public class TentacleCapture {
     private final Vector2 tempVec = new Vector2();
     private final Vector2 playerPos = new Vector2();
     private final Vector2 playerCenter = new Vector2();
+    // Target chosen in prepare() for this step's physics
+    private final Vector2 target = new Vector2();
 
     private boolean wasCapturedPrevFrame = false;
 
@@ -35,27 +37,50 @@ public class TentacleCapture {
     }
 
     public void update(float delta) {
+        prepare();
+        step(delta);
+        resolve(delta);
+    }
+
+    /**
+     * Pick the tentacle's target from the player. Main thread, before {@link #step}.
+     */
+    public void prepare() {
         // Get current player position (center of hitbox)
         playerPos.set(player.getX() + player.getHitboxWidth() / 2f,
                 player.getY() + player.getHitboxHeight() / 2f);
-        playerCenter.set(playerPos);
-        float playerRadius = Math.max(player.getHitboxWidth(), player.getHitboxHeight()) / 2f;
 
         // --- 1. Update Tentacle Target ---
         // If not captured, track the player normally
-        // If captured, lock player at curl center to maintain the curl
+        // If captured, keep tentacle targeting curl center to maintain the curl
         boolean nowCaptured = tentacle.isPlayerCaptured();
         // Sync player capture state early (will be re-set after new capture or release)
         player.setCapturedByTentacle(nowCaptured);
-        
         if (!nowCaptured) {
-            tentacle.update(delta, playerPos.x, playerPos.y);
+            target.set(playerPos);
         } else {
-            // When captured, lock player movement and keep tentacle targeting curl center
-            Vector2 captureCenter = tentacle.getCurlCenter();
-            tentacle.update(delta, captureCenter.x, captureCenter.y);
-            
+            target.set(tentacle.getCurlCenter());
+        }
+    }
+
+    /**
+     * Tentacle physics only. Touches nothing but the tentacle, so LevelSimulation runs
+     * these as frame jobs.
+     */
+    public void step(float delta) {
+        tentacle.update(delta, target.x, target.y);
+    }
+
+    /**
+     * Capture, release and capture damage. Main thread, after {@link #step}.
+     */
+    public void resolve(float delta) {
+        playerCenter.set(playerPos);
+        float playerRadius = Math.max(player.getHitboxWidth(), player.getHitboxHeight()) / 2f;
+        boolean nowCaptured = tentacle.isPlayerCaptured();
+        if (nowCaptured) {
             // Lock player at center (no stun needed - position override is enough)
+            Vector2 captureCenter = tentacle.getCurlCenter();
             player.setX(captureCenter.x - player.getHitboxWidth() / 2f);
             player.setY(captureCenter.y - player.getHitboxHeight() / 2f);
             player.setVelocityX(0f);
@@ -108,7 +133,7 @@ public class TentacleCapture {
             captureDamageTimer += delta;
             if (captureDamageTimer >= captureDamageInterval) {
                 captureDamageTimer -= captureDamageInterval;
-                int dmg = 5 + (int)(Math.random() * 3); // 5-7 damage
+                int dmg = 5 + (int)(com.badlogic.gdx.math.MathUtils.random() * 3); // 5-7 damage
                 try {
                     if (player.getHealthSystem() != null) {
                         player.getHealthSystem().damage(dmg, tentacle);
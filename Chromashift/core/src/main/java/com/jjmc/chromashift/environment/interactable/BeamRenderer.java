@@ -0,0 +1,107 @@
+package com.jjmc.chromashift.environment.interactable;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.ArrayList;
+
+/**
+ * Draws every laser beam of a frame with one SpriteBatch vertex-array call. Screens
+ * {@link #add} each Laser/LaserRay path after the simulation step, then call
+ * {@link #draw} once inside batch.begin()/end(). Each segment becomes an opaque 6px
+ * outer quad plus a 4px inner quad at 0.25 alpha, colored per segment, which is what
+ * Laser and LaserRay used to draw themselves with two flushes per laser.
+ *
+ * The vertex buffer grows as needed and is reused between frames.
+ */
+public class BeamRenderer {
+    private static final float OUTER_THICKNESS = 6f;
+    private static final float INNER_THICKNESS = 4f;
+    private static final float INNER_ALPHA = 0.25f;
+    // x, y, packed color, u, v per vertex; 4 vertices per quad
+    private static final int QUAD_FLOATS = 20;
+
+    private Texture pixel;
+    private float[] vertices = new float[QUAD_FLOATS * 64];
+    private int count = 0;
+    private int segments = 0;
+
+    /** Queue the beam of a Laser for this frame. */
+    public void add(Laser laser) {
+        if (laser != null) add(laser.getCachedPoints(), laser.getSegmentColors());
+    }
+
+    /** Queue the beam of a LaserRay for this frame. */
+    public void add(LaserRay ray) {
+        if (ray != null) add(ray.getCachedPoints(), ray.getLastSegmentColors());
+    }
+
+    /** Queue a polyline; segment i uses colors[i], red if missing. */
+    public void add(ArrayList<Vector2> points, ArrayList<Color> colors) {
+        if (points == null || points.size() < 2) return;
+        for (int i = 0; i < points.size() - 1; i++) {
+            Vector2 a = points.get(i);
+            Vector2 b = points.get(i + 1);
+            float dx = b.x - a.x;
+            float dy = b.y - a.y;
+            float len = (float) Math.sqrt(dx * dx + dy * dy);
+            if (len < 1e-6f) continue;
+            // Unit normal; quads are built directly instead of via rotated draws
+            float nx = -dy / len;
+            float ny = dx / len;
+            Color c = (colors != null && i < colors.size()) ? colors.get(i) : Color.RED;
+            quad(a, b, nx, ny, OUTER_THICKNESS * 0.5f, Color.toFloatBits(c.r, c.g, c.b, 1f));
+            quad(a, b, nx, ny, INNER_THICKNESS * 0.5f, Color.toFloatBits(c.r, c.g, c.b, INNER_ALPHA));
+            segments++;
+        }
+    }
+
+    /** Draw everything queued since the last draw and clear the queue. */
+    public void draw(SpriteBatch batch) {
+        if (count > 0) {
+            ensurePixel();
+            // Colors are baked into the vertices, so the batch tint is left alone
+            batch.draw(pixel, vertices, 0, count);
+        }
+        count = 0;
+        segments = 0;
+    }
+
+    /** Segments queued for the current frame. */
+    public int getSegmentCount() { return segments; }
+
+    public void dispose() {
+        if (pixel != null) {
+            pixel.dispose();
+            pixel = null;
+        }
+    }
+
+    // Vertex order matches SpriteBatch: bottom-left, top-left, top-right, bottom-right
+    private void quad(Vector2 a, Vector2 b, float nx, float ny, float half, float color) {
+        if (count + QUAD_FLOATS > vertices.length) {
+            vertices = java.util.Arrays.copyOf(vertices, vertices.length * 2);
+        }
+        float ox = nx * half, oy = ny * half;
+        float[] v = vertices;
+        int i = count;
+        v[i++] = a.x - ox; v[i++] = a.y - oy; v[i++] = color; v[i++] = 0f; v[i++] = 1f;
+        v[i++] = a.x + ox; v[i++] = a.y + oy; v[i++] = color; v[i++] = 0f; v[i++] = 0f;
+        v[i++] = b.x + ox; v[i++] = b.y + oy; v[i++] = color; v[i++] = 1f; v[i++] = 0f;
+        v[i++] = b.x - ox; v[i++] = b.y - oy; v[i++] = color; v[i++] = 1f; v[i++] = 1f;
+        count = i;
+    }
+
+    private void ensurePixel() {
+        if (pixel == null) {
+            Pixmap pm = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+            pm.setColor(Color.WHITE);
+            pm.fill();
+            pixel = new Texture(pm);
+            pm.dispose();
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.jjmc.chromashift.environment.interactable;
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
-import com.jjmc.chromashift.player.PlayerCollision;
+import com.jjmc.chromashift.ecs.component.BodyComponent;
+import com.jjmc.chromashift.ecs.component.BoundsComponent;
+import com.jjmc.chromashift.ecs.component.PositionComponent;
+import com.jjmc.chromashift.ecs.component.VelocityComponent;
 import com.jjmc.chromashift.environment.Solid;
 import com.jjmc.chromashift.player.Player;
 
@@ -14,20 +17,23 @@ import com.jjmc.chromashift.player.Player;
  * but does not block the player. The player can interact (press F) when close to apply an impulse.
  */
 public class Box implements Interactable, Pickable, com.jjmc.chromashift.environment.Solid {
-    private float x, y;
+    // Position and velocity live in ECS components; PhysicsSystem steps the entity
+    private final Entity entity = new Entity();
+    private final PositionComponent position;
+    private final VelocityComponent velocity = new VelocityComponent();
+    private final BodyComponent body;
     private float width = 24f, height = 24f;
-    private float vx = 0f, vy = 0f;
-    private final Array<Solid> solids;
     private Array<Interactable> interactables;
     private final Rectangle bounds;
+    private final Rectangle reach = new Rectangle();
     private boolean inRange = false;
     
     // Velocity getters/setters for collision handling
-    public float getVelocityX() { return vx; }
-    public float getVelocityY() { return vy; }
+    public float getVelocityX() { return velocity.x; }
+    public float getVelocityY() { return velocity.y; }
     public void setVelocity(float vx, float vy) { 
-        this.vx = vx; 
-        this.vy = vy; 
+        velocity.x = vx; 
+        velocity.y = vy; 
     }
     
     private boolean isCollidingWithSelf(Interactable other) {
@@ -41,10 +47,12 @@ public class Box implements Interactable, Pickable, com.jjmc.chromashift.environ
     private final float holdOffsetY = 6f;
 
     public Box(float x, float y, Array<Solid> solids) {
-        this.x = x;
-        this.y = y;
-        this.solids = solids;
-        this.bounds = new Rectangle(x, y, width, height);
+        this.position = new PositionComponent(x, y);
+        // Ground friction 40, air damping 1; blocked axes stop dead
+        this.body = new BodyComponent(this, width, height, 40f, 1f, solids);
+        BoundsComponent boundsComponent = new BoundsComponent(x, y, width, height);
+        this.bounds = boundsComponent.rect;
+        entity.add(position).add(velocity).add(boundsComponent).add(body);
         // Store original spawn for respawn logic
         this.spawnX = x;
         this.spawnY = y;
@@ -60,6 +68,11 @@ public class Box implements Interactable, Pickable, com.jjmc.chromashift.environ
         this.interactables = interactables;
     }
 
+    /** Resolve against nearby solids from this index instead of scanning the whole list. */
+    public void setSolidIndex(com.jjmc.chromashift.environment.SolidIndex solidIndex) {
+        body.solidIndex = solidIndex;
+    }
+
     @Override
     public Rectangle getBounds() {
         return bounds;
@@ -72,68 +85,16 @@ public class Box implements Interactable, Pickable, com.jjmc.chromashift.environ
             // position above player's hitbox center
             float centerX = holder.getHitboxX() + holder.getHitboxWidth() / 2f;
             float centerY = holder.getHitboxY() + holder.getHitboxHeight() / 2f;
-            x = centerX - width / 2f + holdOffsetX;
-            y = centerY + holdOffsetY;
-            bounds.set(x, y, width, height);
-            vx = 0f; vy = 0f;
+            position.x = centerX - width / 2f + holdOffsetX;
+            position.y = centerY + holdOffsetY;
+            bounds.set(position.x, position.y, width, height);
+            velocity.x = 0f; velocity.y = 0f;
             return;
         }
 
-        // simple physics
-        float gravity = -800f;
-        vy += gravity * delta;
-        
-        // Apply friction/damping
-        float groundFriction = 40f;  // Higher = more friction
-        float airDamping = 1f;      // Higher = more air resistance
-        
-        // Check if on ground (vy close to 0 and collision detected)
-        boolean onGround = Math.abs(vy) < 0.1f;
-        if (onGround) {
-            // Direct velocity reduction for ground friction
-            float frictionForce = groundFriction * 60f; // Scale for better control
-            if (Math.abs(vx) <= frictionForce * delta) {
-                vx = 0; // Stop completely if speed is very low
-            } else {
-                // Apply friction in opposite direction of movement
-                float direction = vx > 0 ? -1 : 1;
-                vx += direction * frictionForce * delta;
-            }
-        } else {
-            // Air resistance
-            vx *= (1f - airDamping * delta);
-            vy *= (1f - airDamping * delta);
-        }
-
-        // Integrate
-        Rectangle before = new Rectangle(bounds);
-        x += vx * delta;
-        y += vy * delta;
-        bounds.set(x, y, width, height);
-
-        // Resolve collisions against solids (walls, platforms, doors)
-        if (solids != null) {
-            Rectangle resolved = new Rectangle(bounds);
-            PlayerCollision.resolveSolidCollision(resolved, solids);
-
-            // apply resolved position and adjust velocities if blocked
-            float appliedX = resolved.x - before.x;
-            float appliedY = resolved.y - before.y;
-
-            // If horizontal corrected, zero horizontal velocity
-            if (Math.abs(appliedX - (x - before.x)) > 0.001f) {
-                vx = 0f;
-            }
-            // If vertical corrected, zero vertical velocity
-            if (Math.abs(appliedY - (y - before.y)) > 0.001f) {
-                vy = 0f;
-            }
+        // PhysicsSystem has integrated this step and resolved solids
+        bounds.set(position.x, position.y, width, height);
 
-            x = resolved.x;
-            y = resolved.y;
-            bounds.set(x, y, width, height);
-        }
-        
         // Handle collisions with other interactables
         if (!held && interactables != null) {
             for (Interactable other : interactables) {
@@ -157,14 +118,14 @@ public class Box implements Interactable, Pickable, com.jjmc.chromashift.environ
                             // Resolve overlap
                             float overlap = (bounds.width + otherBounds.width)/2 - len;
                             if (overlap > 0) {
-                                x += dx * overlap/2;
-                                y += dy * overlap/2;
-                                bounds.setPosition(x, y);
+                                position.x += dx * overlap/2;
+                                position.y += dy * overlap/2;
+                                bounds.setPosition(position.x, position.y);
                                 
                                 // Exchange velocities (elastic collision)
                                 if (other instanceof Box || other instanceof Orb) {
-                                    float tmpVx = vx;
-                                    float tmpVy = vy;
+                                    float tmpVx = velocity.x;
+                                    float tmpVy = velocity.y;
                                     
                                     // Get other object's velocity if available
                                     float otherVx = 0, otherVy = 0;
@@ -177,8 +138,8 @@ public class Box implements Interactable, Pickable, com.jjmc.chromashift.environ
                                     }
                                     
                                     // Apply collision response
-                                    vx = otherVx;
-                                    vy = otherVy;
+                                    velocity.x = otherVx;
+                                    velocity.y = otherVy;
                                     if (other instanceof Box b) {
                                         b.setVelocity(tmpVx, tmpVy);
                                     } else if (other instanceof Orb o) {
@@ -208,16 +169,19 @@ public class Box implements Interactable, Pickable, com.jjmc.chromashift.environ
         com.badlogic.gdx.graphics.Color prev = batch.getColor();
         float pr = prev.r, pg = prev.g, pb = prev.b, pa = prev.a;
         try {
-            batch.flush();
             com.badlogic.gdx.graphics.Color c = (boxColor == null) ? com.badlogic.gdx.graphics.Color.CYAN : boxColor;
             batch.setColor(c.r, c.g, c.b, 1f);
             batch.draw(PIXEL, bounds.x, bounds.y, bounds.width, bounds.height);
-            batch.flush();
         } finally {
             batch.setColor(pr, pg, pb, pa);
         }
     }
 
+    @Override
+    public com.badlogic.gdx.graphics.Texture getRenderTexture() {
+        return PIXEL;
+    }
+
     private com.badlogic.gdx.graphics.Camera gameCamera;
     
     public void setCamera(com.badlogic.gdx.graphics.Camera camera) {
@@ -232,17 +196,13 @@ public class Box implements Interactable, Pickable, com.jjmc.chromashift.environ
         shape.rect(bounds.x, bounds.y, bounds.width, bounds.height);
         
         // Draw throw guide when held
-        if (held && holder != null && gameCamera != null) {
+        if (held && holder != null) {
             float startX = bounds.x + bounds.width/2;
             float startY = bounds.y + bounds.height/2;
             
-            // Convert mouse to world coordinates using camera
-            com.badlogic.gdx.math.Vector3 mousePos = new com.badlogic.gdx.math.Vector3(
-                Gdx.input.getX(), Gdx.input.getY(), 0
-            );
-            gameCamera.unproject(mousePos);
-            float mouseX = mousePos.x;
-            float mouseY = mousePos.y;
+            // World-space cursor from the holder's input frame
+            float mouseX = holder.getInputFrame().getMouseX();
+            float mouseY = holder.getInputFrame().getMouseY();
             
             float dirX = mouseX - startX;
             float dirY = mouseY - startY;
@@ -281,7 +241,7 @@ public class Box implements Interactable, Pickable, com.jjmc.chromashift.environ
     @Override
     public void interact() {
         // apply an upward impulse when player presses F
-        this.vy = 240f;
+        velocity.y = 240f;
     }
 
     // --- Pickable implementation ---
@@ -290,13 +250,14 @@ public class Box implements Interactable, Pickable, com.jjmc.chromashift.environ
         if (player == null) return;
         held = true;
         holder = player;
-        vx = 0f; vy = 0f;
+        body.held = true;
+        velocity.x = 0f; velocity.y = 0f;
         // immediately position to holder
         float centerX = holder.getHitboxX() + holder.getHitboxWidth() / 2f;
         float centerY = holder.getHitboxY() + holder.getHitboxHeight() / 2f;
-        x = centerX - width / 2f + holdOffsetX;
-        y = centerY + holdOffsetY;
-        bounds.set(x, y, width, height);
+        position.x = centerX - width / 2f + holdOffsetX;
+        position.y = centerY + holdOffsetY;
+        bounds.set(position.x, position.y, width, height);
     }
 
     @Override
@@ -304,8 +265,9 @@ public class Box implements Interactable, Pickable, com.jjmc.chromashift.environ
         // release and apply velocity
         held = false;
         holder = null;
-        this.vx = vx;
-        this.vy = vy;
+        body.held = false;
+        velocity.x = vx;
+        velocity.y = vy;
     }
 
     @Override
@@ -318,6 +280,7 @@ public class Box implements Interactable, Pickable, com.jjmc.chromashift.environ
     public void drop() {
         held = false;
         holder = null;
+        body.held = false;
     }
 
     // --- Solid implementation ---
@@ -346,10 +309,10 @@ public class Box implements Interactable, Pickable, com.jjmc.chromashift.environ
     public void setRespawnArea(Rectangle area) { if (area != null) this.respawnArea = area; }
     public Rectangle getRespawnArea() { return respawnArea; }
     public void respawn() {
-        x = spawnX;
-        y = spawnY;
-        vx = 0f; vy = 0f;
-        bounds.set(x, y, width, height);
+        position.x = spawnX;
+        position.y = spawnY;
+        velocity.x = 0f; velocity.y = 0f;
+        bounds.set(position.x, position.y, width, height);
     }
 
     // PIXEL for batch drawing (lazy)
@@ -367,8 +330,8 @@ public class Box implements Interactable, Pickable, com.jjmc.chromashift.environ
     @Override
     public void checkInteraction(Rectangle playerHitbox) {
         // player can interact when near (small radius)
-        Rectangle r = new Rectangle(bounds.x - 8, bounds.y - 8, bounds.width + 16, bounds.height + 16);
-        inRange = playerHitbox.overlaps(r);
+        reach.set(bounds.x - 8, bounds.y - 8, bounds.width + 16, bounds.height + 16);
+        inRange = playerHitbox.overlaps(reach);
     }
 
     @Override
@@ -383,4 +346,9 @@ public class Box implements Interactable, Pickable, com.jjmc.chromashift.environ
     public Rectangle getActivationBounds() {
         return bounds;
     }
+
+    /** ECS entity holding this object's position, velocity and body components. */
+    public Entity getEntity() {
+        return entity;
+    }
 }
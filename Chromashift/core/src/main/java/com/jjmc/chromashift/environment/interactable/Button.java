@@ -41,6 +41,9 @@ public class Button implements Interactable, Solid {
     private final SpriteAnimator anim;
     private final ButtonColor color;
     private List<BiConsumer<String, Boolean>> pressListeners;
+    // Set when LevelLoader compiled this button's links into a signal graph
+    private SignalGraph signals;
+    private int signal = -1;
     private static final float BUTTON_WIDTH = 64f;
     private static final float BUTTON_HEIGHT = 32f;
     // two hitboxes centered within the button area
@@ -108,6 +111,16 @@ public class Button implements Interactable, Solid {
         if (!linkedInteractables.contains(it, true)) linkedInteractables.add(it);
     }
 
+    /** Route press/release through {@code graph} instead of pushing to the linked objects. */
+    public void setSignal(SignalGraph graph, int source) {
+        this.signals = graph;
+        this.signal = source;
+    }
+
+    public int getSignal() { return signal; }
+    public Array<Door> getLinkedDoors() { return linkedDoors; }
+    public Array<Interactable> getLinkedInteractables() { return linkedInteractables; }
+
     public void setId(String id) { this.id = id; }
     public String getId() { return id; }
 
@@ -138,17 +151,21 @@ public class Button implements Interactable, Solid {
         // Update animation frame based on pressed state
         anim.setFrame(pressed ? 1 : 0);
         if (pressed != wasPressed) {
-            if (linkedDoors != null && linkedDoors.size > 0) {
-                for (Door d : linkedDoors) if (d != null) d.setOpen(pressed);
-            } else if (linkedDoor != null) {
-                linkedDoor.setOpen(pressed);
-            }
-            // Notify any other linked interactables on press
-            if (pressed) {
-                for (Interactable it : linkedInteractables) if (it != null) it.interact();
-                // Play button sound
-                SoundManager.play("Button");
+            if (signals != null) {
+                signals.set(signal, pressed);
+            } else {
+                if (linkedDoors != null && linkedDoors.size > 0) {
+                    for (Door d : linkedDoors) if (d != null) d.setOpen(pressed);
+                } else if (linkedDoor != null) {
+                    linkedDoor.setOpen(pressed);
+                }
+                // Notify any other linked interactables on press
+                if (pressed) {
+                    for (Interactable it : linkedInteractables) if (it != null) it.interact();
+                }
             }
+            // Play button sound
+            if (pressed) SoundManager.play("Button");
             if (pressListeners != null) {
                 for (BiConsumer<String, Boolean> cb : pressListeners) if (cb != null) cb.accept(id, pressed);
             }
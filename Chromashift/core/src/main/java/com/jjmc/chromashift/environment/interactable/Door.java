@@ -1,12 +1,11 @@
 package com.jjmc.chromashift.environment.interactable;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.jjmc.chromashift.Assets;
 import com.jjmc.chromashift.environment.Solid;
 import com.jjmc.chromashift.environment.Wall;
 
@@ -27,7 +26,7 @@ public class Door implements Interactable, Solid {
     private OpenDirection openDirection = OpenDirection.UP;
 
     // Sprite resources: door.png is 32x64 (1 col, 2 rows). Row 0 = vertical, Row 1 = horizontal
-    private static Texture doorTexture;
+    private static TextureRegion doorSprite;
     private final TextureRegion vertRegion;
     private final TextureRegion horizRegion;
 
@@ -115,11 +114,16 @@ public class Door implements Interactable, Solid {
     }
 
     private TextureRegion[][] loadDoorTiles() {
-        if (doorTexture == null) {
-            doorTexture = new Texture(Gdx.files.internal("environment/door.png"));
+        if (doorSprite == null) {
+            doorSprite = Assets.region("environment/door.png");
         }
         // Split into 32x32 tiles; returns [rows][cols]
-        return TextureRegion.split(doorTexture, 32, 32);
+        return doorSprite.split(32, 32);
+    }
+
+    /** Forget the shared sprite after its texture was unloaded; it belongs to Assets. */
+    public static void dispose() {
+        doorSprite = null;
     }
 
     @Override
@@ -129,36 +133,42 @@ public class Door implements Interactable, Solid {
 
     @Override
     public Rectangle getCollisionBounds() {
+        return getCollisionBounds(new Rectangle());
+    }
+
+    @Override
+    public Rectangle getCollisionBounds(Rectangle out) {
         // Return collision bounds that match the visible portion of the door.
         // When fully open, disable collision.
         final int TILE = 32;
+        int visibleTiles = visibleTiles();
+        if (visibleTiles <= 0) return null;
         if (openDirection == OpenDirection.UP || openDirection == OpenDirection.DOWN) {
-            // Snap visible area to full tile rows
-            float rawVisible = bounds.height * (1f - openProgress);
-            int visibleRows = (int)Math.ceil(rawVisible / TILE);
-            if (visibleRows <= 0) return null;
-            float visibleHeight = Math.min(bounds.height, visibleRows * TILE);
+            float visibleHeight = Math.min(bounds.height, visibleTiles * TILE);
             float yOffset = (openDirection == OpenDirection.UP) ? bounds.y : (bounds.y + bounds.height - visibleHeight);
-            return new Rectangle(bounds.x, yOffset, bounds.width, visibleHeight);
+            return out.set(bounds.x, yOffset, bounds.width, visibleHeight);
         } else {
-            // Snap visible area to full tile columns
-            float rawVisible = bounds.width * (1f - openProgress);
-            int visibleCols = (int)Math.ceil(rawVisible / TILE);
-            if (visibleCols <= 0) return null;
-            float visibleWidth = Math.min(bounds.width, visibleCols * TILE);
+            float visibleWidth = Math.min(bounds.width, visibleTiles * TILE);
             float xOffset = (openDirection == OpenDirection.RIGHT) ? bounds.x : (bounds.x + bounds.width - visibleWidth);
-            return new Rectangle(xOffset, bounds.y, visibleWidth, bounds.height);
+            return out.set(xOffset, bounds.y, visibleWidth, bounds.height);
         }
     }
 
+    // Visible area snapped to full tile rows (UP/DOWN) or columns (LEFT/RIGHT)
+    private int visibleTiles() {
+        final int TILE = 32;
+        float extent = (openDirection == OpenDirection.UP || openDirection == OpenDirection.DOWN) ? bounds.height : bounds.width;
+        return (int)Math.ceil(extent * (1f - openProgress) / TILE);
+    }
+
     @Override
     public boolean isSolid() {
-        return getCollisionBounds() != null;
+        return visibleTiles() > 0;
     }
 
     @Override
     public boolean isBlocking() {
-        return getCollisionBounds() != null;
+        return visibleTiles() > 0;
     }
 
     @Override
@@ -242,6 +252,11 @@ public class Door implements Interactable, Solid {
         }
     }
 
+    @Override
+    public com.badlogic.gdx.graphics.Texture getRenderTexture() {
+        return vertRegion.getTexture();
+    }
+
     @Override
     public void debugDraw(ShapeRenderer shape) {
         // Fade color to show open/close progress
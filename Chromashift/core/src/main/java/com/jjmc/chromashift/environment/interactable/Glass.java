@@ -72,6 +72,8 @@ public class Glass implements Interactable {
     private boolean rainbow = true;
     // How fast the rainbow moves along the glass (cycles per second)
     private float speed = 1.5f;
+    // Simulated seconds (advanced in update) so the drawn tint matches what lasers sample
+    private float time = 0f;
 
     /**
      * Enable or disable rainbow (animated) tint for this glass.
@@ -109,8 +111,13 @@ public class Glass implements Interactable {
      * Returns a new Color instance (caller may cache if needed).
      */
     public Color getTintAt(Vector2 hitPoint, float time) {
+        return getTintAt(hitPoint, time, new Color());
+    }
+
+    /** Same as {@link #getTintAt(Vector2, float)} but writes into {@code out}. */
+    public Color getTintAt(Vector2 hitPoint, float time, Color out) {
         // if rainbow animation disabled, return static base color
-        if (!rainbow) return new Color(this.color);
+        if (!rainbow) return out.set(this.color);
         // compute fractional parameter along the segment [0..1]
         float vx = end.x - start.x;
         float vy = end.y - start.y;
@@ -144,7 +151,7 @@ public class Glass implements Interactable {
             case 5: default: r = val; g = p; b = q; break;
         }
 
-        return new Color(r, g, b, this.color.a);
+        return out.set(r, g, b, this.color.a);
     }
     
     @Override
@@ -154,26 +161,28 @@ public class Glass implements Interactable {
     
     @Override
     public void update(float delta) {
-        // Static object - no update needed
+        time += delta;
     }
     
     @Override
     public void render(SpriteBatch batch) {
         ensurePixel();
-        Color displayColor = rainbow ? getTintAt(start, System.currentTimeMillis() / 1000f) : this.color;
+        Color displayColor = rainbow ? getTintAt(start, time) : this.color;
         Color prev = batch.getColor();
         float pr = prev.r, pg = prev.g, pb = prev.b, pa = prev.a;
         try {
-            // Flush pending draws to avoid color state leaking into previously batched geometry
-            batch.flush();
             batch.setColor(displayColor.r, displayColor.g, displayColor.b, 0.65f);
             batch.draw(PIXEL, bounds.x, bounds.y, bounds.width, bounds.height);
-            batch.flush();
         } finally {
             // Restore explicitly to avoid aliasing with the internal Color instance
             batch.setColor(pr, pg, pb, pa);
         }
     }
+
+    @Override
+    public Texture getRenderTexture() {
+        return PIXEL;
+    }
     
     @Override
     public void debugDraw(ShapeRenderer sr) {
@@ -181,7 +190,7 @@ public class Glass implements Interactable {
         sr.setColor(0.2f, 0.2f, 0.2f, 0.5f);
         sr.rect(bounds.x, bounds.y, bounds.width, bounds.height);
         // Tinted fill to represent the glass (no sprite)
-        Color displayColor = rainbow ? getTintAt(start, System.currentTimeMillis() / 1000f) : this.color;
+        Color displayColor = rainbow ? getTintAt(start, time) : this.color;
         sr.setColor(displayColor.r, displayColor.g, displayColor.b, 0.45f);
         sr.rect(bounds.x, bounds.y, bounds.width, bounds.height);
     }
@@ -3,8 +3,9 @@ package com.jjmc.chromashift.environment.interactable;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
+import com.chromashift.helper.RenderQueue;
 
-public interface Interactable {
+public interface Interactable extends RenderQueue.Renderable {
     Rectangle getBounds();
     void update(float delta);
     void render(SpriteBatch batch);
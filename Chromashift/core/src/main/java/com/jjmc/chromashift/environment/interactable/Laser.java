@@ -1,8 +1,8 @@
 package com.jjmc.chromashift.environment.interactable;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
@@ -24,6 +24,7 @@ public class Laser implements Interactable {
     private ArrayList<Glass> glasses = new ArrayList<>();
     private ArrayList<Solid> solids = new ArrayList<>();
     private ArrayList<Vector2> cachedPoints = new ArrayList<>();
+    private float time = 0f; // simulated seconds; drives rainbow glass tint deterministically
 
     public ArrayList<Vector2> getCachedPoints() { return cachedPoints; }
 
@@ -49,13 +50,23 @@ public class Laser implements Interactable {
         this.solids = solids;
     }
 
+    /** See {@link LaserRay#setGrid}. */
+    public void setGrid(LaserGrid grid) { ray.setGrid(grid); }
+
+    /** See {@link LaserRay#setDeferTargets}. */
+    public void setDeferTargets(boolean defer) { ray.setDeferTargets(defer); }
+
+    /** See {@link LaserRay#publishTarget}. */
+    public void publishTarget() { ray.publishTarget(); }
+
     @Override
     public void update(float delta) {
         // Update ray position to center of bounds
         ray.position.set(bounds.x + bounds.width / 2f, bounds.y + bounds.height / 2f);
         ray.setRotation(rotation);
         // Cast ray and cache points
-        cachedPoints = ray.cast(mirrors, glasses, solids, System.currentTimeMillis() / 1000f);
+        time += delta;
+        cachedPoints = ray.castCached(mirrors, glasses, solids, time);
     }
 
     @Override
@@ -65,73 +76,35 @@ public class Laser implements Interactable {
 
     @Override
     public void render(SpriteBatch batch) {
-        // Draw beam using LaserRay cached points so it's visible without debug mode
-        if (cachedPoints != null && cachedPoints.size() >= 2) {
-            ensurePixel();
-            java.util.ArrayList<com.badlogic.gdx.graphics.Color> cols = ray.getLastSegmentColors();
-            com.badlogic.gdx.graphics.Color prev = batch.getColor();
-            float pr = prev.r, pg = prev.g, pb = prev.b, pa = prev.a;
-            try {
-                batch.flush();
-                for (int i = 0; i < cachedPoints.size() - 1; i++) {
-                    Vector2 a = cachedPoints.get(i);
-                    Vector2 b = cachedPoints.get(i + 1);
-                    float dx = b.x - a.x;
-                    float dy = b.y - a.y;
-                    float len = (float) Math.sqrt(dx * dx + dy * dy);
-                    float angle = (float) Math.toDegrees(Math.atan2(dy, dx));
-                    com.badlogic.gdx.graphics.Color sc = (cols != null && i < cols.size()) ? cols.get(i) : com.badlogic.gdx.graphics.Color.RED;
-                    // beam thickness: outer 6px, inner 4px
-                    float outerTh = 6f;
-                    float innerTh = 4f;
-                    float cx = (a.x + b.x) * 0.5f;
-                    float cy = (a.y + b.y) * 0.5f;
-                    float x = cx - len / 2f;
-                    float outerY = cy - outerTh / 2f;
-                    // outer border (solid)
-                    batch.setColor(sc.r, sc.g, sc.b, 1f);
-                    batch.draw(PIXEL, x, outerY, len / 2f, outerTh / 2f, len, outerTh, 1f, 1f, angle, 0, 0, 1, 1, false, false);
-                    // inner translucent fill
-                    float innerY = cy - innerTh / 2f;
-                    float innerAlpha = 0.25f; // slightly transparent inner fill
-                    batch.setColor(sc.r, sc.g, sc.b, innerAlpha);
-                    batch.draw(PIXEL, x, innerY, len / 2f, innerTh / 2f, len, innerTh, 1f, 1f, angle, 0, 0, 1, 1, false, false);
-                }
-                batch.flush();
-            } finally {
-                batch.setColor(pr, pg, pb, pa);
-            }
-        }
-
+        // The beam itself is drawn by BeamRenderer together with every other laser
         // Draw the laser base using texture, rotated by rotation (default faces right)
-        if (Assets.manager.isLoaded(TEX_PATH, Texture.class)) {
-            Texture tex = Assets.manager.get(TEX_PATH, Texture.class);
+        TextureRegion sprite = Assets.region(TEX_PATH);
+        if (sprite != null) {
             float x = bounds.x;
             float y = bounds.y;
             float w = bounds.width;
             float h = bounds.height;
             // draw centered rotation
-            batch.draw(tex,
+            batch.draw(sprite,
                     x, y,
                     w / 2f, h / 2f, // origin
                     w, h,
                     1f, 1f,
-                    rotation,
-                    0, 0,
-                    tex.getWidth(), tex.getHeight(),
-                    false, false);
+                    rotation);
         }
     }
 
-    private static com.badlogic.gdx.graphics.Texture PIXEL;
-    private static void ensurePixel() {
-        if (PIXEL == null) {
-            com.badlogic.gdx.graphics.Pixmap pm = new com.badlogic.gdx.graphics.Pixmap(1,1, com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888);
-            pm.setColor(com.badlogic.gdx.graphics.Color.WHITE);
-            pm.fill();
-            PIXEL = new com.badlogic.gdx.graphics.Texture(pm);
-            pm.dispose();
-        }
+    /** Stop activating the target the beam currently hits (the emitter is being removed). */
+    public void releaseTarget() {
+        ray.releaseTarget();
+    }
+
+    public java.util.ArrayList<Vector2> getCachedPoints() {
+        return cachedPoints;
+    }
+
+    public java.util.ArrayList<com.badlogic.gdx.graphics.Color> getSegmentColors() {
+        return ray.getLastSegmentColors();
     }
 
     @Override
@@ -0,0 +1,318 @@
+package com.jjmc.chromashift.environment.interactable;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+import com.jjmc.chromashift.environment.Solid;
+import com.jjmc.chromashift.environment.Wall;
+
+import java.util.ArrayList;
+
+/**
+ * Uniform grid over the mirrors, glasses and solids a laser can hit. A cast walks the
+ * cells along the ray (Amanatides-Woo) and stops at the first cell that contains the
+ * nearest hit, so its cost follows the beam's length in cells rather than the number of
+ * objects in the level.
+ *
+ * Walls, glass and mirrors are bucketed once: walls and glass never move and a mirror only
+ * rotates about its center, so it is bucketed by the circle its segment sweeps. Doors,
+ * boxes and targets can open or move; they are tested on every step, like SolidIndex's
+ * dynamic list. Ties at equal distance resolve as the old brute-force loop did: mirrors,
+ * then glass, then solids, each in list order.
+ *
+ * LevelLoader builds one grid per level and hands it to every laser. The grid itself is
+ * read-only once built; everything a cast writes lives in the caller's {@link Query}, so
+ * lasers running as separate FrameJobs can share it.
+ */
+public final class LaserGrid {
+    static final int NONE = -1;
+    static final int MIRROR = 0;
+    static final int GLASS = 1;
+    static final int SOLID = 2;
+
+    private static final float CELL_SIZE = 64f;
+    // Anything bigger than this many cells goes in the always-tested list
+    private static final int MAX_CELLS_PER_ENTRY = 4096;
+    // Box pass-through tolerance, same as before the grid
+    private static final float BOX_COLOR_EPS = 0.03f;
+
+    private final ArrayList<Mirror> mirrors;
+    private final ArrayList<Glass> glasses;
+    private final ArrayList<Solid> solids;
+    private final int mirrorCount, glassCount, solidCount;
+
+    // Entries are (index << 2) | kind
+    private final LongMap<IntArray> cells = new LongMap<>();
+    private final IntArray dynamic = new IntArray();
+    private float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE;
+    private float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+
+    /** Per-caster state of a cast: entry dedupe, the last hit and scratch objects. */
+    static final class Query {
+        private LaserGrid grid;
+        private int[] stamps = new int[0];
+        private int stamp = 0;
+
+        // Result of the last cast
+        private int hitKind = NONE;
+        private int hitIndex = -1;
+        private float hitDist2 = Float.MAX_VALUE;
+
+        private final Vector2 tmpHit = new Vector2();
+        private final Rectangle tmpBounds = new Rectangle();
+        private final Vector2[] tmpCorners = { new Vector2(), new Vector2(), new Vector2(), new Vector2() };
+
+        int getHitKind() { return hitKind; }
+        int getHitIndex() { return hitIndex; }
+        float getHitDist2() { return hitDist2; }
+    }
+
+    public LaserGrid(ArrayList<Mirror> mirrors, ArrayList<Glass> glasses, ArrayList<Solid> solids) {
+        this.mirrors = mirrors;
+        this.glasses = glasses;
+        this.solids = solids;
+        this.mirrorCount = mirrors != null ? mirrors.size() : 0;
+        this.glassCount = glasses != null ? glasses.size() : 0;
+        this.solidCount = solids != null ? solids.size() : 0;
+
+        for (int i = 0; i < mirrorCount; i++) {
+            Mirror m = mirrors.get(i);
+            float cx = (m.start.x + m.end.x) * 0.5f, cy = (m.start.y + m.end.y) * 0.5f;
+            float r = m.start.dst(m.end) * 0.5f;
+            insert(i, MIRROR, cx - r, cy - r, cx + r, cy + r);
+        }
+        for (int i = 0; i < glassCount; i++) {
+            Glass g = glasses.get(i);
+            insert(i, GLASS, Math.min(g.start.x, g.end.x), Math.min(g.start.y, g.end.y),
+                    Math.max(g.start.x, g.end.x), Math.max(g.start.y, g.end.y));
+        }
+        for (int i = 0; i < solidCount; i++) {
+            Solid s = solids.get(i);
+            if (s instanceof Wall w) {
+                Rectangle b = w.bounds;
+                insert(i, SOLID, b.x, b.y, b.x + b.width, b.y + b.height);
+            } else if (s != null) {
+                dynamic.add(i << 2 | SOLID);
+            }
+        }
+    }
+
+    /** True if this grid was built from these lists and their sizes are unchanged. */
+    boolean matches(ArrayList<Mirror> mirrors, ArrayList<Glass> glasses, ArrayList<Solid> solids) {
+        return mirrors == this.mirrors && glasses == this.glasses && solids == this.solids
+                && (mirrors != null ? mirrors.size() : 0) == mirrorCount
+                && (glasses != null ? glasses.size() : 0) == glassCount
+                && (solids != null ? solids.size() : 0) == solidCount;
+    }
+
+    /**
+     * Nearest hit along the ray within {@code maxDist}, ignoring hits closer than
+     * {@code minDist}. Boxes whose color differs from {@code beamColor} let the beam through.
+     * Returns the hit kind, records the hit in {@code q} and writes the hit point into
+     * {@code out}.
+     */
+    int cast(Query q, Vector2 origin, Vector2 dir, float maxDist, float minDist, Color beamColor, Vector2 out) {
+        q.hitKind = NONE;
+        q.hitIndex = -1;
+        q.hitDist2 = Float.MAX_VALUE;
+        if (q.grid != this) {
+            q.grid = this;
+            q.stamps = new int[mirrorCount + glassCount + solidCount];
+            q.stamp = 0;
+        }
+        if (++q.stamp == 0) {
+            java.util.Arrays.fill(q.stamps, 0);
+            q.stamp = 1;
+        }
+        float minDist2 = minDist * minDist;
+
+        for (int i = 0; i < dynamic.size; i++) {
+            test(q, dynamic.get(i), origin, dir, minDist2, beamColor, out);
+        }
+
+        // Clip the ray to the bucketed area so a beam leaving the level stops walking
+        float ox = origin.x, oy = origin.y, dx = dir.x, dy = dir.y;
+        float tStart = 0f, tEnd = maxDist;
+        if (Math.abs(dx) < 1e-9f) {
+            if (ox < minX || ox > maxX) return q.hitKind;
+        } else {
+            float t1 = (minX - ox) / dx, t2 = (maxX - ox) / dx;
+            tStart = Math.max(tStart, Math.min(t1, t2));
+            tEnd = Math.min(tEnd, Math.max(t1, t2));
+        }
+        if (Math.abs(dy) < 1e-9f) {
+            if (oy < minY || oy > maxY) return q.hitKind;
+        } else {
+            float t1 = (minY - oy) / dy, t2 = (maxY - oy) / dy;
+            tStart = Math.max(tStart, Math.min(t1, t2));
+            tEnd = Math.min(tEnd, Math.max(t1, t2));
+        }
+        if (tStart > tEnd) return q.hitKind;
+
+        int cx = cell(ox + dx * tStart), cy = cell(oy + dy * tStart);
+        int endX = cell(ox + dx * tEnd), endY = cell(oy + dy * tEnd);
+        int stepX = dx > 0f ? 1 : (dx < 0f ? -1 : 0);
+        int stepY = dy > 0f ? 1 : (dy < 0f ? -1 : 0);
+        float tDeltaX = stepX != 0 ? CELL_SIZE / Math.abs(dx) : Float.POSITIVE_INFINITY;
+        float tDeltaY = stepY != 0 ? CELL_SIZE / Math.abs(dy) : Float.POSITIVE_INFINITY;
+        float tMaxX = stepX > 0 ? ((cx + 1) * CELL_SIZE - ox) / dx
+                : (stepX < 0 ? (cx * CELL_SIZE - ox) / dx : Float.POSITIVE_INFINITY);
+        float tMaxY = stepY > 0 ? ((cy + 1) * CELL_SIZE - oy) / dy
+                : (stepY < 0 ? (cy * CELL_SIZE - oy) / dy : Float.POSITIVE_INFINITY);
+        int maxCells = Math.abs(endX - cx) + Math.abs(endY - cy) + 1;
+        for (int n = 0; n < maxCells; n++) {
+            IntArray bucket = cells.get(key(cx, cy));
+            if (bucket != null) {
+                for (int i = 0; i < bucket.size; i++) {
+                    int entry = bucket.get(i);
+                    int slot = slot(entry);
+                    if (q.stamps[slot] == q.stamp) continue;
+                    q.stamps[slot] = q.stamp;
+                    test(q, entry, origin, dir, minDist2, beamColor, out);
+                }
+            }
+            // Everything past this cell is farther than where the ray leaves it
+            float tExit = Math.min(tMaxX, tMaxY);
+            if (q.hitKind != NONE && q.hitDist2 < tExit * tExit) break;
+            if (cx == endX && cy == endY) break;
+            if (tMaxX < tMaxY) {
+                cx += stepX;
+                tMaxX += tDeltaX;
+            } else {
+                cy += stepY;
+                tMaxY += tDeltaY;
+            }
+        }
+        return q.hitKind;
+    }
+
+    private void test(Query q, int entry, Vector2 origin, Vector2 dir, float minDist2, Color beamColor, Vector2 out) {
+        int kind = entry & 3, index = entry >>> 2;
+        if (kind == MIRROR) {
+            Mirror m = mirrors.get(index);
+            if (intersectLine(origin, dir, m.start, m.end, q.tmpHit)) consider(q, kind, index, origin, minDist2, out);
+        } else if (kind == GLASS) {
+            Glass g = glasses.get(index);
+            if (intersectLine(origin, dir, g.start, g.end, q.tmpHit)) consider(q, kind, index, origin, minDist2, out);
+        } else {
+            Solid s = solids.get(index);
+            if (s == null || !s.isBlocking()) return;
+            Rectangle r = s.getCollisionBounds(q.tmpBounds);
+            if (r == null) return;
+            // Boxes let beams of a different color through
+            if (s instanceof Box box) {
+                Color bcol = box.getColor();
+                if (bcol != null && (Math.abs(bcol.r - beamColor.r) > BOX_COLOR_EPS
+                        || Math.abs(bcol.g - beamColor.g) > BOX_COLOR_EPS
+                        || Math.abs(bcol.b - beamColor.b) > BOX_COLOR_EPS)) return;
+            }
+            Vector2[] corners = q.tmpCorners;
+            corners[0].set(r.x, r.y);
+            corners[1].set(r.x + r.width, r.y);
+            corners[2].set(r.x + r.width, r.y + r.height);
+            corners[3].set(r.x, r.y + r.height);
+            for (int i = 0; i < 4; i++) {
+                if (intersectLine(origin, dir, corners[i], corners[(i + 1) & 3], q.tmpHit)) {
+                    consider(q, kind, index, origin, minDist2, out);
+                }
+            }
+        }
+    }
+
+    private static void consider(Query q, int kind, int index, Vector2 origin, float minDist2, Vector2 out) {
+        float d2 = q.tmpHit.dst2(origin);
+        if (d2 < minDist2) return;
+        boolean better = d2 < q.hitDist2
+                || (d2 == q.hitDist2 && (kind < q.hitKind || (kind == q.hitKind && index < q.hitIndex)));
+        if (!better) return;
+        q.hitDist2 = d2;
+        q.hitKind = kind;
+        q.hitIndex = index;
+        out.set(q.tmpHit);
+    }
+
+    private void insert(int index, int kind, float x0, float y0, float x1, float y1) {
+        int entry = index << 2 | kind;
+        int cx0 = cell(x0), cy0 = cell(y0), cx1 = cell(x1), cy1 = cell(y1);
+        if ((long) (cx1 - cx0 + 1) * (cy1 - cy0 + 1) > MAX_CELLS_PER_ENTRY) {
+            dynamic.add(entry);
+            return;
+        }
+        minX = Math.min(minX, x0);
+        minY = Math.min(minY, y0);
+        maxX = Math.max(maxX, x1);
+        maxY = Math.max(maxY, y1);
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                long key = key(cx, cy);
+                IntArray bucket = cells.get(key);
+                if (bucket == null) {
+                    bucket = new IntArray(4);
+                    cells.put(key, bucket);
+                }
+                bucket.add(entry);
+            }
+        }
+    }
+
+    // Stamp slot: mirrors first, then glasses, then solids
+    private int slot(int entry) {
+        int index = entry >>> 2;
+        switch (entry & 3) {
+            case MIRROR: return index;
+            case GLASS: return mirrorCount + index;
+            default: return mirrorCount + glassCount + index;
+        }
+    }
+
+    private static int cell(float v) {
+        return (int) Math.floor(v / CELL_SIZE);
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+
+    /** 2D line intersection helper (ray vs segment); writes the hit into {@code out}. */
+    static boolean intersectLine(Vector2 rayOrigin, Vector2 rayDir, Vector2 segA, Vector2 segB, Vector2 out) {
+        // Solve r_o + t*r = s_a + u*s where r is rayDir and s = segB-segA
+        float rOx = rayOrigin.x;
+        float rOy = rayOrigin.y;
+        float rDx = rayDir.x;
+        float rDy = rayDir.y;
+
+        float sAx = segA.x;
+        float sAy = segA.y;
+        float sDx = segB.x - sAx;
+        float sDy = segB.y - sAy;
+
+        // 2D cross product
+        float denom = rDx * sDy - rDy * sDx; // cross(r, s)
+        final float EPS = 1e-6f;
+        if (Math.abs(denom) < EPS) {
+            // parallel (or nearly parallel) - no reliable intersection
+            return false;
+        }
+
+        // vector from ray origin to segment start
+        float wx = sAx - rOx;
+        float wy = sAy - rOy;
+
+        // t = cross(w, s) / denom
+        float t = (wx * sDy - wy * sDx) / denom;
+        // u = cross(w, r) / denom
+        float u = (wx * rDy - wy * rDx) / denom;
+
+        // ray forward (t >= 0) and segment between 0..1 (u in [0,1])
+        if (t < 0f)
+            return false;
+        if (u < 0f || u > 1f)
+            return false;
+
+        // rayDir is normalized by the caller, so t is the distance along the ray
+        out.set(rOx + rDx * t, rOy + rDy * t);
+        return true;
+    }
+}
@@ -1,8 +1,8 @@
 package com.jjmc.chromashift.environment.interactable;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
@@ -14,6 +14,7 @@ import java.util.ArrayList;
 
 public class LaserRay implements Interactable {
     private static final String TEX_PATH = "environment/laser/laser.png";
+    private static final int PROBE_CAST = PerformanceProfiler.register("laser_cast");
     public Vector2 position;
     private float rotation;
     private float maxLength = 1000000f;
@@ -26,12 +27,56 @@ public class LaserRay implements Interactable {
     private ArrayList<Glass> glasses = new ArrayList<>();
     private ArrayList<Solid> solids = new ArrayList<>();
     private ArrayList<Vector2> cachedPoints = new ArrayList<>();
+    private float time = 0f; // simulated seconds; drives rainbow glass tint deterministically
     private final ArrayList<Vector2> pointPool = new ArrayList<>();
 
-    // temps
-    private static final Vector2 TMP_ORIGIN = new Vector2();
-    private static final Vector2 TMP_DIR = new Vector2();
-    private static final Color TMP_COLOR = new Color();
+    // Pooled per-segment colors (segmentColors holds these instances)
+    private final ArrayList<Color> colorPool = new ArrayList<>();
+
+    // --- Cached path ---
+    // cast() snapshots everything the beam depends on; castCached() reuses the polyline
+    // until one of those changes. Walls are static (the editor rebuilds every object after
+    // an edit); other solids (doors, boxes, targets) only invalidate the path when their
+    // old or new bounds touch the beam.
+    private boolean pathValid = false;
+    private ArrayList<Mirror> castMirrors;
+    private ArrayList<Glass> castGlasses;
+    private ArrayList<Solid> castSolids;
+    private int castSolidCount;
+    private float castX, castY, castRotation;
+    private int castMaxBounces;
+    private float[] mirrorSnap = new float[0];
+    private float[] glassSnap = new float[0];
+    private final com.badlogic.gdx.utils.IntArray dynamicSolids = new com.badlogic.gdx.utils.IntArray();
+    private float[] solidSnap = new float[0];
+    private boolean hasColoredBox;
+    // Glass hit at the end of each segment (null if none), to recolor without recasting
+    private final ArrayList<Glass> segmentGlass = new ArrayList<>();
+    // Path crosses rainbow glass: geometry is cached but colors follow time
+    private boolean timeTinted;
+    private Target hitTarget;
+    // Target this beam is currently activating (hit with an accepted color)
+    private Target litTarget;
+    private final Color hitColor = new Color();
+    private boolean deferTargets;
+
+    // Broadphase over mirrors/glass/solids: the level's shared grid when set, otherwise
+    // a private one rebuilt when the lists or their sizes change (editor previews)
+    private LaserGrid grid;
+    private boolean sharedGrid;
+    private final LaserGrid.Query gridQuery = new LaserGrid.Query();
+
+    private static final int GLASS_SNAP = 11;
+    private static final int SOLID_SNAP = 8;
+    private static final float CORRIDOR_PAD = 1f;
+
+    // temps (per instance so separate lasers can cast on different threads)
+    private final Vector2 tmpOrigin = new Vector2();
+    private final Vector2 tmpDir = new Vector2();
+    private final Color tmpColor = new Color();
+    private final Vector2 tmpClosest = new Vector2();
+    private final Vector2 tmpNormal = new Vector2();
+    private final Color tmpTint = new Color();
 
     public LaserRay(float x, float y) { position = new Vector2(x, y); }
     public LaserRay(float x, float y, boolean asEmitter) {
@@ -43,38 +88,258 @@ public class LaserRay implements Interactable {
     public void setRotation(float degrees) { rotation = degrees % 360f; }
     public float getRotation() { return rotation; }
 
+    /**
+     * Same result as {@link #cast} but reuses the last polyline while nothing the beam
+     * depends on has changed.
+     */
+    public ArrayList<Vector2> castCached(ArrayList<Mirror> mirrors, ArrayList<Glass> glasses, ArrayList<Solid> solids, float time) {
+        if (!isPathValid(mirrors, glasses, solids)) {
+            return cast(mirrors, glasses, solids, time);
+        }
+        if (timeTinted) {
+            recolor(time);
+            if (!deferTargets) updateLitTarget();
+        }
+        return cachedPoints;
+    }
+
     public ArrayList<Vector2> cast(ArrayList<Mirror> mirrors, ArrayList<Glass> glasses, ArrayList<Solid> solids, float time) {
-        PerformanceProfiler.start("laser_cast");
+        PerformanceProfiler.begin(PROBE_CAST);
         if (segmentColors == null) segmentColors = new ArrayList<>();
         segmentColors.clear();
+        segmentGlass.clear();
         cachedPoints.clear();
-        TMP_ORIGIN.set(position);
-        addPoint(TMP_ORIGIN.x, TMP_ORIGIN.y);
-        TMP_DIR.set((float) Math.cos(Math.toRadians(rotation)), (float) Math.sin(Math.toRadians(rotation))).nor();
-        Color currentColor = TMP_COLOR.set(Color.RED);
+        hitTarget = null;
+        timeTinted = false;
+        tmpOrigin.set(position);
+        addPoint(tmpOrigin.x, tmpOrigin.y);
+        tmpDir.set((float) Math.cos(Math.toRadians(rotation)), (float) Math.sin(Math.toRadians(rotation))).nor();
+        Color currentColor = tmpColor.set(Color.RED);
         int bounces = 0;
         float remainingLength = maxLength;
         final float EPS_SKIP = 1e-4f;
+        LaserGrid g = grid;
+        if (!sharedGrid && (g == null || !g.matches(mirrors, glasses, solids))) grid = g = new LaserGrid(mirrors, glasses, solids);
+        LaserGrid.Query q = gridQuery;
         while (remainingLength > 0.01f) {
-            Vector2 closestHit = null; Mirror hitMirror = null; Glass hitGlass = null; Solid hitSolid = null;
-            float closestDist = Float.MAX_VALUE;
-            if (mirrors != null) for (Mirror m : mirrors) { Vector2 hit = intersectLine(TMP_ORIGIN, TMP_DIR, m.start, m.end); if (hit != null) { float dist = hit.dst2(TMP_ORIGIN); if (dist < EPS_SKIP*EPS_SKIP) continue; if (dist < closestDist) { closestDist = dist; closestHit = hit; hitMirror = m; hitGlass = null; } } }
-            if (glasses != null) for (Glass g : glasses) { Vector2 hit = intersectLine(TMP_ORIGIN, TMP_DIR, g.start, g.end); if (hit != null) { float dist = hit.dst2(TMP_ORIGIN); if (dist < EPS_SKIP*EPS_SKIP) continue; if (dist < closestDist) { closestDist = dist; closestHit = hit; hitMirror = null; hitGlass = g; hitSolid = null; } } }
-            if (solids != null) for (Solid s : solids) { if (s == null || !s.isBlocking()) continue; Rectangle r = s.getCollisionBounds(); if (r == null) continue; float cx = r.x + r.width*0.5f; float cy = r.y + r.height*0.5f; float dxC = cx - TMP_ORIGIN.x; float dyC = cy - TMP_ORIGIN.y; float diag = r.width*r.width + r.height*r.height; float reach = remainingLength*remainingLength + diag; if (dxC*dxC + dyC*dyC > reach) continue; Vector2 a = new Vector2(r.x, r.y); Vector2 b = new Vector2(r.x + r.width, r.y); Vector2 c = new Vector2(r.x + r.width, r.y + r.height); Vector2 d = new Vector2(r.x, r.y + r.height); Vector2[] segA = {a,b,c,d}; Vector2[] segB = {b,c,d,a}; for (int i=0;i<4;i++){ Vector2 hit = intersectLine(TMP_ORIGIN, TMP_DIR, segA[i], segB[i]); if (hit!=null){ float dist = hit.dst2(TMP_ORIGIN); if (dist < EPS_SKIP*EPS_SKIP) continue; boolean accept = true; if (s instanceof Box){ Color bcol = ((Box) s).getColor(); if (bcol!=null){ float eps = 0.03f; if (Math.abs(bcol.r-currentColor.r)>eps || Math.abs(bcol.g-currentColor.g)>eps || Math.abs(bcol.b-currentColor.b)>eps) accept=false; } } if(!accept) continue; if (dist < closestDist){ closestDist = dist; closestHit = hit; hitMirror = null; hitGlass = null; hitSolid = s; } } } }
-            if (closestHit != null) {
+            Mirror hitMirror = null; Glass hitGlass = null; Solid hitSolid = null;
+            int kind = g.cast(q, tmpOrigin, tmpDir, remainingLength, EPS_SKIP, currentColor, tmpClosest);
+            boolean found = kind != LaserGrid.NONE;
+            if (kind == LaserGrid.MIRROR) hitMirror = mirrors.get(q.getHitIndex());
+            else if (kind == LaserGrid.GLASS) hitGlass = glasses.get(q.getHitIndex());
+            else if (kind == LaserGrid.SOLID) hitSolid = solids.get(q.getHitIndex());
+            float closestDist = q.getHitDist2();
+            if (found) {
                 float hitDist = (float) Math.sqrt(closestDist);
-                if (hitDist > remainingLength) { addPoint(TMP_ORIGIN.x + TMP_DIR.x * remainingLength, TMP_ORIGIN.y + TMP_DIR.y * remainingLength); segmentColors.add(new Color(currentColor)); break; }
-                addPoint(closestHit.x, closestHit.y); segmentColors.add(new Color(currentColor));
-                if (hitSolid != null) { if (hitSolid instanceof Target) ((Target) hitSolid).onLaserHit(currentColor); break; }
-                else if (hitMirror != null) { Vector2 normal = hitMirror.getNormal(); float dot = TMP_DIR.x*normal.x + TMP_DIR.y*normal.y; TMP_DIR.x -= 2f*dot*normal.x; TMP_DIR.y -= 2f*dot*normal.y; TMP_DIR.nor(); remainingLength -= hitDist; TMP_ORIGIN.set(closestHit.x + TMP_DIR.x * EPS_SKIP * 2f, closestHit.y + TMP_DIR.y * EPS_SKIP * 2f); if (++bounces > maxBounces) break; }
-                else if (hitGlass != null) { if (hitGlass.doesTintLaser()) { Color gcol = hitGlass.getTintAt(closestHit, time); float blend = hitGlass.getTintStrength(); currentColor.lerp(gcol, Math.max(0f, Math.min(1f, blend))); currentColor.a = 1f; } remainingLength -= hitDist; TMP_ORIGIN.set(closestHit.x + TMP_DIR.x * EPS_SKIP * 2f, closestHit.y + TMP_DIR.y * EPS_SKIP * 2f); }
-            } else { addPoint(TMP_ORIGIN.x + TMP_DIR.x * remainingLength, TMP_ORIGIN.y + TMP_DIR.y * remainingLength); segmentColors.add(new Color(currentColor)); break; }
+                if (hitDist > remainingLength) { addPoint(tmpOrigin.x + tmpDir.x * remainingLength, tmpOrigin.y + tmpDir.y * remainingLength); addSegment(currentColor, null); break; }
+                addPoint(tmpClosest.x, tmpClosest.y); addSegment(currentColor, hitGlass);
+                if (hitSolid != null) {
+                    if (hitSolid instanceof Target) { hitTarget = (Target) hitSolid; hitColor.set(currentColor); }
+                    break;
+                }
+                else if (hitMirror != null) { Vector2 normal = hitMirror.getNormal(tmpNormal); float dot = tmpDir.x*normal.x + tmpDir.y*normal.y; tmpDir.x -= 2f*dot*normal.x; tmpDir.y -= 2f*dot*normal.y; tmpDir.nor(); remainingLength -= hitDist; tmpOrigin.set(tmpClosest.x + tmpDir.x * EPS_SKIP * 2f, tmpClosest.y + tmpDir.y * EPS_SKIP * 2f); if (++bounces > maxBounces) break; }
+                else if (hitGlass != null) {
+                    if (hitGlass.doesTintLaser()) {
+                        if (hitGlass.isRainbow()) timeTinted = true;
+                        Color gcol = hitGlass.getTintAt(tmpClosest, time, tmpTint); float blend = hitGlass.getTintStrength();
+                        currentColor.lerp(gcol, Math.max(0f, Math.min(1f, blend))); currentColor.a = 1f;
+                    }
+                    remainingLength -= hitDist; tmpOrigin.set(tmpClosest.x + tmpDir.x * EPS_SKIP * 2f, tmpClosest.y + tmpDir.y * EPS_SKIP * 2f);
+                }
+            } else { addPoint(tmpOrigin.x + tmpDir.x * remainingLength, tmpOrigin.y + tmpDir.y * remainingLength); addSegment(currentColor, null); break; }
             if (remainingLength < 5f) break; // early exit tiny remainder
         }
-        PerformanceProfiler.stop("laser_cast");
+        snapshot(mirrors, glasses, solids);
+        if (!deferTargets) updateLitTarget();
+        PerformanceProfiler.end(PROBE_CAST);
         return cachedPoints;
     }
 
+    /**
+     * While set, casts leave the lit target alone and the caller applies the change with
+     * {@link #publishTarget()} (casts running as frame jobs must not touch targets).
+     */
+    public void setDeferTargets(boolean defer) { deferTargets = defer; }
+
+    /** Apply the target hit by the last cast (see {@link #setDeferTargets}). */
+    public void publishTarget() { updateLitTarget(); }
+
+    // Tell targets when this beam starts or stops activating them
+    private void updateLitTarget() {
+        Target lit = hitTarget != null && hitTarget.accepts(hitColor) ? hitTarget : null;
+        if (lit == litTarget) return;
+        if (litTarget != null) litTarget.removeLight();
+        litTarget = lit;
+        if (lit != null) lit.addLight();
+    }
+
+    /** Stop activating the current target (the emitter is being removed). */
+    public void releaseTarget() {
+        hitTarget = null;
+        updateLitTarget();
+        pathValid = false;
+    }
+
+    private void addSegment(Color color, Glass glassAtEnd) {
+        int idx = segmentColors.size();
+        Color c;
+        if (idx < colorPool.size()) c = colorPool.get(idx).set(color);
+        else { c = new Color(color); colorPool.add(c); }
+        segmentColors.add(c);
+        segmentGlass.add(glassAtEnd);
+    }
+
+    // Re-run the color chain over the cached segments for the current rainbow phase
+    private void recolor(float time) {
+        Color c = tmpColor.set(Color.RED);
+        for (int i = 0; i < segmentColors.size(); i++) {
+            segmentColors.get(i).set(c);
+            Glass g = segmentGlass.get(i);
+            if (g != null && g.doesTintLaser() && i + 1 < cachedPoints.size()) {
+                Color gcol = g.getTintAt(cachedPoints.get(i + 1), time, tmpTint);
+                c.lerp(gcol, Math.max(0f, Math.min(1f, g.getTintStrength())));
+                c.a = 1f;
+            }
+        }
+        if (!segmentColors.isEmpty()) hitColor.set(segmentColors.get(segmentColors.size() - 1));
+    }
+
+    // Record the state the current path was computed from
+    private void snapshot(ArrayList<Mirror> mirrors, ArrayList<Glass> glasses, ArrayList<Solid> solids) {
+        castMirrors = mirrors;
+        castGlasses = glasses;
+        castSolids = solids;
+        castX = position.x;
+        castY = position.y;
+        castRotation = rotation;
+        castMaxBounces = maxBounces;
+
+        int mc = mirrors != null ? mirrors.size() : 0;
+        if (mirrorSnap.length != mc * 4) mirrorSnap = new float[mc * 4];
+        for (int i = 0; i < mc; i++) writeMirror(mirrors.get(i), mirrorSnap, i * 4);
+
+        int gc = glasses != null ? glasses.size() : 0;
+        if (glassSnap.length != gc * GLASS_SNAP) glassSnap = new float[gc * GLASS_SNAP];
+        for (int i = 0; i < gc; i++) writeGlass(glasses.get(i), glassSnap, i * GLASS_SNAP);
+
+        dynamicSolids.clear();
+        hasColoredBox = false;
+        castSolidCount = solids != null ? solids.size() : 0;
+        for (int i = 0; i < castSolidCount; i++) {
+            Solid s = solids.get(i);
+            if (s == null || s instanceof com.jjmc.chromashift.environment.Wall) continue;
+            dynamicSolids.add(i);
+            if (s instanceof Box b && b.getColor() != null) hasColoredBox = true;
+        }
+        if (solidSnap.length < dynamicSolids.size * SOLID_SNAP) solidSnap = new float[dynamicSolids.size * SOLID_SNAP];
+        for (int i = 0; i < dynamicSolids.size; i++) {
+            writeSolid(solids.get(dynamicSolids.get(i)), solidSnap, i * SOLID_SNAP, tmpBounds);
+        }
+        pathValid = true;
+    }
+
+    private boolean isPathValid(ArrayList<Mirror> mirrors, ArrayList<Glass> glasses, ArrayList<Solid> solids) {
+        if (!pathValid || mirrors != castMirrors || glasses != castGlasses || solids != castSolids) return false;
+        if (position.x != castX || position.y != castY || rotation != castRotation || maxBounces != castMaxBounces) return false;
+        // Colored boxes pass or block depending on the beam color, which rainbow glass changes
+        if (timeTinted && hasColoredBox) return false;
+
+        int mc = mirrors != null ? mirrors.size() : 0;
+        if (mirrorSnap.length != mc * 4) return false;
+        for (int i = 0; i < mc; i++) {
+            Mirror m = mirrors.get(i);
+            int o = i * 4;
+            if (m.start.x != mirrorSnap[o] || m.start.y != mirrorSnap[o + 1] || m.end.x != mirrorSnap[o + 2] || m.end.y != mirrorSnap[o + 3]) return false;
+        }
+
+        int gc = glasses != null ? glasses.size() : 0;
+        if (glassSnap.length != gc * GLASS_SNAP) return false;
+        float[] tmp = glassTmp;
+        for (int i = 0; i < gc; i++) {
+            writeGlass(glasses.get(i), tmp, 0);
+            int o = i * GLASS_SNAP;
+            for (int k = 0; k < GLASS_SNAP; k++) if (tmp[k] != glassSnap[o + k]) return false;
+        }
+
+        if ((solids != null ? solids.size() : 0) != castSolidCount) return false;
+        float[] cur = solidTmp;
+        for (int i = 0; i < dynamicSolids.size; i++) {
+            Solid s = solids.get(dynamicSolids.get(i));
+            writeSolid(s, cur, 0, tmpBounds);
+            int o = i * SOLID_SNAP;
+            boolean changed = false;
+            for (int k = 0; k < SOLID_SNAP; k++) if (cur[k] != solidSnap[o + k]) { changed = true; break; }
+            if (!changed) continue;
+            // Only matters if the solid was or now is in the beam's way
+            if (pathTouches(solidSnap, o) || pathTouches(cur, 0)) return false;
+            System.arraycopy(cur, 0, solidSnap, o, SOLID_SNAP);
+        }
+        return true;
+    }
+
+    private final float[] glassTmp = new float[GLASS_SNAP];
+    private final float[] solidTmp = new float[SOLID_SNAP];
+    private final Rectangle tmpBounds = new Rectangle();
+
+    private static void writeMirror(Mirror m, float[] out, int o) {
+        out[o] = m.start.x; out[o + 1] = m.start.y; out[o + 2] = m.end.x; out[o + 3] = m.end.y;
+    }
+
+    private static void writeGlass(Glass g, float[] out, int o) {
+        out[o] = g.start.x; out[o + 1] = g.start.y; out[o + 2] = g.end.x; out[o + 3] = g.end.y;
+        out[o + 4] = g.doesTintLaser() ? 1f : 0f; out[o + 5] = g.getTintStrength();
+        out[o + 6] = g.isRainbow() ? 1f : 0f; out[o + 7] = g.getSpeed();
+        out[o + 8] = g.color.r; out[o + 9] = g.color.g; out[o + 10] = g.color.b;
+    }
+
+    // blocking flag, collision bounds (NaN when none), box color (-1 when none)
+    private static void writeSolid(Solid s, float[] out, int o, Rectangle scratch) {
+        boolean blocking = s.isBlocking();
+        Rectangle r = blocking ? s.getCollisionBounds(scratch) : null;
+        out[o] = blocking ? 1f : 0f;
+        out[o + 1] = r != null ? r.x : Float.NaN;
+        out[o + 2] = r != null ? r.y : Float.NaN;
+        out[o + 3] = r != null ? r.width : Float.NaN;
+        out[o + 4] = r != null ? r.height : Float.NaN;
+        Color c = s instanceof Box b ? b.getColor() : null;
+        out[o + 5] = c != null ? c.r : -1f;
+        out[o + 6] = c != null ? c.g : -1f;
+        out[o + 7] = c != null ? c.b : -1f;
+    }
+
+    // Does any cached segment cross the (padded) rectangle stored at snap[o + 1..4]?
+    private boolean pathTouches(float[] snap, int o) {
+        float rx = snap[o + 1], ry = snap[o + 2], rw = snap[o + 3], rh = snap[o + 4];
+        if (Float.isNaN(rx)) return false;
+        float minX = rx - CORRIDOR_PAD, minY = ry - CORRIDOR_PAD;
+        float maxX = rx + rw + CORRIDOR_PAD, maxY = ry + rh + CORRIDOR_PAD;
+        for (int i = 0; i + 1 < cachedPoints.size(); i++) {
+            Vector2 a = cachedPoints.get(i), b = cachedPoints.get(i + 1);
+            if (segmentHitsBox(a.x, a.y, b.x, b.y, minX, minY, maxX, maxY)) return true;
+        }
+        return false;
+    }
+
+    private static boolean segmentHitsBox(float x0, float y0, float x1, float y1, float minX, float minY, float maxX, float maxY) {
+        float tMin = 0f, tMax = 1f;
+        float dx = x1 - x0, dy = y1 - y0;
+        if (Math.abs(dx) < 1e-6f) {
+            if (x0 < minX || x0 > maxX) return false;
+        } else {
+            float t1 = (minX - x0) / dx, t2 = (maxX - x0) / dx;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+        if (Math.abs(dy) < 1e-6f) {
+            if (y0 < minY || y0 > maxY) return false;
+        } else {
+            float t1 = (minY - y0) / dy, t2 = (maxY - y0) / dy;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+        return tMin <= tMax;
+    }
+
     public void draw(ShapeRenderer sr, ArrayList<Vector2> points) {
         if (points == null || points.size() < 2)
             return;
@@ -102,67 +367,26 @@ public class LaserRay implements Interactable {
         return bounds;
     }
 
-    @Override public void update(float delta) { cachedPoints = cast(mirrors, glasses, solids, System.currentTimeMillis()/1000f); }
+    @Override public void update(float delta) { time += delta; cachedPoints = castCached(mirrors, glasses, solids, time); }
 
     @Override
     public void render(SpriteBatch batch) {
-        // Draw beam using SpriteBatch so it's visible without debug mode
+        // The beam itself is drawn by BeamRenderer together with every other laser
         if (cachedPoints != null && cachedPoints.size() >= 2) {
-            ensurePixel(batch);
-            java.util.ArrayList<Color> cols = segmentColors;
-            Color prev = batch.getColor();
-            float pr = prev.r, pg = prev.g, pb = prev.b, pa = prev.a;
-            try {
-                batch.flush();
-                for (int i = 0; i < cachedPoints.size() - 1; i++) {
-                    Vector2 a = cachedPoints.get(i);
-                    Vector2 b = cachedPoints.get(i + 1);
-                    float dx = b.x - a.x;
-                    float dy = b.y - a.y;
-                    float len = (float) Math.sqrt(dx * dx + dy * dy);
-                    float angle = (float) Math.toDegrees(Math.atan2(dy, dx));
-                    Color sc = (cols != null && i < cols.size()) ? cols.get(i) : Color.RED;
-                    // beam thickness: outer 6px, inner 4px (inner is semi-transparent)
-                    float outerTh = 6f;
-                    float innerTh = 4f;
-                    // center-based draw
-                    float cx = (a.x + b.x) * 0.5f;
-                    float cy = (a.y + b.y) * 0.5f;
-                    float x = cx - len / 2f;
-                    float outerY = cy - outerTh / 2f;
-                    // outer colored border (solid)
-                    batch.setColor(sc.r, sc.g, sc.b, 1f);
-                    batch.draw(PIXEL, x, outerY, len / 2f, outerTh / 2f, len, outerTh, 1f, 1f, angle, 0, 0, 1, 1, false,
-                            false);
-                    // inner translucent fill
-                    float innerY = cy - innerTh / 2f;
-                    float innerAlpha = 0.25f; // slightly transparent inner fill
-                    batch.setColor(sc.r, sc.g, sc.b, innerAlpha);
-                    batch.draw(PIXEL, x, innerY, len / 2f, innerTh / 2f, len, innerTh, 1f, 1f, angle, 0, 0, 1, 1, false,
-                            false);
-                }
-                batch.flush();
-            } finally {
-                batch.setColor(pr, pg, pb, pa);
-            }
-
             // Draw the laser base using texture, rotated by rotation (default faces right)
-            if (Assets.manager.isLoaded(TEX_PATH, Texture.class)) {
-                Texture tex = Assets.manager.get(TEX_PATH, Texture.class);
+            TextureRegion sprite = Assets.region(TEX_PATH);
+            if (sprite != null) {
                 float x = bounds.x;
                 float y = bounds.y;
                 float w = bounds.width;
                 float h = bounds.height;
                 // draw centered rotation
-                batch.draw(tex,
+                batch.draw(sprite,
                         x, y,
                         w / 2f, h / 2f, // origin
                         w, h,
                         1f, 1f,
-                        rotation,
-                        0, 0,
-                        tex.getWidth(), tex.getHeight(),
-                        false, false);
+                        rotation);
             }
         }
     }
@@ -170,20 +394,6 @@ public class LaserRay implements Interactable {
     // Provide access to last computed segment colors for external renderers
     public java.util.ArrayList<Color> getLastSegmentColors() { return segmentColors; }
 
-    // PIXEL for batch drawing (lazy)
-    private static com.badlogic.gdx.graphics.Texture PIXEL;
-
-    private static void ensurePixel(SpriteBatch batch) {
-        if (PIXEL == null) {
-            com.badlogic.gdx.graphics.Pixmap pm = new com.badlogic.gdx.graphics.Pixmap(1, 1,
-                    com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888);
-            pm.setColor(com.badlogic.gdx.graphics.Color.WHITE);
-            pm.fill();
-            PIXEL = new com.badlogic.gdx.graphics.Texture(pm);
-            pm.dispose();
-        }
-    }
-
     @Override
     public void debugDraw(ShapeRenderer shape) {
         // Draw emitter bounds for visualization
@@ -215,62 +425,37 @@ public class LaserRay implements Interactable {
     // Environment wiring
     public void setMirrors(java.util.ArrayList<Mirror> ms) {
         this.mirrors = (ms != null) ? ms : new ArrayList<>();
+        dropSharedGrid();
     }
 
     public void setGlasses(java.util.ArrayList<Glass> gs) {
         this.glasses = (gs != null) ? gs : new ArrayList<>();
+        dropSharedGrid();
     }
 
     public void setSolids(java.util.ArrayList<Solid> ss) {
         this.solids = (ss != null) ? ss : new ArrayList<>();
+        dropSharedGrid();
     }
 
-    public void setRotationStep(float step) {
-        this.rotateStep = (step == 0f ? 90f : step);
+    /**
+     * Cast through the level's shared {@code grid} instead of building one per ray. It must
+     * have been built over the lists later passed to {@link #cast}; setting other lists
+     * afterwards drops it again.
+     */
+    public void setGrid(LaserGrid grid) {
+        this.grid = grid;
+        this.sharedGrid = grid != null;
     }
 
-    /** 2D line intersection helper (ray vs segment) */
-    private Vector2 intersectLine(Vector2 rayOrigin, Vector2 rayDir, Vector2 segA, Vector2 segB) {
-        // Solve r_o + t*r = s_a + u*s where r is rayDir and s = segB-segA
-        float rOx = rayOrigin.x;
-        float rOy = rayOrigin.y;
-        float rDx = rayDir.x;
-        float rDy = rayDir.y;
-
-        float sAx = segA.x;
-        float sAy = segA.y;
-        float sBx = segB.x;
-        float sBy = segB.y;
-
-        float sDx = sBx - sAx;
-        float sDy = sBy - sAy;
-
-        // 2D cross product
-        float denom = rDx * sDy - rDy * sDx; // cross(r, s)
-        final float EPS = 1e-6f;
-        if (Math.abs(denom) < EPS) {
-            // parallel (or nearly parallel) - no reliable intersection
-            return null;
-        }
-
-        // vector from ray origin to segment start
-        float wx = sAx - rOx;
-        float wy = sAy - rOy;
-
-        // t = cross(w, s) / denom
-        float t = (wx * sDy - wy * sDx) / denom;
-        // u = cross(w, r) / denom
-        float u = (wx * rDy - wy * rDx) / denom;
-
-        // ray forward (t >= 0) and segment between 0..1 (u in [0,1])
-        if (t < 0f)
-            return null;
-        if (u < 0f || u > 1f)
-            return null;
+    private void dropSharedGrid() {
+        if (!sharedGrid) return;
+        grid = null;
+        sharedGrid = false;
+    }
 
-        // since rayDir is expected to be normalized in cast(), t is the distance along
-        // ray
-        return new Vector2(rOx + rDx * t, rOy + rDy * t);
+    public void setRotationStep(float step) {
+        this.rotateStep = (step == 0f ? 90f : step);
     }
 
     private void addPoint(float x, float y) {
@@ -17,6 +17,9 @@ public class Lever implements Interactable {
     private boolean horizontal = false;
     private com.chromashift.helper.SpriteAnimator anim;
     private String id;
+    // Set when LevelLoader compiled this lever's links into a signal graph
+    private SignalGraph signals;
+    private int signal = -1;
 
     public Lever(float x, float y, float w, float h) {
         this(x, y, w, h, false, null);
@@ -57,6 +60,20 @@ public class Lever implements Interactable {
         if (!this.targets.contains(target)) this.targets.add(target);
     }
 
+    /** Route toggles through {@code graph} instead of calling interact() on the targets. */
+    public void setSignal(SignalGraph graph, int source) {
+        this.signals = graph;
+        this.signal = source;
+    }
+
+    public int getSignal() {
+        return signal;
+    }
+
+    public java.util.List<Interactable> getTargets() {
+        return targets;
+    }
+
     public void setId(String id) {
         this.id = id;
     }
@@ -133,7 +150,8 @@ public class Lever implements Interactable {
         // Update visual frame to reflect new state (toggle between column 0 and 1)
         try { if (anim != null) anim.setFrame(on ? 1 : 0); } catch (Exception ignored) {}
         if (onToggle != null) onToggle.run();
-        for (Interactable t : targets) if (t != null) t.interact();
+        if (signals != null) signals.set(signal, on);
+        else for (Interactable t : targets) if (t != null) t.interact();
     }
 
     public boolean isOn() {
@@ -41,6 +41,11 @@ public class Mirror implements Interactable {
         return new Vector2(-dir.y, dir.x).nor(); // perpendicular
     }
 
+    /** Same as {@link #getNormal()} but writes into {@code out}. */
+    public Vector2 getNormal(Vector2 out) {
+        return out.set(start.y - end.y, end.x - start.x).nor();
+    }
+
     @Override
     public Rectangle getBounds() {
         return bounds;
@@ -77,17 +82,20 @@ public class Mirror implements Interactable {
         Color prev = batch.getColor();
         float pr = prev.r, pg = prev.g, pb = prev.b, pa = prev.a;
         try {
-            batch.flush();
             batch.setColor(Color.CYAN);
             // angleDeg currently represents direction of bar; draw with rotation
             batch.draw(PIXEL, x, y, length/2f, thickness/2f, length, thickness, 1f, 1f, angleDeg,
                     0,0,1,1,false,false);
-            batch.flush();
         } finally {
             batch.setColor(pr, pg, pb, pa);
         }
     }
 
+    @Override
+    public Texture getRenderTexture() {
+        return PIXEL;
+    }
+
     @Override
     public void debugDraw(ShapeRenderer sr) {
         // Draw bounds
@@ -1,12 +1,14 @@
 package com.jjmc.chromashift.environment.interactable;
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
-import com.jjmc.chromashift.player.PlayerCollision;
+import com.jjmc.chromashift.ecs.component.BodyComponent;
+import com.jjmc.chromashift.ecs.component.PositionComponent;
+import com.jjmc.chromashift.ecs.component.VelocityComponent;
 import com.jjmc.chromashift.environment.Solid;
 import com.jjmc.chromashift.player.Player;
 
@@ -15,35 +17,39 @@ import com.jjmc.chromashift.player.Player;
  * but does not block the player. The player can interact (press F) to apply an impulse.
  */
 public class Orb implements Interactable, Pickable {
-    private float x, y;
+    // Position and velocity live in ECS components; PhysicsSystem steps the entity
+    private final Entity entity = new Entity();
+    private final PositionComponent position;
+    private final VelocityComponent velocity = new VelocityComponent();
     private final float radius = 12f;
-    private float vx = 0f, vy = 0f;
-    // Maximum allowed speed (pixels/sec) to prevent velocity stacking from launchpads
-    private float maxSpeed = 1000f;
-    private final Array<Solid> solids;
+    // Bounce, bounciness and the speed cap live here; PhysicsSystem applies them
+    private final BodyComponent body;
     private Array<Interactable> interactables;
     private final Circle circle;
     private boolean inRange = false;
-    
-    // Bounciness factor (1.0 = perfectly elastic, 0.0 = no bounce)
-    private float bounciness = 1f;
-    // Toggle for bounce behavior against solids
-    private boolean bounceEnabled = true;
+    // Scratch for contacts and the interaction range
+    private final Rectangle contactBounds = new Rectangle();
+    private final Rectangle reach = new Rectangle();
     
     // Velocity getters/setters for collision handling
-    public float getVelocityX() { return vx; }
-    public float getVelocityY() { return vy; }
+    public float getVelocityX() { return velocity.x; }
+    public float getVelocityY() { return velocity.y; }
     public void setVelocity(float vx, float vy) { 
         // Set raw velocity; bounciness is applied only on collisions when bouncing
-        this.vx = vx; 
-        this.vy = vy;
+        velocity.x = vx; 
+        velocity.y = vy;
     }
     
     public void setBounciness(float bounciness) {
-        this.bounciness = Math.max(0f, Math.min(1f, bounciness));
+        body.bounciness = Math.max(0f, Math.min(1f, bounciness));
+    }
+    public boolean isBounceEnabled() { return body.bounce; }
+    public void setBounceEnabled(boolean enabled) { body.bounce = enabled; }
+
+    /** Resolve against nearby solids from this index instead of scanning the whole list. */
+    public void setSolidIndex(com.jjmc.chromashift.environment.SolidIndex solidIndex) {
+        body.solidIndex = solidIndex;
     }
-    public boolean isBounceEnabled() { return bounceEnabled; }
-    public void setBounceEnabled(boolean enabled) { this.bounceEnabled = enabled; }
     
     private boolean isCollidingWithSelf(Interactable other) {
         return other == this || (other instanceof Orb && ((Orb)other).holder == this.holder);
@@ -56,9 +62,13 @@ public class Orb implements Interactable, Pickable {
     private final float holdOffsetY = 6f;
 
     public Orb(float x, float y, Array<Solid> solids) {
-        this.x = x;
-        this.y = y;
-        this.solids = solids;
+        this.position = new PositionComponent(x, y);
+        // More slippery than a box: ground friction 8, air damping 0.5
+        this.body = new BodyComponent(this, radius * 2f, radius * 2f, 8f, 0.5f, solids);
+        body.bounce = true;
+        // Cap (pixels/sec) so stacked launchpad impulses can't run away
+        body.maxSpeed = 1000f;
+        entity.add(position).add(velocity).add(body);
         this.circle = new Circle(x + radius, y + radius, radius);
         // Store original spawn for respawn logic
         this.spawnX = x;
@@ -78,89 +88,23 @@ public class Orb implements Interactable, Pickable {
         if (held && holder != null) {
             float centerX = holder.getHitboxX() + holder.getHitboxWidth() / 2f;
             float centerY = holder.getHitboxY() + holder.getHitboxHeight() / 2f;
-            x = centerX - radius + holdOffsetX;
-            y = centerY + holdOffsetY;
-            circle.setPosition(x + radius, y + radius);
-            vx = 0f; vy = 0f;
+            position.x = centerX - radius + holdOffsetX;
+            position.y = centerY + holdOffsetY;
+            circle.setPosition(position.x + radius, position.y + radius);
+            velocity.x = 0f; velocity.y = 0f;
             return;
         }
 
-        float gravity = -800f;
-        vy += gravity * delta;
-        
-        // Apply friction/damping - Orb is more slippery than Box
-        float groundFriction = 8f;   // Lower friction than box
-        float airDamping = 0.5f;     // Less air resistance than box
-        
-        // Check if on ground (vy close to 0 and collision detected)
-        boolean onGround = Math.abs(vy) < 0.1f;
-        if (onGround) {
-            // Direct velocity reduction for ground friction
-            float frictionForce = groundFriction * 60f; // Scale for better control
-            if (Math.abs(vx) <= frictionForce * delta) {
-                vx = 0; // Stop completely if speed is very low
-            } else {
-                // Apply friction in opposite direction of movement
-                float direction = vx > 0 ? -1 : 1;
-                vx += direction * frictionForce * delta;
-            }
-        } else {
-            // Air resistance
-            vx *= (1f - airDamping * delta);
-            vy *= (1f - airDamping * delta);
-        }
-
-        Rectangle before = getBounds();
-
-        x += vx * delta;
-        y += vy * delta;
-        circle.setPosition(x + radius, y + radius);
-
-        if (solids != null) {
-            Rectangle resolved = getBounds();
-            PlayerCollision.resolveSolidCollision(resolved, solids);
-
-            float appliedX = resolved.x - before.x;
-            float appliedY = resolved.y - before.y;
+        // PhysicsSystem has integrated this step, resolved solids and clamped the speed
+        circle.setPosition(position.x + radius, position.y + radius);
 
-            boolean blockedX = Math.abs(appliedX - (x - before.x)) > 0.001f;
-            boolean blockedY = Math.abs(appliedY - (y - before.y)) > 0.001f;
-
-            if (blockedX) {
-                if (bounceEnabled) {
-                    vx = -vx * bounciness;
-                } else {
-                    vx = 0f;
-                }
-            }
-            if (blockedY) {
-                if (bounceEnabled) {
-                    vy = -vy * bounciness;
-                } else {
-                    vy = 0f;
-                }
-            }
-
-            x = resolved.x;
-            y = resolved.y;
-            circle.setPosition(x + radius, y + radius);
-        }
-
-        // Clamp velocity to avoid runaway speeds (e.g., multiple launchpad impulses)
-        float speedSq = vx * vx + vy * vy;
-        if (speedSq > maxSpeed * maxSpeed) {
-            float scale = maxSpeed / (float)Math.sqrt(speedSq);
-            vx *= scale;
-            vy *= scale;
-        }
-        
         // Handle collisions with other interactables
         if (!held && interactables != null) {
             for (Interactable other : interactables) {
                 if (other != this && !isCollidingWithSelf(other)) {
                     Rectangle otherBounds = other.getBounds();
-                    Rectangle thisBounds = getBounds();
-                    if (thisBounds.overlaps(otherBounds)) {
+                    contactBounds.set(position.x, position.y, radius * 2, radius * 2);
+                    if (contactBounds.overlaps(otherBounds)) {
                         // Simple elastic collision response
                         float centerX = circle.x;
                         float centerY = circle.y;
@@ -178,14 +122,14 @@ public class Orb implements Interactable, Pickable {
                             // Resolve overlap
                             float overlap = (radius + otherBounds.width/2) - len;
                             if (overlap > 0) {
-                                x += dx * overlap/2;
-                                y += dy * overlap/2;
-                                circle.setPosition(x + radius, y + radius);
+                                position.x += dx * overlap/2;
+                                position.y += dy * overlap/2;
+                                circle.setPosition(position.x + radius, position.y + radius);
                                 
                                 // Exchange velocities (elastic collision)
                                 if (other instanceof Box || other instanceof Orb) {
-                                    float tmpVx = vx;
-                                    float tmpVy = vy;
+                                    float tmpVx = velocity.x;
+                                    float tmpVy = velocity.y;
                                     
                                     // Get other object's velocity if available
                                     float otherVx = 0, otherVy = 0;
@@ -229,17 +173,20 @@ public class Orb implements Interactable, Pickable {
         com.badlogic.gdx.graphics.Color prev = batch.getColor();
         float pr = prev.r, pg = prev.g, pb = prev.b, pa = prev.a;
         try {
-            batch.flush();
             com.badlogic.gdx.graphics.Color c = com.badlogic.gdx.graphics.Color.YELLOW;
             batch.setColor(c.r, c.g, c.b, 1f);
             // draw circular texture centered on orb
             batch.draw(ORB_CIRCLE, circle.x - radius, circle.y - radius, radius * 2f, radius * 2f);
-            batch.flush();
         } finally {
             batch.setColor(pr, pg, pb, pa);
         }
     }
 
+    @Override
+    public com.badlogic.gdx.graphics.Texture getRenderTexture() {
+        return ORB_CIRCLE;
+    }
+
     // PIXEL for batch drawing (lazy)
     private static com.badlogic.gdx.graphics.Texture PIXEL;
     private static void ensurePixel(SpriteBatch batch) {
@@ -290,17 +237,13 @@ public class Orb implements Interactable, Pickable {
         shape.circle(circle.x, circle.y, circle.radius);
         
         // Draw throw guide when held
-        if (held && holder != null && gameCamera != null) {
+        if (held && holder != null) {
             float startX = circle.x;
             float startY = circle.y;
             
-            // Convert mouse to world coordinates using camera
-            com.badlogic.gdx.math.Vector3 mousePos = new com.badlogic.gdx.math.Vector3(
-                Gdx.input.getX(), Gdx.input.getY(), 0
-            );
-            gameCamera.unproject(mousePos);
-            float mouseX = mousePos.x;
-            float mouseY = mousePos.y;
+            // World-space cursor from the holder's input frame
+            float mouseX = holder.getInputFrame().getMouseX();
+            float mouseY = holder.getInputFrame().getMouseY();
             
             float dirX = mouseX - startX;
             float dirY = mouseY - startY;
@@ -339,13 +282,13 @@ public class Orb implements Interactable, Pickable {
     @Override
     public void interact() {
         // small upward impulse
-        this.vy = 200f;
+        velocity.y = 200f;
     }
 
     @Override
     public void checkInteraction(Rectangle playerHitbox) {
-        Rectangle r = new Rectangle(circle.x - radius - 8, circle.y - radius - 8, radius * 2 + 16, radius * 2 + 16);
-        inRange = playerHitbox.overlaps(r);
+        reach.set(circle.x - radius - 8, circle.y - radius - 8, radius * 2 + 16, radius * 2 + 16);
+        inRange = playerHitbox.overlaps(reach);
     }
 
     @Override
@@ -367,27 +310,29 @@ public class Orb implements Interactable, Pickable {
         if (player == null) return;
         held = true;
         holder = player;
-        vx = 0f; vy = 0f;
+        body.held = true;
+        velocity.x = 0f; velocity.y = 0f;
         float centerX = holder.getHitboxX() + holder.getHitboxWidth() / 2f;
         float centerY = holder.getHitboxY() + holder.getHitboxHeight() / 2f;
-        x = centerX - radius + holdOffsetX;
-        y = centerY + holdOffsetY;
-        circle.setPosition(x + radius, y + radius);
+        position.x = centerX - radius + holdOffsetX;
+        position.y = centerY + holdOffsetY;
+        circle.setPosition(position.x + radius, position.y + radius);
     }
 
     @Override
     public void throwWithVelocity(float vx, float vy) {
         held = false;
         holder = null;
-        this.vx = vx;
-        this.vy = vy;
+        body.held = false;
+        velocity.x = vx;
+        velocity.y = vy;
     }
 
     @Override
     public boolean isHeld() { return held; }
 
     @Override
-    public void drop() { held = false; holder = null; }
+    public void drop() { held = false; holder = null; body.held = false; }
 
     // Expose current holder for systems (e.g., launchpads) that need to affect both
     public Player getHolder() { return holder; }
@@ -400,9 +345,14 @@ public class Orb implements Interactable, Pickable {
     public void setRespawnArea(Rectangle area) { if (area != null) this.respawnArea = area; }
     public Rectangle getRespawnArea() { return respawnArea; }
     public void respawn() {
-        x = spawnX;
-        y = spawnY;
-        vx = 0f; vy = 0f;
-        circle.setPosition(x + radius, y + radius);
+        position.x = spawnX;
+        position.y = spawnY;
+        velocity.x = 0f; velocity.y = 0f;
+        circle.setPosition(position.x + radius, position.y + radius);
+    }
+
+    /** ECS entity holding this object's position, velocity and body components. */
+    public Entity getEntity() {
+        return entity;
     }
 }
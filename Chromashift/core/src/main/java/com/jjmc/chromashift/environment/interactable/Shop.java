@@ -2,14 +2,15 @@ package com.jjmc.chromashift.environment.interactable;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.Array;
+import com.jjmc.chromashift.Assets;
 import com.jjmc.chromashift.player.Player;
 
 /**
@@ -25,7 +26,7 @@ public class Shop implements Interactable {
     private Skin skin;
     private boolean isOpen = false;
     private boolean playerWasMovable = true;
-    private Texture shopTexture;
+    private TextureRegion shopSprite;
     private boolean playerNearby = false;
     
     // Store player state when shop opens
@@ -66,11 +67,7 @@ public class Shop implements Interactable {
         }
         
         // Load shop sprite
-        try {
-            shopTexture = new Texture(Gdx.files.internal("environment/shop.png"));
-        } catch (Exception e) {
-            Gdx.app.error("Shop", "Failed to load shop texture: " + e.getMessage());
-        }
+        shopSprite = Assets.region("environment/shop.png");
         
         // Initialize default inventory
         initializeDefaultInventory();
@@ -151,8 +148,8 @@ public class Shop implements Interactable {
 
     @Override
     public void render(SpriteBatch batch) {
-        if (shopTexture != null) {
-            batch.draw(shopTexture, x, y, width, height);
+        if (shopSprite != null) {
+            batch.draw(shopSprite, x, y, width, height);
         }
     }
 
@@ -287,9 +284,6 @@ public class Shop implements Interactable {
         if (skin != null) {
             skin.dispose();
         }
-        if (shopTexture != null) {
-            shopTexture.dispose();
-        }
     }
     
     public int getPotionStock() {
@@ -0,0 +1,185 @@
+package com.jjmc.chromashift.environment.interactable;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Puzzle logic as a graph of boolean signals. Sources (buttons, levers, targets) report
+ * level changes through {@link #set}; the change is pushed to the nodes and sinks wired
+ * to that source right away, so nothing is evaluated on frames where no source changes.
+ * AND/OR nodes combine signals (a door linked from several buttons or targets stays open
+ * while any of them holds it) and delay nodes hold a change back for a number of fixed
+ * simulation ticks; only pending delays need {@link #tick}.
+ *
+ * LevelLoader.build compiles the links it resolves (doors, lasers, mirrors, portals)
+ * into one graph per level. The graph must stay acyclic.
+ */
+public class SignalGraph {
+    /** Receives the level of the node it is connected to whenever that level changes. */
+    public interface Sink {
+        void signal(boolean level);
+    }
+
+    private static final int SOURCE = 0;
+    private static final int AND = 1;
+    private static final int OR = 2;
+    private static final int DELAY = 3;
+    private static final int SINK = 4;
+
+    private static final class Node {
+        final int kind;
+        boolean level;
+        int highInputs;
+        int inputCount;
+        final IntArray outputs = new IntArray(2);
+        Sink sink;
+        int delayTicks;
+        int ticksLeft;
+        boolean pendingLevel;
+
+        Node(int kind) {
+            this.kind = kind;
+        }
+    }
+
+    private final Array<Node> nodes = new Array<>();
+    // Delay nodes with a change still in flight
+    private final IntArray pending = new IntArray();
+
+    /** New source node, initially low. */
+    public int addSource() {
+        return add(new Node(SOURCE));
+    }
+
+    /** High while every input is high. */
+    public int and(IntArray inputs) {
+        return gate(AND, inputs);
+    }
+
+    /** High while any input is high. */
+    public int or(IntArray inputs) {
+        return gate(OR, inputs);
+    }
+
+    /** Follows {@code input} once its level has held for {@code ticks} simulation ticks. */
+    public int delay(int input, int ticks) {
+        Node n = new Node(DELAY);
+        n.delayTicks = Math.max(0, ticks);
+        n.inputCount = 1;
+        int id = add(n);
+        link(input, id);
+        n.level = n.pendingLevel = nodes.get(input).level;
+        return id;
+    }
+
+    /** Call {@code sink} with the node's level on every change. */
+    public void connect(int from, Sink sink) {
+        if (sink == null) return;
+        Node n = new Node(SINK);
+        n.sink = sink;
+        link(from, add(n));
+    }
+
+    /** Door open while the node is high. */
+    public void connectDoor(int from, Door door) {
+        if (door != null) connect(from, door::setOpen);
+    }
+
+    /** interact() on each rising edge (buttons and targets pulsing lasers or mirrors). */
+    public void connectPulse(int from, Interactable target) {
+        if (target != null) connect(from, level -> {
+            if (level) target.interact();
+        });
+    }
+
+    /** interact() on every edge (levers toggling whatever they are linked to). */
+    public void connectToggle(int from, Interactable target) {
+        if (target != null) connect(from, level -> target.interact());
+    }
+
+    /** Set a source's level; propagates immediately if it changed. */
+    public void set(int source, boolean level) {
+        Node n = nodes.get(source);
+        if (n.kind != SOURCE) throw new IllegalArgumentException("Node " + source + " is not a source");
+        setLevel(source, level);
+    }
+
+    public boolean get(int node) {
+        return nodes.get(node).level;
+    }
+
+    public int getNodeCount() { return nodes.size; }
+
+    /** Advance pending delays by one fixed tick. Free when none are pending. */
+    public void tick() {
+        for (int i = pending.size - 1; i >= 0; i--) {
+            int id = pending.get(i);
+            Node n = nodes.get(id);
+            if (--n.ticksLeft > 0) continue;
+            pending.removeIndex(i);
+            setLevel(id, n.pendingLevel);
+        }
+    }
+
+    private int gate(int kind, IntArray inputs) {
+        Node n = new Node(kind);
+        int id = add(n);
+        for (int i = 0; i < inputs.size; i++) {
+            int in = inputs.get(i);
+            link(in, id);
+            n.inputCount++;
+            if (nodes.get(in).level) n.highInputs++;
+        }
+        n.level = evaluate(n);
+        return id;
+    }
+
+    private int add(Node n) {
+        nodes.add(n);
+        return nodes.size - 1;
+    }
+
+    private void link(int from, int to) {
+        nodes.get(from).outputs.add(to);
+    }
+
+    private void setLevel(int id, boolean level) {
+        Node n = nodes.get(id);
+        if (n.level == level) return;
+        n.level = level;
+        for (int i = 0; i < n.outputs.size; i++) {
+            input(n.outputs.get(i), level);
+        }
+    }
+
+    // One input of node `id` changed to `high`
+    private void input(int id, boolean high) {
+        Node n = nodes.get(id);
+        switch (n.kind) {
+            case AND, OR -> {
+                n.highInputs += high ? 1 : -1;
+                setLevel(id, evaluate(n));
+            }
+            case DELAY -> {
+                n.pendingLevel = high;
+                n.ticksLeft = n.delayTicks;
+                if (n.delayTicks == 0) {
+                    pending.removeValue(id);
+                    setLevel(id, high);
+                } else if (!pending.contains(id)) {
+                    pending.add(id);
+                }
+            }
+            case SINK -> {
+                n.level = high;
+                n.sink.signal(high);
+            }
+            default -> {
+            }
+        }
+    }
+
+    private static boolean evaluate(Node n) {
+        return n.kind == AND ? n.inputCount > 0 && n.highInputs == n.inputCount : n.highInputs > 0;
+    }
+}
@@ -16,7 +16,11 @@ public class Target implements Interactable, Solid {
     private final SpriteAnimator anim;
 
     private boolean active = false;
-    private boolean hitThisFrame = false;
+    // Lasers currently hitting this target with a matching color
+    private int lightCount = 0;
+    // Set when LevelLoader compiled this target's links into a signal graph
+    private SignalGraph signals;
+    private int signal = -1;
 
     private final Array<Door> linkedDoors = new Array<>();
     private final Array<Interactable> linkedInteractables = new Array<>();
@@ -24,10 +28,6 @@ public class Target implements Interactable, Solid {
     // Target is 32x32
     private static final float SIZE = 32f;
 
-    // Registry of all targets so lasers (which may run before/after targets) can
-    // reliably finalize activation state once all lasers have cast for the frame.
-    private static final Array<Target> INSTANCES = new Array<>();
-
     public Target(float x, float y, Button.ButtonColor color) {
         this.bounds = new Rectangle(x, y, SIZE, SIZE);
         this.color = color;
@@ -39,9 +39,6 @@ public class Target implements Interactable, Solid {
         // active state.
         this.anim.addAnimation("default", color.getRowIndex(), 0, 2, 0.1f, false);
         this.anim.play("default", false);
-        
-        // Register instance for global finalize pass
-        INSTANCES.add(this);
     }
 
     public void addLinkedDoor(Door d) {
@@ -60,30 +57,44 @@ public class Target implements Interactable, Solid {
         return color;
     }
 
+    /** Route activation through {@code graph} instead of pushing to the linked objects. */
+    public void setSignal(SignalGraph graph, int source) {
+        this.signals = graph;
+        this.signal = source;
+    }
+
+    public int getSignal() {
+        return signal;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    /** Whether a beam of this color activates the target (glass-tinted beams allowed). */
+    public boolean accepts(Color laserColor) {
+        return laserColor != null && colorsMatch(getColorValue(this.color), laserColor);
+    }
+
     /**
-     * Called by LaserRay when it hits this target.
-     * 
-     * @param laserColor The color of the laser beam hitting the target.
+     * A laser started hitting this target with an accepted color. Each LaserRay calls this
+     * once per hit and {@link #removeLight()} once when the hit ends, so the target only
+     * changes state on those edges.
      */
-    public void onLaserHit(Color laserColor) {
-        // Check if laser color matches target color
-        // We need to map ButtonColor to libGDX Color for comparison
-        Color targetColorVal = getColorValue(this.color);
-
-        // Use a small epsilon for float comparison if needed, or just checking equality
-        // if they are the same constants
-        // LaserRay uses Color.RED, etc. Glass tints it.
-        // We should use a tolerance.
-        if (colorsMatch(targetColorVal, laserColor)) {
-            // Mark that we were hit this frame
-            hitThisFrame = true;
-            // If not already active, immediately activate and trigger links so
-            // activation is instantaneous regardless of update ordering
-            if (!active) {
-                active = true;
-                triggerLinks(true);
-            }
-        }
+    void addLight() {
+        if (lightCount++ == 0) setActive(true);
+    }
+
+    void removeLight() {
+        if (lightCount > 0 && --lightCount == 0) setActive(false);
+    }
+
+    private void setActive(boolean on) {
+        if (active == on) return;
+        active = on;
+        anim.setFrame(on ? 1 : 0);
+        if (signals != null) signals.set(signal, on);
+        else triggerLinks(on);
     }
 
     private Color getColorValue(Button.ButtonColor bc) {
@@ -112,33 +123,11 @@ public class Target implements Interactable, Solid {
 
     @Override
     public void update(float delta) {
-        // Visual update only. Activation/deactivation are handled immediately in
-        // onLaserHit() and in the global finalize pass `finalizeFrame()` which is
-        // invoked once per frame after all lasers have been updated.
+        // Visual update only; activation changes come from LaserRay via addLight/removeLight
         anim.setFrame(active ? 1 : 0);
         anim.update(delta);
     }
 
-    /**
-     * Called once per frame after all Laser/LaserRay instances have been updated
-     * so targets that were not hit this frame can be deactivated immediately.
-     */
-    public static void finalizeFrame() {
-        for (int i = 0; i < INSTANCES.size; i++) {
-            Target t = INSTANCES.get(i);
-            boolean wasActive = t.active;
-            // If this frame we were not hit but were previously active, deactivate
-            if (!t.hitThisFrame && wasActive) {
-                t.active = false;
-                t.triggerLinks(false);
-            }
-            // reset hit flag for next frame
-            t.hitThisFrame = false;
-            // update sprite frame to reflect final state
-            if (t.anim != null) t.anim.setFrame(t.active ? 1 : 0);
-        }
-    }
-
     private void triggerLinks(boolean open) {
         for (Door d : linkedDoors) {
             d.setOpen(open);
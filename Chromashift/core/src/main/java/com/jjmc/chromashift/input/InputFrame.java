@@ -0,0 +1,127 @@
+package com.jjmc.chromashift.input;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.math.Vector3;
+
+import java.util.Arrays;
+
+/**
+ * Keyboard/mouse state for one simulation tick. The screen samples it once per frame
+ * (or an {@link InputReplay} fills it) and gameplay code reads it instead of polling
+ * Gdx.input, so every object in a tick sees the same input and runs can be replayed.
+ *
+ * Just-pressed edges accumulate across frames until {@link #consumeEdges()} so a frame
+ * that runs no tick does not lose them, and a frame that runs several ticks only
+ * delivers them to the first one.
+ */
+public final class InputFrame {
+    static final int KEY_WORDS = (Input.Keys.MAX_KEYCODE >> 6) + 1;
+    static final int BUTTON_COUNT = Input.Buttons.FORWARD + 1;
+
+    final long[] keysDown = new long[KEY_WORDS];
+    final long[] keysPressed = new long[KEY_WORDS];
+    int buttonsDown;
+    int buttonsPressed;
+    // Mouse in world coordinates (unprojected with the game camera at sample time)
+    float mouseX, mouseY;
+
+    private final Vector3 tmp = new Vector3();
+
+    public boolean isKeyPressed(int key) {
+        if (key == Input.Keys.ANY_KEY) return any(keysDown);
+        return test(keysDown, key);
+    }
+
+    public boolean isKeyJustPressed(int key) {
+        if (key == Input.Keys.ANY_KEY) return any(keysPressed);
+        return test(keysPressed, key);
+    }
+
+    public boolean isButtonPressed(int button) {
+        return button >= 0 && button < BUTTON_COUNT && (buttonsDown & (1 << button)) != 0;
+    }
+
+    public boolean isButtonJustPressed(int button) {
+        return button >= 0 && button < BUTTON_COUNT && (buttonsPressed & (1 << button)) != 0;
+    }
+
+    /** True when any key or mouse button went down since the last consumed tick. */
+    public boolean hasEdges() {
+        return buttonsPressed != 0 || any(keysPressed);
+    }
+
+    public float getMouseX() { return mouseX; }
+    public float getMouseY() { return mouseY; }
+
+    /**
+     * Poll the live input. {@code camera} converts the cursor to world space; null keeps
+     * screen coordinates (y down), which is what headless runs get.
+     */
+    public void sample(Camera camera) {
+        Input in = Gdx.input;
+        if (in == null) return;
+        for (int key = 0; key <= Input.Keys.MAX_KEYCODE; key++) {
+            long bit = 1L << (key & 63);
+            int w = key >> 6;
+            if (in.isKeyPressed(key)) keysDown[w] |= bit; else keysDown[w] &= ~bit;
+            if (in.isKeyJustPressed(key)) keysPressed[w] |= bit;
+        }
+        for (int b = 0; b < BUTTON_COUNT; b++) {
+            int bit = 1 << b;
+            if (in.isButtonPressed(b)) buttonsDown |= bit; else buttonsDown &= ~bit;
+            if (in.isButtonJustPressed(b)) buttonsPressed |= bit;
+        }
+        tmp.set(in.getX(), in.getY(), 0f);
+        if (camera != null) camera.unproject(tmp);
+        mouseX = tmp.x;
+        mouseY = tmp.y;
+    }
+
+    /** Scripted input (tests, bots): hold or release {@code key}. */
+    public void setKeyDown(int key, boolean down) {
+        if (key < 0 || key > Input.Keys.MAX_KEYCODE) return;
+        long bit = 1L << (key & 63);
+        if (down) keysDown[key >> 6] |= bit; else keysDown[key >> 6] &= ~bit;
+    }
+
+    /** Scripted input: {@code key} goes down this tick (held and just pressed). */
+    public void pressKey(int key) {
+        if (key < 0 || key > Input.Keys.MAX_KEYCODE) return;
+        setKeyDown(key, true);
+        keysPressed[key >> 6] |= 1L << (key & 63);
+    }
+
+    /** Drop just-pressed edges once a tick has seen them. */
+    public void consumeEdges() {
+        Arrays.fill(keysPressed, 0L);
+        buttonsPressed = 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keysDown, 0L);
+        consumeEdges();
+        buttonsDown = 0;
+        mouseX = mouseY = 0f;
+    }
+
+    public void set(InputFrame other) {
+        System.arraycopy(other.keysDown, 0, keysDown, 0, KEY_WORDS);
+        System.arraycopy(other.keysPressed, 0, keysPressed, 0, KEY_WORDS);
+        buttonsDown = other.buttonsDown;
+        buttonsPressed = other.buttonsPressed;
+        mouseX = other.mouseX;
+        mouseY = other.mouseY;
+    }
+
+    private static boolean test(long[] bits, int key) {
+        if (key < 0 || key > Input.Keys.MAX_KEYCODE) return false;
+        return (bits[key >> 6] & (1L << (key & 63))) != 0L;
+    }
+
+    private static boolean any(long[] bits) {
+        for (long w : bits) if (w != 0L) return true;
+        return false;
+    }
+}
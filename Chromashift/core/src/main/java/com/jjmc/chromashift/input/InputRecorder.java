@@ -0,0 +1,132 @@
+package com.jjmc.chromashift.input;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the per-tick {@link InputFrame} stream of a play session so it can be replayed
+ * with {@link InputReplay}. The header holds what a replay needs to start from the same
+ * place: level path, RNG seed, step length, the level JSON that was built plus any saved
+ * overrides applied to it, and the player's state and color when the first tick ran (after
+ * a saved game was restored). Ticks are stored as deltas against the previous tick, so idle
+ * ticks cost one byte before gzip.
+ *
+ * File layout (gzip): header, then per tick a flags byte followed by the changed fields,
+ * then {@link #END} with the tick count and the final player position for verification.
+ */
+public class InputRecorder {
+    static final int MAGIC = 0x43535250; // "CSRP"
+    static final int VERSION = 2;
+
+    static final int KEYS_DOWN = 1;
+    static final int KEYS_PRESSED = 1 << 1;
+    static final int BUTTONS_DOWN = 1 << 2;
+    static final int BUTTONS_PRESSED = 1 << 3;
+    static final int MOUSE = 1 << 4;
+    static final int END = 0xFF;
+
+    private final FileHandle file;
+    private DataOutputStream out;
+    private final InputFrame last = new InputFrame();
+    private int ticks = 0;
+
+    /**
+     * @param levelJson     LevelIO JSON of the level state that was built
+     * @param overridesJson GameLevelSave overrides applied on top of it, or null
+     * @param playerType    color name of the player (PlayerType.getColorName)
+     * @param playerJson    PlayerIO JSON of the player as the first tick starts
+     */
+    public InputRecorder(FileHandle file, String levelPath, long seed, float stepSeconds,
+                         String levelJson, String overridesJson,
+                         String playerType, String playerJson) throws IOException {
+        this.file = file;
+        out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(file.write(false))));
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeUTF(levelPath != null ? levelPath : "");
+        out.writeLong(seed);
+        out.writeFloat(stepSeconds);
+        writeText(levelJson);
+        writeText(overridesJson);
+        out.writeUTF(playerType != null ? playerType : "");
+        writeText(playerJson);
+    }
+
+    /** Append the input of the tick that is about to run. */
+    public void record(InputFrame f) throws IOException {
+        if (out == null) return;
+        int downWords = changedWords(f.keysDown, last.keysDown);
+        int pressedWords = changedWords(f.keysPressed, null);
+        int flags = 0;
+        if (downWords != 0) flags |= KEYS_DOWN;
+        if (pressedWords != 0) flags |= KEYS_PRESSED;
+        if (f.buttonsDown != last.buttonsDown) flags |= BUTTONS_DOWN;
+        if (f.buttonsPressed != 0) flags |= BUTTONS_PRESSED;
+        if (Float.floatToIntBits(f.mouseX) != Float.floatToIntBits(last.mouseX)
+                || Float.floatToIntBits(f.mouseY) != Float.floatToIntBits(last.mouseY)) flags |= MOUSE;
+
+        out.writeByte(flags);
+        if (downWords != 0) writeWords(f.keysDown, downWords);
+        if (pressedWords != 0) writeWords(f.keysPressed, pressedWords);
+        if ((flags & BUTTONS_DOWN) != 0) out.writeByte(f.buttonsDown);
+        if ((flags & BUTTONS_PRESSED) != 0) out.writeByte(f.buttonsPressed);
+        if ((flags & MOUSE) != 0) {
+            out.writeFloat(f.mouseX);
+            out.writeFloat(f.mouseY);
+        }
+        last.set(f);
+        ticks++;
+    }
+
+    /** Write the footer and close the file. Safe to call more than once. */
+    public void finish(float finalX, float finalY) {
+        if (out == null) return;
+        try {
+            out.writeByte(END);
+            out.writeInt(ticks);
+            out.writeFloat(finalX);
+            out.writeFloat(finalY);
+            out.close();
+            Gdx.app.log("InputRecorder", "Saved " + ticks + " ticks to " + file.path());
+        } catch (IOException e) {
+            Gdx.app.error("InputRecorder", "Failed to finish " + file.path() + ": " + e.getMessage());
+        }
+        out = null;
+    }
+
+    public int getTickCount() { return ticks; }
+    public boolean isOpen() { return out != null; }
+
+    // Length-prefixed UTF-8 (level JSON exceeds writeUTF's 64 KB limit); -1 for null
+    private void writeText(String text) throws IOException {
+        if (text == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /** Bit i set when word i differs from {@code prev} (or is non-zero when prev is null). */
+    private static int changedWords(long[] cur, long[] prev) {
+        int mask = 0;
+        for (int i = 0; i < InputFrame.KEY_WORDS; i++) {
+            if (cur[i] != (prev != null ? prev[i] : 0L)) mask |= 1 << i;
+        }
+        return mask;
+    }
+
+    private void writeWords(long[] words, int mask) throws IOException {
+        out.writeByte(mask);
+        for (int i = 0; i < InputFrame.KEY_WORDS; i++) {
+            if ((mask & (1 << i)) != 0) out.writeLong(words[i]);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.jjmc.chromashift.input;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Plays back a file written by {@link InputRecorder}: {@link #next(InputFrame)} fills one
+ * tick of input at a time. Before stepping, seed MathUtils.random with {@link #getSeed()},
+ * build {@link #getLevelJson()} and apply {@link #getLevelOverrides()}, apply the recorded
+ * player state and color, then seed MathUtils.random again (the recorder reseeds on its
+ * first tick). With the same step length the simulation then sees exactly the recorded input.
+ */
+public class InputReplay {
+    private final String levelPath;
+    private final long seed;
+    private final float stepSeconds;
+    private final String levelJson;
+    private final String levelOverrides;
+    private final String playerType;
+    private final String playerJson;
+
+    private DataInputStream in;
+    private final InputFrame state = new InputFrame();
+    private int ticks = 0;
+    private boolean ended = false;
+    private int recordedTicks = -1;
+    private float finalX, finalY;
+
+    public InputReplay(FileHandle file) throws IOException {
+        in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(file.read())));
+        if (in.readInt() != InputRecorder.MAGIC) {
+            in.close();
+            throw new IOException("Not an input recording: " + file.path());
+        }
+        int version = in.readUnsignedShort();
+        if (version != InputRecorder.VERSION) {
+            in.close();
+            throw new IOException("Unsupported recording version " + version + ": " + file.path());
+        }
+        levelPath = in.readUTF();
+        seed = in.readLong();
+        stepSeconds = in.readFloat();
+        levelJson = readText();
+        levelOverrides = readText();
+        playerType = in.readUTF();
+        playerJson = readText();
+    }
+
+    private String readText() throws IOException {
+        int length = in.readInt();
+        if (length < 0) return null;
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Fill {@code out} with the next recorded tick. Returns false (and leaves {@code out}
+     * cleared) once the recording is exhausted.
+     */
+    public boolean next(InputFrame out) throws IOException {
+        if (ended) {
+            out.clear();
+            return false;
+        }
+        int flags = in.readUnsignedByte();
+        if (flags == InputRecorder.END) {
+            recordedTicks = in.readInt();
+            finalX = in.readFloat();
+            finalY = in.readFloat();
+            close();
+            out.clear();
+            return false;
+        }
+        Arrays.fill(state.keysPressed, 0L);
+        state.buttonsPressed = 0;
+        if ((flags & InputRecorder.KEYS_DOWN) != 0) readWords(state.keysDown);
+        if ((flags & InputRecorder.KEYS_PRESSED) != 0) readWords(state.keysPressed);
+        if ((flags & InputRecorder.BUTTONS_DOWN) != 0) state.buttonsDown = in.readUnsignedByte();
+        if ((flags & InputRecorder.BUTTONS_PRESSED) != 0) state.buttonsPressed = in.readUnsignedByte();
+        if ((flags & InputRecorder.MOUSE) != 0) {
+            state.mouseX = in.readFloat();
+            state.mouseY = in.readFloat();
+        }
+        out.set(state);
+        ticks++;
+        return true;
+    }
+
+    private void readWords(long[] words) throws IOException {
+        int mask = in.readUnsignedByte();
+        for (int i = 0; i < InputFrame.KEY_WORDS; i++) {
+            if ((mask & (1 << i)) != 0) words[i] = in.readLong();
+        }
+    }
+
+    /**
+     * True when the replay reached the end of the file and the player finished exactly
+     * where the recording did (bit-for-bit float compare).
+     */
+    public boolean matchesRecording(float playerX, float playerY) {
+        return recordedTicks == ticks
+                && Float.floatToIntBits(playerX) == Float.floatToIntBits(finalX)
+                && Float.floatToIntBits(playerY) == Float.floatToIntBits(finalY);
+    }
+
+    public void close() {
+        ended = true;
+        if (in == null) return;
+        try { in.close(); } catch (IOException ignored) {}
+        in = null;
+    }
+
+    public String getLevelPath() { return levelPath; }
+    public long getSeed() { return seed; }
+    public float getStepSeconds() { return stepSeconds; }
+    /** LevelIO JSON of the level as it was built. */
+    public String getLevelJson() { return levelJson; }
+    /** GameLevelSave overrides applied to the level, or null. */
+    public String getLevelOverrides() { return levelOverrides; }
+    /** PlayerType color name. */
+    public String getPlayerType() { return playerType; }
+    /** PlayerIO JSON of the player when recording started. */
+    public String getPlayerJson() { return playerJson; }
+    public int getTicksPlayed() { return ticks; }
+    public int getRecordedTicks() { return recordedTicks; }
+    public float getRecordedFinalX() { return finalX; }
+    public float getRecordedFinalY() { return finalY; }
+    public boolean isFinished() { return ended; }
+}
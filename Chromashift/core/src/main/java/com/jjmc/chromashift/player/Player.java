@@ -8,6 +8,7 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
+import com.jjmc.chromashift.input.InputFrame;
 import com.jjmc.chromashift.environment.interactable.Box;
 import com.jjmc.chromashift.environment.interactable.Orb;
 import com.jjmc.chromashift.healthsystem.HealthListener;
@@ -27,6 +28,8 @@ import com.jjmc.chromashift.player.sfx.PlayerSFX;
  */
 public class Player {
     private SpriteAnimator anim;
+    // Handle of the attack clip in anim (drawn wider than the other clips)
+    private int clipAttack = -1;
     private PlayerSFX sfx;
 
     // Input keys
@@ -43,6 +46,8 @@ public class Player {
     protected boolean canJump = true;
     private boolean moving = false;
     private com.badlogic.gdx.graphics.Camera gameCamera;
+    // Input for the current simulation tick (shared with the screen/simulation that fills it)
+    private InputFrame input = new InputFrame();
     // Persistent UI overlay for this player
     private PlayerUI playerUI;
 
@@ -53,6 +58,15 @@ public class Player {
     // Hover after dash skill to avoid gravity snap
     protected float dashHoverRemaining = 0f;
 
+    /** Use {@code frame} as this player's input source; gameplay code reads it instead of Gdx.input. */
+    public void setInputFrame(InputFrame frame) {
+        this.input = (frame != null) ? frame : new InputFrame();
+    }
+
+    public InputFrame getInputFrame() {
+        return input;
+    }
+
     public void setCamera(com.badlogic.gdx.graphics.Camera camera) {
         this.gameCamera = camera;
         // Set camera for held object
@@ -108,6 +122,15 @@ public class Player {
     
     // Solids tracking for skill collision detection
     private Array<com.jjmc.chromashift.environment.Solid> solids;
+    // Broadphase over the level's solids; when set, movement only resolves against the
+    // walls/solids near the player, gathered once per tick into the reused arrays below
+    private com.jjmc.chromashift.environment.SolidIndex solidIndex;
+    private final Array<Wall> nearbyWalls = new Array<>();
+    private final Array<Solid> nearbySolids = new Array<>();
+    private final Rectangle nearbyArea = new Rectangle();
+    private final Array<Wall> blockingWalls = new Array<>();
+    // Extra room around the per-tick reach (sensors, landing threshold, float error)
+    private static final float NEARBY_MARGIN = 32f;
     
     // Anim state to avoid resets every frame
     private String lastAnimationName = null;
@@ -150,15 +173,7 @@ public class Player {
         this.hitboxWidth = config.hitboxWidth;
         this.hitboxHeight = config.hitboxHeight;
 
-        anim = new SpriteAnimator(this.type.getSpritePath(), rows, cols);
-        anim.addAnimation("run", 0, 0, 9, 0.1f, true);
-        anim.addAnimation("jump", 1, 0, 8, 0.1f, true);
-        anim.addAnimation("fall", 2, 0, 8, 0.1f, true);
-        anim.addAnimation("idle", 3, 0, 1, 0.1f, true);
-        anim.addAnimation("wallslide", 4, 0, 8, 0.1f, true);
-        anim.addAnimation("dash", 5, 0, 9, 0.05f, false);
-        anim.addAnimationFromTexture("attack", type.getAttackSpritePath(), attackFrameW, attackFrameH, attackFrames,
-                0.08f, false);
+        anim = createAnimator(this.type);
 
         wallSensor = new Circle(x, y, 5f);
         backSensor = new Circle(x, y, 3f);
@@ -228,20 +243,31 @@ public class Player {
         });
     }
 
+    /**
+     * Animator over the cached clip set of {@code t}'s sheets. The first player of a type
+     * splits the sheets; later ones (and switching back to a colour) reuse the clips.
+     */
+    private SpriteAnimator createAnimator(PlayerType t) {
+        SpriteAnimator a = new SpriteAnimator(t.getSpritePath(), rows, cols);
+        a.addAnimation("run", 0, 0, 9, 0.1f, true);
+        a.addAnimation("jump", 1, 0, 8, 0.1f, true);
+        a.addAnimation("fall", 2, 0, 8, 0.1f, true);
+        a.addAnimation("idle", 3, 0, 1, 0.1f, true);
+        a.addAnimation("wallslide", 4, 0, 8, 0.1f, true);
+        a.addAnimation("dash", 5, 0, 9, 0.05f, false);
+        a.addAnimationFromTexture("attack", t.getAttackSpritePath(), attackFrameW, attackFrameH, attackFrames,
+                0.08f, false);
+        clipAttack = a.getClip("attack");
+        return a;
+    }
+
     public void setType(PlayerType newType) {
         if (newType == null) return;
         this.type = newType;
         try {
-            // Rebuild animator with new sprite/attack sheets
-            anim = new SpriteAnimator(this.type.getSpritePath(), rows, cols);
-            anim.addAnimation("run", 0, 0, 9, 0.1f, true);
-            anim.addAnimation("jump", 1, 0, 8, 0.1f, true);
-            anim.addAnimation("fall", 2, 0, 8, 0.1f, true);
-            anim.addAnimation("idle", 3, 0, 1, 0.1f, true);
-            anim.addAnimation("wallslide", 4, 0, 8, 0.1f, true);
-            anim.addAnimation("dash", 5, 0, 9, 0.05f, false);
-            anim.addAnimationFromTexture("attack", type.getAttackSpritePath(), attackFrameW, attackFrameH, attackFrames,
-                    0.08f, false);
+            // Switch to the new type's sprite/attack sheets (clips are cached per type)
+            anim = createAnimator(this.type);
+            lastAnimationName = null;
             setAnimation("idle", false);
         } catch (Exception e) {
             Gdx.app.error("Player", "Failed to apply player type: " + newType + ", " + e.getMessage());
@@ -298,8 +324,12 @@ public class Player {
     }
 
     public void update(float delta, float groundY, Array<Wall> walls, Array<Solid> solids) {
-        // Store solids for skills
-        this.solids = solids;
+        // Store solids for skills (the broadphase subset is only for movement)
+        if (solids != nearbySolids) this.solids = solids;
+
+        // Held-object pointer animates at the simulation rate like everything else
+        if (heldObject != null && pointerAnimator != null)
+            pointerAnimator.update(delta);
         
         // Health tick
         if (health != null)
@@ -362,7 +392,7 @@ public class Player {
         if (activeProjectiles != null && !activeProjectiles.isEmpty()) {
             for (int i = activeProjectiles.size - 1; i >= 0; i--) {
                 com.jjmc.chromashift.player.skill.Projectile proj = activeProjectiles.get(i);
-                proj.update(delta, solids, enemies);
+                proj.update(delta, solidIndex, this.solids, enemies);
                 if (proj.isFinished()) {
                     activeProjectiles.removeIndex(i);
                 }
@@ -370,13 +400,18 @@ public class Player {
         }
         
         // Handle skill key input (Q and E keys)
-        if (!isStunned && Gdx.input.isKeyJustPressed(Input.Keys.Q)) {
+        if (!isStunned && input.isKeyJustPressed(Input.Keys.Q)) {
             castSkill('Q');
         }
-        if (!isStunned && Gdx.input.isKeyJustPressed(Input.Keys.E)) {
+        if (!isStunned && input.isKeyJustPressed(Input.Keys.E)) {
             castSkill('E');
         }
 
+        if (solids == nearbySolids && solidIndex != null) {
+            // Skills above may have moved the player, so gather the sets for movement here
+            gatherNearby(delta);
+        }
+
         if (dashing && !isStunned) {
             PlayerLogic.handleDash(this, delta, walls, solids);
             anim.update(delta);
@@ -403,8 +438,8 @@ public class Player {
         }
         // Allow facing direction changes while captured (so attacks can aim)
         if (capturedByTentacle && !isStunned) {
-            boolean inputLeft = Gdx.input.isKeyPressed(keyLeft);
-            boolean inputRight = Gdx.input.isKeyPressed(keyRight);
+            boolean inputLeft = input.isKeyPressed(keyLeft);
+            boolean inputRight = input.isKeyPressed(keyRight);
             if (inputLeft && !inputRight) facingLeft = true;
             else if (inputRight && !inputLeft) facingLeft = false;
         }
@@ -413,7 +448,7 @@ public class Player {
             PlayerLogic.handleAttack(this, delta);
         }
 
-        if (!isStunned && !capturedByTentacle && !skillLock && Gdx.input.isKeyJustPressed(keyDash) && !dashing && dashCooldownTimer <= 0f && !dashUsed) {
+        if (!isStunned && !capturedByTentacle && !skillLock && input.isKeyJustPressed(keyDash) && !dashing && dashCooldownTimer <= 0f && !dashUsed) {
             dashing = true;
             dashTimer = config.dashTime;
             setAnimation("dash", facingLeft);
@@ -491,7 +526,7 @@ public class Player {
         }
         
         // Handle potion usage (H key)
-        if (!isStunned && Gdx.input.isKeyJustPressed(Input.Keys.H)) {
+        if (!isStunned && input.isKeyJustPressed(Input.Keys.H)) {
             usePotion();
         }
         
@@ -507,17 +542,14 @@ public class Player {
         // Store solids reference for skill collision detection
         this.solids = solids;
         
-        Array<Wall> walls = new Array<>();
-        for (Solid s : solids) {
-            if (!s.isBlocking())
-                continue;
-            if (s instanceof Wall w)
-                walls.add(w);
-        }
         groundedBySolid = false;
 
         // health handled in the chained update
-        update(delta, groundY, walls, solids);
+        if (solidIndex != null && solidIndex.getSolids() == solids) {
+            update(delta, groundY, nearbyWalls, nearbySolids);
+        } else {
+            update(delta, groundY, blockingWalls(solids), solids);
+        }
 
         if (onGround || onWall || wallSliding)
             dashUsed = false;
@@ -527,7 +559,7 @@ public class Player {
         for (Interactable i : interactables) {
             i.checkInteraction(playerHitbox);
         }
-        if (!isStunned && Gdx.input.isKeyJustPressed(Input.Keys.F)) {
+        if (!isStunned && input.isKeyJustPressed(Input.Keys.F)) {
             for (Interactable i : interactables) {
                 // Activate any interactable that reports it can be interacted with.
                 // Buttons (pressure plates) should return false for canInteract()
@@ -538,16 +570,11 @@ public class Player {
             }
         }
         // Pickup/throw with G key (only when not stunned)
-        if (!isStunned && com.badlogic.gdx.Gdx.input.isButtonJustPressed(com.badlogic.gdx.Input.Buttons.RIGHT)) {
+        if (!isStunned && input.isButtonJustPressed(com.badlogic.gdx.Input.Buttons.RIGHT)) {
             if (heldObject != null) {
-                // Get mouse position in world coordinates
-                com.badlogic.gdx.math.Vector3 mousePos = new com.badlogic.gdx.math.Vector3(
-                        Gdx.input.getX(), Gdx.input.getY(), 0);
-                if (gameCamera != null) {
-                    gameCamera.unproject(mousePos);
-                }
-                float mouseX = mousePos.x;
-                float mouseY = mousePos.y;
+                // Mouse position in world coordinates (unprojected when the frame was sampled)
+                float mouseX = input.getMouseX();
+                float mouseY = input.getMouseY();
 
                 // Get player center position for throw origin
                 float playerCenterX = getHitboxX() + getHitboxWidth() / 2f;
@@ -589,17 +616,14 @@ public class Player {
         // Store solids reference for skill collision detection
         this.solids = solids;
         
-        Array<Wall> walls = new Array<>();
-        for (Solid s : solids) {
-            if (!s.isBlocking())
-                continue;
-            if (s instanceof Wall w)
-                walls.add(w);
-        }
         groundedBySolid = false;
 
         // health handled in the chained update
-        update(delta, groundY, walls, solids);
+        if (solidIndex != null && solidIndex.getSolids() == solids) {
+            update(delta, groundY, nearbyWalls, nearbySolids);
+        } else {
+            update(delta, groundY, blockingWalls(solids), solids);
+        }
 
         if (onGround || onWall || wallSliding)
             dashUsed = false;
@@ -609,7 +633,7 @@ public class Player {
         for (Interactable i : interactables) {
             i.checkInteraction(playerHitbox);
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.F)) {
+        if (input.isKeyJustPressed(Input.Keys.F)) {
             for (Interactable i : interactables) {
                 // Activate any interactable that reports it can be interacted with.
                 // Buttons (pressure plates) should return false for canInteract()
@@ -685,11 +709,11 @@ public class Player {
     public void render(SpriteBatch batch) {
         // Skip player sprite if invisible from skill
         if (!isInvisible) {
-            String cur = anim.getCurrentAnimationName();
-            float width = "attack".equals(cur) ? attackFrameW : baseWidth;
+            boolean attackClip = anim.getCurrentClip() == clipAttack;
+            float width = attackClip ? attackFrameW : baseWidth;
             float height = baseHeight;
             float drawX = x;
-            if ("attack".equals(cur) && facingLeft)
+            if (attackClip && facingLeft)
                 drawX = x - (width - baseWidth);
             anim.render(batch, drawX, y, width, height);
         }
@@ -707,15 +731,9 @@ public class Player {
         // Render held-object pointer above player, rotating toward mouse
         if (heldObject != null && pointerAnimator != null) {
             try {
-                // Advance pointer animation
-                pointerAnimator.update(com.badlogic.gdx.Gdx.graphics.getDeltaTime());
-
-                // Compute world mouse position
-                com.badlogic.gdx.math.Vector3 mousePos = new com.badlogic.gdx.math.Vector3(
-                    Gdx.input.getX(), Gdx.input.getY(), 0f);
-                if (gameCamera != null) gameCamera.unproject(mousePos);
-                float mouseX = mousePos.x;
-                float mouseY = mousePos.y;
+                // World mouse position from the current input frame
+                float mouseX = input.getMouseX();
+                float mouseY = input.getMouseY();
 
                 // Spawn pointer above player's hitbox center
                 float centerX = getHitboxX() + getHitboxWidth() / 2f;
@@ -751,6 +769,22 @@ public class Player {
         }
     }
 
+    /**
+     * Render at a position blended between the previous fixed step (prevX, prevY) and the
+     * current one. Simulation state is restored afterwards.
+     */
+    public void renderInterpolated(SpriteBatch batch, float prevX, float prevY, float alpha) {
+        float simX = x, simY = y;
+        x = prevX + (simX - prevX) * alpha;
+        y = prevY + (simY - prevY) * alpha;
+        try {
+            render(batch);
+        } finally {
+            x = simX;
+            y = simY;
+        }
+    }
+
     // Hitbox helpers
     public void setHitbox(float offsetX, float offsetY, float width, float height) {
         this.hitboxOffsetX = offsetX;
@@ -951,6 +985,40 @@ public class Player {
         return activeSkill;
     }
     
+    public void setSolidIndex(com.jjmc.chromashift.environment.SolidIndex solidIndex) {
+        this.solidIndex = solidIndex;
+    }
+
+    public com.jjmc.chromashift.environment.SolidIndex getSolidIndex() {
+        return solidIndex;
+    }
+
+    // Blocking walls near the player, bounded by how far movement can carry it this tick
+    private void gatherNearby(float delta) {
+        float reach = (Math.abs(velocityX) + Math.abs(velocityY) + config.speed + config.dashSpeed
+                + config.airAttackLungeSpeed + config.jumpForce + Math.abs(config.maxFallSpeed)) * delta
+                + config.wallJumpForceX * 0.016f + NEARBY_MARGIN;
+        nearbyArea.set(getHitboxX() - reach, getHitboxY() - reach,
+                getHitboxWidth() + reach * 2f, getHitboxHeight() + reach * 2f);
+        solidIndex.query(nearbyArea, nearbySolids);
+        nearbyWalls.clear();
+        for (int i = 0; i < nearbySolids.size; i++) {
+            if (nearbySolids.get(i) instanceof Wall w && w.isBlocking()) nearbyWalls.add(w);
+        }
+    }
+
+    // Fallback without an index: every blocking wall, in a reused array
+    private Array<Wall> blockingWalls(Array<Solid> solids) {
+        blockingWalls.clear();
+        for (Solid s : solids) {
+            if (!s.isBlocking())
+                continue;
+            if (s instanceof Wall w)
+                blockingWalls.add(w);
+        }
+        return blockingWalls;
+    }
+
     public Array<com.jjmc.chromashift.environment.Solid> getSolids() {
         return solids != null ? solids : new Array<>();
     }
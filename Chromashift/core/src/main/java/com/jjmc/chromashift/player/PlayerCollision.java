@@ -5,8 +5,22 @@ import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.utils.Array;
 import com.jjmc.chromashift.environment.Wall;
 import com.jjmc.chromashift.environment.Solid;
+import com.jjmc.chromashift.environment.SolidIndex;
 
 public class PlayerCollision {
+	// Broadphase scratch for the SolidIndex overloads (single-threaded use only)
+	private static final Array<Solid> NEARBY = new Array<>();
+	private static final Rectangle QUERY = new Rectangle();
+
+	/**
+	 * Same as {@link #resolveSolidCollision(Rectangle, Array)} but only against solids the
+	 * index reports near the hitbox; {@code reach} is how far the box may have been pushed.
+	 */
+	public static boolean resolveSolidCollision(Rectangle hitbox, SolidIndex index, float reach) {
+		QUERY.set(hitbox.x - reach, hitbox.y - reach, hitbox.width + reach * 2f, hitbox.height + reach * 2f);
+		return resolveSolidCollision(hitbox, index.query(QUERY, NEARBY));
+	}
+
 	public static boolean checkWallCollision(Circle wallSensor, Array<Wall> walls) {
 		for (Wall wall : walls) {
 			if (com.badlogic.gdx.math.Intersector.overlaps(wallSensor, wall.bounds)) {
@@ -64,6 +64,9 @@ public class PlayerIO {
     }
 
     private static final Json json = new Json();
+    // Autosave queued on AsyncService's ordered lane and not written yet
+    private static final java.util.concurrent.atomic.AtomicReference<PlayerState> pendingSave =
+        new java.util.concurrent.atomic.AtomicReference<>();
 
     static {
         try { 
@@ -243,6 +246,34 @@ public class PlayerIO {
         }
     }
 
+    /**
+     * Remember {@code state} as the autosave being written in the background; loaders take
+     * it instead of reading a save that is not written yet.
+     */
+    public static void setPendingSave(PlayerState state) {
+        pendingSave.set(state);
+    }
+
+    /** Called once {@code state} is written; a newer pending save is kept. */
+    public static void clearPendingSave(PlayerState state) {
+        pendingSave.compareAndSet(state, null);
+    }
+
+    /** The autosave still being written, or null when the save files are current. */
+    public static PlayerState getPendingSave() {
+        return pendingSave.get();
+    }
+
+    /** Serialize a PlayerState with the same Json settings used for save files. */
+    public static String toJson(PlayerState state) {
+        return json.toJson(state);
+    }
+
+    /** Parse PlayerState JSON written by {@link #toJson}. */
+    public static PlayerState fromJson(String text) {
+        return json.fromJson(PlayerState.class, text);
+    }
+
     /**
      * Save the given PlayerState as JSON under `assets/saves/<filename>` (filename may include .json)
      */
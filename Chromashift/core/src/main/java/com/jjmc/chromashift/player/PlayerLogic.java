@@ -1,6 +1,5 @@
 package com.jjmc.chromashift.player;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
 import com.jjmc.chromashift.environment.Wall;
@@ -114,8 +113,8 @@ public class PlayerLogic {
         Rectangle beforeMove = player.getHitboxRect();
         float oldX = player.getX();
 
-        boolean inputLeft = Gdx.input.isKeyPressed(player.getKeyLeft());
-        boolean inputRight = Gdx.input.isKeyPressed(player.getKeyRight());
+        boolean inputLeft = player.getInputFrame().isKeyPressed(player.getKeyLeft());
+        boolean inputRight = player.getInputFrame().isKeyPressed(player.getKeyRight());
 
         if (inputLeft) {
             // Prevent moving left if wall sliding on the left wall
@@ -160,7 +159,8 @@ public class PlayerLogic {
 
     public static void handleJump(Player player) {
         // Allow jumping when either on ground or canJump is true (during dash)
-        if (!player.isAttacking() && (Gdx.input.isKeyJustPressed(player.getKeyJump()) || Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.SPACE))
+        com.jjmc.chromashift.input.InputFrame input = player.getInputFrame();
+        if (!player.isAttacking() && (input.isKeyJustPressed(player.getKeyJump()) || input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.SPACE))
             && (player.isOnGround() || player.canJump)) {
             // Apply full jump force regardless of falling state (overwrite vertical velocity)
             player.setOnGround(false);
@@ -184,7 +184,7 @@ public class PlayerLogic {
 
     public static void handleAttack(Player player, float delta) {
         if (!player.isAttacking() && 
-            com.badlogic.gdx.Gdx.input.isButtonJustPressed(com.badlogic.gdx.Input.Buttons.LEFT) && 
+            player.getInputFrame().isButtonJustPressed(com.badlogic.gdx.Input.Buttons.LEFT) && 
             !player.isWallSliding() && 
             !player.isDashing() && 
             player.attackCooldownTimer <= 0f) {
@@ -421,7 +421,7 @@ public class PlayerLogic {
     }
 
     public static void handleWallJump(Player player) {
-        if (player.isWallSliding() && Gdx.input.isKeyJustPressed(player.getKeyJump())) {
+        if (player.isWallSliding() && player.getInputFrame().isKeyJustPressed(player.getKeyJump())) {
             player.setWallSliding(false);
             player.setOnWall(false);
             player.setOnGround(false);
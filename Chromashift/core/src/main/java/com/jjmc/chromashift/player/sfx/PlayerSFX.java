@@ -3,7 +3,8 @@ package com.jjmc.chromashift.player.sfx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
-import com.chromashift.helper.SpriteAnimator;
+import com.jjmc.chromashift.effects.EffectPool;
+import com.jjmc.chromashift.effects.SFX;
 import com.jjmc.chromashift.player.Player;
 
 import java.util.HashMap;
@@ -13,6 +14,8 @@ import java.util.Map;
  * PlayerSFX: Dedicated visual-effects handler for the player.
  * Supports per-instance follow/static behavior, per-direction offsets, flipping,
  * and automatic lifecycle management based on animation completion.
+ * Effects come from the shared EffectPool and go back to it when they finish, so a dash
+ * does not build a new animator; the instance wrappers are recycled here as well.
  */
 public class PlayerSFX {
 
@@ -50,63 +53,68 @@ public class PlayerSFX {
     }
 
     /**
-     * A single active SFX instance.
+     * A single active SFX instance (recycled by PlayerSFX once finished).
      */
     public static class SFXInstance {
-        public final SpriteAnimator animator;
-        public final Player owner; // may be null for static ones
-        public final boolean followPlayer;
+        public SFX sfx;
+        public Player owner; // may be null for static ones
+        public boolean followPlayer;
         public boolean flipX;
-        public final Vector2 offsetR;
-        public final Vector2 offsetL;
-        public final int width;
-        public final int height;
+        public final Vector2 offsetR = new Vector2();
+        public final Vector2 offsetL = new Vector2();
+        public int width;
+        public int height;
 
         // current world position
         public final Vector2 pos = new Vector2();
 
-        public SFXInstance(SpriteAnimator animator, Player owner, boolean followPlayer,
-                           Vector2 offsetR, Vector2 offsetL, boolean initialFlip,
-                           float spawnX, float spawnY, int width, int height) {
-            this.animator = animator;
+        void set(SFX sfx, Player owner, boolean followPlayer,
+                 Vector2 offsetR, Vector2 offsetL, boolean initialFlip,
+                 float spawnX, float spawnY, int width, int height) {
+            this.sfx = sfx;
             this.owner = owner;
             this.followPlayer = followPlayer;
-            this.offsetR = offsetR == null ? new Vector2(0,0) : offsetR.cpy();
-            this.offsetL = offsetL == null ? new Vector2(0,0) : offsetL.cpy();
+            if (offsetR != null) this.offsetR.set(offsetR); else this.offsetR.setZero();
+            if (offsetL != null) this.offsetL.set(offsetL); else this.offsetL.setZero();
             this.flipX = initialFlip;
             this.width = width;
             this.height = height;
             this.pos.set(spawnX, spawnY);
             // ensure animator respects initial flip
-            try {    
-                animator.setFlipX(initialFlip);
-            } catch (Exception e) {
-                // TODO: handle exception
-            }
+            sfx.getAnim().setFlipX(initialFlip);
         }
 
         public boolean isFinished() {
-            return animator.isAnimationFinished();
+            return sfx.isFinished();
         }
 
+        /** Return the effect to the pool. */
         public void dispose() {
-            animator.dispose();
+            EffectPool.release(sfx);
+            sfx = null;
+            owner = null;
         }
     }
 
     // Registry of SFX definitions: id -> SFXDefinition
     private final Map<String, SFXDefinition> registry = new HashMap<>();
 
-    // Active SFX instances
+    // Pool definition per registered id
+    private final Map<String, EffectPool.EffectDef> effects = new HashMap<>();
+
+    // Active SFX instances, and finished wrappers kept for reuse
     private final Array<SFXInstance> activeSFX = new Array<>();
+    private final Array<SFXInstance> freeInstances = new Array<>();
 
     public PlayerSFX() {
         registerDefaultSFX();
+        // A dash trail is gone long before the dash cooldown ends; two cover overlaps
+        EffectPool.prewarm(effects.get("dash"), 2);
     }
 
     private void registerDefaultSFX() {
         // Dash SFX: behind player. width/height 32x32, quick playback
-        registry.put("dash", new SFXDefinition(
+        registerSFX("dash", new SFXDefinition(
                 "player/sfx/dash.png",
                 1, 10, 10,
                 32, 32,
@@ -119,6 +127,9 @@ public class PlayerSFX {
 
     public void registerSFX(String id, SFXDefinition def) {
         registry.put(id, def);
+        // Pool definitions are global; the first registration of an id defines its effect
+        effects.put(id, EffectPool.define("player_" + id, def.spritePath, def.rows, def.cols,
+                def.frameWidth, def.frameHeight, 0, 0, def.frameCount, def.frameDuration, def.loop));
     }
 
     /**
@@ -132,10 +143,8 @@ public class PlayerSFX {
             com.badlogic.gdx.Gdx.app.error("PlayerSFX", "dash definition missing");
             return;
         }
-        // Choose offsets based on facing direction
-        Vector2 offR = def.defaultOffsetRight.cpy();
-        Vector2 offL = def.defaultOffsetLeft.cpy();
-        spawnCustomSFX(player, "dash", false, offR, offL);
+        // Offsets for both facing directions (copied by the instance)
+        spawnCustomSFX(player, "dash", false, def.defaultOffsetRight, def.defaultOffsetLeft);
     }
 
     /**
@@ -154,23 +163,21 @@ public class PlayerSFX {
         }
 
         try {
-            SpriteAnimator animator = new SpriteAnimator(def.spritePath, def.rows, def.cols);
-            animator.addAnimation("play", 0, 0, def.frameCount, def.frameDuration, def.loop);
-
             boolean facingLeft = player != null && player.isFacingLeft();
 
             // pick offsets: prefer provided offsets, otherwise fallback to definition defaults
-            Vector2 oR = offsetR != null ? offsetR.cpy() : def.defaultOffsetRight.cpy();
-            Vector2 oL = offsetL != null ? offsetL.cpy() : def.defaultOffsetLeft.cpy();
+            Vector2 oR = offsetR != null ? offsetR : def.defaultOffsetRight;
+            Vector2 oL = offsetL != null ? offsetL : def.defaultOffsetLeft;
 
             // Determine spawn position based on facing direction
             Vector2 chosen = facingLeft ? oL : oR;
             float spawnX = player.getX() + chosen.x;
             float spawnY = player.getY() + chosen.y;
 
-            // instantiate and add
-            SFXInstance instance = new SFXInstance(animator, player, followPlayer, oR, oL, facingLeft, spawnX, spawnY, def.frameWidth, def.frameHeight);
-            animator.play("play", facingLeft);
+            // pooled effect (already playing) in a recycled wrapper
+            SFX effect = EffectPool.obtain(effects.get(id));
+            SFXInstance instance = freeInstances.size > 0 ? freeInstances.pop() : new SFXInstance();
+            instance.set(effect, player, followPlayer, oR, oL, facingLeft, spawnX, spawnY, def.frameWidth, def.frameHeight);
             activeSFX.add(instance);
 
         } catch (Exception e) {
@@ -192,18 +199,16 @@ public class PlayerSFX {
                 // Update flip without restarting animation
                 if (s.flipX != facingLeft) {
                     s.flipX = facingLeft;
-                    try {
-                        s.animator.setFlipX(facingLeft);
-                    } catch (Exception e) {
-                    }
+                    s.sfx.getAnim().setFlipX(facingLeft);
                 }
             }
 
-            s.animator.update(delta);
+            s.sfx.update(delta);
 
             if (s.isFinished()) {
                 s.dispose();
                 activeSFX.removeIndex(i);
+                freeInstances.add(s);
             }
         }
     }
@@ -213,20 +218,25 @@ public class PlayerSFX {
      */
     public void render(SpriteBatch batch) {
         for (SFXInstance s : activeSFX) {
-            if (s == null || s.animator == null) continue;
-            s.animator.render(batch, s.pos.x, s.pos.y, s.width, s.height);
+            if (s == null || s.sfx == null) continue;
+            s.sfx.getAnim().render(batch, s.pos.x, s.pos.y, s.width, s.height);
         }
     }
 
     public int getActiveSFXCount() { return activeSFX.size; }
 
     public void clear() {
-        for (SFXInstance s : activeSFX) s.dispose();
+        for (SFXInstance s : activeSFX) {
+            s.dispose();
+            freeInstances.add(s);
+        }
         activeSFX.clear();
     }
 
     public void dispose() {
         clear();
+        freeInstances.clear();
         registry.clear();
+        effects.clear();
     }
 }
@@ -8,6 +8,7 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.chromashift.helper.SpriteAnimator;
 import com.jjmc.chromashift.environment.Solid;
+import com.jjmc.chromashift.environment.SolidIndex;
 import com.jjmc.chromashift.environment.enemy.Enemy;
 import com.jjmc.chromashift.player.Player;
 
@@ -110,7 +111,15 @@ public class Projectile {
     public Vector2 getDirection() {
         return direction.cpy();
     }
+    // Broadphase scratch shared by all projectiles (single-threaded use only)
+    private static final Array<Solid> NEARBY = new Array<>();
+
     public void update(float delta, Array<Solid> solids, Array<Enemy> enemies) {
+        update(delta, null, solids, enemies);
+    }
+
+    /** Same as above, but when the index covers {@code solids} only nearby solids are tested. */
+    public void update(float delta, SolidIndex index, Array<Solid> solids, Array<Enemy> enemies) {
         if (!isActive) return;
         
         lifetime += delta;
@@ -199,6 +208,9 @@ public class Projectile {
         
         // Solids
         Rectangle projBounds = getBounds();
+        if (index != null && index.getSolids() == solids) {
+            solids = index.query(projBounds, NEARBY);
+        }
         for (Solid solid : solids) {
             Rectangle solidBounds = solid.getBounds();
             if (solidBounds != null && solidBounds.overlaps(projBounds)) {
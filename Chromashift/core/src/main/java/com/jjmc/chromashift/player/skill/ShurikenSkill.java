@@ -86,7 +86,7 @@ public class ShurikenSkill extends BaseSkill {
         
         // Step the projectile
         if (activeProjectile != null && activeProjectile.isActive()) {
-            activeProjectile.update(delta, player.getSolids(), player.getEnemies());
+            activeProjectile.update(delta, player.getSolidIndex(), player.getSolids(), player.getEnemies());
         } else {
             // Done; end the skill
             animationTimer = totalAnimationTime;
@@ -126,14 +126,10 @@ public class ShurikenSkill extends BaseSkill {
     }
     
     private Vector2 getMouseWorldPosition() {
-        // Screen -> world (approx)
-        float mouseX = Gdx.input.getX();
-        float mouseY = Gdx.input.getY();
-        
-        // Use relative direction from screen center
+        // Aim from the player toward the world-space cursor of the current input frame
+        com.jjmc.chromashift.input.InputFrame input = player.getInputFrame();
         Vector2 playerPos = new Vector2(player.getX(), player.getY());
-        Vector2 screenCenter = new Vector2(Gdx.graphics.getWidth() / 2f, Gdx.graphics.getHeight() / 2f);
-        Vector2 mouseDiff = new Vector2(mouseX - screenCenter.x, screenCenter.y - mouseY);
+        Vector2 mouseDiff = new Vector2(input.getMouseX() - playerPos.x, input.getMouseY() - playerPos.y);
         
         return playerPos.add(mouseDiff.nor().scl(100f));
     }
@@ -88,7 +88,7 @@ public class SplitSkill extends BaseSkill {
         
         // Track the main shot
         if (mainProjectile != null && mainProjectile.isActive()) {
-            mainProjectile.update(delta, player.getSolids(), player.getEnemies());
+            mainProjectile.update(delta, player.getSolidIndex(), player.getSolids(), player.getEnemies());
         } else if (mainProjectile != null && !mainProjectile.isActive()) {
             // Split? (timer up, no hit)
             boolean shouldSplit = mainProjectile.shouldSplit();
@@ -199,14 +199,10 @@ public class SplitSkill extends BaseSkill {
     }
     
     private Vector2 getMouseWorldPosition() {
-        // Rough screen->world guess
-        float mouseX = Gdx.input.getX();
-        float mouseY = Gdx.input.getY();
-        
-        // Use relative direction from screen center
+        // Aim from the player toward the world-space cursor of the current input frame
+        com.jjmc.chromashift.input.InputFrame input = player.getInputFrame();
         Vector2 playerPos = new Vector2(player.getX(), player.getY());
-        Vector2 screenCenter = new Vector2(Gdx.graphics.getWidth() / 2f, Gdx.graphics.getHeight() / 2f);
-        Vector2 mouseDiff = new Vector2(mouseX - screenCenter.x, screenCenter.y - mouseY);
+        Vector2 mouseDiff = new Vector2(input.getMouseX() - playerPos.x, input.getMouseY() - playerPos.y);
         
         return playerPos.add(mouseDiff.nor().scl(100f));
     }
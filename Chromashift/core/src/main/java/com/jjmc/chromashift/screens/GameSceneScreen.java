@@ -20,9 +20,6 @@ import com.jjmc.chromashift.environment.Solid;
 import com.jjmc.chromashift.environment.Wall;
 import com.jjmc.chromashift.environment.interactable.Button;
 import com.jjmc.chromashift.environment.interactable.Interactable;
-import com.jjmc.chromashift.environment.interactable.Box;
-import com.jjmc.chromashift.environment.interactable.Target;
-import com.jjmc.chromashift.environment.interactable.Orb;
 import com.jjmc.chromashift.environment.Spawn;
 import com.jjmc.chromashift.player.Player;
 import com.jjmc.chromashift.player.PlayerConfig;
@@ -30,6 +27,8 @@ import com.jjmc.chromashift.screens.ui.MainMenuScreen;
 import com.jjmc.chromashift.entity.boss.BossGuardian;
 import com.jjmc.chromashift.entity.boss.FinalBoss;
 import com.chromashift.helper.CameraController;
+import com.chromashift.helper.PerformanceProfiler;
+import com.chromashift.helper.RenderQueue;
 import com.chromashift.helper.SpriteAnimator;
 
 /**
@@ -40,6 +39,19 @@ import com.chromashift.helper.SpriteAnimator;
  * Provides on-screen instructions and debug visuals.
  */
 public class GameSceneScreen implements Screen {
+    // Profiler probes for the phases of render()
+    private static final int PROBE_PRE_UPDATE = PerformanceProfiler.register("pre_update");
+    private static final int PROBE_LOADING = PerformanceProfiler.register("render_loading");
+    private static final int PROBE_SCREEN_INPUT = PerformanceProfiler.register("screen_input");
+    private static final int PROBE_INPUT_SAMPLE = PerformanceProfiler.register("input_sample");
+    private static final int PROBE_SIMULATION = PerformanceProfiler.register("simulation");
+    private static final int PROBE_CAMERA = PerformanceProfiler.register("camera");
+    private static final int PROBE_DRAW_SUBMIT = PerformanceProfiler.register("draw_submit");
+    private static final int PROBE_DRAW_WORLD = PerformanceProfiler.register("draw_world");
+    private static final int PROBE_DRAW_UI = PerformanceProfiler.register("draw_ui");
+    private static final int PROBE_DRAW_DEBUG = PerformanceProfiler.register("draw_debug");
+    private static final int PROBE_DRAW_PROFILER = PerformanceProfiler.register("draw_profiler");
+
     private OrthographicCamera camera;
     private CameraController camController;
     private SpriteBatch batch;
@@ -56,6 +68,32 @@ public class GameSceneScreen implements Screen {
     private Array<Wall> walls;
     private Array<Interactable> interactables;
     private Array<Solid> solids;
+    // Typed views of interactables (boxes, buttons, portals...) from the loaded level
+    private com.jjmc.chromashift.screens.levels.EntityRegistry entities;
+    // All laser beams of a frame in one batch call
+    private final com.jjmc.chromashift.environment.interactable.BeamRenderer beamRenderer = new com.jjmc.chromashift.environment.interactable.BeamRenderer();
+    // World pass: objects are queued each frame and drawn sorted by layer and texture.
+    // Draws that aren't objects themselves are allocated once here.
+    private final RenderQueue renderQueue = new RenderQueue();
+    private final RenderQueue.Renderable backgroundDraw = b -> {
+        b.setColor(1f, 1f, 1f, 1f); // Ensure full white color (no tint)
+        backgroundAnimator.render(b, 0, 0, 1600, 900);
+    };
+    private final RenderQueue.Renderable beamDraw = b -> beamRenderer.draw(b);
+    // Walls are baked per chunk and drawn as a few cached draws
+    private final com.jjmc.chromashift.environment.WallCache wallCache = new com.jjmc.chromashift.environment.WallCache();
+    private final Runnable wallDraw = () -> wallCache.draw(camController.getCamera());
+    private final RenderQueue.Renderable playerDraw = b -> player.renderInterpolated(b, prevPlayerX, prevPlayerY, renderAlpha);
+    private final RenderQueue.Renderable statusDraw = b -> {
+        font.setColor(Color.YELLOW);
+        font.draw(b, "INVULNERABLE",
+                camController.getCamera().position.x - 40, // Center on screen
+                camController.getCamera().position.y + 40);
+    };
+    private final RenderQueue.ShapeDrawable groundDraw = sr -> {
+        sr.setColor(Color.FOREST);
+        sr.rect(-2000, groundY - 5, 4000, 5);
+    };
     private Array<com.jjmc.chromashift.environment.collectible.Collectible> collectibles;
     private Array<com.jjmc.chromashift.environment.interactable.Shop> shops;
 
@@ -90,6 +128,28 @@ public class GameSceneScreen implements Screen {
     private com.jjmc.chromashift.screens.levels.LevelLoadingManager loadingManager;
     private com.jjmc.chromashift.screens.levels.LoadingOverlay loadingOverlay;
     private boolean gameplayEnabled = false;
+    private com.jjmc.chromashift.screens.levels.LevelSimulation simulation;
+    // Visible/active sets from the camera, rebuilt each frame before drawing
+    private com.jjmc.chromashift.screens.levels.LevelCuller culler;
+
+    // Run once the level is built (after its assets loaded), e.g. applying a loaded save
+    private final Array<Runnable> onLevelBuilt = new Array<>();
+
+    // Fixed-rate simulation (60 Hz, up to 5 catch-up steps per frame)
+    private boolean fixedTimestepEnabled = true;
+    private final com.chromashift.helper.FixedTimestep fixedStep = new com.chromashift.helper.FixedTimestep(60f, 5);
+    private float prevPlayerX, prevPlayerY; // player position before the latest step
+    private float renderAlpha = 1f;
+    // Screen-space projection for the profiler overlay (F4 toggles, F6 exports)
+    private final com.badlogic.gdx.math.Matrix4 overlayMatrix = new com.badlogic.gdx.math.Matrix4();
+
+    // Input recording (-Dchromashift.record=<dir>): one file per level session, replayable
+    // with InputReplay (e.g. the headless runner) for repeatable performance captures
+    private String recordDir;
+    private long recordSeed;
+    private com.jjmc.chromashift.input.InputRecorder recorder;
+    private String recordLevelJson;
+    private String recordOverrides;
 
     // Constructor with default level (NEW GAME - always load original)
     public GameSceneScreen() {
@@ -139,26 +199,65 @@ public class GameSceneScreen implements Screen {
         // Initialize background animator for bossroom levels
         backgroundAnimator = null;
 
-        // Load everything via the unified LevelLoader
+        // Seed gameplay randomness before the level is built so a recording can be replayed
+        recordDir = System.getProperty("chromashift.record");
+        if (recordDir != null && !recordDir.isEmpty() && !fixedTimestepEnabled) {
+            Gdx.app.error("TestSceneScreen", "Input recording disabled: replays need the fixed timestep");
+            recordDir = null;
+        } else if (recordDir != null && !recordDir.isEmpty()) {
+            recordSeed = System.nanoTime();
+            com.badlogic.gdx.math.MathUtils.random.setSeed(recordSeed);
+        } else {
+            recordDir = null;
+        }
+
         // Track current level and mark visited for save/load (use currentLevelPath from constructor)
         this.visitedLevels.clear();
         this.visitedLevels.add(currentLevelPath);
-        // Prefer workspace copy when available so editor changes (door speeds, links)
-        // are reflected immediately during playtesting.
-        com.jjmc.chromashift.screens.levels.LevelLoader.Result loaded;
-        try {
-            loaded = com.jjmc.chromashift.screens.levels.LevelLoader.loadFromWorkspace(currentLevelPath, loadMode);
-        } catch (Exception ex) {
-            loaded = com.jjmc.chromashift.screens.levels.LevelLoader.load(currentLevelPath, loadMode);
+        // Parse on a worker while the overlay shows. Prefer workspace copy when available
+        // so editor changes (door speeds, links) are reflected immediately during playtesting.
+        final String levelPath = currentLevelPath;
+        loadingManager.awaitLevelData();
+        com.jjmc.chromashift.screens.levels.LevelSimulation.parseAsync(() -> {
+            try {
+                return com.jjmc.chromashift.screens.levels.LevelIO.loadFromWorkspaceThenCopyToBuild(levelPath);
+            } catch (Exception ex) {
+                return com.jjmc.chromashift.screens.levels.LevelIO.load(levelPath);
+            }
+        }, levelState -> {
+            // Swap the previous screen's assets for this level's manifest; the level is built
+            // once they are loaded (textures no other level uses are unloaded here)
+            com.jjmc.chromashift.screens.levels.LevelAssets.enterLevel(levelPath,
+                    com.jjmc.chromashift.screens.levels.LevelLoader.manifest(levelPath, levelState));
+            loadingManager.startAssetLoading(() -> buildLevel(levelState));
+        });
+    }
+
+    /**
+     * Build the level from {@code state} once its assets are resident, then start the
+     * object loading sequence.
+     */
+    private void buildLevel(com.jjmc.chromashift.screens.levels.LevelIO.LevelState state) {
+        if (recordDir != null) {
+            // Replays rebuild exactly this state, including a CONTINUE run's saved overrides
+            recordLevelJson = com.jjmc.chromashift.screens.levels.LevelIO.toJson(state);
+            recordOverrides = loadMode == com.jjmc.chromashift.screens.levels.LevelLoader.LoadMode.ORIGINAL ? null
+                    : com.jjmc.chromashift.screens.levels.GameLevelSave.readOverrides(currentLevelPath);
         }
+        // Load everything via the unified LevelLoader
+        com.jjmc.chromashift.screens.levels.LevelLoader.Result loaded =
+                com.jjmc.chromashift.screens.levels.LevelLoader.load(currentLevelPath, state, loadMode,
+                        com.jjmc.chromashift.screens.levels.LevelLoader.MERGE_WALL_COLLISION);
 
         // Log load mode for debugging
         Gdx.app.log("TestSceneScreen", "Loaded level " + currentLevelPath + " with mode: " + loadMode);
 
         // Adopt loaded collections so updates/render iterate the same instances
         this.walls = loaded.walls;
+        wallCache.setWalls(walls);
         this.solids = loaded.solids;
         this.interactables = loaded.interactables;
+        this.entities = loaded.entities;
         this.collectibles = loaded.collectibles;
 
         // Initialize UI stage for shop dialogs
@@ -170,39 +269,26 @@ public class GameSceneScreen implements Screen {
         multiplexer.addProcessor(uiStage);
         Gdx.input.setInputProcessor(multiplexer);
 
-        // Boss selection based on level
-        if (loaded.boss != null) {
-            // Use loaded boss (could be FinalBoss or BossGuardian)
-            if (loaded.boss instanceof FinalBoss) {
-                this.boss = (FinalBoss) loaded.boss;
-            } else if (loaded.boss instanceof BossGuardian) {
-                this.bossGuardian = (BossGuardian) loaded.boss;
-            }
-        } else if (currentLevelPath.contains("bossroom1")) {
-            // FinalBoss for bossroom1
-            this.boss = new FinalBoss();
-            Wall base = (walls.size > 0) ? walls.first() : new Wall(0, groundY, 10, 1);
-            boss.setPosition(base.bounds.x + base.bounds.width / 2f, base.bounds.y + base.bounds.height + 200f);
-            boss.setEnvironment(solids, walls);
-        } else if (currentLevelPath.contains("bossroom")) {
-            // BossGuardian for other bossroom levels
-            this.bossGuardian = new BossGuardian();
-            Wall base = (walls.size > 0) ? walls.first() : new Wall(0, groundY, 10, 1);
-            bossGuardian.setPosition(base.bounds.x + base.bounds.width / 2f, base.bounds.y + base.bounds.height + 400f);
-            bossGuardian.setEnvironment(solids, walls);
-            
-            // Setup spawn sequence completion callback
+        // Boss selection based on level: the loaded boss, or the bossroom default
+        com.jjmc.chromashift.entity.boss.Boss pathBoss =
+                com.jjmc.chromashift.screens.levels.LevelLoader.createPathBoss(currentLevelPath, loaded, groundY);
+        com.jjmc.chromashift.entity.boss.Boss levelBoss = (pathBoss != null) ? pathBoss : loaded.boss;
+        if (levelBoss instanceof FinalBoss) {
+            this.boss = (FinalBoss) levelBoss;
+        } else if (levelBoss instanceof BossGuardian) {
+            this.bossGuardian = (BossGuardian) levelBoss;
+        } else {
+            this.boss = null;
+            this.bossGuardian = null;
+        }
+        if (pathBoss instanceof BossGuardian) {
+            // Setup spawn sequence completion callback (the sequence was started by createPathBoss)
             bossGuardian.setOnSpawnSequenceComplete(() -> {
                 gameplayEnabled = true;
+                snapRenderState();
                 Gdx.app.log("TestSceneScreen", "BossGuardian spawn sequence complete - fight begins!");
             });
-            
-            // Start spawn sequence
-            bossGuardian.startSpawn();
             gameplayEnabled = false; // Disable gameplay until spawn completes
-        } else {
-            this.boss = null;
-            this.bossGuardian = null;
         }
 
         // Setup background animator for bossroom levels
@@ -239,11 +325,8 @@ public class GameSceneScreen implements Screen {
         
         // Load saved player state from database to restore diamonds, position, and other stats
         try {
-            com.jjmc.chromashift.database.PlayerDAO.loadPlayerStateFromDB(1, player);
-            
-            // Also restore visited levels
-            com.badlogic.gdx.utils.Array<String> loadedVisited = 
-                com.jjmc.chromashift.database.PlayerDAO.loadVisitedLevelsFromDB(1);
+            // Player state and visited levels; the previous level's autosave may still be writing
+            com.badlogic.gdx.utils.Array<String> loadedVisited = restoreSavedPlayer();
             if (loadedVisited != null && loadedVisited.size > 0) {
                 this.visitedLevels.clear();
                 this.visitedLevels.addAll(loadedVisited);
@@ -277,37 +360,20 @@ public class GameSceneScreen implements Screen {
             com.jjmc.chromashift.environment.interactable.Shop shop = new com.jjmc.chromashift.environment.interactable.Shop(
                     sd.x, sd.y, player, uiStage);
             shops.add(shop);
-            interactables.add(shop); // Add to interactables for collision/interaction
+            loaded.entities.add(shop); // Add to interactables for collision/interaction
         }
-        // Assign player to any LockedDoor instances so they can check keys
-        for (int i = 0; i < interactables.size; i++) {
-            com.jjmc.chromashift.environment.interactable.Interactable it = interactables.get(i);
-            if (it instanceof com.jjmc.chromashift.environment.interactable.LockedDoor ld) {
-                ld.setPlayer(player);
-            }
-        }
-
-        // Initialize Tentacle System from loaded data
+        // Gameplay simulation over the loaded collections (also wires LockedDoors,
+        // tentacle captures/drops and the player's enemy list)
+        simulation = new com.jjmc.chromashift.screens.levels.LevelSimulation(loaded, player, groundY);
+        simulation.setBosses(boss, bossGuardian);
         tentacles = loaded.tentacles;
-        tentacleCaptures = new Array<>();
-        for (com.jjmc.chromashift.environment.enemy.Tentacle t : tentacles) {
-            tentacleCaptures.add(new com.jjmc.chromashift.environment.enemy.TentacleCapture(t, player));
-            // Ensure diamonds from death go into level collectibles
-            t.setDropTarget(collectibles);
-        }
-
-        // Set up enemy tracking for player melee attacks (store in field for later use)
-        enemies = new Array<>();
-        for (com.jjmc.chromashift.environment.enemy.Tentacle t : tentacles) {
-            enemies.add(t);
-        }
-        player.setEnemies(enemies);
+        culler = new com.jjmc.chromashift.screens.levels.LevelCuller(loaded.entities, collectibles, tentacles);
+        tentacleCaptures = simulation.getTentacleCaptures();
+        enemies = simulation.getEnemies();
         
         // Wire portal callbacks for level progression
-        for (int i = 0; i < interactables.size; i++) {
-            if (interactables.get(i) instanceof com.jjmc.chromashift.environment.interactable.Portal portal) {
-                portal.setOnPlayerEnter(() -> advanceToNextLevel());
-            }
+        for (com.jjmc.chromashift.environment.interactable.Portal portal : entities.getPortals()) {
+            portal.setOnPlayerEnter(() -> advanceToNextLevel());
         }
         
         // Register all objects with loading manager
@@ -316,9 +382,29 @@ public class GameSceneScreen implements Screen {
         // Start loading sequence
         loadingManager.setOnLoadingComplete(() -> {
             gameplayEnabled = true;
+            snapRenderState();
             Gdx.app.log("TestSceneScreen", "Level loading complete - gameplay enabled!");
         });
         loadingManager.startLoading();
+
+        for (Runnable r : onLevelBuilt) {
+            try {
+                r.run();
+            } catch (Exception e) {
+                Gdx.app.error("TestSceneScreen", "Level-built callback failed: " + e.getMessage());
+            }
+        }
+        onLevelBuilt.clear();
+    }
+
+    /**
+     * Run {@code r} once the level and player exist. The level is built after its assets
+     * load, a few frames after show(); runs immediately if that already happened.
+     */
+    public void runWhenLevelBuilt(Runnable r) {
+        if (r == null) return;
+        if (player != null) r.run();
+        else onLevelBuilt.add(r);
     }
     
     /**
@@ -355,6 +441,18 @@ public class GameSceneScreen implements Screen {
 
     @Override
     public void render(float delta) {
+        PerformanceProfiler.beginFrame();
+        try {
+            renderFrame(delta);
+        } finally {
+            PerformanceProfiler.endFrame();
+        }
+    }
+
+    private void renderFrame(float delta) {
+        handleProfilerKeys();
+
+        PerformanceProfiler.begin(PROBE_PRE_UPDATE);
         // Update loading manager first
         if (loadingManager != null && !loadingManager.isReady()) {
             loadingManager.update(delta);
@@ -364,6 +462,7 @@ public class GameSceneScreen implements Screen {
         if (backgroundAnimator != null) {
             backgroundAnimator.update(delta);
         }
+        PerformanceProfiler.end(PROBE_PRE_UPDATE);
         
         // Basic input: ESC returns to test menu (always allow escape)
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
@@ -375,23 +474,13 @@ public class GameSceneScreen implements Screen {
         
         // Skip gameplay updates during loading
         if (!gameplayEnabled || (loadingManager != null && !loadingManager.isReady())) {
+            PerformanceProfiler.begin(PROBE_LOADING);
             renderLoadingScreen(delta);
+            PerformanceProfiler.end(PROBE_LOADING);
             return;
         }
 
-        // Respawn player to initial spawn with R
-        if (Gdx.input.isKeyJustPressed(Input.Keys.R)) {
-            player.respawn();
-            if (spawnMarker != null) {
-                spawnMarker.setPosition(playerSpawnX, playerSpawnY);
-                spawnMarker.playOnce();
-            }
-            // Reset tentacle capture states on respawn
-            for (com.jjmc.chromashift.environment.enemy.Tentacle t : tentacles) {
-                t.setPlayerCaptured(false);
-            }
-        }
-
+        PerformanceProfiler.begin(PROBE_SCREEN_INPUT);
         // Quick save/load: F11 = save, F12 = load (via DAO)
         try {
             if (Gdx.input.isKeyJustPressed(Input.Keys.F11)) {
@@ -433,13 +522,16 @@ public class GameSceneScreen implements Screen {
                 Gdx.app.log("TestSceneScreen", "Level state " + (levelOk ? "saved" : "failed"));
             }
             if (Gdx.input.isKeyJustPressed(Input.Keys.F12)) {
+                // A loaded state is not in the input stream; end the recording before it
+                if (recordDir != null) {
+                    stopRecording();
+                    recordDir = null;
+                    Gdx.app.log("TestSceneScreen", "Input recording stopped: F12 state load cannot be replayed");
+                }
                 try {
                     System.out.println("[DEBUG] Attempting to load player state for ID: 1");
-                    com.jjmc.chromashift.database.PlayerDAO.loadPlayerStateFromDB(1, player);
-                    
-                    // Also restore visited levels
-                    com.badlogic.gdx.utils.Array<String> loadedVisited = 
-                        com.jjmc.chromashift.database.PlayerDAO.loadVisitedLevelsFromDB(1);
+                    // Player state and visited levels
+                    com.badlogic.gdx.utils.Array<String> loadedVisited = restoreSavedPlayer();
                     if (loadedVisited != null && loadedVisited.size > 0) {
                         visitedLevels.clear();
                         visitedLevels.addAll(loadedVisited);
@@ -455,160 +547,46 @@ public class GameSceneScreen implements Screen {
                 }
             }
         } catch (Exception ignored) {}
-
-        // First update non-button interactables
-        Array<Rectangle> objectBounds = new Array<>();
-        for (int i = 0; i < interactables.size; i++) {
-            Interactable interactable = interactables.get(i);
-            interactable.checkInteraction(player.getHitboxRect());
-            if (interactable instanceof Box box) {
-                objectBounds.add(box.getActivationBounds());
-            } else if (interactable instanceof Orb orb) {
-                objectBounds.add(orb.getActivationBounds());
-            }
-            // Check launchpad triggers
-            if (interactable instanceof com.jjmc.chromashift.environment.Launchpad launchpad) {
-                launchpad.checkAndLaunchPlayer(player, walls);
-                // Check for boxes and orbs on launchpad (use indexed loop to avoid nested
-                // iterator)
-                for (int j = 0; j < interactables.size; j++) {
-                    Interactable obj = interactables.get(j);
-                    if (obj instanceof Box box) {
-                        launchpad.checkAndLaunchBox(box);
-                    } else if (obj instanceof Orb orb) {
-                        launchpad.checkAndLaunchOrb(orb);
-                    }
-                }
-            }
-            if (!(interactable instanceof Button)) {
-                interactable.update(delta);
-            }
-        }
-
-        // Finalize target states after all laser updates
-        try {
-            Target.finalizeFrame();
-        } catch (Throwable ignored) {
-        }
-
-        // Then update buttons with collected bounds
-        for (int i = 0; i < interactables.size; i++) {
-            Interactable interactable = interactables.get(i);
-            if (interactable instanceof Button b) {
-                b.update(delta, player.getHitboxRect(), objectBounds);
-            }
-        }
-
-        // Update collectibles and check for collection
-        for (int i = collectibles.size - 1; i >= 0; i--) {
-            com.jjmc.chromashift.environment.collectible.Collectible c = collectibles.get(i);
-            c.update(delta);
-            c.checkCollision(player);
-            // Remove collected items
-            if (c.isCollected()) {
-                collectibles.removeIndex(i);
-            }
-        }
-
-        // Player update
-        player.update(delta, groundY, solids, interactables, 1);
-
-        // Update Tentacle System (physics & capture applied AFTER player attack activation)
-        for (com.jjmc.chromashift.environment.enemy.TentacleCapture tc : tentacleCaptures) {
-            tc.update(delta);
-        }
-        // Perform a second collision check now that tentacle segment positions are freshly updated.
-        // This fixes ordering issue where Player updated (and attacked) before Tentacle updated its segment hitboxes.
-        if (player.getAttackHitbox() != null && player.getAttackHitbox().isActive()) {
-            player.getAttackHitbox().checkEnemyCollisions(enemies);
-        }
-
-        // Prune dead tentacles and associated capture handlers & enemy list entries
-        if (tentacles.size > 0) {
-            for (int i = tentacles.size - 1; i >= 0; i--) {
-                com.jjmc.chromashift.environment.enemy.Tentacle t = tentacles.get(i);
-                if (!t.isAlive()) {
-                    // Remove capture handler referencing this tentacle
-                    for (int c = tentacleCaptures.size - 1; c >= 0; c--) {
-                        if (tentacleCaptures.get(c).getTentacle() == t) {
-                            tentacleCaptures.removeIndex(c);
-                            break;
-                        }
-                    }
-                    // Remove from enemies list used by Player attack system
-                    if (enemies != null) {
-                        enemies.removeValue(t, false);
-                        player.setEnemies(enemies);
-                    }
-                    tentacles.removeIndex(i);
-                }
-            }
-        }
-
-        // Boss update - set target to player position
-        if (boss != null) {
-            boss.setTarget(player.getX() + player.getHitboxWidth() / 2, player.getY() + player.getHitboxHeight() / 2);
-            
-            // Check if player is in any trigger zone and notify boss
-            // Also find trigger_6 to set as boundary zone
-            String activeTrigger = null;
-            Rectangle playerRect = player.getHitboxRect();
-            for (int i = 0; i < interactables.size; i++) {
-                Interactable it = interactables.get(i);
-                if (it instanceof com.jjmc.chromashift.environment.TriggerZone tz) {
-                    String triggerId = tz.getId();
-                    
-                    // Set trigger_6 as boundary zone (only needs to be done once but harmless to repeat)
-                    if ("trigger_6".equalsIgnoreCase(triggerId) && tz.getBounds() != null) {
-                        boss.setTrigger6Bounds(tz.getBounds());
-                        // Don't set trigger_6 as active trigger - it's boundary only
-                        continue;
-                    }
-                    
-                    // Check if player is in this trigger (excluding trigger_6)
-                    if (tz.getBounds() != null && tz.getBounds().overlaps(playerRect)) {
-                        activeTrigger = triggerId;
-                        // Don't break - continue to find trigger_6 if not found yet
-                    }
-                }
+        PerformanceProfiler.end(PROBE_SCREEN_INPUT);
+
+        // Gameplay simulation. In fixed mode the world advances in constant steps so
+        // physics does not depend on the display refresh rate or frame spikes; rendering
+        // then blends the player between the last two steps.
+        // Input is sampled once per frame. The first step consumes its edges (at the end
+        // of LevelSimulation.step), so catch-up steps do not repeat a key press; a frame
+        // that runs no step keeps them for the next one.
+        PerformanceProfiler.begin(PROBE_INPUT_SAMPLE);
+        com.jjmc.chromashift.input.InputFrame input = simulation.getInputFrame();
+        input.sample(camController.getCamera());
+        PerformanceProfiler.end(PROBE_INPUT_SAMPLE);
+        PerformanceProfiler.begin(PROBE_SIMULATION);
+        if (fixedTimestepEnabled) {
+            int steps = fixedStep.advance(delta, input.hasEdges());
+            float stepDelta = fixedStep.getStepSeconds();
+            for (int s = 0; s < steps; s++) {
+                prevPlayerX = player.getX();
+                prevPlayerY = player.getY();
+                recordTick(input);
+                updateSimulation(stepDelta);
             }
-            boss.setActiveTriggerZone(activeTrigger);
-            
-            boss.update(delta);
-        }
-        
-        // BossGuardian update (skip if currently spawning)
-        if (bossGuardian != null && !bossGuardian.isSpawning()) {
-            bossGuardian.setTarget(player.getX() + player.getHitboxWidth() / 2, player.getY() + player.getHitboxHeight() / 2);
-            bossGuardian.update(delta);
-        } else if (bossGuardian != null && bossGuardian.isSpawning()) {
-            // Update spawn sequence (handled in boss.update() during spawn)
-            bossGuardian.update(delta);
+            renderAlpha = fixedStep.getAlpha();
+        } else {
+            prevPlayerX = player.getX();
+            prevPlayerY = player.getY();
+            updateSimulation(delta);
+            renderAlpha = 1f;
         }
-
-        // Check laser beams against the player hitbox; if intersecting, kill the player
-        Rectangle playerHit = player.getHitboxRect();
-        float beamThickness = 6f; // matches Laser/LaserRay outer thickness
-        for (int i = 0; i < interactables.size; i++) {
-            Interactable it = interactables.get(i);
-            java.util.ArrayList<com.badlogic.gdx.math.Vector2> pts = null;
-            if (it instanceof com.jjmc.chromashift.environment.interactable.Laser l) {
-                pts = l.getCachedPoints();
-            } else if (it instanceof com.jjmc.chromashift.environment.interactable.LaserRay lr) {
-                pts = lr.getCachedPoints();
-            }
-            if (pts == null || pts.size() < 2)
-                continue;
-            if (beamIntersectsRect(pts, playerHit, beamThickness)) {
-                // kill player instantly
-                try {
-                    player.getHealthSystem().kill(it);
-                } catch (Throwable ignored) {
-                }
-                break;
+        // R respawn ran inside a step (it is part of the recorded input)
+        if (simulation.consumeRespawned()) {
+            snapRenderState();
+            if (spawnMarker != null) {
+                spawnMarker.setPosition(playerSpawnX, playerSpawnY);
+                spawnMarker.playOnce();
             }
         }
+        PerformanceProfiler.end(PROBE_SIMULATION);
 
+        PerformanceProfiler.begin(PROBE_CAMERA);
         // Handle camera effects during BossGuardian spawn sequence
         if (bossGuardian != null && bossGuardian.isSpawning()) {
             // Lock camera to boss center during spawn
@@ -623,8 +601,8 @@ public class GameSceneScreen implements Screen {
         } else {
             // Normal gameplay - follow player
             camController.unlockCamera();
-            Vector2 playerCenter = new Vector2(player.getX() + player.getHitboxWidth() / 2f,
-                    player.getY() + player.getHitboxHeight() / 2f);
+            Vector2 playerCenter = new Vector2(getRenderPlayerX() + player.getHitboxWidth() / 2f,
+                    getRenderPlayerY() + player.getHitboxHeight() / 2f);
             camController.setTarget(playerCenter);
             camController.setTargetZoom(desiredZoom, zoomLerpSpeed);
         }
@@ -636,55 +614,50 @@ public class GameSceneScreen implements Screen {
         if (camera != null) {
             camera.update();
         }
+        PerformanceProfiler.end(PROBE_CAMERA);
 
         // Draw
+        renderQueue.beginFrame(batch);
         Gdx.gl.glClearColor(0.08f, 0.09f, 0.12f, 1f);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        shape.setProjectionMatrix(camController.getCamera().combined);
-        // Draw Tentacles (behind everything or in front? Let's draw behind player but in
-        // front of walls)
-        // Actually, ShapeRenderer needs begin/end.
-        // The existing code ends 'shape' before batch.begin().
-        // We can draw tentacles here.
-        for (com.jjmc.chromashift.environment.enemy.Tentacle t : tentacles) {
-            t.draw(shape);
+        PerformanceProfiler.begin(PROBE_DRAW_SUBMIT);
+        culler.update(camController.getCamera());
+        // Tentacles first (one shape pass), then the sprite layers back to front:
+        // background, walls, beams, interactables, collectibles, spawn marker, boss, player
+        for (com.jjmc.chromashift.environment.enemy.Tentacle t : culler.getVisibleTentacles()) {
+            renderQueue.submitShape(RenderQueue.LAYER_TENTACLES, ShapeRenderer.ShapeType.Filled, t);
         }
-        shape.end();
-
-        batch.setProjectionMatrix(camController.getCamera().combined);
-        batch.begin();
-        
-        // Render background first (behind everything) using SpriteAnimator
         if (backgroundAnimator != null) {
-            batch.setColor(1f, 1f, 1f, 1f); // Ensure full white color (no tint)
-            backgroundAnimator.render(batch, 0, 0, 1600, 900);
+            renderQueue.submit(RenderQueue.LAYER_BACKGROUND, backgroundDraw);
         }
-
-        // Draw world: walls first, then interactables, collectibles, spawn marker,
-        // boss, and player
-        for (Wall w : walls)
-            w.render(batch);
-        for (Interactable i : interactables)
-            i.render(batch);
+        renderQueue.submitPass(RenderQueue.LAYER_WALLS, wallDraw);
+        // Beams go under the emitters, mirrors and glass drawn next
+        for (com.jjmc.chromashift.environment.interactable.Laser l : entities.getLasers())
+            beamRenderer.add(l);
+        for (com.jjmc.chromashift.environment.interactable.LaserRay lr : entities.getLaserRays())
+            beamRenderer.add(lr);
+        renderQueue.submit(RenderQueue.LAYER_BEAMS, beamDraw);
+        for (Interactable i : culler.getVisibleInteractables())
+            renderQueue.submit(RenderQueue.LAYER_INTERACTABLES, i);
         // Render collectibles (diamonds, etc.)
-        for (com.jjmc.chromashift.environment.collectible.Collectible c : collectibles) {
-            c.render(batch);
+        for (com.jjmc.chromashift.environment.collectible.Collectible c : culler.getVisibleCollectibles()) {
+            renderQueue.submit(RenderQueue.LAYER_COLLECTIBLES, c);
         }
         if (spawnMarker != null) {
             spawnMarker.update(delta);
             if (spawnMarker.isVisible()) {
-                spawnMarker.render(batch);
+                renderQueue.submit(RenderQueue.LAYER_MARKERS, spawnMarker);
             }
         }
-        // Render boss between environment and player so it appears above environment but behind player
+        // Boss between environment and player so it appears above environment but behind player
         if (boss != null) {
-            boss.render(batch);
+            renderQueue.submit(RenderQueue.LAYER_BOSS, boss);
         }
         if (bossGuardian != null) {
-            bossGuardian.render(batch);
+            renderQueue.submit(RenderQueue.LAYER_BOSS, bossGuardian);
         }
-        player.render(batch);
+        renderQueue.submit(RenderQueue.LAYER_PLAYER, playerDraw);
 
         // // Draw debug UI with clean layout
         // float baseX = camController.getCamera().position.x - 480 + 8; // Left align
@@ -752,24 +725,25 @@ public class GameSceneScreen implements Screen {
 
         // Status effects (if any active)
         if (player.getHealthSystem().isInvulnerable()) {
-            font.setColor(Color.YELLOW);
-            font.draw(batch, "INVULNERABLE",
-                    camController.getCamera().position.x - 40, // Center on screen
-                    camController.getCamera().position.y + 40);
+            renderQueue.submit(RenderQueue.LAYER_OVERLAY, statusDraw);
         }
-        batch.end();
+        renderQueue.submitShape(RenderQueue.LAYER_OVERLAY, ShapeRenderer.ShapeType.Filled, groundDraw);
+        PerformanceProfiler.end(PROBE_DRAW_SUBMIT);
+
+        PerformanceProfiler.begin(PROBE_DRAW_WORLD);
+        shape.setProjectionMatrix(camController.getCamera().combined);
+        batch.setProjectionMatrix(camController.getCamera().combined);
+        renderQueue.flush(batch, shape);
+        PerformanceProfiler.end(PROBE_DRAW_WORLD);
 
         // Update and draw UI stage for shop dialogs
+        PerformanceProfiler.begin(PROBE_DRAW_UI);
         uiStage.act(delta);
         uiStage.draw();
+        PerformanceProfiler.end(PROBE_DRAW_UI);
 
         // Debug visuals
-        shape.setProjectionMatrix(camController.getCamera().combined);
-        shape.begin(ShapeRenderer.ShapeType.Filled);
-        shape.setColor(Color.FOREST);
-        shape.rect(-2000, groundY - 5, 4000, 5);
-        shape.end();
-
+        PerformanceProfiler.begin(PROBE_DRAW_DEBUG);
         if (Gdx.input.isKeyPressed(Input.Keys.F3)) {
             shape.begin(ShapeRenderer.ShapeType.Line);
             for (Wall w : walls)
@@ -830,16 +804,15 @@ public class GameSceneScreen implements Screen {
 
             // Draw respawn areas for boxes and orbs
             shape.setColor(new Color(0f, 0.5f, 1f, 0.25f));
-            for (Interactable i : interactables) {
-                if (i instanceof com.jjmc.chromashift.environment.interactable.Box b) {
-                    Rectangle area = b.getRespawnArea();
-                    if (area != null)
-                        shape.rect(area.x, area.y, area.width, area.height);
-                } else if (i instanceof com.jjmc.chromashift.environment.interactable.Orb o) {
-                    Rectangle area = o.getRespawnArea();
-                    if (area != null)
-                        shape.rect(area.x, area.y, area.width, area.height);
-                }
+            for (com.jjmc.chromashift.environment.interactable.Box b : entities.getBoxes()) {
+                Rectangle area = b.getRespawnArea();
+                if (area != null)
+                    shape.rect(area.x, area.y, area.width, area.height);
+            }
+            for (com.jjmc.chromashift.environment.interactable.Orb o : entities.getOrbs()) {
+                Rectangle area = o.getRespawnArea();
+                if (area != null)
+                    shape.rect(area.x, area.y, area.width, area.height);
             }
             shape.end();
             
@@ -850,29 +823,131 @@ public class GameSceneScreen implements Screen {
                 batch.end();
             }
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.O)) {
-            player.getHealthSystem().damage(100f, null);
+        PerformanceProfiler.end(PROBE_DRAW_DEBUG);
+        // Render loading overlay on top of everything if still loading
+        if (loadingManager != null && loadingOverlay != null && !loadingManager.isReady()) {
+            loadingOverlay.render();
         }
 
-        if (boss != null && Gdx.input.isKeyJustPressed(Input.Keys.K)) {
-            boss.getHealthSystem().damage(100f, null);
+        renderQueue.endFrame(batch);
+        if (PerformanceProfiler.isEnabled()) {
+            PerformanceProfiler.begin(PROBE_DRAW_PROFILER);
+            batch.setProjectionMatrix(overlayMatrix);
+            batch.begin();
+            font.setColor(Color.WHITE);
+            PerformanceProfiler.renderOverlay(batch, font, 8f, Gdx.graphics.getHeight() - 8f);
+            batch.end();
+            PerformanceProfiler.end(PROBE_DRAW_PROFILER);
         }
-        if (boss != null && Gdx.input.isKeyJustPressed(Input.Keys.L)) {
-            boss.getHealthSystem().heal(100f);
+    }
+
+    /** F4 toggles the profiler (with tracing); F6 writes a Chrome trace and CSV summary to profiling/. */
+    private void handleProfilerKeys() {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) {
+            boolean on = !PerformanceProfiler.isEnabled();
+            PerformanceProfiler.setEnabled(on);
+            if (on) {
+                PerformanceProfiler.reset();
+                PerformanceProfiler.startTrace();
+                overlayMatrix.setToOrtho2D(0f, 0f, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+            } else {
+                PerformanceProfiler.stopTrace();
+            }
+            Gdx.app.log("TestSceneScreen", "Profiler " + (on ? "enabled" : "disabled"));
         }
-        if (bossGuardian != null && Gdx.input.isKeyJustPressed(Input.Keys.K)) {
-            bossGuardian.getHealthSystem().damage(100f, null);
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F6) && PerformanceProfiler.isEnabled()) {
+            String stamp = Long.toString(System.currentTimeMillis());
+            com.badlogic.gdx.files.FileHandle trace = Gdx.files.local("profiling/trace-" + stamp + ".json");
+            com.badlogic.gdx.files.FileHandle csv = Gdx.files.local("profiling/probes-" + stamp + ".csv");
+            boolean ok = PerformanceProfiler.exportChromeTrace(trace) & PerformanceProfiler.exportCsv(csv);
+            Gdx.app.log("TestSceneScreen", (ok ? "Profiler exported to " : "Profiler export incomplete: ")
+                    + trace.path() + ", " + csv.path());
         }
-        if (bossGuardian != null && Gdx.input.isKeyJustPressed(Input.Keys.L)) {
-            bossGuardian.getHealthSystem().heal(100f);
+    }
+    
+    /**
+     * Enable/disable the fixed-rate simulation (disabled = one step per frame with raw delta).
+     * Recordings replay at a fixed step, so disabling it ends any input recording.
+     */
+    public void setFixedTimestepEnabled(boolean enabled) {
+        this.fixedTimestepEnabled = enabled;
+        fixedStep.reset();
+        if (!enabled && recordDir != null) {
+            stopRecording();
+            recordDir = null;
+            Gdx.app.log("TestSceneScreen", "Input recording stopped: replays need the fixed timestep");
         }
-        
-        // Render loading overlay on top of everything if still loading
-        if (loadingManager != null && loadingOverlay != null && !loadingManager.isReady()) {
-            loadingOverlay.render();
+    }
+
+    /** Simulation rate in Hz (e.g. 60 or 120) and maximum catch-up steps per rendered frame. */
+    public void setFixedTimestep(float hz, int maxStepsPerFrame) {
+        fixedStep.setRate(hz);
+        fixedStep.setMaxStepsPerFrame(maxStepsPerFrame);
+        fixedStep.reset();
+    }
+
+    /** Drop interpolation history (after spawn/teleport) so the player is not drawn sliding in. */
+    private void snapRenderState() {
+        fixedStep.reset();
+        renderAlpha = 1f;
+        if (player != null) {
+            prevPlayerX = player.getX();
+            prevPlayerY = player.getY();
         }
     }
-    
+
+    private float getRenderPlayerX() {
+        return prevPlayerX + (player.getX() - prevPlayerX) * renderAlpha;
+    }
+
+    private float getRenderPlayerY() {
+        return prevPlayerY + (player.getY() - prevPlayerY) * renderAlpha;
+    }
+
+    /**
+     * Advance all gameplay objects by one simulation step of {@code delta} seconds.
+     */
+    private void updateSimulation(float delta) {
+        simulation.step(delta);
+    }
+
+    /**
+     * Append the input of the step about to run to the session recording (if enabled).
+     * Only fixed steps are recorded; recording is refused or stopped when fixed-step is off.
+     */
+    private void recordTick(com.jjmc.chromashift.input.InputFrame input) {
+        if (recordDir == null) return;
+        try {
+            if (recorder == null) {
+                String name = currentLevelPath.replace('\\', '/');
+                name = name.substring(name.lastIndexOf('/') + 1).replace(".json", "");
+                com.badlogic.gdx.files.FileHandle file = Gdx.files.absolute(new java.io.File(recordDir,
+                        name + "-" + System.currentTimeMillis() + ".csrp").getAbsolutePath());
+                file.parent().mkdirs();
+                // Player state as of now: includes the restored save and anything applied since the build
+                String playerJson = com.jjmc.chromashift.player.PlayerIO.toJson(
+                        com.jjmc.chromashift.player.PlayerIO.capture(player, currentLevelPath, visitedLevels));
+                recorder = new com.jjmc.chromashift.input.InputRecorder(file, currentLevelPath, recordSeed,
+                        fixedStep.getStepSeconds(), recordLevelJson, recordOverrides,
+                        player.getType().getColorName(), playerJson);
+                // Loading frames before the first step may have drawn from the RNG; replays reseed here too
+                com.badlogic.gdx.math.MathUtils.random.setSeed(recordSeed);
+                Gdx.app.log("TestSceneScreen", "Recording input to " + file.path());
+            }
+            recorder.record(input);
+        } catch (java.io.IOException e) {
+            Gdx.app.error("TestSceneScreen", "Input recording failed: " + e.getMessage());
+            recordDir = null;
+        }
+    }
+
+    private void stopRecording() {
+        if (recorder != null) {
+            recorder.finish(player.getX(), player.getY());
+            recorder = null;
+        }
+    }
+
     /**
      * Render the loading screen while level is initializing.
      */
@@ -887,59 +962,6 @@ public class GameSceneScreen implements Screen {
         }
     }
 
-    /**
-     * Return true if any segment in the polyline `points` intersects rectangle `r`
-     * within `thickness`.
-     */
-    private boolean beamIntersectsRect(java.util.ArrayList<com.badlogic.gdx.math.Vector2> points, Rectangle r,
-            float thickness) {
-        if (points == null || points.size() < 2 || r == null)
-            return false;
-        float pad = thickness * 0.5f;
-        Rectangle re = new Rectangle(r.x - pad, r.y - pad, r.width + pad * 2f, r.height + pad * 2f);
-
-        // helper: check segment intersects rectangle `re`
-        for (int i = 0; i < points.size() - 1; i++) {
-            com.badlogic.gdx.math.Vector2 a = points.get(i);
-            com.badlogic.gdx.math.Vector2 b = points.get(i + 1);
-            // if either endpoint inside rect -> hit
-            if (re.contains(a.x, a.y) || re.contains(b.x, b.y))
-                return true;
-            // check intersection with each rectangle edge
-            com.badlogic.gdx.math.Vector2 r1 = new com.badlogic.gdx.math.Vector2(re.x, re.y);
-            com.badlogic.gdx.math.Vector2 r2 = new com.badlogic.gdx.math.Vector2(re.x + re.width, re.y);
-            com.badlogic.gdx.math.Vector2 r3 = new com.badlogic.gdx.math.Vector2(re.x + re.width, re.y + re.height);
-            com.badlogic.gdx.math.Vector2 r4 = new com.badlogic.gdx.math.Vector2(re.x, re.y + re.height);
-            if (segmentsIntersect(a, b, r1, r2))
-                return true;
-            if (segmentsIntersect(a, b, r2, r3))
-                return true;
-            if (segmentsIntersect(a, b, r3, r4))
-                return true;
-            if (segmentsIntersect(a, b, r4, r1))
-                return true;
-        }
-        return false;
-    }
-
-    // Standard 2D segment intersection test
-    private boolean segmentsIntersect(com.badlogic.gdx.math.Vector2 p1, com.badlogic.gdx.math.Vector2 p2,
-            com.badlogic.gdx.math.Vector2 q1, com.badlogic.gdx.math.Vector2 q2) {
-        float o1 = orient(p1, p2, q1);
-        float o2 = orient(p1, p2, q2);
-        float o3 = orient(q1, q2, p1);
-        float o4 = orient(q1, q2, p2);
-
-        if (o1 * o2 < 0f && o3 * o4 < 0f)
-            return true;
-        return false;
-    }
-
-    private float orient(com.badlogic.gdx.math.Vector2 a, com.badlogic.gdx.math.Vector2 b,
-            com.badlogic.gdx.math.Vector2 c) {
-        return (b.x - a.x) * (c.y - a.y) - (b.y - a.y) * (c.x - a.x);
-    }
-
     /**
      * Level progression logic: determines next level based on current level.
      * Progression: level1 -> level2 -> level3 -> bossroom -> level4 -> level5 -> level6 -> bossroom
@@ -992,24 +1014,47 @@ public class GameSceneScreen implements Screen {
         return null;
     }
 
+    /**
+     * Apply the saved player state and return the saved visited levels (may be null). An
+     * autosave still being written is applied from memory rather than waited for.
+     */
+    private com.badlogic.gdx.utils.Array<String> restoreSavedPlayer() throws java.sql.SQLException {
+        com.jjmc.chromashift.player.PlayerIO.PlayerState pending =
+            com.jjmc.chromashift.player.PlayerIO.getPendingSave();
+        if (pending == null) {
+            com.jjmc.chromashift.database.PlayerDAO.loadPlayerStateFromDB(1, player);
+            return com.jjmc.chromashift.database.PlayerDAO.loadVisitedLevelsFromDB(1);
+        }
+        com.jjmc.chromashift.player.PlayerIO.applyToPlayer(player, pending);
+        return pending.visitedLevels;
+    }
+
     /**
      * Centralized auto-save routine for player and level.
      * Saves to workspace JSON and attempts DB writes via DAOs.
      */
     private void saveAllState(String nextLevelPath) {
+        // Left while the level's assets were still loading: nothing was built to save
+        if (player == null) return;
         try {
             // Capture player with next level context and visited levels
             com.jjmc.chromashift.player.PlayerIO.PlayerState playerState =
                 com.jjmc.chromashift.player.PlayerIO.capture(player, nextLevelPath, visitedLevels);
 
-            // Save player to workspace (legacy) and DAO (DB)
-            com.jjmc.chromashift.player.PlayerIO.saveToWorkspace("player_save.json", playerState);
-            try {
-                com.jjmc.chromashift.database.PlayerDAO.savePlayerState(1, playerState);
-                Gdx.app.log("TestSceneScreen", "✓ Player auto-saved to database");
-            } catch (Exception dbEx) {
-                Gdx.app.log("TestSceneScreen", "Player DB save failed: " + dbEx.getMessage());
-            }
+            // Save player to workspace (legacy) and DAO (DB). The state is a detached
+            // snapshot, so the writes run on the async ordered lane; until they finish,
+            // loaders take the snapshot itself from PlayerIO.getPendingSave()
+            com.jjmc.chromashift.player.PlayerIO.setPendingSave(playerState);
+            com.chromashift.helper.AsyncService.submitOrdered(null, () -> {
+                com.jjmc.chromashift.player.PlayerIO.saveToWorkspace("player_save.json", playerState);
+                try {
+                    com.jjmc.chromashift.database.PlayerDAO.savePlayerState(1, playerState);
+                    Gdx.app.log("TestSceneScreen", "✓ Player auto-saved to database");
+                } catch (Exception dbEx) {
+                    Gdx.app.log("TestSceneScreen", "Player DB save failed: " + dbEx.getMessage());
+                }
+                com.jjmc.chromashift.player.PlayerIO.clearPendingSave(playerState);
+            });
 
             // Prepare level result snapshot
             com.jjmc.chromashift.screens.levels.LevelLoader.Result result =
@@ -1035,6 +1080,7 @@ public class GameSceneScreen implements Screen {
         if (width <= 0 || height <= 0)
             return;
         camera.setToOrtho(false, width, height);
+        overlayMatrix.setToOrtho2D(0f, 0f, width, height);
         if (uiStage != null) {
             uiStage.getViewport().update(width, height, true);
         }
@@ -1050,6 +1096,7 @@ public class GameSceneScreen implements Screen {
 
     @Override
     public void hide() {
+        stopRecording();
         // Autosave when leaving the screen (e.g., going to menu)
         try { saveAllState(currentLevelPath); } catch (Throwable t) { Gdx.app.log("TestSceneScreen", "Autosave on hide failed: " + t.getMessage()); }
         // Disable culling when leaving gameplay (e.g., to editor/menu)
@@ -1058,11 +1105,17 @@ public class GameSceneScreen implements Screen {
 
     @Override
     public void dispose() {
+        stopRecording();
         // Autosave on application/window close
         try { saveAllState(currentLevelPath); } catch (Throwable t) { Gdx.app.log("TestSceneScreen", "Autosave on dispose failed: " + t.getMessage()); }
+        if (simulation != null)
+            simulation.exit();
+        if (culler != null)
+            culler.dispose(entities);
         if (ctx != null)
             ctx.dispose();
-        player.dispose();
+        if (player != null)
+            player.dispose();
         if (boss != null)
             boss.disposeParts();
         if (bossGuardian != null)
@@ -1070,17 +1123,22 @@ public class GameSceneScreen implements Screen {
         if (backgroundAnimator != null) {
             backgroundAnimator.dispose();
         }
+        renderQueue.dispose();
+        wallCache.dispose();
         // dispose button sprites
-        for (Interactable i : interactables)
-            if (i instanceof Button b)
+        if (entities != null)
+            for (Button b : entities.getButtons())
                 b.dispose();
         // dispose collectibles
-        for (com.jjmc.chromashift.environment.collectible.Collectible c : collectibles)
-            c.dispose();
+        if (collectibles != null)
+            for (com.jjmc.chromashift.environment.collectible.Collectible c : collectibles)
+                c.dispose();
         // dispose shops
-        for (com.jjmc.chromashift.environment.interactable.Shop s : shops)
-            s.dispose();
+        if (shops != null)
+            for (com.jjmc.chromashift.environment.interactable.Shop s : shops)
+                s.dispose();
         // dispose UI stage
+        beamRenderer.dispose();
         if (uiStage != null)
             uiStage.dispose();
         // dispose wall/shared textures
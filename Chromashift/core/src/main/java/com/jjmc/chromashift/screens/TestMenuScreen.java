@@ -133,9 +133,12 @@ public class TestMenuScreen implements Screen {
             @Override
             public void clicked(com.badlogic.gdx.scenes.scene2d.InputEvent event, float x, float y) {
                 try {
-                    // Load player save
-                    com.jjmc.chromashift.player.PlayerIO.PlayerState loaded = 
-                        com.jjmc.chromashift.player.PlayerIO.load("player_save.json");
+                    // Load player save, or the autosave still being written to it
+                    com.jjmc.chromashift.player.PlayerIO.PlayerState pending =
+                        com.jjmc.chromashift.player.PlayerIO.getPendingSave();
+                    com.jjmc.chromashift.player.PlayerIO.PlayerState loaded = pending != null
+                        ? pending
+                        : com.jjmc.chromashift.player.PlayerIO.load("player_save.json");
                     if (loaded != null && loaded.currentLevel != null) {
                         System.out.println("Continuing from saved game: " + loaded.currentLevel);
                         // Create TestSceneScreen with saved level using SAVED_IF_EXISTS mode
@@ -144,8 +147,8 @@ public class TestMenuScreen implements Screen {
                             com.jjmc.chromashift.screens.levels.LevelLoader.LoadMode.SAVED_IF_EXISTS
                         );
                         ((com.badlogic.gdx.Game) Gdx.app.getApplicationListener()).setScreen(screen);
-                        // Apply player state after screen is created
-                        Gdx.app.postRunnable(() -> {
+                        // Apply player state once the level is built
+                        screen.runWhenLevelBuilt(() -> {
                             try {
                                 if (screen.player != null) {
                                     com.jjmc.chromashift.player.PlayerIO.applyToPlayer(screen.player, loaded);
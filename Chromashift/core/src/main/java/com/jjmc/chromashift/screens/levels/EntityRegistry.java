@@ -0,0 +1,151 @@
+package com.jjmc.chromashift.screens.levels;
+
+import com.badlogic.gdx.utils.Array;
+import com.jjmc.chromashift.environment.Launchpad;
+import com.jjmc.chromashift.environment.TriggerZone;
+import com.jjmc.chromashift.environment.interactable.Box;
+import com.jjmc.chromashift.environment.interactable.Button;
+import com.jjmc.chromashift.environment.interactable.Door;
+import com.jjmc.chromashift.environment.interactable.Interactable;
+import com.jjmc.chromashift.environment.interactable.Laser;
+import com.jjmc.chromashift.environment.interactable.LaserRay;
+import com.jjmc.chromashift.environment.interactable.LockedDoor;
+import com.jjmc.chromashift.environment.interactable.Orb;
+import com.jjmc.chromashift.environment.interactable.Portal;
+
+/**
+ * Per-type views of a level's interactables so each system walks only the objects it
+ * handles instead of type-checking the whole list every frame. LevelLoader.build fills
+ * it once; objects added or removed later (e.g. shops created by the screen) must go
+ * through {@link #add}/{@link #remove} so the typed arrays and listeners stay in sync.
+ * Every array keeps the order of the backing interactables list.
+ */
+public class EntityRegistry {
+    /** Notified after an interactable joins or leaves the level. */
+    public interface Listener {
+        void added(Interactable it);
+
+        void removed(Interactable it);
+    }
+
+    private final Array<Interactable> interactables;
+    // Everything except buttons, lasers, boxes and orbs; buttons update in their own pass
+    // with object bounds, lasers cast as frame jobs after the rest has moved, boxes and
+    // orbs are ECS bodies stepped by PhysicsSystem
+    private final Array<Interactable> updatables = new Array<>();
+    private final Array<Box> boxes = new Array<>();
+    private final Array<Orb> orbs = new Array<>();
+    private final Array<Launchpad> launchpads = new Array<>();
+    private final Array<Button> buttons = new Array<>();
+    private final Array<Laser> lasers = new Array<>();
+    private final Array<LaserRay> laserRays = new Array<>();
+    private final Array<TriggerZone> triggers = new Array<>();
+    private final Array<Door> doors = new Array<>();
+    private final Array<LockedDoor> lockedDoors = new Array<>();
+    private final Array<Portal> portals = new Array<>();
+    private final Array<Listener> listeners = new Array<>();
+
+    public EntityRegistry(Array<Interactable> interactables) {
+        this.interactables = interactables;
+    }
+
+    /** Re-sort every interactable into the typed arrays (after bulk edits of the list). */
+    public void indexAll() {
+        updatables.clear();
+        boxes.clear();
+        orbs.clear();
+        launchpads.clear();
+        buttons.clear();
+        lasers.clear();
+        laserRays.clear();
+        triggers.clear();
+        doors.clear();
+        lockedDoors.clear();
+        portals.clear();
+        for (int i = 0; i < interactables.size; i++) {
+            index(interactables.get(i));
+        }
+    }
+
+    /** Append to the level and the matching typed array. */
+    public void add(Interactable it) {
+        if (it == null)
+            return;
+        interactables.add(it);
+        index(it);
+        for (int i = 0; i < listeners.size; i++)
+            listeners.get(i).added(it);
+    }
+
+    /** Remove from the level and the matching typed array. */
+    public boolean remove(Interactable it) {
+        if (it == null || !interactables.removeValue(it, true))
+            return false;
+        updatables.removeValue(it, true);
+        if (it instanceof Box b) boxes.removeValue(b, true);
+        else if (it instanceof Orb o) orbs.removeValue(o, true);
+        else if (it instanceof Launchpad lp) launchpads.removeValue(lp, true);
+        else if (it instanceof Button bt) buttons.removeValue(bt, true);
+        else if (it instanceof Laser l) lasers.removeValue(l, true);
+        else if (it instanceof LaserRay lr) laserRays.removeValue(lr, true);
+        else if (it instanceof TriggerZone tz) triggers.removeValue(tz, true);
+        else if (it instanceof Door d) doors.removeValue(d, true);
+        else if (it instanceof LockedDoor ld) lockedDoors.removeValue(ld, true);
+        else if (it instanceof Portal p) portals.removeValue(p, true);
+        for (int i = 0; i < listeners.size; i++)
+            listeners.get(i).removed(it);
+        return true;
+    }
+
+    public void addListener(Listener listener) {
+        if (listener != null && !listeners.contains(listener, true))
+            listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.removeValue(listener, true);
+    }
+
+    // Appends keep the typed arrays in list order since the list itself only grows at the end
+    private void index(Interactable it) {
+        if (it instanceof Button bt) {
+            buttons.add(bt);
+            return;
+        }
+        if (it instanceof Laser l) {
+            lasers.add(l);
+            return;
+        }
+        if (it instanceof LaserRay lr) {
+            laserRays.add(lr);
+            return;
+        }
+        if (it instanceof Box b) {
+            boxes.add(b);
+            return;
+        }
+        if (it instanceof Orb o) {
+            orbs.add(o);
+            return;
+        }
+        updatables.add(it);
+        if (it instanceof Launchpad lp) launchpads.add(lp);
+        else if (it instanceof TriggerZone tz) triggers.add(tz);
+        else if (it instanceof Door d) doors.add(d);
+        else if (it instanceof LockedDoor ld) lockedDoors.add(ld);
+        else if (it instanceof Portal p) portals.add(p);
+    }
+
+    public Array<Interactable> getInteractables() { return interactables; }
+    public Array<Interactable> getUpdatables() { return updatables; }
+    public Array<Box> getBoxes() { return boxes; }
+    public Array<Orb> getOrbs() { return orbs; }
+    public Array<Launchpad> getLaunchpads() { return launchpads; }
+    public Array<Button> getButtons() { return buttons; }
+    public Array<Laser> getLasers() { return lasers; }
+    public Array<LaserRay> getLaserRays() { return laserRays; }
+    public Array<TriggerZone> getTriggers() { return triggers; }
+    public Array<Door> getDoors() { return doors; }
+    public Array<LockedDoor> getLockedDoors() { return lockedDoors; }
+    public Array<Portal> getPortals() { return portals; }
+}
@@ -70,149 +70,164 @@ public class GameLevelSave {
         return Math.abs(filename.hashCode()) % 1000;
     }
 
-    /** Save overrides to workspace saves folder. */
-    public static boolean saveLevelOverrides(String levelPath, LevelLoader.Result result) {
-        try {
-            SavedLevel sl = new SavedLevel();
-            sl.levelPath = levelPath;
-            sl.timestamp = System.currentTimeMillis();
+    /**
+     * Build the overrides JSON for the current level objects, diffing against the
+     * original level to record collected/killed objects. No file or database I/O.
+     */
+    public static String serializeOverrides(String levelPath, LevelLoader.Result result, LevelLoader.Result originalResult) {
+        SavedLevel sl = new SavedLevel();
+        sl.levelPath = levelPath;
+        sl.timestamp = System.currentTimeMillis();
 
-            // Load original to detect removals
-            Gdx.app.log("GameLevelSave", "Loading original level to detect removed objects: " + levelPath);
-            LevelLoader.Result originalResult = LevelLoader.load(levelPath, LevelLoader.LoadMode.ORIGINAL);
-            
-            // Collect candidates
-            Array<Object> candidates = new Array<>();
-            java.util.ArrayList<String> collectedIds = new java.util.ArrayList<>();
-            
-            // Compare original vs current to find removals
-            if (originalResult.collectibles != null) {
-                Gdx.app.log("GameLevelSave", "Original collectibles count: " + originalResult.collectibles.size);
-                Gdx.app.log("GameLevelSave", "Current collectibles count: " + (result.collectibles != null ? result.collectibles.size : 0));
-                
-                for (int i = 0; i < originalResult.collectibles.size; i++) {
-                    Object origObj = originalResult.collectibles.get(i);
-                    String origId = null;
-                    
-                    // Get original ID
-                    if (origObj instanceof com.jjmc.chromashift.environment.collectible.Collectible c) {
-                        origId = c.getId();
-                    }
-                    if (origId == null) origId = generateObjectId(origObj, i);
-                    
-                    // Check if ID in current
-                    boolean foundInCurrent = false;
-                    if (result.collectibles != null) {
-                        for (int j = 0; j < result.collectibles.size; j++) {
-                            Object currObj = result.collectibles.get(j);
-                            String currId = null;
-                            if (currObj instanceof com.jjmc.chromashift.environment.collectible.Collectible c) {
-                                currId = c.getId();
-                            }
-                            if (currId == null) currId = generateObjectId(currObj, j);
-                            
-                            if (origId.equals(currId)) {
-                                foundInCurrent = true;
-                                break;
-                            }
+        // Collect candidates
+        Array<Object> candidates = new Array<>();
+        java.util.ArrayList<String> collectedIds = new java.util.ArrayList<>();
+
+        // Compare original vs current to find removals
+        if (originalResult.collectibles != null) {
+            Gdx.app.log("GameLevelSave", "Original collectibles count: " + originalResult.collectibles.size);
+            Gdx.app.log("GameLevelSave", "Current collectibles count: " + (result.collectibles != null ? result.collectibles.size : 0));
+
+            for (int i = 0; i < originalResult.collectibles.size; i++) {
+                Object origObj = originalResult.collectibles.get(i);
+                String origId = null;
+
+                // Get original ID
+                if (origObj instanceof com.jjmc.chromashift.environment.collectible.Collectible c) {
+                    origId = c.getId();
+                }
+                if (origId == null) origId = generateObjectId(origObj, i);
+
+                // Check if ID in current
+                boolean foundInCurrent = false;
+                if (result.collectibles != null) {
+                    for (int j = 0; j < result.collectibles.size; j++) {
+                        Object currObj = result.collectibles.get(j);
+                        String currId = null;
+                        if (currObj instanceof com.jjmc.chromashift.environment.collectible.Collectible c) {
+                            currId = c.getId();
+                        }
+                        if (currId == null) currId = generateObjectId(currObj, j);
+
+                        if (origId.equals(currId)) {
+                            foundInCurrent = true;
+                            break;
                         }
                     }
-                    
-                    // If not found in current, it was collected
-                    if (!foundInCurrent) {
-                        collectedIds.add(origId);
-                        Gdx.app.log("GameLevelSave", "Detected COLLECTED: " + origId);
-                    }
+                }
+
+                // If not found in current, it was collected
+                if (!foundInCurrent) {
+                    collectedIds.add(origId);
+                    Gdx.app.log("GameLevelSave", "Detected COLLECTED: " + origId);
                 }
             }
-            
-            // Compare original tentacles with current tentacles to find what's missing
-            if (originalResult.tentacles != null) {
-                Gdx.app.log("GameLevelSave", "Original tentacles count: " + originalResult.tentacles.size);
-                Gdx.app.log("GameLevelSave", "Current tentacles count: " + (result.tentacles != null ? result.tentacles.size : 0));
-                
-                for (int i = 0; i < originalResult.tentacles.size; i++) {
-                    Object origObj = originalResult.tentacles.get(i);
-                    String origId = generateObjectId(origObj, i);
-                    
-                    // Check if this ID exists in current tentacles
-                    boolean foundInCurrent = false;
-                    if (result.tentacles != null) {
-                        for (int j = 0; j < result.tentacles.size; j++) {
-                            Object currObj = result.tentacles.get(j);
-                            String currId = generateObjectId(currObj, j);
-                            
-                            if (origId.equals(currId)) {
-                                foundInCurrent = true;
-                                break;
-                            }
+        }
+
+        // Compare original tentacles with current tentacles to find what's missing
+        if (originalResult.tentacles != null) {
+            Gdx.app.log("GameLevelSave", "Original tentacles count: " + originalResult.tentacles.size);
+            Gdx.app.log("GameLevelSave", "Current tentacles count: " + (result.tentacles != null ? result.tentacles.size : 0));
+
+            for (int i = 0; i < originalResult.tentacles.size; i++) {
+                Object origObj = originalResult.tentacles.get(i);
+                String origId = generateObjectId(origObj, i);
+
+                // Check if this ID exists in current tentacles
+                boolean foundInCurrent = false;
+                if (result.tentacles != null) {
+                    for (int j = 0; j < result.tentacles.size; j++) {
+                        Object currObj = result.tentacles.get(j);
+                        String currId = generateObjectId(currObj, j);
+
+                        if (origId.equals(currId)) {
+                            foundInCurrent = true;
+                            break;
                         }
                     }
-                    
-                    // If not found in current, it was killed
-                    if (!foundInCurrent) {
-                        collectedIds.add(origId);
-                        Gdx.app.log("GameLevelSave", "Detected DEAD: " + origId);
-                    }
+                }
+
+                // If not found in current, it was killed
+                if (!foundInCurrent) {
+                    collectedIds.add(origId);
+                    Gdx.app.log("GameLevelSave", "Detected DEAD: " + origId);
                 }
             }
-            
-            // Add current objects to candidates for state saving
-            if (result.walls != null) for (Object o : result.walls) candidates.add(o);
-            if (result.interactables != null) for (Object o : result.interactables) candidates.add(o);
-            if (result.collectibles != null) for (Object o : result.collectibles) candidates.add(o);
-            if (result.tentacles != null) for (Object o : result.tentacles) candidates.add(o);
-            if (result.boss != null) candidates.add(result.boss);
-            
-            // Store the collected/dead IDs for removal on load
-            Gdx.app.log("GameLevelSave", "Total removed objects detected: " + collectedIds.size());
-            sl.removedObjectIds.addAll(collectedIds);
-            Gdx.app.log("GameLevelSave", "removedObjectIds size AFTER addAll: " + sl.removedObjectIds.size());
-            Gdx.app.log("GameLevelSave", "removedObjectIds contents: " + sl.removedObjectIds.toString());
-
-            int objectIndex = 0;
-            for (Object obj : candidates) {
-                if (obj == null) continue;
-                SavedObject so = new SavedObject();
-                Class<?> cls = obj.getClass();
-                so.className = cls.getSimpleName();
-                so.fullClassName = cls.getName();
-
-                // Attempt to obtain position and common bounds
-                try {
-                    Field boundsF = null;
-                    try { boundsF = cls.getDeclaredField("bounds"); } catch (Exception ignored) {}
-                    if (boundsF != null) {
-                        boundsF.setAccessible(true);
-                        Object bounds = boundsF.get(obj);
-                        if (bounds instanceof Rectangle r) {
-                            so.x = r.x;
-                            so.y = r.y;
-                        }
-                    } else {
-                        // try x,y fields
-                        try { Field fx = cls.getDeclaredField("x"); fx.setAccessible(true); so.x = ((Number)fx.get(obj)).floatValue(); } catch (Exception ignored) {}
-                        try { Field fy = cls.getDeclaredField("y"); fy.setAccessible(true); so.y = ((Number)fy.get(obj)).floatValue(); } catch (Exception ignored) {}
+        }
+
+        // Add current objects to candidates for state saving
+        if (result.walls != null) for (Object o : result.walls) candidates.add(o);
+        if (result.interactables != null) for (Object o : result.interactables) candidates.add(o);
+        if (result.collectibles != null) for (Object o : result.collectibles) candidates.add(o);
+        if (result.tentacles != null) for (Object o : result.tentacles) candidates.add(o);
+        if (result.boss != null) candidates.add(result.boss);
+
+        // Store the collected/dead IDs for removal on load
+        Gdx.app.log("GameLevelSave", "Total removed objects detected: " + collectedIds.size());
+        sl.removedObjectIds.addAll(collectedIds);
+        Gdx.app.log("GameLevelSave", "removedObjectIds size AFTER addAll: " + sl.removedObjectIds.size());
+        Gdx.app.log("GameLevelSave", "removedObjectIds contents: " + sl.removedObjectIds.toString());
+
+        int objectIndex = 0;
+        for (Object obj : candidates) {
+            if (obj == null) continue;
+            SavedObject so = new SavedObject();
+            Class<?> cls = obj.getClass();
+            so.className = cls.getSimpleName();
+            so.fullClassName = cls.getName();
+
+            // Attempt to obtain position and common bounds
+            try {
+                Field boundsF = null;
+                try { boundsF = cls.getDeclaredField("bounds"); } catch (Exception ignored) {}
+                if (boundsF != null) {
+                    boundsF.setAccessible(true);
+                    Object bounds = boundsF.get(obj);
+                    if (bounds instanceof Rectangle r) {
+                        so.x = r.x;
+                        so.y = r.y;
                     }
-                } catch (Exception ex) {
-                    // ignore
+                } else {
+                    // try x,y fields
+                    try { Field fx = cls.getDeclaredField("x"); fx.setAccessible(true); so.x = ((Number)fx.get(obj)).floatValue(); } catch (Exception ignored) {}
+                    try { Field fy = cls.getDeclaredField("y"); fy.setAccessible(true); so.y = ((Number)fy.get(obj)).floatValue(); } catch (Exception ignored) {}
                 }
+            } catch (Exception ex) {
+                // ignore
+            }
 
-                // Generate unique ID
-                so.uniqueId = generateObjectId(obj, objectIndex);
-                objectIndex++;
+            // Generate unique ID
+            so.uniqueId = generateObjectId(obj, objectIndex);
+            objectIndex++;
 
-                // Extract ALL fields recursively (including private/inherited)
-                captureAllFields(obj, cls, so.fields);
+            // Extract ALL fields recursively (including private/inherited)
+            captureAllFields(obj, cls, so.fields);
 
-                sl.objects.add(so);
-            }
+            sl.objects.add(so);
+        }
+
+        Gdx.app.log("GameLevelSave", "Total objects: " + sl.objects.size);
+        Gdx.app.log("GameLevelSave", "Removed/Collected IDs: " + sl.removedObjectIds.size());
+        for (String id : sl.removedObjectIds) {
+            Gdx.app.log("GameLevelSave", "  - " + id);
+        }
+
+        Gdx.app.log("GameLevelSave", "BEFORE SERIALIZATION - removedObjectIds size: " + sl.removedObjectIds.size());
+        Gdx.app.log("GameLevelSave", "BEFORE SERIALIZATION - removedObjectIds content: " + sl.removedObjectIds.toString());
+        String text = gson.toJson(sl);
+        Gdx.app.log("GameLevelSave", "JSON output length: " + text.length());
+        return text;
+    }
+
+    /** Save overrides to workspace saves folder. */
+    public static boolean saveLevelOverrides(String levelPath, LevelLoader.Result result) {
+        try {
+            // Load original to detect removals
+            Gdx.app.log("GameLevelSave", "Loading original level to detect removed objects: " + levelPath);
+            LevelLoader.Result originalResult = LevelLoader.load(levelPath, LevelLoader.LoadMode.ORIGINAL);
+            String text = serializeOverrides(levelPath, result, originalResult);
 
             // Write JSON into workspace saves/levels
-            Gdx.app.log("GameLevelSave", "BEFORE SERIALIZATION - removedObjectIds size: " + sl.removedObjectIds.size());
-            Gdx.app.log("GameLevelSave", "BEFORE SERIALIZATION - removedObjectIds content: " + sl.removedObjectIds.toString());
-            String text = gson.toJson(sl);
-            Gdx.app.log("GameLevelSave", "JSON output length: " + text.length());
             File assetsDir = findProjectAssetsDir();
             if (assetsDir == null) {
                 Gdx.app.error("GameLevelSave", "Project assets folder not found; aborting save for: " + levelPath);
@@ -223,11 +238,6 @@ public class GameLevelSave {
             Gdx.files.absolute(out.getAbsolutePath()).writeString(text, false);
             Gdx.app.log("GameLevelSave", "=== SAVED LEVEL STATE ===");
             Gdx.app.log("GameLevelSave", "File: " + out.getAbsolutePath());
-            Gdx.app.log("GameLevelSave", "Total objects: " + sl.objects.size);
-            Gdx.app.log("GameLevelSave", "Removed/Collected IDs: " + sl.removedObjectIds.size());
-            for (String id : sl.removedObjectIds) {
-                Gdx.app.log("GameLevelSave", "  - " + id);
-            }
             try { writeToBuildResources(("saves/levels/" + new File(levelPath).getName()).replace('\\','/'), text); } catch (Exception ignored) {}
             
             // Also save to database
@@ -377,36 +387,44 @@ public class GameLevelSave {
      * @return true if save was found and applied, false if no save exists */
     public static boolean applyOverridesIfPresent(String levelPath, LevelLoader.Result result) {
         try {
-            String fname = new File(levelPath).getName();
-            String rel = ("saves/levels/" + fname).replace('\\','/');
-            // check workspace
-            File assetsDir = findProjectAssetsDir();
-            if (assetsDir != null) {
-                File candidate = new File(assetsDir, rel.replace('/', File.separatorChar));
-                if (candidate.exists()) {
-                    String text = Gdx.files.absolute(candidate.getAbsolutePath()).readString();
-                    SavedLevel sl = gson.fromJson(text, SavedLevel.class);
-                    if (sl != null && sl.objects != null) applySavedLevelToResult(sl, result);
-                    Gdx.app.log("GameLevelSave","Applied overrides from workspace: " + candidate.getAbsolutePath());
-                    return true;
-                }
-            }
-            // fallback to internal
-            FileHandle internal = Gdx.files.internal(rel);
-            if (internal != null && internal.exists()) {
-                String text = internal.readString();
-                SavedLevel sl = gson.fromJson(text, SavedLevel.class);
-                if (sl != null && sl.objects != null) applySavedLevelToResult(sl, result);
-                Gdx.app.log("GameLevelSave","Applied overrides from internal: " + rel);
-                return true;
-            }
-            return false; // No save found
+            String text = readOverrides(levelPath);
+            if (text == null) return false; // No save found
+            applyOverrides(text, result);
+            return true;
         } catch (Exception ex) {
             Gdx.app.error("GameLevelSave","Failed to apply overrides: " + ex.getMessage(), ex);
             return false;
         }
     }
 
+    /** Saved override JSON for the level (workspace first, then internal), or null if none exists. */
+    public static String readOverrides(String levelPath) {
+        String fname = new File(levelPath).getName();
+        String rel = ("saves/levels/" + fname).replace('\\','/');
+        // check workspace
+        File assetsDir = findProjectAssetsDir();
+        if (assetsDir != null) {
+            File candidate = new File(assetsDir, rel.replace('/', File.separatorChar));
+            if (candidate.exists()) {
+                Gdx.app.log("GameLevelSave","Read overrides from workspace: " + candidate.getAbsolutePath());
+                return Gdx.files.absolute(candidate.getAbsolutePath()).readString();
+            }
+        }
+        // fallback to internal
+        FileHandle internal = Gdx.files.internal(rel);
+        if (internal != null && internal.exists()) {
+            Gdx.app.log("GameLevelSave","Read overrides from internal: " + rel);
+            return internal.readString();
+        }
+        return null;
+    }
+
+    /** Apply override JSON (as returned by {@link #readOverrides}) to runtime objects in result. */
+    public static void applyOverrides(String text, LevelLoader.Result result) {
+        SavedLevel sl = gson.fromJson(text, SavedLevel.class);
+        if (sl != null && sl.objects != null) applySavedLevelToResult(sl, result);
+    }
+
     private static void applySavedLevelToResult(SavedLevel sl, LevelLoader.Result result) {
         Gdx.app.log("GameLevelSave", "=== LOADING SAVED LEVEL STATE ===");
         Gdx.app.log("GameLevelSave", "Saved objects: " + sl.objects.size);
@@ -0,0 +1,107 @@
+package com.jjmc.chromashift.screens.levels;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.jjmc.chromashift.Assets;
+
+/**
+ * Decides which assets are resident. The core set (fonts, skins, menu buttons) stays
+ * loaded; on top of it exactly one scope is held: the menu (backgrounds, character art),
+ * one level's {@link LevelLoader#manifest} or the editor's. Entering a scope acquires it
+ * before the previous one is released, so assets shared by consecutive levels are never
+ * reloaded, and only what nothing references any more is unloaded:
+ *
+ * <pre>
+ * LevelAssets.enterMenu();                  // startup, returning to the menu
+ * LevelAssets.enterLevel(path, manifest);   // GameSceneScreen.show(), portal transitions
+ * LevelAssets.isLoaded();                   // LevelLoadingManager waits for this
+ * </pre>
+ *
+ * Queued assets stream in through {@link #update()}, which ChromashiftGame calls every
+ * frame. GL thread only.
+ */
+public final class LevelAssets {
+    /** Milliseconds of asset loading per frame. */
+    public static final int LOAD_BUDGET_MS = 8;
+
+    private static final String CORE = "core";
+    private static final String MENU = "menu";
+    private static final String EDITOR = "editor";
+
+    private static boolean corePinned = false;
+    private static String current;
+    private static int levelSerial = 0;
+
+    private LevelAssets() {
+    }
+
+    /** Hold the menu's assets and let the previous level's go. */
+    public static void enterMenu() {
+        enter(MENU, Assets.listed("ui/bg/", "ui/character/"));
+    }
+
+    /** Hold {@code manifest} for the level at {@code levelPath} and let the previous scope go. */
+    public static void enterLevel(String levelPath, Array<String> manifest) {
+        // A fresh scope per visit, so re-entering the same level still swaps cleanly
+        enter("level#" + (++levelSerial) + ":" + levelPath, manifest);
+    }
+
+    /** Hold every level asset; the editor switches levels without going through here. */
+    public static void enterEditor() {
+        enter(EDITOR, LevelLoader.editorManifest());
+    }
+
+    /** Load queued assets within {@link #LOAD_BUDGET_MS}; true once nothing is queued. */
+    public static boolean update() {
+        return Assets.update(LOAD_BUDGET_MS);
+    }
+
+    /** True once everything the current scope holds is loaded. */
+    public static boolean isLoaded() {
+        return Assets.manager.isFinished();
+    }
+
+    /** Loading progress of the assets queued since the queue was last empty (0..1), by bytes decoded. */
+    public static float getProgress() {
+        return Assets.getProgress();
+    }
+
+    public static String getCurrentScope() { return current; }
+
+    private static void enter(String scope, Array<String> paths) {
+        if (!corePinned) {
+            corePinned = true;
+            Assets.acquire(CORE, coreManifest());
+        }
+        if (scope.equals(current)) return;
+        String previous = current;
+        Assets.acquire(scope, paths);
+        current = scope;
+        // Sprites nobody listed still load on demand; they leave with this scope
+        Assets.setFallbackScope(scope);
+        if (previous != null && Assets.release(previous) > 0) {
+            forgetRegions();
+        }
+    }
+
+    // Top-level ui/ files: skins, fonts and button sprites used on every screen
+    private static Array<String> coreManifest() {
+        Array<String> out = new Array<>();
+        for (String path : Assets.listed("ui/")) {
+            if (path.indexOf('/', 3) < 0) out.add(path);
+        }
+        return out;
+    }
+
+    // Drop regions cached outside Assets; they may point into unloaded textures
+    private static void forgetRegions() {
+        try {
+            com.chromashift.helper.AnimationSet.clearCache();
+            com.jjmc.chromashift.effects.EffectPool.clear();
+            com.jjmc.chromashift.environment.Wall.dispose();
+            com.jjmc.chromashift.environment.interactable.Door.dispose();
+        } catch (Exception e) {
+            Gdx.app.error("LevelAssets", "Failed to clear cached regions", e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.jjmc.chromashift.screens.levels;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.chromashift.helper.PerformanceProfiler;
+import com.chromashift.helper.SpatialGrid;
+import com.jjmc.chromashift.environment.collectible.Collectible;
+import com.jjmc.chromashift.environment.enemy.Tentacle;
+import com.jjmc.chromashift.environment.interactable.Box;
+import com.jjmc.chromashift.environment.interactable.Door;
+import com.jjmc.chromashift.environment.interactable.Interactable;
+import com.jjmc.chromashift.environment.interactable.Orb;
+import com.jjmc.chromashift.environment.interactable.Portal;
+
+/**
+ * Per-frame render culling of a level's interactables, collectibles and tentacles.
+ * Everything is kept in a {@link SpatialGrid}; {@link #update} queries it with the camera
+ * rectangle (plus a small margin for sprites that overhang their bounds) once and fills
+ * the visible lists the screen submits for drawing. It never affects what LevelSimulation
+ * updates.
+ *
+ * Static objects are bucketed once; boxes, portals, doors and tentacles are re-bucketed
+ * when they move into other cells. Orbs (whose bounds are a fresh copy each call) and
+ * objects without bounds are tested directly. Interactables join and leave through the
+ * EntityRegistry listener; the collectible and tentacle lists are re-synced when their
+ * size changes (drops, pickups, deaths). Walls are culled by WallCache. The boss and its
+ * effects are not culled: there is one per level, it fights inside its arena, and its
+ * effects are short-lived and spawned around it. Main thread only.
+ */
+public class LevelCuller implements EntityRegistry.Listener {
+    public static final float RENDER_MARGIN = 64f;
+
+    private static final int COUNTER_VISIBLE = PerformanceProfiler.registerCounter("cull_visible");
+    private static final int COUNTER_CULLED = PerformanceProfiler.registerCounter("cull_culled");
+
+    private final SpatialGrid<Object> grid = new SpatialGrid<>();
+    // Tested every frame instead of through the grid
+    private final Array<Object> loose = new Array<>();
+
+    private final Array<Collectible> collectibles;
+    private final Array<Tentacle> tentacles;
+    private final Array<Object> trackedCollectibles = new Array<>();
+    private final Array<Object> trackedTentacles = new Array<>();
+
+    // Results of the last update()
+    private final Array<Interactable> visibleInteractables = new Array<>();
+    private final Array<Collectible> visibleCollectibles = new Array<>();
+    private final Array<Tentacle> visibleTentacles = new Array<>();
+
+    // Scratch
+    private final Rectangle view = new Rectangle();
+    private final Array<Object> hits = new Array<>();
+    private final ObjectSet<Object> present = new ObjectSet<>();
+
+    public LevelCuller(EntityRegistry entities, Array<Collectible> collectibles, Array<Tentacle> tentacles) {
+        this.collectibles = collectibles;
+        this.tentacles = tentacles;
+        Array<Interactable> list = entities.getInteractables();
+        for (int i = 0; i < list.size; i++) track(list.get(i));
+        entities.addListener(this);
+        sync(collectibles, trackedCollectibles);
+        sync(tentacles, trackedTentacles);
+    }
+
+    @Override
+    public void added(Interactable it) {
+        track(it);
+    }
+
+    @Override
+    public void removed(Interactable it) {
+        untrack(it);
+    }
+
+    /** Cull against {@code camera}; call once per frame after the camera has moved. */
+    public void update(OrthographicCamera camera) {
+        if (collectibles.size != trackedCollectibles.size) sync(collectibles, trackedCollectibles);
+        if (tentacles.size != trackedTentacles.size) sync(tentacles, trackedTentacles);
+        grid.refresh();
+
+        float halfW = camera.viewportWidth * camera.zoom / 2f;
+        float halfH = camera.viewportHeight * camera.zoom / 2f;
+        view.set(camera.position.x - halfW - RENDER_MARGIN, camera.position.y - halfH - RENDER_MARGIN,
+                2f * (halfW + RENDER_MARGIN), 2f * (halfH + RENDER_MARGIN));
+
+        visibleInteractables.clear();
+        visibleCollectibles.clear();
+        visibleTentacles.clear();
+        hits.clear();
+        grid.query(view, hits);
+        for (int i = 0; i < loose.size; i++) {
+            Object o = loose.get(i);
+            Rectangle b = boundsOf(o);
+            if (b == null || b.overlaps(view)) hits.add(o);
+        }
+        for (int i = 0; i < hits.size; i++) {
+            Object o = hits.get(i);
+            if (o instanceof Interactable it) visibleInteractables.add(it);
+            else if (o instanceof Collectible c) visibleCollectibles.add(c);
+            else if (o instanceof Tentacle t) visibleTentacles.add(t);
+        }
+        int visible = hits.size;
+
+        if (PerformanceProfiler.isEnabled()) {
+            int total = grid.size() + loose.size;
+            PerformanceProfiler.setCounter(COUNTER_VISIBLE, visible);
+            PerformanceProfiler.setCounter(COUNTER_CULLED, total - visible);
+        }
+    }
+
+    public Array<Interactable> getVisibleInteractables() { return visibleInteractables; }
+    public Array<Collectible> getVisibleCollectibles() { return visibleCollectibles; }
+    public Array<Tentacle> getVisibleTentacles() { return visibleTentacles; }
+
+    /** Stop listening to the registry. */
+    public void dispose(EntityRegistry entities) {
+        entities.removeListener(this);
+        grid.clear();
+        loose.clear();
+    }
+
+    private void track(Object o) {
+        if (o == null || grid.contains(o) || loose.contains(o, true)) return;
+        Rectangle b = boundsOf(o);
+        if (b == null || o instanceof Orb) {
+            loose.add(o);
+            return;
+        }
+        boolean moves = o instanceof Box || o instanceof Portal || o instanceof Door || o instanceof Tentacle;
+        grid.add(o, b, moves);
+    }
+
+    private void untrack(Object o) {
+        if (!grid.remove(o)) loose.removeValue(o, true);
+    }
+
+    // Bring the grid in line with list after items were appended or removed
+    private void sync(Array<?> list, Array<Object> tracked) {
+        present.clear();
+        for (int i = 0; i < list.size; i++) present.add(list.get(i));
+        for (int i = 0; i < tracked.size; i++) {
+            Object o = tracked.get(i);
+            if (!present.contains(o)) untrack(o);
+        }
+        tracked.clear();
+        for (int i = 0; i < list.size; i++) {
+            Object o = list.get(i);
+            track(o);
+            tracked.add(o);
+        }
+    }
+
+    private static Rectangle boundsOf(Object o) {
+        if (o instanceof Interactable it) return it.getBounds();
+        if (o instanceof Collectible c) return c.getBounds();
+        if (o instanceof Tentacle t) return t.getBounds();
+        return null;
+    }
+}
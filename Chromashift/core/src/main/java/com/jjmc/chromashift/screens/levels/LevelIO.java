@@ -173,6 +173,25 @@ public class LevelIO {
         }
     }
 
+    /**
+     * Parse level JSON text: fill in arrays missing from older files and drop
+     * duplicate objects. Pure (no file access), so callers and benchmarks can
+     * reuse it on text from any source.
+     */
+    public static LevelState parse(String text) {
+        LevelState s = json.fromJson(LevelState.class, text);
+        // Ensure new fields are initialized (for backward compatibility with old level files)
+        ensureArraysInitialized(s);
+        // Deduplicate objects in case JSON has duplicates
+        deduplicateObjects(s);
+        return s;
+    }
+
+    /** Serialize a level state with the same Json settings used for loading. */
+    public static String toJson(LevelState state) {
+        return json.prettyPrint(state);
+    }
+
     /**
      * Load a level JSON. First try local (writable) path so user edits persist.
      * If not present locally, fall back to internal (packaged) asset and copy it
@@ -188,11 +207,7 @@ public class LevelIO {
             if (internal != null && internal.exists()) {
                 String text = internal.readString();
                 try {
-                    LevelState s = json.fromJson(LevelState.class, text);
-                    // Ensure new fields are initialized (for backward compatibility with old level files)
-                    ensureArraysInitialized(s);
-                    // Deduplicate objects in case JSON has duplicates
-                    deduplicateObjects(s);
+                    LevelState s = parse(text);
                     // Copy the internal asset into the project's `assets/` folder so editors
                     // and source control can pick up the canonical file. Overwrite if present.
                     try {
@@ -228,9 +243,7 @@ public class LevelIO {
                 if (candidate.exists()) {
                     String text = Gdx.files.absolute(candidate.getAbsolutePath()).readString();
                     try {
-                        LevelState s = json.fromJson(LevelState.class, text);
-                        ensureArraysInitialized(s);
-                        deduplicateObjects(s);
+                        LevelState s = parse(text);
                         return s;
                     } catch (Exception parseEx) {
                         Gdx.app.error("LevelIO",
@@ -336,9 +349,7 @@ public class LevelIO {
                 if (candidate.exists()) {
                     String text = Gdx.files.absolute(candidate.getAbsolutePath()).readString();
                     try {
-                        LevelState s = json.fromJson(LevelState.class, text);
-                        ensureArraysInitialized(s);
-                        deduplicateObjects(s);
+                        LevelState s = parse(text);
                         // Try to write into build resources so the packaged/internal copy
                         // reflects the editor changes for runtime tests.
                         try {
@@ -1,7 +1,9 @@
 package com.jjmc.chromashift.screens.levels;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.math.Rectangle;
+import com.jjmc.chromashift.Assets;
 import com.jjmc.chromashift.environment.Solid;
 import com.jjmc.chromashift.environment.Wall;
 import com.jjmc.chromashift.environment.interactable.*;
@@ -28,6 +30,8 @@ public final class LevelLoader {
         public final Array<Wall> walls = new Array<>();
         public final Array<Solid> solids = new Array<>();
         public final Array<Interactable> interactables = new Array<>();
+        // Per-type views of interactables; add/remove later objects through it
+        public final EntityRegistry entities = new EntityRegistry(interactables);
         public final Array<com.jjmc.chromashift.environment.collectible.Collectible> collectibles = new Array<>();
         // Shop position data (shops need Player and Stage, so they're instantiated by
         // screens)
@@ -46,8 +50,17 @@ public final class LevelLoader {
         public final Map<String, Interactable> laserMap = new HashMap<>();
         // Mirror id -> instance for linking
         public final Map<String, Mirror> mirrorMap = new HashMap<>();
+        // Button/lever/target links compiled into edge-driven signals
+        public final SignalGraph signals = new SignalGraph();
     }
 
+    /**
+     * Whether gameplay (GameSceneScreen, headless runner) merges wall tiles for collision.
+     * On by default; -Dchromashift.mergeWalls=false keeps one collision rectangle per tile.
+     */
+    public static final boolean MERGE_WALL_COLLISION =
+            !"false".equalsIgnoreCase(System.getProperty("chromashift.mergeWalls"));
+
     public enum LoadMode {
         ORIGINAL,           // Always load original level JSON, ignore saves
         SAVED_IF_EXISTS,    // Load saved level if exists, otherwise original
@@ -61,8 +74,23 @@ public final class LevelLoader {
     
     /** Load using packaged/internal-first assets with specified mode. */
     public static Result load(String path, LoadMode mode) {
-        LevelIO.LevelState state = LevelIO.load(path);
-        Result result = build(state);
+        return load(path, mode, false);
+    }
+
+    /**
+     * Load using packaged/internal-first assets with specified mode; see
+     * {@link #build(LevelIO.LevelState, boolean)} for {@code mergeWallCollision}.
+     */
+    public static Result load(String path, LoadMode mode, boolean mergeWallCollision) {
+        return load(path, LevelIO.load(path), mode, mergeWallCollision);
+    }
+
+    /**
+     * Build {@code state}, already read from {@code path} (e.g. to take its
+     * {@link #manifest} first), and apply saved overrides for {@code path} per {@code mode}.
+     */
+    public static Result load(String path, LevelIO.LevelState state, LoadMode mode, boolean mergeWallCollision) {
+        Result result = build(state, mergeWallCollision);
         // Apply saved level overrides based on mode
         if (mode == LoadMode.SAVED_IF_EXISTS) {
             GameLevelSave.applyOverridesIfPresent(path, result);
@@ -86,22 +114,128 @@ public final class LevelLoader {
      * Load preferring workspace assets with specified mode.
      */
     public static Result loadFromWorkspace(String path, LoadMode mode) {
-        LevelIO.LevelState state = LevelIO.loadFromWorkspaceThenCopyToBuild(path);
-        Result result = build(state);
-        // Apply saved level overrides based on mode
-        if (mode == LoadMode.SAVED_IF_EXISTS) {
-            GameLevelSave.applyOverridesIfPresent(path, result);
-        } else if (mode == LoadMode.FORCE_SAVED) {
-            if (!GameLevelSave.applyOverridesIfPresent(path, result)) {
-                throw new RuntimeException("Saved level not found: " + path);
+        return loadFromWorkspace(path, mode, false);
+    }
+
+    /**
+     * Load preferring workspace assets with specified mode; see
+     * {@link #build(LevelIO.LevelState, boolean)} for {@code mergeWallCollision}.
+     */
+    public static Result loadFromWorkspace(String path, LoadMode mode, boolean mergeWallCollision) {
+        return load(path, LevelIO.loadFromWorkspaceThenCopyToBuild(path), mode, mergeWallCollision);
+    }
+
+    /**
+     * The boss a bossroom level gets when its file defines none: a FinalBoss for
+     * bossroom1, a BossGuardian (spawn sequence started) for the other bossrooms.
+     * Returns null when {@code loaded} already has a boss or the level is no bossroom.
+     * GameSceneScreen and the headless runner both use this so replays meet the same boss.
+     */
+    public static Boss createPathBoss(String path, Result loaded, float groundY) {
+        if (loaded.boss != null || path == null) return null;
+        Wall base = (loaded.walls.size > 0) ? loaded.walls.first() : new Wall(0, groundY, 10, 1);
+        if (path.contains("bossroom1")) {
+            FinalBoss boss = new FinalBoss();
+            boss.setPosition(base.bounds.x + base.bounds.width / 2f, base.bounds.y + base.bounds.height + 200f);
+            boss.setEnvironment(loaded.solids, loaded.walls);
+            return boss;
+        }
+        if (path.contains("bossroom")) {
+            BossGuardian guardian = new BossGuardian();
+            guardian.setPosition(base.bounds.x + base.bounds.width / 2f, base.bounds.y + base.bounds.height + 400f);
+            guardian.setEnvironment(loaded.solids, loaded.walls);
+            guardian.startSpawn();
+            return guardian;
+        }
+        return null;
+    }
+
+    /**
+     * Asset paths (as listed in assets.txt) the level at {@code path} needs while it is
+     * played: the player's sheets, effects and HUD, then the sprite of each object type
+     * placed in {@code state}, plus the sheets of the boss it spawns (from {@code state},
+     * or the bossroom defaults GameSceneScreen falls back to). LevelAssets loads these
+     * before the level is built.
+     */
+    public static Array<String> manifest(String path, LevelIO.LevelState state) {
+        String p = path == null ? "" : path.toLowerCase().replace('\\', '/');
+        // The player can switch colour mid-level, so all of its sheets stay resident
+        Array<String> out = Assets.listed("player/");
+        need(out, "environment/diamond.png"); // HUD counters
+        need(out, "environment/key_icon.png");
+        need(out, "environment/spawn/spawn.png");
+        if (state != null) {
+            if (state.walls != null && state.walls.size > 0) need(out, "environment/solid.png");
+            if (state.interactables != null) {
+                for (LevelIO.LevelState.InteractableData idd : state.interactables) {
+                    if (idd == null || idd.type == null)
+                        continue;
+                    switch (idd.type.trim().toLowerCase()) {
+                        case "door" -> need(out, "environment/door.png");
+                        case "button" -> need(out, "environment/button/buttons.png");
+                        case "lever" -> need(out, "environment/lever/lever.png");
+                        case "portal" -> need(out, "environment/portal.png");
+                        case "target" -> need(out, "environment/laser/target.png");
+                        default -> {
+                        }
+                    }
+                }
+            }
+            if (state.launchpads != null) {
+                for (LevelIO.LevelState.LaunchpadData lpd : state.launchpads) {
+                    boolean sideways = "LEFT".equalsIgnoreCase(lpd.direction) || "RIGHT".equalsIgnoreCase(lpd.direction);
+                    need(out, sideways ? "environment/launchpad/launchpad_left_right.png"
+                            : "environment/launchpad/launchpad.png");
+                }
             }
+            if (state.lockedDoors != null) {
+                for (LevelIO.LevelState.LockedDoorData ld : state.lockedDoors) {
+                    need(out, "HORIZONTAL".equalsIgnoreCase(ld.orientation)
+                            ? "environment/lockedDoorHorizontal.png"
+                            : "environment/lockedDoorVertical.png");
+                }
+            }
+            if (state.lasers != null && state.lasers.size > 0) need(out, "environment/laser/laser.png");
+            if (state.shops != null && state.shops.size > 0) need(out, "environment/shop.png");
+            if (state.keys != null && state.keys.size > 0) need(out, "environment/key.png");
+            // Boxes, orbs, mirrors, glass, tentacles and triggers draw without sprites;
+            // diamonds and potions share the HUD sheets above.
         }
-        // ORIGINAL mode: skip applying saves
-        return result;
+        boolean finalBoss = false, guardian = false;
+        if (state != null && state.boss != null) {
+            if (state.boss.guardian) guardian = true;
+            else finalBoss = true;
+        } else if (p.contains("bossroom1")) {
+            finalBoss = true;
+        } else if (p.contains("bossroom")) {
+            guardian = true;
+        }
+        if (finalBoss) out.addAll(Assets.listed("entity/boss/"));
+        if (guardian) out.addAll(Assets.listed("entity/boss1/"));
+        return out;
+    }
+
+    private static void need(Array<String> out, String path) {
+        if (!out.contains(path, false)) out.add(path);
+    }
+
+    /** Everything a level could need, for the editor which switches levels freely. */
+    public static Array<String> editorManifest() {
+        return Assets.listed("player/", "environment/", "entity/");
     }
 
     /** Build runtime objects from a LevelState. */
     public static Result build(LevelIO.LevelState state) {
+        return build(state, false);
+    }
+
+    /**
+     * Build runtime objects from a LevelState. With {@code mergeWallCollision} the wall
+     * tiles in {@code solids} are replaced by merged rectangles covering the same area
+     * (WallMerger); {@code walls} keeps the original tiles for rendering and saves.
+     * Editors must leave it off since they edit the tiles through {@code solids}.
+     */
+    public static Result build(LevelIO.LevelState state, boolean mergeWallCollision) {
         Result out = new Result();
         if (state == null)
             return out;
@@ -490,6 +624,23 @@ public final class LevelLoader {
             }
         }
 
+        // Swap wall tiles for merged collision rectangles (after placement lookups above,
+        // which expect per-tile tops; before lasers copy the solids list below)
+        if (mergeWallCollision) {
+            Array<Wall> merged = WallMerger.merge(out.walls);
+            if (merged != null) {
+                // Every Wall in solids came from the walls loop; keep the rest in order
+                Array<Solid> rest = new Array<>();
+                for (Solid s : out.solids) {
+                    if (!(s instanceof Wall))
+                        rest.add(s);
+                }
+                out.solids.clear();
+                out.solids.addAll(merged);
+                out.solids.addAll(rest);
+            }
+        }
+
         // Wire mirrors, glasses, and solids into lasers, and wire control inputs
         {
             java.util.ArrayList<com.jjmc.chromashift.environment.interactable.Mirror> mlist = new java.util.ArrayList<>();
@@ -516,12 +667,16 @@ public final class LevelLoader {
                     slist.add(bx);
                 }
             }
+            // One broadphase grid over these lists, shared by every laser in the level
+            com.jjmc.chromashift.environment.interactable.LaserGrid laserGrid =
+                    new com.jjmc.chromashift.environment.interactable.LaserGrid(mlist, glist, slist);
             // Wire for Lasers in lasersTemp (mirrors/glasses/solids only)
             for (int i = 0; i < lasersTemp.size; i++) {
                 com.jjmc.chromashift.environment.interactable.Laser L = lasersTemp.get(i);
                 L.setMirrors(mlist);
                 L.setGlasses(glist);
                 L.setSolids(slist);
+                L.setGrid(laserGrid);
             }
             // Also wire any LaserRay interactables present in out.interactables
             for (int i = 0; i < out.interactables.size; i++) {
@@ -530,38 +685,17 @@ public final class LevelLoader {
                     lr.setMirrors(mlist);
                     lr.setGlasses(glist);
                     lr.setSolids(slist);
+                    lr.setGrid(laserGrid);
                 }
             }
         }
 
-        // Wire levers/buttons to portals after all maps are populated
+        // Compile button/lever/target links into the signal graph, then wire portals to
+        // the lever/button sources they wait for
+        compileSignals(out);
         for (Portal p : portals) {
-            String l1 = p.getRequiredLeverId1();
-            String l2 = p.getRequiredLeverId2();
-            if (l1 != null) {
-                Lever lev = out.leverMap.get(l1);
-                if (lev != null) {
-                    lev.setOnToggle(() -> p.setLeverActive(l1, lev.isOn()));
-                    p.setLeverActive(l1, lev.isOn());
-                }
-                Button btn = out.buttonMap.get(l1);
-                if (btn != null) {
-                    btn.addPressListener((id, pressed) -> p.setLeverActive(id, pressed));
-                    p.setLeverActive(l1, btn.isPressed());
-                }
-            }
-            if (l2 != null) {
-                Lever lev = out.leverMap.get(l2);
-                if (lev != null) {
-                    lev.setOnToggle(() -> p.setLeverActive(l2, lev.isOn()));
-                    p.setLeverActive(l2, lev.isOn());
-                }
-                Button btn = out.buttonMap.get(l2);
-                if (btn != null) {
-                    btn.addPressListener((id, pressed) -> p.setLeverActive(id, pressed));
-                    p.setLeverActive(l2, btn.isPressed());
-                }
-            }
+            wirePortalLever(out, p, p.getRequiredLeverId1());
+            wirePortalLever(out, p, p.getRequiredLeverId2());
         }
 
         // Diamonds (collectibles)
@@ -618,6 +752,7 @@ public final class LevelLoader {
             for (LevelIO.LevelState.TentacleData td : state.tentacles) {
                 com.jjmc.chromashift.environment.enemy.Tentacle tentacle = new com.jjmc.chromashift.environment.enemy.Tentacle(
                         td.x, td.y, td.segments);
+                tentacle.setLodIndex(out.tentacles.size);
                 out.tentacles.add(tentacle);
             }
         }
@@ -645,11 +780,76 @@ public final class LevelLoader {
             out.spawnY = state.spawn.y;
         }
 
+        out.entities.indexAll();
         return out;
     }
 
     // (Removed anchoring helpers; doors no longer anchor to walls.)
 
+    // One source per button/lever/target; their links become sinks. Levers keep their
+    // toggle-on-every-edge behaviour, buttons and targets hold doors open while high and
+    // pulse other interactables on the rising edge.
+    private static void compileSignals(Result out) {
+        SignalGraph g = out.signals;
+        // Buttons and targets holding each door; several holders are OR-ed together
+        com.badlogic.gdx.utils.OrderedMap<Door, IntArray> holders = new com.badlogic.gdx.utils.OrderedMap<>();
+        for (int i = 0; i < out.interactables.size; i++) {
+            Interactable it = out.interactables.get(i);
+            if (it instanceof Button b) {
+                int src = g.addSource();
+                for (Door d : b.getLinkedDoors())
+                    addHolder(holders, d, src);
+                for (Interactable t : b.getLinkedInteractables())
+                    g.connectPulse(src, t);
+                b.setSignal(g, src);
+            } else if (it instanceof Lever l) {
+                int src = g.addSource();
+                for (Interactable t : l.getTargets())
+                    g.connectToggle(src, t);
+                l.setSignal(g, src);
+            } else if (it instanceof Target tg) {
+                int src = g.addSource();
+                for (Door d : tg.getLinkedDoors())
+                    addHolder(holders, d, src);
+                for (Interactable t : tg.getLinkedInteractables())
+                    g.connectPulse(src, t);
+                tg.setSignal(g, src);
+            }
+        }
+        for (com.badlogic.gdx.utils.ObjectMap.Entry<Door, IntArray> e : holders) {
+            IntArray srcs = e.value;
+            g.connectDoor(srcs.size == 1 ? srcs.first() : g.or(srcs), e.key);
+        }
+    }
+
+    private static void addHolder(com.badlogic.gdx.utils.OrderedMap<Door, IntArray> holders, Door d, int src) {
+        if (d == null)
+            return;
+        IntArray srcs = holders.get(d);
+        if (srcs == null) {
+            srcs = new IntArray(2);
+            holders.put(d, srcs);
+        }
+        if (!srcs.contains(src))
+            srcs.add(src);
+    }
+
+    // Portal slot follows a lever's on state or a button's pressed state with that id
+    private static void wirePortalLever(Result out, Portal p, String leverId) {
+        if (leverId == null)
+            return;
+        Lever lev = out.leverMap.get(leverId);
+        if (lev != null) {
+            out.signals.connect(lev.getSignal(), on -> p.setLeverActive(leverId, on));
+            p.setLeverActive(leverId, lev.isOn());
+        }
+        Button btn = out.buttonMap.get(leverId);
+        if (btn != null) {
+            out.signals.connect(btn.getSignal(), pressed -> p.setLeverActive(leverId, pressed));
+            p.setLeverActive(leverId, btn.isPressed());
+        }
+    }
+
     private static Solid findBaseSolidFor(float x, float y, Array<Solid> solids) {
         if (solids == null || solids.size == 0)
             return null;
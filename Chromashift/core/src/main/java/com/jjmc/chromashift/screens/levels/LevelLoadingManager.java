@@ -5,6 +5,7 @@ import com.badlogic.gdx.utils.Array;
 
 /**
  * Manages the loading and initialization of level objects.
+ * Optionally waits for the level's assets first (startAssetLoading).
  * Ensures all objects are ready before gameplay begins.
  * Tracks progress and coordinates the loading sequence.
  */
@@ -21,6 +22,7 @@ public class LevelLoadingManager {
     
     // Callbacks
     private Runnable onLoadingComplete;
+    private Runnable onAssetsLoaded;
     
     public LevelLoadingManager() {
         this.currentState = LevelLoadingState.LOADING_ENVIRONMENT;
@@ -43,6 +45,27 @@ public class LevelLoadingManager {
         }
     }
     
+    /**
+     * Hold the overlay while the level file is parsed in the background; nothing advances
+     * until {@link #startAssetLoading} is called with the parsed level.
+     */
+    public void awaitLevelData() {
+        this.onAssetsLoaded = null;
+        currentState = LevelLoadingState.LOADING_ASSETS;
+        stateTimer = 0f;
+    }
+
+    /**
+     * Wait for the current LevelAssets scope to finish loading, then run
+     * {@code onAssetsLoaded} (which builds the level, registers its objects and calls
+     * {@link #startLoading()}). Assets stream in while the overlay is shown.
+     */
+    public void startAssetLoading(Runnable onAssetsLoaded) {
+        this.onAssetsLoaded = onAssetsLoaded;
+        currentState = LevelLoadingState.LOADING_ASSETS;
+        stateTimer = 0f;
+    }
+    
     /**
      * Begin the loading process.
      * Initializes all registered objects.
@@ -72,6 +95,22 @@ public class LevelLoadingManager {
     public void update(float delta) {
         stateTimer += delta;
         
+        // Nothing is registered until the assets are in and the level is built
+        if (currentState == LevelLoadingState.LOADING_ASSETS) {
+            if (onAssetsLoaded == null || !LevelAssets.isLoaded()) {
+                return;
+            }
+            Gdx.app.log("LevelLoadingManager", "Assets loaded (" + LevelAssets.getCurrentScope() + ")");
+            currentState = LevelLoadingState.LOADING_ENVIRONMENT;
+            stateTimer = 0f;
+            Runnable callback = onAssetsLoaded;
+            onAssetsLoaded = null;
+            if (callback != null) {
+                callback.run();
+            }
+            return;
+        }
+        
         // Wait minimum time per state
         if (stateTimer < minStateTime) {
             return;
@@ -167,6 +206,9 @@ public class LevelLoadingManager {
      * Get loading progress (0.0 to 1.0).
      */
     public float getProgress() {
+        if (currentState == LevelLoadingState.LOADING_ASSETS) {
+            return LevelAssets.getProgress();
+        }
         if (readyObjects.size + pendingObjects.size == 0) {
             return 1.0f;
         }
@@ -213,6 +255,8 @@ public class LevelLoadingManager {
      */
     public String getStatusText() {
         switch (currentState) {
+            case LOADING_ASSETS:
+                return "Loading Assets...";
             case LOADING_ENVIRONMENT:
                 return "Loading Environment...";
             case LOADING_INTERACTABLES:
@@ -254,6 +298,7 @@ public class LevelLoadingManager {
         allObjectsReady = false;
         stateTimer = 0f;
         onLoadingComplete = null;
+        onAssetsLoaded = null;
     }
     
     /**
@@ -4,6 +4,9 @@ package com.jjmc.chromashift.screens.levels;
  * Loading state for level initialization.
  */
 public enum LevelLoadingState {
+    /** Waiting for the level's assets (LevelAssets); the level is built afterwards */
+    LOADING_ASSETS,
+    
     /** Loading environment objects (walls, tiles) */
     LOADING_ENVIRONMENT,
     
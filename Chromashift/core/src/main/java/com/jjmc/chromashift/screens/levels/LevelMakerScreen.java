@@ -55,6 +55,8 @@ public class LevelMakerScreen implements Screen {
 	private OrthographicCamera camera;
 	private SpriteBatch batch;
 	private ShapeRenderer shape;
+	// All laser beams of a frame in one batch call
+	private final com.jjmc.chromashift.environment.interactable.BeamRenderer beamRenderer = new com.jjmc.chromashift.environment.interactable.BeamRenderer();
 	private BitmapFont font;
 
 	public LevelMakerScreen() {
@@ -234,6 +236,8 @@ public class LevelMakerScreen implements Screen {
 
 	// collections to render interactables immediately (from LevelLoader)
 	private Array<Wall> walls = new Array<>();
+	// Baked wall tiles; edits invalidate the chunks they touch
+	private final com.jjmc.chromashift.environment.WallCache wallCache = new com.jjmc.chromashift.environment.WallCache();
 	private Array<Solid> solids = new Array<>();
 	private Array<Interactable> interactableInstances = new Array<>();
 	private Array<com.jjmc.chromashift.environment.collectible.Collectible> collectibleInstances = new Array<>();
@@ -461,6 +465,8 @@ public class LevelMakerScreen implements Screen {
 
 	@Override
 	public void show() {
+		// Keep every level's sprites resident while editing (the menu's are released)
+		LevelAssets.enterEditor();
 		// Ensure any previous Stage stops receiving input and route scroll events to the toolbox handler
 		try {
 			Gdx.input.setInputProcessor(toolboxScrollInput);
@@ -736,14 +742,16 @@ public class LevelMakerScreen implements Screen {
 			} catch (Throwable ignored) {
 			}
 		}
-		// Finalize Target activation state after all lasers have been updated
-		try {
-			Target.finalizeFrame();
-		} catch (Throwable ignored) {
-		}
+		wallCache.draw(camera);
 		batch.begin();
-		for (Wall w : walls)
-			w.render(batch);
+		// Beams go under the emitters, mirrors and glass drawn next
+		for (Interactable i : interactableInstances) {
+			if (i instanceof com.jjmc.chromashift.environment.interactable.Laser l)
+				beamRenderer.add(l);
+			else if (i instanceof com.jjmc.chromashift.environment.interactable.LaserRay lr)
+				beamRenderer.add(lr);
+		}
+		beamRenderer.draw(batch);
 		for (Interactable i : interactableInstances) {
 			i.render(batch);
 		}
@@ -2645,6 +2653,7 @@ public class LevelMakerScreen implements Screen {
 						break;
 					}
 				}
+				wallCache.invalidate(w.getBounds());
 				walls.removeIndex(i);
 				solids.removeValue(w, true);
 				deleted = true;
@@ -2874,6 +2883,11 @@ public class LevelMakerScreen implements Screen {
 				}
 				if (it instanceof Solid)
 					solids.removeValue((Solid) it, true);
+				// A removed emitter must let go of the target it was lighting
+				if (it instanceof Laser l)
+					l.releaseTarget();
+				else if (it instanceof com.jjmc.chromashift.environment.interactable.LaserRay lr)
+					lr.releaseTarget();
 				interactableInstances.removeIndex(i);
 				deleted = true;
 			}
@@ -3038,7 +3052,9 @@ public class LevelMakerScreen implements Screen {
 				wd.width = previewCols;
 				wd.height = previewRows;
 				state.walls.add(wd);
-				walls.add(new Wall(wd.x, wd.y, previewCols, previewRows));
+				Wall placedWall = new Wall(wd.x, wd.y, previewCols, previewRows);
+				walls.add(placedWall);
+				wallCache.invalidate(placedWall.getBounds());
 				placed = true;
 				break;
 			}
@@ -3568,6 +3584,7 @@ public class LevelMakerScreen implements Screen {
 		try {
 			LevelLoader.Result r = LevelLoader.build(state);
 			this.walls = r.walls;
+			wallCache.rebind(walls);
 			this.solids = r.solids;
 			this.interactableInstances = r.interactables;
 			this.collectibleInstances = r.collectibles;
@@ -3690,6 +3707,7 @@ public class LevelMakerScreen implements Screen {
 
 		// Adopt loaded runtime objects for preview rendering
 		this.walls = loaded.walls;
+		wallCache.setWalls(walls);
 		this.solids = loaded.solids;
 		this.interactableInstances = loaded.interactables;
 		this.collectibleInstances = loaded.collectibles;
@@ -4050,6 +4068,7 @@ public class LevelMakerScreen implements Screen {
 				for (int i = 0; i < walls.size; ++i) {
 					Wall w = walls.get(i);
 					if ((int) w.bounds.x == p.x && (int) w.bounds.y == p.y) {
+						wallCache.invalidate(w.bounds);
 						walls.removeIndex(i);
 						break;
 					}
@@ -4338,7 +4357,9 @@ public class LevelMakerScreen implements Screen {
 
 	@Override
 	public void dispose() {
-		// Intentionally left blank: resources are managed by Initialize/context.
-		// If ownership changes, dispose batch/shape/font here.
+		// Batch/shape/font are managed by Initialize/context.
+		// If ownership changes, dispose them here.
+		beamRenderer.dispose();
+		wallCache.dispose();
 	}
 }
\ No newline at end of file
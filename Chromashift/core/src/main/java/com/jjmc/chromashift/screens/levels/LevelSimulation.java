@@ -0,0 +1,504 @@
+package com.jjmc.chromashift.screens.levels;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.chromashift.helper.AsyncService;
+import com.chromashift.helper.FrameJobs;
+import com.chromashift.helper.PerformanceProfiler;
+import com.chromashift.helper.TimerWheel;
+import com.jjmc.chromashift.ecs.system.AnimationSystem;
+import com.jjmc.chromashift.ecs.system.CollectibleSystem;
+import com.jjmc.chromashift.ecs.system.PhysicsSystem;
+import com.jjmc.chromashift.entity.boss.BossGuardian;
+import com.jjmc.chromashift.entity.boss.FinalBoss;
+import com.jjmc.chromashift.environment.Solid;
+import com.jjmc.chromashift.environment.SolidIndex;
+import com.jjmc.chromashift.environment.Wall;
+import com.jjmc.chromashift.environment.interactable.Box;
+import com.jjmc.chromashift.environment.interactable.Button;
+import com.jjmc.chromashift.environment.interactable.Interactable;
+import com.jjmc.chromashift.environment.interactable.Laser;
+import com.jjmc.chromashift.environment.interactable.LaserRay;
+import com.jjmc.chromashift.environment.interactable.Orb;
+import com.jjmc.chromashift.environment.interactable.SignalGraph;
+import com.jjmc.chromashift.input.InputFrame;
+import com.jjmc.chromashift.player.Player;
+
+/**
+ * Render-free gameplay update for a loaded level. GameSceneScreen steps this once per
+ * simulation tick; the headless runner drives the same code without a window.
+ * Each system is wrapped in a PerformanceProfiler probe (sim_*).
+ *
+ * Keys that change gameplay state outside the player (R respawn, and the O/K/L debug keys
+ * that damage the player or damage/heal the boss) are read from the step's InputFrame too,
+ * so recordings replay them.
+ *
+ * Laser casts and tentacle physics only touch their own object, so they run as
+ * FrameJobs (job_*); their effects on targets and the player are applied afterwards in
+ * list order, which keeps a step identical with the scheduler on or off.
+ *
+ * Boxes, orbs and collectibles are Ashley entities. Their systems are updated at their
+ * slot in the step rather than through engine.update(), so the pass order is unchanged.
+ *
+ * Every object is updated on every step regardless of the camera, so a replay gives the
+ * same result windowed and headless; LevelCuller only decides what gets drawn.
+ */
+public class LevelSimulation {
+    private static final int PROBE_SIM_INTERACTABLES = PerformanceProfiler.register("sim_interactables");
+    private static final int PROBE_SIM_BUTTONS = PerformanceProfiler.register("sim_buttons");
+    private static final int PROBE_SIM_COLLECTIBLES = PerformanceProfiler.register("sim_collectibles");
+    private static final int PROBE_SIM_PLAYER = PerformanceProfiler.register("sim_player");
+    private static final int PROBE_SIM_TENTACLES = PerformanceProfiler.register("sim_tentacles");
+    private static final int PROBE_SIM_BOSS = PerformanceProfiler.register("sim_boss");
+    private static final int PROBE_SIM_LASER_HAZARD = PerformanceProfiler.register("sim_laser_hazard");
+    private static final int PROBE_JOB_LASER = PerformanceProfiler.register("job_laser");
+    private static final int PROBE_JOB_TENTACLE = PerformanceProfiler.register("job_tentacle");
+
+    // Level whose simulation runs now; building the next one ends it (see exit())
+    private static LevelSimulation current;
+
+    private final Array<Wall> walls;
+    private final Array<Solid> solids;
+    // Collision broadphase shared by the player, boxes/orbs, projectiles and the final boss
+    private final SolidIndex solidIndex;
+    private final Array<Interactable> interactables;
+    // Typed views of interactables so each pass below only walks what it handles
+    private final EntityRegistry entities;
+    // Puzzle links; sources push changes themselves, only pending delays need ticking
+    private final SignalGraph signals;
+    private final Array<Rectangle> objectBounds = new Array<>();
+    private final Array<com.jjmc.chromashift.environment.collectible.Collectible> collectibles;
+    private final Array<com.jjmc.chromashift.environment.enemy.Tentacle> tentacles;
+    private final Array<com.jjmc.chromashift.environment.enemy.TentacleCapture> tentacleCaptures = new Array<>();
+    // Enemies list shared with the Player attack system
+    private final Array<com.jjmc.chromashift.environment.enemy.Enemy> enemies = new Array<>();
+    private final Player player;
+    private final float groundY;
+    private FinalBoss boss;
+    private BossGuardian bossGuardian;
+    // Input for the next step; the owner samples or replays into it before calling step()
+    private final InputFrame input = new InputFrame();
+    // ECS side of the level: boxes/orbs (bodies) and collectibles
+    private final Engine engine = new Engine();
+    private final PhysicsSystem physicsSystem = new PhysicsSystem();
+    private final AnimationSystem animationSystem = new AnimationSystem();
+    private final CollectibleSystem collectibleSystem;
+    // Set when a step respawned the player; the screen snaps interpolation and plays the marker
+    private boolean respawned;
+    // Step delta for the frame jobs below (kept in a field so the jobs don't allocate)
+    private float jobDelta;
+    private final FrameJobs.Job laserJob = this::castLaser;
+    private final FrameJobs.Job tentacleJob = i -> tentacleCaptures.get(i).step(jobDelta);
+
+    /**
+     * Adopt the loaded collections (same instances, so screens iterating them for
+     * rendering see the simulated state) and wire the player into level objects.
+     */
+    public LevelSimulation(LevelLoader.Result loaded, Player player, float groundY) {
+        // Screens are replaced without being disposed, so the previous level ends here
+        if (current != null) current.exit();
+        current = this;
+        // Step timing of game timers must not depend on earlier levels (replays start fresh)
+        TimerWheel.game().alignToTick();
+        this.walls = loaded.walls;
+        this.solids = loaded.solids;
+        this.interactables = loaded.interactables;
+        this.entities = loaded.entities;
+        this.signals = loaded.signals;
+        this.collectibles = loaded.collectibles;
+        this.tentacles = loaded.tentacles;
+        this.player = player;
+        this.groundY = groundY;
+        this.solidIndex = new SolidIndex(solids);
+        this.collectibleSystem = new CollectibleSystem(collectibles, player);
+        engine.addSystem(physicsSystem);
+        engine.addSystem(animationSystem);
+        engine.addSystem(collectibleSystem);
+        for (int i = 0; i < collectibles.size; i++) {
+            engine.addEntity(collectibles.get(i).getEntity());
+        }
+
+        // Assign player to any LockedDoor instances so they can check keys, and give
+        // boxes/orbs the broadphase; objects added later are wired by the listener
+        for (int i = 0; i < interactables.size; i++) {
+            wire(interactables.get(i));
+        }
+        entities.addListener(new EntityRegistry.Listener() {
+            @Override
+            public void added(Interactable it) {
+                wire(it);
+            }
+
+            @Override
+            public void removed(Interactable it) {
+                if (it instanceof Box box) engine.removeEntity(box.getEntity());
+                else if (it instanceof Orb orb) engine.removeEntity(orb.getEntity());
+            }
+        });
+
+        // Tentacle capture handlers; diamonds from death go into level collectibles
+        for (com.jjmc.chromashift.environment.enemy.Tentacle t : tentacles) {
+            tentacleCaptures.add(new com.jjmc.chromashift.environment.enemy.TentacleCapture(t, player));
+            t.setDropTarget(collectibles);
+            enemies.add(t);
+        }
+        player.setEnemies(enemies);
+        player.setInputFrame(input);
+        player.setSolidIndex(solidIndex);
+    }
+
+    private void wire(Interactable it) {
+        if (it instanceof com.jjmc.chromashift.environment.interactable.LockedDoor ld) {
+            ld.setPlayer(player);
+        } else if (it instanceof Box box) {
+            box.setSolidIndex(solidIndex);
+            engine.addEntity(box.getEntity());
+        } else if (it instanceof Orb orb) {
+            orb.setSolidIndex(solidIndex);
+            engine.addEntity(orb.getEntity());
+        } else if (it instanceof Laser laser) {
+            laser.setDeferTargets(true);
+        } else if (it instanceof LaserRay ray) {
+            ray.setDeferTargets(true);
+        }
+    }
+
+    public void setBosses(FinalBoss boss, BossGuardian bossGuardian) {
+        this.boss = boss;
+        this.bossGuardian = bossGuardian;
+        if (boss != null) {
+            boss.setInputFrame(input);
+            boss.setSolidIndex(solidIndex);
+        }
+        if (bossGuardian != null) bossGuardian.setInputFrame(input);
+    }
+
+    /**
+     * Level exit: drop the delayed actions still scheduled for this level's bosses and
+     * the async work submitted with the simulation as owner (see {@link #parseAsync}).
+     * Safe to call twice.
+     */
+    public void exit() {
+        if (boss != null) TimerWheel.game().cancelAll(boss);
+        if (bossGuardian != null) TimerWheel.game().cancelAll(bossGuardian);
+        AsyncService.cancelAll(this);
+        if (current == this) current = null;
+    }
+
+    /**
+     * Parse the next level on an AsyncService worker and hand its state to
+     * {@code onParsed} on the GL thread. The work is owned by the simulation running now
+     * (the level being left), so ending that level first drops the parse.
+     */
+    public static void parseAsync(java.util.concurrent.Callable<LevelIO.LevelState> parse,
+            java.util.function.Consumer<LevelIO.LevelState> onParsed) {
+        AsyncService.submit(current, parse, onParsed);
+    }
+
+    public Array<com.jjmc.chromashift.environment.enemy.TentacleCapture> getTentacleCaptures() { return tentacleCaptures; }
+    public Array<com.jjmc.chromashift.environment.enemy.Enemy> getEnemies() { return enemies; }
+    public Player getPlayer() { return player; }
+    public InputFrame getInputFrame() { return input; }
+    public EntityRegistry getEntities() { return entities; }
+    public SignalGraph getSignals() { return signals; }
+    public SolidIndex getSolidIndex() { return solidIndex; }
+    public Engine getEngine() { return engine; }
+
+    /** True (once) if a step since the last call respawned the player. */
+    public boolean consumeRespawned() {
+        boolean r = respawned;
+        respawned = false;
+        return r;
+    }
+
+    /**
+     * Advance all gameplay objects by one simulation step of {@code delta} seconds,
+     * reading input from {@link #getInputFrame()}. Just-pressed edges are consumed at the
+     * end so further steps in the same frame only see held keys.
+     */
+    public void step(float delta) {
+        handleStateKeys();
+
+        // Boxes/orbs can press buttons; their bounds only change in their own update
+        PerformanceProfiler.begin(PROBE_SIM_INTERACTABLES);
+        Rectangle playerRect = player.getHitboxRect();
+        objectBounds.clear();
+        Array<Box> boxes = entities.getBoxes();
+        Array<Orb> orbs = entities.getOrbs();
+        for (int i = 0; i < boxes.size; i++) {
+            objectBounds.add(boxes.get(i).getActivationBounds());
+        }
+        for (int i = 0; i < orbs.size; i++) {
+            objectBounds.add(orbs.get(i).getActivationBounds());
+        }
+
+        // Launchpads fling the player and any box/orb resting on them
+        Array<com.jjmc.chromashift.environment.Launchpad> launchpads = entities.getLaunchpads();
+        for (int i = 0; i < launchpads.size; i++) {
+            com.jjmc.chromashift.environment.Launchpad launchpad = launchpads.get(i);
+            launchpad.checkAndLaunchPlayer(player, walls);
+            for (int j = 0; j < boxes.size; j++) {
+                launchpad.checkAndLaunchBox(boxes.get(j));
+            }
+            for (int j = 0; j < orbs.size; j++) {
+                launchpad.checkAndLaunchOrb(orbs.get(j));
+            }
+        }
+
+        // Boxes and orbs, then the remaining non-button interactables
+        physicsSystem.setPlayerBounds(playerRect);
+        physicsSystem.update(delta);
+        Array<Interactable> updatables = entities.getUpdatables();
+        for (int i = 0; i < updatables.size; i++) {
+            Interactable interactable = updatables.get(i);
+            interactable.checkInteraction(playerRect);
+            interactable.update(delta);
+        }
+
+        // Lasers cast after mirrors/doors/boxes have moved; lit targets are updated in
+        // list order once every cast is done
+        Array<Laser> lasers = entities.getLasers();
+        Array<LaserRay> laserRays = entities.getLaserRays();
+        for (int i = 0; i < lasers.size; i++) {
+            lasers.get(i).checkInteraction(playerRect);
+        }
+        for (int i = 0; i < laserRays.size; i++) {
+            laserRays.get(i).checkInteraction(playerRect);
+        }
+        jobDelta = delta;
+        FrameJobs.run(PROBE_JOB_LASER, lasers.size + laserRays.size, laserJob);
+        for (int i = 0; i < lasers.size; i++) {
+            lasers.get(i).publishTarget();
+        }
+        for (int i = 0; i < laserRays.size; i++) {
+            laserRays.get(i).publishTarget();
+        }
+
+        signals.tick();
+
+        PerformanceProfiler.end(PROBE_SIM_INTERACTABLES);
+
+        // Then update buttons with collected bounds
+        PerformanceProfiler.begin(PROBE_SIM_BUTTONS);
+        Array<Button> buttons = entities.getButtons();
+        for (int i = 0; i < buttons.size; i++) {
+            Button b = buttons.get(i);
+            b.checkInteraction(playerRect);
+            b.update(delta, player.getHitboxRect(), objectBounds);
+        }
+
+        PerformanceProfiler.end(PROBE_SIM_BUTTONS);
+
+        // Update collectibles and check for collection
+        PerformanceProfiler.begin(PROBE_SIM_COLLECTIBLES);
+        animationSystem.update(delta);
+        collectibleSystem.update(delta);
+
+        PerformanceProfiler.end(PROBE_SIM_COLLECTIBLES);
+
+        // Player update
+        PerformanceProfiler.begin(PROBE_SIM_PLAYER);
+        player.update(delta, groundY, solids, interactables, 1);
+        PerformanceProfiler.end(PROBE_SIM_PLAYER);
+
+        // Update Tentacle System (physics & capture applied AFTER player attack activation)
+        PerformanceProfiler.begin(PROBE_SIM_TENTACLES);
+        for (int i = 0; i < tentacleCaptures.size; i++) {
+            tentacleCaptures.get(i).prepare();
+        }
+        jobDelta = delta;
+        FrameJobs.run(PROBE_JOB_TENTACLE, tentacleCaptures.size, tentacleJob);
+        for (int i = 0; i < tentacleCaptures.size; i++) {
+            tentacleCaptures.get(i).resolve(delta);
+        }
+        // Perform a second collision check now that tentacle segment positions are freshly updated.
+        // This fixes ordering issue where Player updated (and attacked) before Tentacle updated its segment hitboxes.
+        if (player.getAttackHitbox() != null && player.getAttackHitbox().isActive()) {
+            player.getAttackHitbox().checkEnemyCollisions(enemies);
+        }
+
+        // Prune dead tentacles and associated capture handlers & enemy list entries
+        if (tentacles.size > 0) {
+            for (int i = tentacles.size - 1; i >= 0; i--) {
+                com.jjmc.chromashift.environment.enemy.Tentacle t = tentacles.get(i);
+                if (!t.isAlive()) {
+                    // Remove capture handler referencing this tentacle
+                    for (int c = tentacleCaptures.size - 1; c >= 0; c--) {
+                        if (tentacleCaptures.get(c).getTentacle() == t) {
+                            tentacleCaptures.removeIndex(c);
+                            break;
+                        }
+                    }
+                    // Remove from enemies list used by Player attack system
+                    if (enemies != null) {
+                        enemies.removeValue(t, false);
+                        player.setEnemies(enemies);
+                    }
+                    tentacles.removeIndex(i);
+                }
+            }
+        }
+
+        PerformanceProfiler.end(PROBE_SIM_TENTACLES);
+
+        // Boss update - set target to player position
+        PerformanceProfiler.begin(PROBE_SIM_BOSS);
+        // Delayed gameplay actions (boss attack chains, spawn phases) fire before the bosses update
+        TimerWheel.game().advance(delta);
+        if (boss != null) {
+            boss.setTarget(player.getX() + player.getHitboxWidth() / 2, player.getY() + player.getHitboxHeight() / 2);
+            
+            // Check if player is in any trigger zone and notify boss
+            // Also find trigger_6 to set as boundary zone
+            String activeTrigger = null;
+            Rectangle bossPlayerRect = player.getHitboxRect();
+            Array<com.jjmc.chromashift.environment.TriggerZone> triggers = entities.getTriggers();
+            for (int i = 0; i < triggers.size; i++) {
+                com.jjmc.chromashift.environment.TriggerZone tz = triggers.get(i);
+                String triggerId = tz.getId();
+
+                // Set trigger_6 as boundary zone (only needs to be done once but harmless to repeat)
+                if ("trigger_6".equalsIgnoreCase(triggerId) && tz.getBounds() != null) {
+                    boss.setTrigger6Bounds(tz.getBounds());
+                    // Don't set trigger_6 as active trigger - it's boundary only
+                    continue;
+                }
+
+                // Check if player is in this trigger (excluding trigger_6)
+                if (tz.getBounds() != null && tz.getBounds().overlaps(bossPlayerRect)) {
+                    activeTrigger = triggerId;
+                    // Don't break - continue to find trigger_6 if not found yet
+                }
+            }
+            boss.setActiveTriggerZone(activeTrigger);
+            
+            boss.update(delta);
+        }
+        
+        // BossGuardian update (skip if currently spawning)
+        if (bossGuardian != null && !bossGuardian.isSpawning()) {
+            bossGuardian.setTarget(player.getX() + player.getHitboxWidth() / 2, player.getY() + player.getHitboxHeight() / 2);
+            bossGuardian.update(delta);
+        } else if (bossGuardian != null && bossGuardian.isSpawning()) {
+            // Update spawn sequence (handled in boss.update() during spawn)
+            bossGuardian.update(delta);
+        }
+
+        PerformanceProfiler.end(PROBE_SIM_BOSS);
+
+        // Check laser beams against the player hitbox; if intersecting, kill the player
+        PerformanceProfiler.begin(PROBE_SIM_LASER_HAZARD);
+        Rectangle playerHit = player.getHitboxRect();
+        float beamThickness = 6f; // matches Laser/LaserRay outer thickness
+        Interactable killer = null;
+        Array<com.jjmc.chromashift.environment.interactable.Laser> lasers = entities.getLasers();
+        for (int i = 0; i < lasers.size && killer == null; i++) {
+            if (beamIntersectsRect(lasers.get(i).getCachedPoints(), playerHit, beamThickness))
+                killer = lasers.get(i);
+        }
+        Array<com.jjmc.chromashift.environment.interactable.LaserRay> laserRays = entities.getLaserRays();
+        for (int i = 0; i < laserRays.size && killer == null; i++) {
+            if (beamIntersectsRect(laserRays.get(i).getCachedPoints(), playerHit, beamThickness))
+                killer = laserRays.get(i);
+        }
+        if (killer != null) {
+            // kill player instantly
+            try {
+                player.getHealthSystem().kill(killer);
+            } catch (Throwable ignored) {
+            }
+        }
+        PerformanceProfiler.end(PROBE_SIM_LASER_HAZARD);
+
+        input.consumeEdges();
+    }
+
+    // R respawns the player at its checkpoint; O/K/L are debug damage/heal keys
+    private void handleStateKeys() {
+        if (input.isKeyJustPressed(Input.Keys.R)) {
+            player.respawn();
+            // Reset tentacle capture states on respawn
+            for (int i = 0; i < tentacles.size; i++) {
+                tentacles.get(i).setPlayerCaptured(false);
+            }
+            respawned = true;
+        }
+        if (input.isKeyJustPressed(Input.Keys.O)) {
+            player.getHealthSystem().damage(100f, null);
+        }
+        if (boss != null && input.isKeyJustPressed(Input.Keys.K)) {
+            boss.getHealthSystem().damage(100f, null);
+        }
+        if (boss != null && input.isKeyJustPressed(Input.Keys.L)) {
+            boss.getHealthSystem().heal(100f);
+        }
+        if (bossGuardian != null && input.isKeyJustPressed(Input.Keys.K)) {
+            bossGuardian.getHealthSystem().damage(100f, null);
+        }
+        if (bossGuardian != null && input.isKeyJustPressed(Input.Keys.L)) {
+            bossGuardian.getHealthSystem().heal(100f);
+        }
+    }
+
+    // Frame job: lasers first, then standalone rays
+    private void castLaser(int i) {
+        Array<Laser> lasers = entities.getLasers();
+        if (i < lasers.size) lasers.get(i).update(jobDelta);
+        else entities.getLaserRays().get(i - lasers.size).update(jobDelta);
+    }
+
+    /**
+     * Return true if any segment in the polyline `points` intersects rectangle `r`
+     * within `thickness`.
+     */
+    private boolean beamIntersectsRect(java.util.ArrayList<com.badlogic.gdx.math.Vector2> points, Rectangle r,
+            float thickness) {
+        if (points == null || points.size() < 2 || r == null)
+            return false;
+        float pad = thickness * 0.5f;
+        Rectangle re = new Rectangle(r.x - pad, r.y - pad, r.width + pad * 2f, r.height + pad * 2f);
+
+        // helper: check segment intersects rectangle `re`
+        for (int i = 0; i < points.size() - 1; i++) {
+            com.badlogic.gdx.math.Vector2 a = points.get(i);
+            com.badlogic.gdx.math.Vector2 b = points.get(i + 1);
+            // if either endpoint inside rect -> hit
+            if (re.contains(a.x, a.y) || re.contains(b.x, b.y))
+                return true;
+            // check intersection with each rectangle edge
+            com.badlogic.gdx.math.Vector2 r1 = new com.badlogic.gdx.math.Vector2(re.x, re.y);
+            com.badlogic.gdx.math.Vector2 r2 = new com.badlogic.gdx.math.Vector2(re.x + re.width, re.y);
+            com.badlogic.gdx.math.Vector2 r3 = new com.badlogic.gdx.math.Vector2(re.x + re.width, re.y + re.height);
+            com.badlogic.gdx.math.Vector2 r4 = new com.badlogic.gdx.math.Vector2(re.x, re.y + re.height);
+            if (segmentsIntersect(a, b, r1, r2))
+                return true;
+            if (segmentsIntersect(a, b, r2, r3))
+                return true;
+            if (segmentsIntersect(a, b, r3, r4))
+                return true;
+            if (segmentsIntersect(a, b, r4, r1))
+                return true;
+        }
+        return false;
+    }
+
+    // Standard 2D segment intersection test
+    private boolean segmentsIntersect(com.badlogic.gdx.math.Vector2 p1, com.badlogic.gdx.math.Vector2 p2,
+            com.badlogic.gdx.math.Vector2 q1, com.badlogic.gdx.math.Vector2 q2) {
+        float o1 = orient(p1, p2, q1);
+        float o2 = orient(p1, p2, q2);
+        float o3 = orient(q1, q2, p1);
+        float o4 = orient(q1, q2, p2);
+
+        if (o1 * o2 < 0f && o3 * o4 < 0f)
+            return true;
+        return false;
+    }
+
+    private float orient(com.badlogic.gdx.math.Vector2 a, com.badlogic.gdx.math.Vector2 b,
+            com.badlogic.gdx.math.Vector2 c) {
+        return (b.x - a.x) * (c.y - a.y) - (b.y - a.y) * (c.x - a.x);
+    }
+}
@@ -0,0 +1,152 @@
+package com.jjmc.chromashift.screens.levels;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.jjmc.chromashift.environment.Wall;
+
+/**
+ * Greedy merge of 32x32 wall cells into maximal rectangles for collision. The level
+ * editor places walls on the cell grid, so a floor or pillar is many small Walls;
+ * collision only needs their union. Rendering keeps using the original tiles.
+ *
+ * Walls not aligned to the grid are passed through unchanged. The merged set is
+ * checked cell by cell against the input (every covered cell exactly once, nothing
+ * extra) and discarded if the check fails.
+ */
+final class WallMerger {
+    private static final float CELL = 32f;
+    private static final float EPS = 1e-3f;
+    // Give up on absurdly spread-out levels rather than allocate a huge occupancy grid
+    private static final long MAX_GRID_CELLS = 1L << 24;
+
+    private WallMerger() {
+    }
+
+    /**
+     * Collision walls covering exactly the same area as {@code tiles}, or null when
+     * nothing would be gained or the result failed verification (keep the tiles then).
+     */
+    static Array<Wall> merge(Array<Wall> tiles) {
+        if (tiles == null || tiles.size < 2)
+            return null;
+
+        Array<Wall> loose = new Array<>();
+        int minCX = Integer.MAX_VALUE, minCY = Integer.MAX_VALUE;
+        int maxCX = Integer.MIN_VALUE, maxCY = Integer.MIN_VALUE;
+        int aligned = 0;
+        for (Wall w : tiles) {
+            Rectangle b = w.bounds;
+            if (!onGrid(b.x) || !onGrid(b.y) || !onGrid(b.width) || !onGrid(b.height)
+                    || b.width <= 0f || b.height <= 0f) {
+                loose.add(w);
+                continue;
+            }
+            aligned++;
+            int cx = cells(b.x), cy = cells(b.y);
+            minCX = Math.min(minCX, cx);
+            minCY = Math.min(minCY, cy);
+            maxCX = Math.max(maxCX, cx + cells(b.width) - 1);
+            maxCY = Math.max(maxCY, cy + cells(b.height) - 1);
+        }
+        if (aligned < 2)
+            return null;
+
+        int cols = maxCX - minCX + 1;
+        int rows = maxCY - minCY + 1;
+        if ((long) cols * rows > MAX_GRID_CELLS) {
+            Gdx.app.log("LevelLoader", "Wall merge skipped: grid " + cols + "x" + rows + " too large");
+            return null;
+        }
+
+        // Occupancy of every cell covered by an aligned wall (overlapping walls collapse)
+        boolean[] occupied = new boolean[cols * rows];
+        for (Wall w : tiles) {
+            if (loose.contains(w, true))
+                continue;
+            Rectangle b = w.bounds;
+            int x0 = cells(b.x) - minCX, y0 = cells(b.y) - minCY;
+            int x1 = x0 + cells(b.width), y1 = y0 + cells(b.height);
+            for (int y = y0; y < y1; y++) {
+                for (int x = x0; x < x1; x++) {
+                    occupied[y * cols + x] = true;
+                }
+            }
+        }
+
+        // Greedy: grow right along the row, then grow up while the whole span stays free
+        boolean[] used = new boolean[cols * rows];
+        IntArray rects = new IntArray(); // x, y, w, h in grid cells
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                int i = y * cols + x;
+                if (!occupied[i] || used[i])
+                    continue;
+                int w = 1;
+                while (x + w < cols && occupied[i + w] && !used[i + w])
+                    w++;
+                int h = 1;
+                grow:
+                while (y + h < rows) {
+                    int row = (y + h) * cols + x;
+                    for (int k = 0; k < w; k++) {
+                        if (!occupied[row + k] || used[row + k])
+                            break grow;
+                    }
+                    h++;
+                }
+                for (int yy = y; yy < y + h; yy++) {
+                    for (int xx = x; xx < x + w; xx++) {
+                        used[yy * cols + xx] = true;
+                    }
+                }
+                rects.add(x, y, w, h);
+            }
+        }
+
+        if (!coversExactly(occupied, cols, rects)) {
+            Gdx.app.error("LevelLoader", "Wall merge failed verification; keeping " + tiles.size + " tiles");
+            return null;
+        }
+
+        Array<Wall> merged = new Array<>(rects.size / 4 + loose.size);
+        for (int r = 0; r < rects.size; r += 4) {
+            merged.add(new Wall((minCX + rects.get(r)) * CELL, (minCY + rects.get(r + 1)) * CELL,
+                    rects.get(r + 2), rects.get(r + 3)));
+        }
+        merged.addAll(loose);
+        Gdx.app.log("LevelLoader", "Merged " + tiles.size + " walls into " + merged.size + " collision rectangles");
+        return merged;
+    }
+
+    // Each occupied cell covered by exactly one rectangle and no rectangle on an empty cell
+    private static boolean coversExactly(boolean[] occupied, int cols, IntArray rects) {
+        int[] hits = new int[occupied.length];
+        for (int r = 0; r < rects.size; r += 4) {
+            int x0 = rects.get(r), y0 = rects.get(r + 1);
+            int x1 = x0 + rects.get(r + 2), y1 = y0 + rects.get(r + 3);
+            for (int y = y0; y < y1; y++) {
+                for (int x = x0; x < x1; x++) {
+                    int i = y * cols + x;
+                    if (i < 0 || i >= hits.length || !occupied[i] || ++hits[i] > 1)
+                        return false;
+                }
+            }
+        }
+        for (int i = 0; i < occupied.length; i++) {
+            if (occupied[i] && hits[i] != 1)
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean onGrid(float v) {
+        float c = v / CELL;
+        return Math.abs(c - Math.round(c)) < EPS;
+    }
+
+    private static int cells(float v) {
+        return Math.round(v / CELL);
+    }
+}
@@ -47,6 +47,8 @@ public abstract class AbstractMenuScreen implements Screen {
 
     @Override
     public void show() {
+        // Menus keep only core + menu assets resident; the last level's are released here
+        com.jjmc.chromashift.screens.levels.LevelAssets.enterMenu();
         viewport = new ScreenViewport();
         batch = new SpriteBatch();
 
@@ -15,13 +15,14 @@ import com.chromashift.helper.SpriteFont;
 import com.chromashift.helper.SpriteFontManager;
 import com.jjmc.chromashift.Assets;
 import com.jjmc.chromashift.ChromashiftGame;
+import com.jjmc.chromashift.screens.levels.LevelAssets;
 
 /**
  * Animated Loading Screen
  * Sequence:
  * 1) Start fully black, fade in.
  * 2) Title letters drop one-by-one with bounce and slight wobble.
- * 3) Loading bar at bottom advances with AssetManager.update().
+ * 3) Loading bar at bottom advances as the menu assets decode (LevelAssets).
  * 4) After assets loaded AND letters settled, fade out to next screen.
  *
  * Tweakable parameters are grouped near the top.
@@ -101,10 +102,7 @@ public class LoadingScreen extends AbstractMenuScreen implements Screen {
 	// Loading logic
 	private boolean assetsQueued = false;
 	private boolean assetsLoaded = false;
-	
-	// Loading throttle to slow down asset loading
-	private float loadingThrottle = 0f;
-	private float loadingThrottleDelay = 0.005f; // Only update loading every 0.05 seconds (slows it down)
+	private long loadStartNanos; // for the cold-start log line
 
 	// Scratch (to avoid per-frame allocations)
 	private final Color scratchColor = new Color();
@@ -115,6 +113,8 @@ public class LoadingScreen extends AbstractMenuScreen implements Screen {
 
 	@Override
 	public void show() {
+		// super.show() queues the core and menu assets (LevelAssets.enterMenu)
+		loadStartNanos = System.nanoTime();
 		super.show();
 		batch = new SpriteBatch();
 		shape = new ShapeRenderer();
@@ -190,14 +190,12 @@ public class LoadingScreen extends AbstractMenuScreen implements Screen {
 
 	@Override
 	public void render(float delta) {
-		// Update loading progress ONLY after fade-in finished and assets queued.
-		if (!fadingIn && assetsQueued && !assetsLoaded) {
-			// Throttle loading updates to slow down the progress
-			loadingThrottle += delta;
-			if (loadingThrottle >= loadingThrottleDelay) {
-				loadingThrottle = 0f;
-				assetsLoaded = Assets.manager.update();
-			}
+		// ChromashiftGame streams the menu assets in (LevelAssets.update) from the first
+		// frame; decoding runs on worker threads while the title animates.
+		if (!assetsLoaded && LevelAssets.isLoaded()) {
+			assetsLoaded = true;
+			Gdx.app.log("LoadingScreen", "Menu assets loaded in "
+				+ (System.nanoTime() - loadStartNanos) / 1_000_000L + " ms");
 		}
 
 		// Update fades, letters, and loading bar state
@@ -271,9 +269,9 @@ public class LoadingScreen extends AbstractMenuScreen implements Screen {
 			fadingIn = false;
 			// Reset letter timer to start drops right after fade-in completes
 			lettersGlobalTimer = 0f;
-			// Queue assets ONLY now (delayed start) so loading begins after fade-in.
+			// Core and menu assets were queued by show() (LevelAssets.enterMenu); levels
+			// load their own when entered. Progress is shown from here on.
 			if (!assetsQueued) {
-				Assets.queueAll();
 				assetsQueued = true;
 			}
 		}
@@ -386,7 +384,7 @@ public class LoadingScreen extends AbstractMenuScreen implements Screen {
 		float barY = barBottomMargin;
 		
 		// Position player character along the progress bar
-		float progress = assetsQueued ? Assets.manager.getProgress() : 0f;
+		float progress = assetsQueued ? LevelAssets.getProgress() : 0f;
 		float scale = 3f; // 3x scale for better visibility
 		float playerX = barX + (barW * progress) - (PLAYER_FRAME_WIDTH * scale / 2f); // Center on position
 		float playerY = barY + barHeight + 8f; // Just above the bar
@@ -445,7 +443,7 @@ public class LoadingScreen extends AbstractMenuScreen implements Screen {
 		float barY = barBottomMargin;
 
 		// If assets not queued yet (during fade-in), treat progress as 0 and optionally skip drawing fill.
-		float progress = assetsQueued ? Assets.manager.getProgress() : 0f; // 0..1
+		float progress = assetsQueued ? LevelAssets.getProgress() : 0f; // 0..1, by bytes decoded
 
 		// Outer shadow
 		shape.setColor(barBgOuter);
@@ -141,9 +141,11 @@ public class MainMenuScreen extends com.jjmc.chromashift.screens.ui.AbstractMenu
 
     private void onContinueClicked() {
         try {
-            // Load player state from database
-            com.jjmc.chromashift.player.PlayerIO.PlayerState loaded = 
-                com.jjmc.chromashift.database.PlayerDAO.loadPlayerStateFromDB(1);
+            // Load player state from database, or the autosave still being written to it
+            com.jjmc.chromashift.player.PlayerIO.PlayerState loaded =
+                com.jjmc.chromashift.player.PlayerIO.getPendingSave();
+            if (loaded == null)
+                loaded = com.jjmc.chromashift.database.PlayerDAO.loadPlayerStateFromDB(1);
             
             if (loaded != null && loaded.currentLevel != null) {
                 loadGameFromSave(loaded);
@@ -163,7 +165,7 @@ public class MainMenuScreen extends com.jjmc.chromashift.screens.ui.AbstractMenu
         );
         ((com.badlogic.gdx.Game) Gdx.app.getApplicationListener()).setScreen(screen);
         
-        Gdx.app.postRunnable(() -> {
+        screen.runWhenLevelBuilt(() -> {
             if (screen.player != null) {
                 com.jjmc.chromashift.player.PlayerIO.applyToPlayer(screen.player, loaded);
                 if (loaded.visitedLevels != null) {
@@ -219,7 +221,10 @@ public class MainMenuScreen extends com.jjmc.chromashift.screens.ui.AbstractMenu
 
     private void addCharacterOption(com.badlogic.gdx.scenes.scene2d.ui.Table table, String imagePath, String colorName) {
         try {
-            com.badlogic.gdx.graphics.Texture tex = new com.badlogic.gdx.graphics.Texture(Gdx.files.internal(imagePath));
+            // Decoded with the menu assets during the loading screen; load directly otherwise
+            com.badlogic.gdx.graphics.Texture tex = com.jjmc.chromashift.Assets.manager.isLoaded(imagePath, com.badlogic.gdx.graphics.Texture.class)
+                ? com.jjmc.chromashift.Assets.manager.get(imagePath, com.badlogic.gdx.graphics.Texture.class)
+                : new com.badlogic.gdx.graphics.Texture(Gdx.files.internal(imagePath));
             tex.setFilter(com.badlogic.gdx.graphics.Texture.TextureFilter.Linear, com.badlogic.gdx.graphics.Texture.TextureFilter.Linear);
             com.badlogic.gdx.scenes.scene2d.ui.Image img = new com.badlogic.gdx.scenes.scene2d.ui.Image(tex);
             img.setScaling(com.badlogic.gdx.utils.Scaling.fit);
@@ -1,12 +1,11 @@
 package com.jjmc.chromashift.ui;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.jjmc.chromashift.Assets;
 import com.jjmc.chromashift.player.Player;
 import com.jjmc.chromashift.player.PlayerType;
 
@@ -14,24 +13,20 @@ public class PlayerUI {
     private final Player player;
     private Viewport viewport;
 
-    // Textures
-    private final Texture playerIconTexture;
-    private final Texture hpBarTexture;
-    private final Texture hpFrameTexture;
-    private final Texture armorTexture;
-    private final Texture dashCdTexture;
+    // Sprites (packed in the player atlas; owned by Assets)
+    private final TextureRegion hpBarSource;
+    private final TextureRegion hpFrameRegion;
+    private final TextureRegion armorRegion;
+    private final TextureRegion dashCdRegion;
     // Preallocated region for health bar cropping
     private final TextureRegion hpBarRegion;
 
     // Diamond UI
-    private Texture diamondTexture;
     private TextureRegion diamondRegion;
     private BitmapFont font;
     // Key UI
-    private Texture keyIconTexture;
     private TextureRegion keyIconRegion;
     // Potion UI
-    private Texture potionTexture;
     private TextureRegion potionRegion;
 
     // Regions for player icon variations
@@ -62,20 +57,20 @@ public class PlayerUI {
         this.viewport = viewport;
 
         // Load assets
-        playerIconTexture = new Texture(Gdx.files.internal("player/ui/PlayerIcon.png"));
-        hpBarTexture = new Texture(Gdx.files.internal("player/ui/HP_bar.png"));
-        hpFrameTexture = new Texture(Gdx.files.internal("player/ui/HP_frame.png"));
-        armorTexture = new Texture(Gdx.files.internal("player/ui/Armor.png"));
-        dashCdTexture = new Texture(Gdx.files.internal("player/ui/DashCd.png"));
-        hpBarRegion = new TextureRegion(hpBarTexture);
+        TextureRegion playerIcon = Assets.region("player/ui/PlayerIcon.png");
+        hpBarSource = Assets.region("player/ui/HP_bar.png");
+        hpFrameRegion = Assets.region("player/ui/HP_frame.png");
+        armorRegion = Assets.region("player/ui/Armor.png");
+        dashCdRegion = Assets.region("player/ui/DashCd.png");
+        hpBarRegion = new TextureRegion(hpBarSource);
 
         // Setup icon regions (7 rows)
-        // Texture is 581 wide, 174 * 7 high
+        // Sprite is 581 wide, 174 * 7 high
         int iconWidth = 581;
         int iconHeight = 174;
         iconRegions = new TextureRegion[7];
         for (int i = 0; i < 7; i++) {
-            iconRegions[i] = new TextureRegion(playerIconTexture, 0, i * iconHeight, iconWidth, iconHeight);
+            iconRegions[i] = new TextureRegion(playerIcon, 0, i * iconHeight, iconWidth, iconHeight);
         }
     }
 
@@ -107,14 +102,15 @@ public class PlayerUI {
         int filledPixels = Math.round(BAR_WIDTH_PX * healthPercent);
         if (filledPixels > 0) {
             // Crop the region to the filled area, starting at the bar's left/top offsets
-            hpBarRegion.setRegion(BAR_LEFT, BAR_TOP, filledPixels, BAR_HEIGHT_PX);
+            // (relative to the bar sprite, which may sit anywhere on its atlas page)
+            hpBarRegion.setRegion(hpBarSource, BAR_LEFT, BAR_TOP, filledPixels, BAR_HEIGHT_PX);
             float frameBottomY = uiY - UI_HEIGHT * scale;
             float barDrawX = uiX + BAR_LEFT * scale;
             float barDrawY = frameBottomY + BAR_BOTTOM * scale;
             batch.draw(hpBarRegion, barDrawX, barDrawY, filledPixels * scale, BAR_HEIGHT_PX * scale);
         }
 
-        batch.draw(hpFrameTexture, uiX, uiY - UI_HEIGHT * scale, UI_WIDTH * scale, UI_HEIGHT * scale);
+        batch.draw(hpFrameRegion, uiX, uiY - UI_HEIGHT * scale, UI_WIDTH * scale, UI_HEIGHT * scale);
 
         // 4. Armor Icons
         float armorY = uiY - UI_HEIGHT * scale - ARMOR_SIZE * scale - 10 * scale; // 10px padding
@@ -128,7 +124,7 @@ public class PlayerUI {
             } else {
                 batch.setColor(0.3f, 0.3f, 0.3f, 0.5f); // Dimmed for empty
             }
-            batch.draw(armorTexture, x, armorY, ARMOR_SIZE * scale, ARMOR_SIZE * scale);
+            batch.draw(armorRegion, x, armorY, ARMOR_SIZE * scale, ARMOR_SIZE * scale);
         }
         batch.setColor(Color.WHITE); // Reset
 
@@ -149,16 +145,13 @@ public class PlayerUI {
 
         float c = 0.3f + 0.7f * progress; // Start darker (0.3) to be more visible as "cooldown"
         batch.setColor(c, c, c, 1f);
-        batch.draw(dashCdTexture, dashX, dashY, DASH_SIZE * scale, DASH_SIZE * scale);
+        batch.draw(dashCdRegion, dashX, dashY, DASH_SIZE * scale, DASH_SIZE * scale);
         batch.setColor(Color.WHITE);
 
         // 6. Diamond Count (Top-Left)
-        if (diamondTexture == null) {
-            try {
-                diamondTexture = new Texture(Gdx.files.internal("environment/diamond.png"));
-                diamondRegion = new TextureRegion(diamondTexture, 0, 0, 32, 32);
-            } catch (Exception ignored) {
-            }
+        if (diamondRegion == null) {
+            TextureRegion diamond = Assets.region("environment/diamond.png");
+            if (diamond != null) diamondRegion = new TextureRegion(diamond, 0, 0, 32, 32);
         }
 
         if (diamondRegion != null) {
@@ -233,15 +226,7 @@ public class PlayerUI {
     }
 
     public void dispose() {
-        playerIconTexture.dispose();
-        hpBarTexture.dispose();
-        hpFrameTexture.dispose();
-        armorTexture.dispose();
-        dashCdTexture.dispose();
-        if (diamondTexture != null)
-            diamondTexture.dispose();
-        if (keyIconTexture != null) keyIconTexture.dispose();
-        if (potionTexture != null) potionTexture.dispose();
+        // Sprites belong to Assets
     }
 
     public void setViewport(Viewport viewport) {
@@ -251,18 +236,12 @@ public class PlayerUI {
     }
 
     private void ensureKeyIcon() {
-        if (keyIconTexture != null) return;
-        try {
-            keyIconTexture = new Texture(Gdx.files.internal("environment/key_icon.png"));
-            keyIconRegion = new TextureRegion(keyIconTexture, 0, 0, keyIconTexture.getWidth(), keyIconTexture.getHeight());
-        } catch (Exception ignored) {}
+        if (keyIconRegion != null) return;
+        keyIconRegion = Assets.region("environment/key_icon.png");
     }
     
     private void ensurePotionIcon() {
-        if (potionTexture != null) return;
-        try {
-            potionTexture = new Texture(Gdx.files.internal("player/ui/HealthPotion.png"));
-            potionRegion = new TextureRegion(potionTexture, 0, 0, potionTexture.getWidth(), potionTexture.getHeight());
-        } catch (Exception ignored) {}
+        if (potionRegion != null) return;
+        potionRegion = Assets.region("player/ui/HealthPotion.png");
     }
 }
@@ -0,0 +1,33 @@
+package com.jjmc.chromashift.headless;
+
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * No-op GL20 for the headless backend. Texture/font constructors in level objects only
+ * need GL calls to succeed, so every call returns 0/false/empty and does nothing.
+ */
+public final class HeadlessGL {
+    private HeadlessGL() {}
+
+    public static GL20 create() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] { GL20.class },
+            (proxy, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    switch (method.getName()) {
+                        case "equals": return proxy == args[0];
+                        case "hashCode": return System.identityHashCode(proxy);
+                        default: return "HeadlessGL";
+                    }
+                }
+                Class<?> r = method.getReturnType();
+                if (r == boolean.class) return false;
+                if (r == int.class) return 0;
+                if (r == float.class) return 0f;
+                if (r == long.class) return 0L;
+                if (r == String.class) return "";
+                return null;
+            });
+    }
+}
@@ -0,0 +1,28 @@
+package com.jjmc.chromashift.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Launches the render-free simulation runner.
+ * Args: [level path | all] [ticks per level] [simulation Hz]
+ *   or: replay &lt;recording file&gt;
+ */
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        SimulationRunner runner;
+        if (args.length > 1 && "replay".equalsIgnoreCase(args[0])) {
+            runner = new SimulationRunner(args[1]);
+        } else {
+            String level = args.length > 0 ? args[0] : "levels/level1.json";
+            int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+            float hz = args.length > 2 ? Float.parseFloat(args[2]) : 120f;
+            runner = new SimulationRunner(level, ticks, hz);
+        }
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // Call render() back-to-back; the runner batches many ticks per call
+        configuration.updatesPerSecond = 1_000_000;
+        new HeadlessApplication(runner, configuration);
+    }
+}
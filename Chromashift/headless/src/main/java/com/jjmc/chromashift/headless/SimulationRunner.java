@@ -0,0 +1,261 @@
+package com.jjmc.chromashift.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.chromashift.helper.AsyncService;
+import com.chromashift.helper.PerformanceProfiler;
+import com.chromashift.helper.VisibilityCuller;
+import com.jjmc.chromashift.Assets;
+import com.jjmc.chromashift.entity.boss.Boss;
+import com.jjmc.chromashift.entity.boss.BossGuardian;
+import com.jjmc.chromashift.entity.boss.FinalBoss;
+import com.jjmc.chromashift.input.InputReplay;
+import com.jjmc.chromashift.player.Player;
+import com.jjmc.chromashift.player.PlayerConfig;
+import com.jjmc.chromashift.player.PlayerIO;
+import com.jjmc.chromashift.player.PlayerType;
+import com.jjmc.chromashift.screens.levels.GameLevelSave;
+import com.jjmc.chromashift.screens.levels.LevelIO;
+import com.jjmc.chromashift.screens.levels.LevelLoader;
+import com.jjmc.chromashift.screens.levels.LevelSimulation;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+
+/**
+ * Loads levels through LevelLoader.build and steps LevelSimulation at a fixed rate
+ * without rendering, then logs throughput and per-system timings (PerformanceProfiler probes).
+ * In replay mode the level state (with saved overrides), player state, seed, step length
+ * and per-tick input come from an InputRecorder file, and the final player position is
+ * checked against the recording.
+ */
+public class SimulationRunner extends ApplicationAdapter {
+    // Ticks per render() call; keeps Gdx.app.postRunnable work draining between batches
+    private static final int TICKS_PER_BATCH = 500;
+    private static final float GROUND_Y = -64f;
+
+    private final String levelArg;
+    private int ticksPerLevel;
+    private float stepSeconds;
+    private final String replayFile;
+    private InputReplay replay;
+
+    private final Array<String> levels = new Array<>();
+    private int levelIndex = 0;
+    private LevelSimulation simulation;
+    private String currentLevel;
+    private int ticksDone;
+    private long simNanos;
+    private long loadNanos;
+
+    public SimulationRunner(String levelArg, int ticksPerLevel, float hz) {
+        this.levelArg = levelArg;
+        this.ticksPerLevel = Math.max(1, ticksPerLevel);
+        this.stepSeconds = 1f / Math.max(1f, hz);
+        this.replayFile = null;
+    }
+
+    /** Replay a recorded session (file written by InputRecorder). */
+    public SimulationRunner(String replayFile) {
+        this.levelArg = null;
+        this.ticksPerLevel = Integer.MAX_VALUE;
+        this.stepSeconds = 1f / 60f;
+        this.replayFile = replayFile;
+    }
+
+    @Override
+    public void create() {
+        Gdx.gl = Gdx.gl20 = HeadlessGL.create();
+        // No camera -> culling treats everything as visible, like a worst-case frame
+        VisibilityCuller.setCamera(null);
+        Assets.loadAll();
+        PerformanceProfiler.setEnabled(true);
+
+        if (replayFile != null) {
+            try {
+                replay = new InputReplay(Gdx.files.absolute(new java.io.File(replayFile).getAbsolutePath()));
+            } catch (Exception e) {
+                Gdx.app.error("Headless", "Failed to open replay " + replayFile + ": " + e.getMessage(), e);
+                Gdx.app.exit();
+                return;
+            }
+            stepSeconds = replay.getStepSeconds();
+            levels.add(replay.getLevelPath());
+        } else if ("all".equalsIgnoreCase(levelArg)) {
+            levels.addAll(listLevels());
+        } else {
+            levels.add(levelArg);
+        }
+        if (replay != null) {
+            Gdx.app.log("Headless", "Replaying " + replayFile + " (" + replay.getLevelPath() + ", seed " + replay.getSeed()
+                    + ") at " + Math.round(1f / stepSeconds) + " Hz");
+        } else {
+            Gdx.app.log("Headless", "Running " + levels.size + " level(s), " + ticksPerLevel + " ticks each at "
+                    + Math.round(1f / stepSeconds) + " Hz");
+        }
+    }
+
+    @Override
+    public void render() {
+        // Boss effects created on the async workers attach here, between batches
+        AsyncService.drainCompletions();
+        if (simulation == null) {
+            if (levelIndex >= levels.size) {
+                Gdx.app.exit();
+                return;
+            }
+            currentLevel = levels.get(levelIndex++);
+            if (!startLevel(currentLevel)) return;
+        }
+
+        int n = Math.min(TICKS_PER_BATCH, ticksPerLevel - ticksDone);
+        boolean replayEnded = false;
+        for (int i = 0; i < n; i++) {
+            if (replay != null && !nextReplayTick()) {
+                replayEnded = true;
+                break;
+            }
+            long t0 = System.nanoTime();
+            simulation.step(stepSeconds);
+            simNanos += System.nanoTime() - t0;
+            ticksDone++;
+        }
+        if (replayEnded || ticksDone >= ticksPerLevel) {
+            report();
+            if (replay != null) reportReplay();
+            simulation.exit();
+            simulation = null;
+        }
+    }
+
+    private boolean startLevel(String path) {
+        PerformanceProfiler.reset();
+        ticksDone = 0;
+        simNanos = 0L;
+        long t0 = System.nanoTime();
+        try {
+            simulation = (replay != null) ? startReplay(replay) : buildSimulation(path, LevelIO.load(path), null);
+            loadNanos = System.nanoTime() - t0;
+            return true;
+        } catch (Exception e) {
+            Gdx.app.error("Headless", "Failed to load " + path + ": " + e.getMessage(), e);
+            simulation = null;
+            return false;
+        }
+    }
+
+    /**
+     * Rebuild the recorded session's start: same RNG stream, level state and overrides,
+     * player state and color, then the reseed the recorder does on its first tick.
+     */
+    static LevelSimulation startReplay(InputReplay replay) {
+        MathUtils.random.setSeed(replay.getSeed());
+        LevelSimulation sim = buildSimulation(replay.getLevelPath(), LevelIO.parse(replay.getLevelJson()),
+                replay.getLevelOverrides());
+        Player player = sim.getPlayer();
+        player.setType(PlayerType.fromName(replay.getPlayerType()));
+        PlayerIO.applyToPlayer(player, PlayerIO.fromJson(replay.getPlayerJson()));
+        MathUtils.random.setSeed(replay.getSeed());
+        return sim;
+    }
+
+    /**
+     * Build {@code state} (read from {@code path}) with GameLevelSave {@code overrides}
+     * (may be null), the bossroom default boss and a fresh player at the spawn.
+     */
+    static LevelSimulation buildSimulation(String path, LevelIO.LevelState state, String overrides) {
+        LevelLoader.Result loaded = LevelLoader.build(state, LevelLoader.MERGE_WALL_COLLISION);
+        if (overrides != null) GameLevelSave.applyOverrides(overrides, loaded);
+        Boss pathBoss = LevelLoader.createPathBoss(path, loaded, GROUND_Y);
+        Boss levelBoss = (pathBoss != null) ? pathBoss : loaded.boss;
+        Player player = createPlayer(loaded.spawnX, loaded.spawnY);
+
+        FinalBoss boss = levelBoss instanceof FinalBoss fb ? fb : null;
+        BossGuardian guardian = levelBoss instanceof BossGuardian bg ? bg : null;
+        if (guardian != null) guardian.setPlayer(player);
+
+        // Shops are skipped: they need a scene2d Stage (SpriteBatch + shaders)
+        LevelSimulation sim = new LevelSimulation(loaded, player, GROUND_Y);
+        sim.setBosses(boss, guardian);
+        return sim;
+    }
+
+    private static Player createPlayer(float spawnX, float spawnY) {
+        // Same setup as Initialize.Context.createPlayer minus camera/UI
+        Player player = new Player(
+            120, spawnY,
+            Input.Keys.A, Input.Keys.D,
+            Input.Keys.W, Input.Keys.SPACE,
+            PlayerType.PURPLE,
+            6, 10,
+            64, 32, 5,
+            new PlayerConfig()
+        );
+        player.setX(spawnX);
+        player.setY(spawnY);
+        player.setRespawnPoint(spawnX, spawnY);
+        player.equipSkillToSlot(new com.jjmc.chromashift.player.skill.DashSkill(player), 'Q');
+        player.equipSkillToSlot(new com.jjmc.chromashift.player.skill.SplitSkill(player), 'E');
+        return player;
+    }
+
+    private boolean nextReplayTick() {
+        try {
+            return replay.next(simulation.getInputFrame());
+        } catch (Exception e) {
+            Gdx.app.error("Headless", "Replay read failed after " + replay.getTicksPlayed() + " ticks: " + e.getMessage());
+            replay.close();
+            return false;
+        }
+    }
+
+    private void reportReplay() {
+        Player p = simulation.getPlayer();
+        boolean match = replay.matchesRecording(p.getX(), p.getY());
+        Gdx.app.log("Headless", String.format("Replay %s: %d/%d ticks, final player (%.3f, %.3f) vs recorded (%.3f, %.3f)",
+                match ? "MATCH" : "DIVERGED", replay.getTicksPlayed(), replay.getRecordedTicks(),
+                p.getX(), p.getY(), replay.getRecordedFinalX(), replay.getRecordedFinalY()));
+    }
+
+    private void report() {
+        float simMs = simNanos / 1_000_000f;
+        float ticksPerSec = ticksDone / Math.max(1e-9f, simNanos / 1_000_000_000f);
+        Gdx.app.log("Headless", String.format("%s: load %.1f ms, %d ticks in %.1f ms (%.0f ticks/s, %.2f us/tick)",
+                currentLevel, loadNanos / 1_000_000f, ticksDone, simMs, ticksPerSec, simNanos / 1000f / ticksDone));
+        for (int p = 0; p < PerformanceProfiler.getProbeCount(); p++) {
+            long calls = PerformanceProfiler.getCalls(p);
+            if (calls == 0L) continue;
+            long nanos = PerformanceProfiler.getTotalNanos(p);
+            Gdx.app.log("Headless", String.format("  %-20s total %9.2f ms  %5.1f%%  %9d calls  avg %8.2f  p50 %8.2f  p95 %8.2f  p99 %8.2f us",
+                    PerformanceProfiler.getName(p), nanos / 1_000_000f, 100f * nanos / Math.max(1L, simNanos), calls,
+                    nanos / 1000f / calls,
+                    PerformanceProfiler.percentileNanos(p, 0.50f) / 1000f,
+                    PerformanceProfiler.percentileNanos(p, 0.95f) / 1000f,
+                    PerformanceProfiler.percentileNanos(p, 0.99f) / 1000f));
+        }
+    }
+
+    /** Level JSON files listed in assets.txt. */
+    private static Array<String> listLevels() {
+        Array<String> out = new Array<>();
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(Gdx.files.internal("assets.txt").read()))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                line = line.trim();
+                if (line.startsWith("levels/") && line.endsWith(".json")) out.add(line);
+            }
+        } catch (Exception e) {
+            Gdx.app.error("Headless", "Failed to read assets.txt", e);
+        }
+        return out;
+    }
+
+    @Override
+    public void dispose() {
+        AsyncService.shutdown(2000L);
+        Assets.dispose();
+    }
+}
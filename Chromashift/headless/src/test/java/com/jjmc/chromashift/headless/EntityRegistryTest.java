@@ -0,0 +1,72 @@
+package com.jjmc.chromashift.headless;
+
+import com.badlogic.gdx.utils.Array;
+import com.jjmc.chromashift.environment.Wall;
+import com.jjmc.chromashift.environment.interactable.Door;
+import com.jjmc.chromashift.environment.interactable.Interactable;
+import com.jjmc.chromashift.environment.interactable.LockedDoor;
+import com.jjmc.chromashift.screens.levels.EntityRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Typed arrays and listener callbacks of EntityRegistry. */
+class EntityRegistryTest {
+    @BeforeAll
+    static void boot() {
+        HeadlessTestApp.boot();
+    }
+
+    @Test
+    void removeNotifiesListenersAndCompactsArrays() {
+        Wall floor = new Wall(0f, 0f, 20, 1);
+        Door a = new Door(64f, floor, 1, 3);
+        Door b = new Door(160f, floor, 1, 3);
+        Door c = new Door(256f, floor, 1, 3);
+        LockedDoor locked = new LockedDoor(352f, 32f, LockedDoor.Orientation.VERTICAL);
+        EntityRegistry entities = new EntityRegistry(new Array<>());
+        Array<Interactable> added = new Array<>();
+        Array<Interactable> removed = new Array<>();
+        entities.addListener(new EntityRegistry.Listener() {
+            @Override
+            public void added(Interactable it) {
+                added.add(it);
+            }
+
+            @Override
+            public void removed(Interactable it) {
+                removed.add(it);
+            }
+        });
+
+        entities.add(a);
+        entities.add(b);
+        entities.add(c);
+        entities.add(locked);
+        assertEquals(4, added.size);
+        assertEquals(3, entities.getDoors().size);
+        assertEquals(1, entities.getLockedDoors().size);
+
+        assertTrue(entities.remove(b));
+        assertEquals(1, removed.size);
+        assertSame(b, removed.first());
+        assertEquals(3, entities.getInteractables().size);
+        assertEquals(3, entities.getUpdatables().size);
+        // Compacted in list order, no gap where b was
+        assertEquals(2, entities.getDoors().size);
+        assertSame(a, entities.getDoors().get(0));
+        assertSame(c, entities.getDoors().get(1));
+
+        assertTrue(entities.remove(locked));
+        assertEquals(0, entities.getLockedDoors().size);
+        assertEquals(2, removed.size);
+
+        // Not in the level any more: no callback
+        assertFalse(entities.remove(b));
+        assertEquals(2, removed.size);
+    }
+}
@@ -0,0 +1,33 @@
+package com.jjmc.chromashift.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.chromashift.helper.AsyncService;
+import com.chromashift.helper.VisibilityCuller;
+import com.jjmc.chromashift.Assets;
+
+/**
+ * One headless application and asset set shared by every test class in the JVM;
+ * torn down when the test worker exits.
+ */
+final class HeadlessTestApp {
+    private static HeadlessApplication app;
+
+    private HeadlessTestApp() {
+    }
+
+    static synchronized void boot() {
+        if (app != null) return;
+        app = new HeadlessApplication(new ApplicationAdapter() {}, new HeadlessApplicationConfiguration());
+        Gdx.gl = Gdx.gl20 = HeadlessGL.create();
+        VisibilityCuller.setCamera(null);
+        Assets.loadAll();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            AsyncService.shutdown(2000L);
+            Assets.dispose();
+            app.exit();
+        }));
+    }
+}
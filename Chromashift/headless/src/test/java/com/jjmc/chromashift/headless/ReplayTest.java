@@ -0,0 +1,130 @@
+package com.jjmc.chromashift.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.MathUtils;
+import com.chromashift.helper.FixedTimestep;
+import com.jjmc.chromashift.input.InputFrame;
+import com.jjmc.chromashift.input.InputRecorder;
+import com.jjmc.chromashift.input.InputReplay;
+import com.jjmc.chromashift.player.Player;
+import com.jjmc.chromashift.player.PlayerIO;
+import com.jjmc.chromashift.player.PlayerType;
+import com.jjmc.chromashift.screens.levels.LevelIO;
+import com.jjmc.chromashift.screens.levels.LevelSimulation;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Records a scripted session the way GameSceneScreen does (header from the built level
+ * and the player as the first tick starts, input per step) and replays it through
+ * SimulationRunner.startReplay.
+ */
+class ReplayTest {
+    private static final String LEVEL = "levels/level1.json";
+    private static final long SEED = 1234L;
+    private static final float STEP = 1f / 60f;
+    private static final int TICKS = 180;
+    private static final int RESPAWN_TICK = 90;
+
+    @BeforeAll
+    static void boot() {
+        HeadlessTestApp.boot();
+    }
+
+    @Test
+    void replayMatchesAcrossRespawn(@TempDir Path dir) throws Exception {
+        FileHandle file = Gdx.files.absolute(dir.resolve("respawn.csrp").toString());
+
+        // Record: seed, build, restore a "saved" player, then reseed on the first tick
+        MathUtils.random.setSeed(SEED);
+        LevelIO.LevelState state = LevelIO.load(LEVEL);
+        String levelJson = LevelIO.toJson(state);
+        LevelSimulation sim = SimulationRunner.buildSimulation(LEVEL, state, null);
+        Player player = sim.getPlayer();
+        player.setType(PlayerType.RED);
+        player.setDiamonds(7);
+        InputRecorder recorder = new InputRecorder(file, LEVEL, SEED, STEP, levelJson, null,
+                player.getType().getColorName(), PlayerIO.toJson(PlayerIO.capture(player, LEVEL, null)));
+        MathUtils.random.setSeed(SEED);
+
+        InputFrame input = sim.getInputFrame();
+        for (int t = 0; t < TICKS; t++) {
+            script(input, t);
+            recorder.record(input);
+            sim.step(STEP);
+            assertEquals(t == RESPAWN_TICK, sim.consumeRespawned(), "respawn at tick " + t);
+        }
+        recorder.finish(player.getX(), player.getY());
+        sim.exit();
+
+        // Replay from the header alone
+        InputReplay replay = new InputReplay(file);
+        LevelSimulation replayed = SimulationRunner.startReplay(replay);
+        Player p = replayed.getPlayer();
+        assertEquals(PlayerType.RED, p.getType());
+        assertEquals(7, p.getDiamonds());
+        int respawnTick = -1;
+        while (replay.next(replayed.getInputFrame())) {
+            replayed.step(replay.getStepSeconds());
+            if (replayed.consumeRespawned()) respawnTick = replay.getTicksPlayed() - 1;
+        }
+        replayed.exit();
+
+        assertTrue(replay.isFinished());
+        assertEquals(RESPAWN_TICK, respawnTick);
+        assertEquals(TICKS, replay.getRecordedTicks());
+        assertTrue(replay.matchesRecording(p.getX(), p.getY()),
+                "replay ended at (" + p.getX() + ", " + p.getY() + "), recorded ("
+                        + replay.getRecordedFinalX() + ", " + replay.getRecordedFinalY() + ")");
+    }
+
+    @Test
+    void catchUpStepsSeeAnEdgeOnce() {
+        LevelSimulation sim = SimulationRunner.buildSimulation(LEVEL, LevelIO.load(LEVEL), null);
+        FixedTimestep fixedStep = new FixedTimestep(60f, 5);
+        InputFrame input = sim.getInputFrame();
+
+        // R goes down during a 60 ms hitch; the frame then runs its catch-up steps the way
+        // GameSceneScreen does
+        input.pressKey(Input.Keys.R);
+        int steps = fixedStep.advance(0.06f, input.hasEdges());
+        int respawns = 0;
+        for (int s = 0; s < steps; s++) {
+            sim.step(fixedStep.getStepSeconds());
+            if (sim.consumeRespawned()) respawns++;
+        }
+        sim.exit();
+
+        assertEquals(3, steps);
+        assertEquals(1, respawns);
+        assertFalse(input.hasEdges());
+    }
+
+    @Test
+    void rejectsForeignFile(@TempDir Path dir) {
+        FileHandle file = Gdx.files.absolute(dir.resolve("not-a-recording.csrp").toString());
+        file.writeString("level1", false);
+        assertThrows(IOException.class, () -> new InputReplay(file));
+    }
+
+    // Run right, respawn with R, then run left and jump
+    private static void script(InputFrame input, int tick) {
+        input.setKeyDown(Input.Keys.D, tick < RESPAWN_TICK);
+        if (tick == RESPAWN_TICK) input.pressKey(Input.Keys.R);
+        else input.setKeyDown(Input.Keys.R, false);
+        input.setKeyDown(Input.Keys.A, tick > RESPAWN_TICK);
+        if (tick == RESPAWN_TICK + 20) input.pressKey(Input.Keys.SPACE);
+        else if (tick > RESPAWN_TICK + 30) input.setKeyDown(Input.Keys.SPACE, false);
+    }
+}
@@ -0,0 +1,128 @@
+package com.jjmc.chromashift.headless;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.jjmc.chromashift.environment.Wall;
+import com.jjmc.chromashift.environment.interactable.Button;
+import com.jjmc.chromashift.environment.interactable.Door;
+import com.jjmc.chromashift.environment.interactable.SignalGraph;
+import com.jjmc.chromashift.screens.levels.LevelIO;
+import com.jjmc.chromashift.screens.levels.LevelLoader;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** SignalGraph nodes and the links LevelLoader compiles into a level's graph. */
+class SignalWiringTest {
+    private static final Rectangle AWAY = new Rectangle(-1000f, -1000f, 1f, 1f);
+    private static final Array<Rectangle> NO_OBJECTS = new Array<>();
+
+    @BeforeAll
+    static void boot() {
+        HeadlessTestApp.boot();
+    }
+
+    @Test
+    void doorHeldByTwoButtonsStaysOpenWhileEitherIsPressed() {
+        LevelIO.LevelState state = new LevelIO.LevelState();
+        state.walls = new Array<>();
+        state.walls.add(wall(0f, 0f, 20f, 1f));
+        state.interactables = new Array<>();
+        state.interactables.add(interactable("door", "d1", 320f, 32f, null));
+        state.interactables.add(interactable("button", "b1", 64f, 32f, "d1"));
+        state.interactables.add(interactable("button", "b2", 160f, 32f, "d1"));
+
+        LevelLoader.Result level = LevelLoader.build(state);
+        Door door = level.doorMap.get("d1");
+        Button b1 = level.buttonMap.get("b1");
+        Button b2 = level.buttonMap.get("b2");
+        assertFalse(door.isOpen());
+
+        press(b1, true);
+        assertTrue(door.isOpen());
+        press(b2, true);
+        press(b1, false);
+        assertTrue(door.isOpen(), "still held by b2");
+        press(b2, false);
+        assertFalse(door.isOpen());
+    }
+
+    @Test
+    void andOpensOnlyWhileEveryInputIsHigh() {
+        SignalGraph g = new SignalGraph();
+        int a = g.addSource();
+        int b = g.addSource();
+        Door door = door();
+        g.connectDoor(g.and(IntArray.with(a, b)), door);
+
+        g.set(a, true);
+        assertFalse(door.isOpen());
+        g.set(b, true);
+        assertTrue(door.isOpen());
+        g.set(a, false);
+        assertFalse(door.isOpen());
+    }
+
+    @Test
+    void delayFollowsItsInputAfterTheGivenTicks() {
+        SignalGraph g = new SignalGraph();
+        int src = g.addSource();
+        Door door = door();
+        g.connectDoor(g.delay(src, 3), door);
+
+        g.set(src, true);
+        g.tick();
+        g.tick();
+        assertFalse(door.isOpen());
+        g.tick();
+        assertTrue(door.isOpen());
+
+        // A change that does not hold for the full delay never reaches the door
+        g.set(src, false);
+        g.tick();
+        g.set(src, true);
+        g.tick();
+        g.tick();
+        g.tick();
+        assertTrue(door.isOpen());
+
+        g.set(src, false);
+        g.tick();
+        g.tick();
+        assertTrue(door.isOpen());
+        g.tick();
+        assertFalse(door.isOpen());
+    }
+
+    private static Door door() {
+        return new Door(64f, new Wall(0f, 0f, 4, 1), 1, 3);
+    }
+
+    private static void press(Button b, boolean down) {
+        b.update(0f, down ? b.getBounds() : AWAY, NO_OBJECTS);
+    }
+
+    private static LevelIO.LevelState.WallData wall(float x, float y, float w, float h) {
+        LevelIO.LevelState.WallData wd = new LevelIO.LevelState.WallData();
+        wd.x = x;
+        wd.y = y;
+        wd.width = w;
+        wd.height = h;
+        return wd;
+    }
+
+    private static LevelIO.LevelState.InteractableData interactable(String type, String id, float x, float y, String targetId) {
+        LevelIO.LevelState.InteractableData idd = new LevelIO.LevelState.InteractableData();
+        idd.type = type;
+        idd.id = id;
+        idd.x = x;
+        idd.y = y;
+        idd.targetId = targetId;
+        idd.cols = 1;
+        idd.rows = 3;
+        return idd;
+    }
+}